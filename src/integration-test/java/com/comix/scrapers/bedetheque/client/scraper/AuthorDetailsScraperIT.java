@@ -36,7 +36,7 @@ class AuthorDetailsScraperIT {
         authorScraper.setLocalCacheActive(isLocalCacheActive);
         authorScraper.setBedethequeAuthorsListByLetter(bedethequeAuthorsListByLetter);
         authorScraper.setBedethequeAuthorPrefixUrl(bedethequeAuthorPrefixUrl);
-        authorScraper.setLatency(latency);
+        authorScraper.setFetchEngine(new FetchEngine(latency, 1, 1));
     }
 
     @Test
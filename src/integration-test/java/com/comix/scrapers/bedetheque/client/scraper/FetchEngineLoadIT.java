@@ -0,0 +1,146 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import ch.qos.logback.classic.Level;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the virtual-thread execution model : thousands of scrapes wait at the same time for a slot
+ * of the fetch engine, each on its own virtual thread, and are all run by the few carrier threads
+ * of the virtual thread scheduler. No virtual thread may pin its carrier while it waits.
+ */
+class FetchEngineLoadIT {
+
+    private static final int SCRAPES = 5_000;
+    private static final int MAX_IN_FLIGHT = 50;
+    // Maximum number of carrier threads of the virtual thread scheduler, when it is not configured
+    private static final int DEFAULT_MAX_POOL_SIZE = 256;
+    private static final String HTML = "<html><head><title>Serie</title></head><body><p>Content</p></body></html>";
+
+    private static MockWebServer mockWebServer;
+
+    @BeforeAll
+    static void setUpAll() throws IOException {
+        // One log line per request would write to the console from the virtual threads
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(FetchEngine.class)).setLevel(Level.INFO);
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setBody(HTML).setHeadersDelay(20, TimeUnit.MILLISECONDS);
+            }
+        });
+        mockWebServer.start();
+    }
+
+    @AfterAll
+    static void tearDownAll() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Thousands of pending scrapes should run on a few carrier threads, without pinning them")
+    void pendingScrapes_shouldRunOnAFewCarrierThreads() throws Exception {
+        // GIVEN
+        FetchEngine fetchEngine = new FetchEngine(0, 1, MAX_IN_FLIGHT);
+        Set<String> carriers = ConcurrentHashMap.newKeySet();
+        AtomicInteger maxQueueDepth = new AtomicInteger();
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+        AtomicReference<CountDownLatch> flushes = new AtomicReference<>(new CountDownLatch(0));
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinnedEvents::add);
+            recording.onFlush(() -> flushes.get().countDown());
+            recording.startAsync();
+
+            Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        maxQueueDepth.accumulateAndGet(fetchEngine.getQueueDepth(), Math::max);
+                        TimeUnit.MILLISECONDS.sleep(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            // WHEN
+            List<Future<Document>> scrapes = new ArrayList<>(SCRAPES);
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < SCRAPES; i++) {
+                    String url = mockWebServer.url("/serie-" + i + ".html").toString();
+                    scrapes.add(executor.submit(() -> {
+                        Document document = fetchEngine.load(url);
+                        carriers.add(carrier());
+                        return document;
+                    }));
+                }
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            sampler.interrupt();
+            LoggerFactory.getLogger(FetchEngineLoadIT.class).info("{} scrapes in {} ms, at most {} pending, on {} carrier threads",
+                    SCRAPES, elapsed.toMillis(), maxQueueDepth.get(), carriers.size());
+
+            // Wait for the events of the load to be flushed
+            CountDownLatch afterLoad = new CountDownLatch(2);
+            flushes.set(afterLoad);
+            assertThat(afterLoad.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // THEN
+            for (Future<Document> scrape : scrapes) {
+                assertThat(scrape.get().title()).isEqualTo("Serie");
+            }
+            assertThat(maxQueueDepth.get())
+                    .as("pending scrapes")
+                    .isGreaterThan(SCRAPES / 2);
+            // A pinned virtual thread would also make the scheduler add carriers : it is checked first
+            assertThat(pinnedEvents)
+                    .as("pinned virtual threads")
+                    .isEmpty();
+            // The scheduler may add carriers up to its max pool size (pinned by the failsafe configuration)
+            // to compensate for blocking calls, whatever the number of cores
+            int maxPoolSize = Integer.getInteger("jdk.virtualThreadScheduler.maxPoolSize", DEFAULT_MAX_POOL_SIZE);
+            assertThat(carriers)
+                    .as("carrier threads")
+                    .isNotEmpty()
+                    .hasSizeLessThanOrEqualTo(maxPoolSize);
+        }
+    }
+
+    /**
+     * @return the name of the carrier thread of the current virtual thread, e.g. ForkJoinPool-1-worker-3
+     */
+    private static String carrier() {
+        String thread = Thread.currentThread().toString();
+        return thread.substring(thread.indexOf('@') + 1);
+    }
+}
@@ -29,7 +29,7 @@ class FilterGlobalScraperIT {
         filterGlobalScraper = new FilterGlobalScraper();
         filterGlobalScraper.setLocalCacheActive(isLocalCacheActive);
         filterGlobalScraper.setBedethequeGlobalSearchUrl(bedethequeGlobalSearchUrl);
-        filterGlobalScraper.setLatency(latency);
+        filterGlobalScraper.setFetchEngine(new FetchEngine(latency, 1, 1));
     }
 
     @Test
@@ -53,7 +53,7 @@ class FilterGraphicNovelsScraperIT {
         filterGraphicNovelsScraper.setBedethequeCollectionsSearchUrl(bedethequeCollectionsSearchUrl);
         filterGraphicNovelsScraper.setBedethequeAuthorsSearchUrl(bedethequeAuthorsSearchUrl);
         filterGraphicNovelsScraper.setBedethequeGraphicNovelsSearchUrl(bedethequeGraphicNovelsSearchUrl);
-        filterGraphicNovelsScraper.setLatency(latency);
+        filterGraphicNovelsScraper.setFetchEngine(new FetchEngine(latency, 1, 1));
     }
 
     @Test
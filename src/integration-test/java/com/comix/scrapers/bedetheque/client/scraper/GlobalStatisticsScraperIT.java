@@ -24,7 +24,7 @@ class GlobalStatisticsScraperIT {
         GlobalStatisticsScraper globalStatisticsScraper = new GlobalStatisticsScraper();
         globalStatisticsScraper.setBedethequeUrl(bedethequeUrl);
         globalStatisticsScraper.setLocalCacheActive(isLocalCacheActive);
-        globalStatisticsScraper.setLatency(latency);
+        globalStatisticsScraper.setFetchEngine(new FetchEngine(latency, 1, 1));
 
         var globalStatistics = globalStatisticsScraper.scrap();
         assertThat(globalStatistics.getSeries()).isPositive();
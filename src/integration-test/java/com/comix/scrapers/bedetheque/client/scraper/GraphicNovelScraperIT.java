@@ -27,7 +27,7 @@ class GraphicNovelScraperIT {
     void setup() {
         graphicNovelScraper = new GraphicNovelScraper();
         graphicNovelScraper.setLocalCacheActive(isLocalCacheActive);
-        graphicNovelScraper.setLatency(latency);
+        graphicNovelScraper.setFetchEngine(new FetchEngine(latency, 1, 1));
     }
 
     @DisplayName("Scrap Astérix with all republications -> OK")
@@ -24,7 +24,7 @@ class RatingScraperIT {
     void setup() {
         ratingScraper = new RatingScraper();
         ratingScraper.setLocalCacheActive(false);
-        ratingScraper.setLatency(latency);
+        ratingScraper.setFetchEngine(new FetchEngine(latency, 1, 1));
     }
 
     @Test
@@ -41,7 +41,7 @@ class SerieScraperIT {
         serieScraper.setLocalCacheActive(isLocalCacheActive);
         serieScraper.setBedethequeSerieIndexByLetterUrl(bedethequeSerieIndexByLetterUrl);
         serieScraper.setBedethequeSeriePrefixUrl(bedethequeSeriePrefixUrl);
-        serieScraper.setLatency(latency);
+        serieScraper.setFetchEngine(new FetchEngine(latency, 1, 1));
     }
 
     @Test
@@ -1,12 +1,14 @@
 package com.comix.scrapers.bedetheque;
 
+import com.comix.scrapers.bedetheque.client.scraper.PageCacheProperties;
+import com.comix.scrapers.bedetheque.service.ResultCacheProperties;
 import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableConfigurationProperties
+@EnableConfigurationProperties({PageCacheProperties.class, ResultCacheProperties.class})
 @EnableScheduling
 @SpringBootApplication
 @EnableSchedulerLock(defaultLockAtMostFor = "1m")
@@ -0,0 +1,69 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Labels of the information block of an album ({@code ul.infos}), indexed in a single pass.
+ * <p>
+ * The album properties (publisher, collection, isbn...) are looked up in this index,
+ * instead of scanning the whole block with a {@code label:containsOwn(key)} query for each property.
+ */
+final class AlbumInfoBlock {
+
+    private static final AlbumInfoBlock EMPTY = new AlbumInfoBlock(List.of());
+
+    private final List<Element> labels;
+    private final Map<String, Element> labelsByKey = new HashMap<>();
+
+    private AlbumInfoBlock(List<Element> labels) {
+        this.labels = labels;
+        for (Element label : labels) {
+            labelsByKey.putIfAbsent(key(label.ownText()), label);
+        }
+    }
+
+    /**
+     * Index the labels of an album information block.
+     *
+     * @param infos the information block of the album (may be null)
+     * @return the indexed block
+     */
+    static AlbumInfoBlock of(Element infos) {
+        if (infos == null) {
+            return EMPTY;
+        }
+        return new AlbumInfoBlock(new ArrayList<>(infos.select(Selectors.ALBUM_INFO_LABELS)));
+    }
+
+    /**
+     * Find the label of a property, as the {@code li label:containsOwn(key)} query does.
+     *
+     * @param key the property name (Editeur, ISBN, Dépot légal...)
+     * @return the first label containing the property name, null if not found
+     */
+    Element label(String key) {
+        Element label = labelsByKey.get(key(key));
+        if (label != null) {
+            return label;
+        }
+        for (Element candidate : labels) {
+            if (Strings.CI.contains(candidate.ownText(), key)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static String key(String text) {
+        String key = StringUtils.substringBefore(StringUtils.defaultString(text), ":");
+        return StringUtils.normalizeSpace(key).toLowerCase(Locale.ROOT);
+    }
+}
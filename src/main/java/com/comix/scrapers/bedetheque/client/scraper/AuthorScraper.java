@@ -11,6 +11,7 @@ import org.apache.commons.lang3.Strings;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -56,10 +57,6 @@ public class AuthorScraper extends GenericScraper {
     @Value("${application.downloads.localcache.active}")
     private boolean isLocalCacheActive;
 
-    @Setter
-    @Value("${application.scraping.latency}")
-    private long latency;
-
     /**
      * Extract the author id from an author bedetheque url
      *
@@ -118,7 +115,7 @@ public class AuthorScraper extends GenericScraper {
     public List<Author> scrapAuthorsIndexedByLetter(String letter) {
         String authorsIndexedUrl = getIndexUrlsByLetter(letter);
         // Load all authors starting with the letter
-        Document doc = GenericScraperSingleton.getInstance().load(authorsIndexedUrl, latency);
+        Document doc = fetch(authorsIndexedUrl);
 
         // Retrieve all authors from the html page
         List<Author> authors = new ArrayList<>();
@@ -161,31 +158,31 @@ public class AuthorScraper extends GenericScraper {
      */
     public AuthorDetails scrap(Author author) {
         // Load author
-        Document doc = GenericScraperSingleton.getInstance().load(author.getUrl(), latency);
+        Document doc = fetch(author.getUrl());
 
         var authorDetails = new AuthorDetails();
         // Scrap author information
-        authorDetails.setId(scrap(doc, "ul.auteur-info li:contains(Identifiant)", null));
-        authorDetails.setLastname(scrap(doc, "ul.auteur-info li:contains(Nom) > span", null));
-        authorDetails.setFirstname(scrap(doc, "ul.auteur-info li:contains(Prénom) > span", null));
-        authorDetails.setNickname(scrap(doc, "ul.auteur-info li:contains(Pseudo)", null));
-        authorDetails.setBirthdate(scrapAndClean(doc, "ul.auteur-info li:contains(Naissance)", null, "le"));
-        authorDetails.setDeceaseDate(scrapAndClean(doc, "ul.auteur-info li:contains(Décès)", null, "le"));
-        String nationality = scrap(doc, "ul.auteur-info li:contains(Naissance) > span.pays-auteur", null);
+        authorDetails.setId(scrap(doc, Selectors.AUTHOR_ID, null));
+        authorDetails.setLastname(scrap(doc, Selectors.AUTHOR_LASTNAME, null));
+        authorDetails.setFirstname(scrap(doc, Selectors.AUTHOR_FIRSTNAME, null));
+        authorDetails.setNickname(scrap(doc, Selectors.AUTHOR_NICKNAME, null));
+        authorDetails.setBirthdate(scrapAndClean(doc, Selectors.AUTHOR_BIRTHDATE, null, "le"));
+        authorDetails.setDeceaseDate(scrapAndClean(doc, Selectors.AUTHOR_DECEASE_DATE, null, "le"));
+        String nationality = scrap(doc, Selectors.AUTHOR_NATIONALITY, null);
         if(nationality != null) {
             authorDetails.setNationality(nationality
                     .replace('(', ' ')
                     .replace(')', ' ')
                     .trim());
         }
-        authorDetails.setSiteUrl(scrap(doc, "ul.auteur-info li:contains(Site) > a", "href"));
-        authorDetails.setBiography(scrap(doc, "p.bio", null));
-        authorDetails.setPhotoUrl(scrap(doc, "div.auteur-image > a", "href"));
-        authorDetails.setPhotoThbUrl(scrap(doc, "div.auteur-image > a > img", "src"));
+        authorDetails.setSiteUrl(scrap(doc, Selectors.AUTHOR_SITE_URL, "href"));
+        authorDetails.setBiography(scrap(doc, Selectors.AUTHOR_BIOGRAPHY, null));
+        authorDetails.setPhotoUrl(scrap(doc, Selectors.AUTHOR_PHOTO, "href"));
+        authorDetails.setPhotoThbUrl(scrap(doc, Selectors.AUTHOR_PHOTO_THUMBNAIL, "src"));
         authorDetails.setAuthorUrl(author.getUrl());
         // Other pseudonym (to be refactored if more than one is possible)
-        String otherPseudonymName = scrap(doc, "ul.auteur-info li:contains(Voir) > a", null);
-        String otherPseudonymUrl = scrap(doc, "ul.auteur-info li:contains(Voir) > a", "href");
+        String otherPseudonymName = scrap(doc, Selectors.AUTHOR_OTHER_PSEUDONYM, null);
+        String otherPseudonymUrl = scrap(doc, Selectors.AUTHOR_OTHER_PSEUDONYM, "href");
         String otherPseudonymId = getBedethequeId(otherPseudonymUrl);
         if(!StringUtils.isBlank(otherPseudonymId)) {
             Author otherAuthorPseudonym = new Author();
@@ -238,7 +235,7 @@ public class AuthorScraper extends GenericScraper {
      */
     private Optional<Author> scrapPreviousAuthor(Document doc) {
         Optional<Author> optionalBedethequeAuthorUrl = Optional.empty();
-        Elements as = doc.select("h1.single-title-auteur a");
+        Elements as = doc.select(Selectors.AUTHOR_TITLE_LINKS);
         for (Element a : as) {
             String rel = a.attr("rel");
             String id = getBedethequeId(a.attr("href"));
@@ -261,7 +258,7 @@ public class AuthorScraper extends GenericScraper {
      */
     private Optional<Author> scrapNextAuthor(Document doc) {
         Optional<Author> optionalBedethequeAuthorUrl = Optional.empty();
-        Elements as = doc.select("h1.single-title-auteur a");
+        Elements as = doc.select(Selectors.AUTHOR_TITLE_LINKS);
         for (Element a : as) {
             String rel = a.attr("rel");
             String id = getBedethequeId(a.attr("href"));
@@ -284,10 +281,10 @@ public class AuthorScraper extends GenericScraper {
      */
     private List<Author> scrapAuthorsToDiscover(Document doc) {
         List<Author> authorsToDiscover = new ArrayList<>();
-        Elements lis = doc.select("div.serie-liee li");
+        Elements lis = doc.select(Selectors.AUTHOR_LINKED_SERIES);
         for (Element li : lis) {
-            String name = attr(li.selectFirst("a"), HTML.Attribute.TITLE);
-            String url = attr(li.selectFirst("a"), HTML.Attribute.HREF);
+            String name = attr(li.selectFirst(Selectors.A), HTML.Attribute.TITLE);
+            String url = attr(li.selectFirst(Selectors.A), HTML.Attribute.HREF);
             String id = getBedethequeId(url);
             Author b = new Author();
             b.setId(id);
@@ -307,13 +304,13 @@ public class AuthorScraper extends GenericScraper {
      */
     private List<SerieToDiscover> scrapSerieToDiscover(Document doc) {
         List<SerieToDiscover> seriesToDiscover = new ArrayList<>();
-        Elements as = doc.select("div.tab_content ul.gallery-side a");
+        Elements as = doc.select(Selectors.AUTHOR_GALLERY_LINKS);
         for (Element a : as) {
-            Element img = a.selectFirst("img");
+            Element img = a.selectFirst(Selectors.IMG);
             Element e = a.parent();
             String title = null;
             if(e != null) {
-                title = ownText(e.selectFirst("span"));
+                title = ownText(e.selectFirst(Selectors.SPAN));
             }
             SerieToDiscover serie = new SerieToDiscover();
             serie.setUrl(a.attr("href"));
@@ -337,32 +334,32 @@ public class AuthorScraper extends GenericScraper {
      */
     private List<Collaboration> scrapBibliography(Document doc) {
         List<Collaboration> collaborations = new ArrayList<>();
-        Elements tables = doc.select("table.biblio-auteur");
+        Elements tables = doc.select(Selectors.AUTHOR_BIBLIOGRAPHY_TABLES);
         for (Element table : tables) {
-            Element th = table.selectFirst("th");
+            Element th = table.selectFirst(Selectors.TH);
             String type = null;
             if (th != null) {
                 type = th.ownText();
             }
 
-            Elements trs = table.select("tbody tr");
+            Elements trs = table.select(Selectors.AUTHOR_BIBLIOGRAPHY_ROWS);
             List<CollaborationDetails> bibliographies = new ArrayList<>();
             for (Element tr : trs) {
-                Elements tds = tr.select("td");
-                String title = ownText(tds.getFirst().selectFirst("a"));
-                String serieUrl = attr(tds.getFirst().selectFirst("a"), HTML.Attribute.HREF);
+                Elements tds = tr.select(Selectors.TD);
+                String title = ownText(tds.getFirst().selectFirst(Selectors.A));
+                String serieUrl = attr(tds.getFirst().selectFirst(Selectors.A), HTML.Attribute.HREF);
                 String serieId = getBedethequeId(serieUrl);
-                var serieLanguage = SerieLanguage.fromFlag(attr(tds.get(0).selectFirst("img"), HTML.Attribute.SRC));
-                String fromYear = ownText(tds.get(1).selectFirst("span"));
-                String toYear = ownText(tds.get(2).selectFirst("span"));
+                var serieLanguage = SerieLanguage.fromFlag(attr(tds.get(0).selectFirst(Selectors.IMG), HTML.Attribute.SRC));
+                String fromYear = ownText(tds.get(1).selectFirst(Selectors.SPAN));
+                String toYear = ownText(tds.get(2).selectFirst(Selectors.SPAN));
 
                 // Roles
                 List<String> roles = new ArrayList<>();
-                Elements is = tds.get(3).select("i");
+                Elements is = tds.get(3).select(Selectors.I);
                 for (Element i : is) {
                     roles.add(i.attr("title"));
                 }
-                Element span = tds.get(3).selectFirst("span");
+                Element span = tds.get(3).selectFirst(Selectors.SPAN);
                 if (span != null) {
                     String role = span.ownText();
                     if (!role.trim().isEmpty()) {
@@ -395,7 +392,7 @@ public class AuthorScraper extends GenericScraper {
      * @param attribute optional parameter. If not null, search the attribute in the given query to extract values
      * @return a scraped value
      */
-    private String scrap(Document doc, String query, String attribute) {
+    private String scrap(Document doc, Evaluator query, String attribute) {
         String res = null;
         var element = doc.selectFirst(query);
         if (element != null) {
@@ -417,7 +414,7 @@ public class AuthorScraper extends GenericScraper {
      * @param textToRemove the text to remove from the extract value
      * @return a scraped value
      */
-    private String scrapAndClean(Document doc, String query, String attribute, String textToRemove) {
+    private String scrapAndClean(Document doc, Evaluator query, String attribute, String textToRemove) {
         String preprocessedText = scrap(doc, query, attribute);
         if(preprocessedText != null) {
             preprocessedText = preprocessedText.replaceAll(textToRemove, "").trim();
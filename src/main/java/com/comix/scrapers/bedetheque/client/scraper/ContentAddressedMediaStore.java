@@ -0,0 +1,161 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import com.comix.scrapers.bedetheque.entity.MediaContent;
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import com.comix.scrapers.bedetheque.repository.MediaContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content-addressed media store.
+ * <p>
+ * Each media is stored once, named after the SHA-256 of its bytes, in the {@code cas} directory of the local cache
+ * ({@code cas/ab/cd/abcd...jpg}), whatever the scraper that downloaded it (serie, graphic novel, rating...).
+ * The manifest (table {@code media_contents}) maps the source url of each media to its stored content,
+ * so that a media already known is never downloaded again.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.downloads.content-store.active", havingValue = "true")
+public class ContentAddressedMediaStore {
+
+    /** Directory of the store, relative to the local cache base path */
+    public static final String STORE_DIRECTORY = "cas";
+
+    private final MediaContentRepository mediaContentRepository;
+    private final MediaIndex mediaIndex;
+    private final Path storeDirectory;
+    private final String httpStorePath;
+    private final Map<String, String> manifest = new ConcurrentHashMap<>();
+
+    public ContentAddressedMediaStore(MediaContentRepository mediaContentRepository,
+                                      MediaIndex mediaIndex,
+                                      @Value("${application.downloads.localcache.basepath}") String basePath,
+                                      @Value("${application.http.medias.content-store}") String httpStorePath) {
+        this.mediaContentRepository = mediaContentRepository;
+        this.mediaIndex = mediaIndex;
+        this.storeDirectory = Paths.get(basePath, STORE_DIRECTORY);
+        this.httpStorePath = Strings.CS.appendIfMissing(httpStorePath, "/");
+    }
+
+    /**
+     * Find the http path of a media already stored.
+     *
+     * @param httpMediaUrl the source url of the media
+     * @return the http path where the stored media is accessible by the local http server, if known
+     */
+    public Optional<String> find(String httpMediaUrl) {
+        String path = manifest.get(httpMediaUrl);
+        if (path == null) {
+            path = mediaContentRepository.findById(httpMediaUrl).map(MediaContent::getPath).orElse(null);
+            if (path != null) {
+                manifest.put(httpMediaUrl, path);
+            }
+        }
+        return Optional.ofNullable(path).map(p -> httpStorePath + p);
+    }
+
+    /**
+     * Download a media into the store, unless its source url is already in the manifest.
+     *
+     * @param httpMediaUrl the source url of the media
+     * @return the http path where the stored media is accessible by the local http server
+     */
+    public String store(String httpMediaUrl) {
+        Optional<String> known = find(httpMediaUrl);
+        if (known.isPresent()) {
+            return known.get();
+        }
+
+        Path tempPath = createTempFile();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = GenericScraper.copy(httpMediaUrl, tempPath, digest);
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String path = getRelativePath(sha256, httpMediaUrl);
+
+            Path mediaPath = storeDirectory.resolve(path);
+            if (mediaIndex.exists(mediaPath)) {
+                log.debug("Resource {} already stored as {}", httpMediaUrl, mediaPath);
+            } else {
+                mediaIndex.createDirectories(mediaPath.getParent());
+                GenericScraper.moveAtomically(tempPath, mediaPath);
+                mediaIndex.add(mediaPath);
+                log.info("Resource {} stored as {} ({} bytes)", httpMediaUrl, mediaPath, size);
+            }
+            saveToManifest(httpMediaUrl, sha256, path, size);
+            return httpStorePath + path;
+        } catch (FileNotFoundException e) {
+            log.debug("HTML resource not found : {}", httpMediaUrl);
+            throw new TechnicalException("ERR-SCR-003", e, new Object[]{httpMediaUrl});
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            log.debug("Failed to read html : {}", httpMediaUrl);
+            throw new TechnicalException("ERR-SCR-005", e, new Object[]{httpMediaUrl});
+        } catch (IOException e) {
+            log.debug("Cannot save media {} on local file : {}", httpMediaUrl, storeDirectory);
+            throw new TechnicalException("ERR-SCR-006", e, new Object[]{httpMediaUrl, storeDirectory.toString()});
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        } finally {
+            GenericScraper.deleteQuietly(tempPath);
+        }
+    }
+
+    /**
+     * Shard the stored medias by the first bytes of their hash : {@code ab/cd/abcd...jpg}
+     *
+     * @param sha256       the hash of the media
+     * @param httpMediaUrl the source url of the media, giving its extension
+     * @return the path of the media, relative to the store directory
+     */
+    static String getRelativePath(String sha256, String httpMediaUrl) {
+        String extension = StringUtils.substringAfterLast(StringUtils.substringAfterLast(httpMediaUrl, "/"), ".");
+        String filename = StringUtils.isAlphanumeric(extension) && !extension.isEmpty()
+                ? sha256 + "." + extension.toLowerCase(Locale.ROOT)
+                : sha256;
+        return sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + filename;
+    }
+
+    private Path createTempFile() {
+        try {
+            mediaIndex.createDirectories(storeDirectory);
+        } catch (IOException e) {
+            log.error("Failed to create the media store directory: {}", storeDirectory, e);
+            throw new TechnicalException("ERR-SCR-002", e, new Object[]{storeDirectory.toString()});
+        }
+        return GenericScraper.createTempFile(storeDirectory.resolve("download"));
+    }
+
+    private void saveToManifest(String httpMediaUrl, String sha256, String path, long size) {
+        MediaContent mediaContent = new MediaContent();
+        mediaContent.setSourceUrl(httpMediaUrl);
+        mediaContent.setSha256(sha256);
+        mediaContent.setPath(path);
+        mediaContent.setSize(size);
+        try {
+            mediaContentRepository.save(mediaContent);
+        } catch (DataIntegrityViolationException e) {
+            // Stored at the same time by another instance
+            log.debug("Media {} already in the manifest", httpMediaUrl);
+        }
+        manifest.put(httpMediaUrl, path);
+    }
+}
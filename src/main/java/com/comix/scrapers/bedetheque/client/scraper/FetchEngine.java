@@ -0,0 +1,249 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetch engine shared by all scrapers.
+ * <p>
+ * Each host gets its own token bucket ({@code application.scraping.latency} seconds per token,
+ * {@code application.scraping.burst} tokens), and at most {@code application.scraping.max-in-flight}
+ * requests are executed at the same time. Callers waiting for a slot or a token are counted in the queue depth.
+ * <p>
+ * When the page cache is enabled, a cached page is used without request during the ttl of its page type,
+ * then revalidated with a conditional request ({@code If-None-Match} / {@code If-Modified-Since}).
+ * <p>
+ * Very large pages can be streamed instead of loaded : they are parsed while the response is read,
+ * and the caller removes each scraped element from the document.
+ */
+@Slf4j
+@Component
+public class FetchEngine implements MeterBinder {
+
+    private static final String ERR_SCR_001 = "ERR-SCR-001";
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/80.0.3987.106 Safari/537.36";
+
+    private final Duration interval;
+    private final int burst;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Map<String, TokenBucketRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    @Setter
+    @Autowired(required = false)
+    private PageCache pageCache;
+
+    public FetchEngine(@Value("${application.scraping.latency}") long latency,
+                       @Value("${application.scraping.burst:1}") int burst,
+                       @Value("${application.scraping.max-in-flight:2}") int maxInFlight) {
+        this.interval = Duration.ofSeconds(latency);
+        this.burst = burst;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight, true);
+    }
+
+    /**
+     * Load the HTML content of an url
+     * @param url the url to load.
+     * @return the HTML content.
+     */
+    public Document load(String url) {
+        if (pageCache == null || !pageCache.isCacheable(url)) {
+            return execute(url, () -> Jsoup.connect(url).maxBodySize(0).userAgent("Mozilla").get());
+        }
+        PageCache.CachedPage cached = pageCache.get(url).orElse(null);
+        if (cached != null && pageCache.isFresh(cached)) {
+            Document doc = pageCache.parse(cached);
+            if (doc != null) {
+                log.debug("Loading {} from the cache", url);
+                return doc;
+            }
+            cached = null;
+        }
+        PageCache.CachedPage validators = cached;
+        Document doc = execute(url, () -> loadAndCache(url, validators));
+        if (doc == null) {
+            // The cached body is lost : load the page again, without validators, in a new slot
+            doc = execute(url, () -> loadAndCache(url, null));
+        }
+        return doc;
+    }
+
+    /**
+     * Load the HTML content of an url with query parameters
+     * @param url the url to load.
+     * @param data the query parameters.
+     * @return the HTML content.
+     */
+    public Document load(String url, Map<String, String> data) {
+        return execute(url, () -> Jsoup.connect(url)
+                .maxBodySize(0)
+                .userAgent(USER_AGENT)
+                .referrer(url)
+                .method(Connection.Method.GET)
+                .header("accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,image/apng,*/*;q=0.8,application/signed-exchange;v=b3;q=0.9")
+                .header("connection", "keep-alive")
+                .data(data)
+                .execute()
+                .parse());
+    }
+
+    /**
+     * Load the HTML content of an url with a streaming parser.
+     * <p>
+     * The elements are parsed as the response is read, so the handler can scrap them before the end of the download,
+     * and remove them from the document to bound the memory used by the page. The page cache is not used.
+     * The in-flight slot is held until the handler returns.
+     *
+     * @param url     the url to load.
+     * @param handler the handler reading the parser.
+     * @param <T>     the result type of the handler.
+     * @return the result of the handler.
+     */
+    public <T> T stream(String url, StreamHandler<T> handler) {
+        return execute(url, () -> {
+            Connection.Response response = Jsoup.connect(url).maxBodySize(0).userAgent("Mozilla").execute();
+            // The body is read as it comes : the charset of the response is used, or the charset of the site
+            Charset charset = response.charset() != null ? Charset.forName(response.charset()) : StandardCharsets.UTF_8;
+            try (StreamParser parser = new StreamParser(Parser.htmlParser())
+                    .parse(new BufferedReader(new InputStreamReader(response.bodyStream(), charset)), url)) {
+                return handler.handle(parser);
+            }
+        });
+    }
+
+    /**
+     * @return the number of requests waiting for an in-flight slot or a rate limiter token
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the number of requests currently executed
+     */
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bedetheque.fetch.queue.depth", this, FetchEngine::getQueueDepth)
+                .description("Number of requests waiting to be sent to bedetheque")
+                .register(registry);
+        Gauge.builder("bedetheque.fetch.in-flight", this, FetchEngine::getInFlight)
+                .description("Number of requests currently sent to bedetheque")
+                .register(registry);
+    }
+
+    private <T> T execute(String url, Fetch<T> fetch) {
+        queueDepth.incrementAndGet();
+        boolean acquired = false;
+        try {
+            inFlight.acquire();
+            acquired = true;
+            rateLimiter(url).acquire();
+        } catch (InterruptedException e) {
+            // Restore interrupted state...
+            Thread.currentThread().interrupt();
+            if (acquired) {
+                inFlight.release();
+            }
+            throw new TechnicalException(ERR_SCR_001, e, new Object[]{url});
+        } finally {
+            queueDepth.decrementAndGet();
+        }
+
+        try {
+            log.debug("Loading {}", url);
+            return fetch.get();
+        } catch (IOException e) {
+            throw new TechnicalException(ERR_SCR_001, e, new Object[]{url});
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Load a page, with a conditional request if it is already cached, and cache the response.
+     *
+     * @param url    the url to load
+     * @param cached the cached page to revalidate (optional)
+     * @return the HTML content, or null if the page is not modified but its cached body is lost
+     */
+    private Document loadAndCache(String url, PageCache.CachedPage cached) throws IOException {
+        Connection connection = Jsoup.connect(url).maxBodySize(0).userAgent("Mozilla");
+        if (cached != null && cached.etag() != null) {
+            connection.header("If-None-Match", cached.etag());
+        }
+        if (cached != null && cached.lastModified() != null) {
+            connection.header("If-Modified-Since", cached.lastModified());
+        }
+        Connection.Response response = connection.execute();
+        if (cached != null && response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            Document doc = pageCache.revalidated(cached);
+            if (doc != null) {
+                log.debug("{} not modified", url);
+            }
+            return doc;
+        }
+        byte[] body = response.bodyAsBytes();
+        pageCache.put(url, body, response.charset(), response.header("ETag"), response.header("Last-Modified"));
+        return Jsoup.parse(new ByteArrayInputStream(body), response.charset(), url);
+    }
+
+    private TokenBucketRateLimiter rateLimiter(String url) {
+        return rateLimiters.computeIfAbsent(host(url), h -> new TokenBucketRateLimiter(interval, burst));
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    @FunctionalInterface
+    private interface Fetch<T> {
+        T get() throws IOException;
+    }
+
+    /**
+     * Handler of a streamed page
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface StreamHandler<T> {
+        T handle(StreamParser parser) throws IOException;
+    }
+}
@@ -20,17 +20,12 @@ import java.util.Map;
 @Component
 public class FilterGlobalScraper extends Scraper {
 
-    private static final String CSS_SELECTOR_FLAG_URL = "span.ico > img";
-
     @Value("${bedetheque.url.search.global}")
     private String bedethequeGlobalSearchUrl;
 
     @Value("${application.downloads.localcache.active}")
     private boolean isLocalCacheActive;
 
-    @Value("#{new Long('${application.scraping.latency}')}")
-    private Long latency;
-
     /**
      * Find series, graphic novels, authors, news, chronicles, previews by Global search filter
      * @param filter the filter
@@ -44,9 +39,9 @@ public class FilterGlobalScraper extends Scraper {
         // Get the page
         Document doc = load(filter);
         // Extract results
-        List<Element> results = doc.select("div.search-line");
+        List<Element> results = doc.select(Selectors.FILTER_SEARCH_LINES);
         for (Element e : results) {
-            String title = ownText(e.selectFirst("h3"));
+            String title = ownText(e.selectFirst(Selectors.H3));
             if(!StringUtils.isBlank(title)) {
                 filterTitle(e, title, globalFilteredObject);
             }
@@ -102,7 +97,7 @@ public class FilterGlobalScraper extends Scraper {
         Map<String, String> data = new HashMap<>();
         data.put("RechWhere", "1");
         data.put("RechTexte", filter);
-        return GenericScraperSingleton.getInstance().load(bedethequeGlobalSearchUrl, data, latency);
+        return fetch(bedethequeGlobalSearchUrl, data);
     }
 
     /**
@@ -116,25 +111,25 @@ public class FilterGlobalScraper extends Scraper {
         Element nextElementSibling = title.nextElementSibling();
         var list = (nextElementSibling != null) ? nextElementSibling.nextElementSibling() : null;
         // Add all chronicles
-        if(list != null && list.is("ul")) {
-            List<Element> liEls = list.select("li");
+        if(list != null && list.is(Selectors.UL)) {
+            List<Element> liEls = list.select(Selectors.LI);
             for(Element e : liEls) {
                 // Get rating
-                var ratingElement = e.selectFirst("span.count > img");
+                var ratingElement = e.selectFirst(Selectors.FILTER_RATING);
                 String ratingLabel = (ratingElement != null ? ratingElement.attr("title").trim() : "");
                 String ratingUrl = (ratingElement != null ? ratingElement.attr("src") : "");
                 // Add a chronicle in the result list
                 var filteredChronicle = new FilteredChronicle();
-                filteredChronicle.setName(text(e.selectFirst(HTML.Tag.A + " > " + HTML.Tag.SPAN)));
+                filteredChronicle.setName(text(e.selectFirst(Selectors.LINK_SPAN)));
                 filteredChronicle.setRatingLabel(ratingLabel);
                 filteredChronicle.setRatingUrl(ratingUrl);
-                filteredChronicle.setUrl(attr(e.selectFirst("a"), HTML.Attribute.HREF));
+                filteredChronicle.setUrl(attr(e.selectFirst(Selectors.A), HTML.Attribute.HREF));
                 filteredChronicles.add(filteredChronicle);
             }
             globalFilteredObject.setFilteredChronicles(filteredChronicles);
         }
         // Too much results
-        if(list != null && list.is("p")) {
+        if(list != null && list.is(Selectors.P)) {
             globalFilteredObject.setFilteredChroniclesMessage(list.text().trim());
         }
     }
@@ -150,23 +145,23 @@ public class FilterGlobalScraper extends Scraper {
         Element nextElementSibling = title.nextElementSibling();
         var list = (nextElementSibling != null) ? nextElementSibling.nextElementSibling() : null;
         // Add all news
-        if(list != null && list.is("ul")) {
-            List<Element> liEls = list.select("li");
+        if(list != null && list.is(Selectors.UL)) {
+            List<Element> liEls = list.select(Selectors.LI);
             for(Element e : liEls) {
                 // Get origin
-                var originElement = e.selectFirst(HTML.Tag.SPAN + JSOUP_TAG_COUNT);
+                var originElement = e.selectFirst(Selectors.FILTER_COUNT);
                 String origin = (originElement != null ? originElement.text().trim() : "");
                 // Add news in the result list
                 FilteredNews filteredNew = new FilteredNews();
-                filteredNew.setTitle(text(e.selectFirst(HTML.Tag.A + " > " + HTML.Tag.SPAN)));
+                filteredNew.setTitle(text(e.selectFirst(Selectors.LINK_SPAN)));
                 filteredNew.setOrigin(origin);
-                filteredNew.setUrl(attr(e.selectFirst("a"), HTML.Attribute.HREF));
+                filteredNew.setUrl(attr(e.selectFirst(Selectors.A), HTML.Attribute.HREF));
                 filteredNews.add(filteredNew);
             }
             globalFilteredObject.setFilteredNews(filteredNews);
         }
         // Too much results
-        if(list != null && list.is("p")) {
+        if(list != null && list.is(Selectors.P)) {
             globalFilteredObject.setFilteredNewsMessage(list.text().trim());
         }
     }
@@ -182,23 +177,23 @@ public class FilterGlobalScraper extends Scraper {
         Element nextElementSibling = title.nextElementSibling();
         var list = (nextElementSibling != null) ? nextElementSibling.nextElementSibling() : null;
         // Add all previews
-        if(list != null && list.is("ul")) {
-            List<Element> liEls = list.select("li");
+        if(list != null && list.is(Selectors.UL)) {
+            List<Element> liEls = list.select(Selectors.LI);
             for(Element e : liEls) {
                 // Get origin
-                var pagesCountElement = e.selectFirst(HTML.Tag.SPAN + JSOUP_TAG_COUNT);
+                var pagesCountElement = e.selectFirst(Selectors.FILTER_COUNT);
                 String pagesCount = (pagesCountElement != null ? pagesCountElement.text().trim() : "");
                 // Add a preview in the result list
                 var filteredPreview = new FilteredPreview();
-                filteredPreview.setTitle(text(e.selectFirst(HTML.Tag.A + " > " + HTML.Tag.SPAN)));
+                filteredPreview.setTitle(text(e.selectFirst(Selectors.LINK_SPAN)));
                 filteredPreview.setPagesCount(pagesCount);
-                filteredPreview.setUrl(attr(e.selectFirst("a"), HTML.Attribute.HREF));
+                filteredPreview.setUrl(attr(e.selectFirst(Selectors.A), HTML.Attribute.HREF));
                 filteredPreviews.add(filteredPreview);
             }
             globalFilteredObject.setFilteredPreviews(filteredPreviews);
         }
         // Too much results
-        if(list != null && list.is("p")) {
+        if(list != null && list.is(Selectors.P)) {
             globalFilteredObject.setFilteredPreviewsMessage(list.text().trim());
         }
     }
@@ -214,23 +209,23 @@ public class FilterGlobalScraper extends Scraper {
         Element nextElementSibling = title.nextElementSibling();
         var list = (nextElementSibling != null) ? nextElementSibling.nextElementSibling() : null;
         // Add all authors
-        if(list != null && list.is("ul")) {
-            List<Element> liEls = list.select("li");
+        if(list != null && list.is(Selectors.UL)) {
+            List<Element> liEls = list.select(Selectors.LI);
             for(Element e : liEls) {
                 // Get nationality
-                var nationalityElement = e.selectFirst(HTML.Tag.SPAN + JSOUP_TAG_COUNT);
+                var nationalityElement = e.selectFirst(Selectors.FILTER_COUNT);
                 String nationality = (nationalityElement != null ? nationalityElement.text().trim() : "");
                 // Add an author in the result list
                 var filteredAuthor = new FilteredAuthor();
-                filteredAuthor.setName(text(e.selectFirst(HTML.Tag.A + " > " + HTML.Tag.SPAN)));
+                filteredAuthor.setName(text(e.selectFirst(Selectors.LINK_SPAN)));
                 filteredAuthor.setNationality(nationality);
-                filteredAuthor.setUrl(attr(e.selectFirst("a"), HTML.Attribute.HREF));
+                filteredAuthor.setUrl(attr(e.selectFirst(Selectors.A), HTML.Attribute.HREF));
                 filteredAuthors.add(filteredAuthor);
             }
             globalFilteredObject.setFilteredAuthors(filteredAuthors);
         }
         // Too much results
-        if(list != null && list.is("p")) {
+        if(list != null && list.is(Selectors.P)) {
             globalFilteredObject.setFilteredAuthorsMessage(list.text().trim());
         }
     }
@@ -246,29 +241,29 @@ public class FilterGlobalScraper extends Scraper {
         Element nextElementSibling = title.nextElementSibling();
         var list = (nextElementSibling != null) ? nextElementSibling.nextElementSibling() : null;
         // Add all series
-        if(list != null && list.is("ul")) {
-            List<Element> liElements = list.select("li");
+        if(list != null && list.is(Selectors.UL)) {
+            List<Element> liElements = list.select(Selectors.LI);
             for(Element e : liElements) {
                 filteredSeries.add(getFilteredSerie(e));
             }
             globalFilteredObject.setFilteredSeries(filteredSeries);
         }
         // Too much results
-        if(list != null && list.is("p")) {
+        if(list != null && list.is(Selectors.P)) {
             globalFilteredObject.setFilteredSeriesMessage(list.text().trim());
         }
     }
 
     private FilteredSerie getFilteredSerie(Element e) {
         // Get category
-        var categoryElement = e.selectFirst(HTML.Tag.SPAN + JSOUP_TAG_COUNT);
+        var categoryElement = e.selectFirst(Selectors.FILTER_COUNT);
         String category = (categoryElement != null ? categoryElement.text().trim() : "");
         // Add a serie in the result list
         var filteredSerie = new FilteredSerie();
-        filteredSerie.setFlagUrl(attr(e.selectFirst(CSS_SELECTOR_FLAG_URL), HTML.Attribute.SRC));
-        filteredSerie.setTitle(text(e.selectFirst(HTML.Tag.A + " > " + HTML.Tag.SPAN)));
+        filteredSerie.setFlagUrl(attr(e.selectFirst(Selectors.FILTER_FLAG), HTML.Attribute.SRC));
+        filteredSerie.setTitle(text(e.selectFirst(Selectors.LINK_SPAN)));
         filteredSerie.setCategory(category);
-        filteredSerie.setUrl(attr(e.selectFirst("a"), HTML.Attribute.HREF));
+        filteredSerie.setUrl(attr(e.selectFirst(Selectors.A), HTML.Attribute.HREF));
         return filteredSerie;
     }
 
@@ -283,15 +278,15 @@ public class FilterGlobalScraper extends Scraper {
         Element nextElementSibling = title.nextElementSibling();
         var list = (nextElementSibling != null) ? nextElementSibling.nextElementSibling() : null;
         // Add all series
-        if(list != null && list.is("ul")) {
-            List<Element> liElements = list.select("li");
+        if(list != null && list.is(Selectors.UL)) {
+            List<Element> liElements = list.select(Selectors.LI);
             for(Element e : liElements) {
                 filteredSeries.add(getFilteredSerie(e));
             }
             globalFilteredObject.setFilteredAssociateSeries(filteredSeries);
         }
         // Too much results
-        if(list != null && list.is("p")) {
+        if(list != null && list.is(Selectors.P)) {
             globalFilteredObject.setFilteredAssociateSeriesMessage(list.text().trim());
         }
     }
@@ -307,24 +302,24 @@ public class FilterGlobalScraper extends Scraper {
         Element nextElementSibling = title.nextElementSibling();
         var list = (nextElementSibling != null) ? nextElementSibling.nextElementSibling() : null;
         // Add all graphic novels
-        if(list != null && list.is("ul")) {
-            List<Element> liElements = list.select("li");
+        if(list != null && list.is(Selectors.UL)) {
+            List<Element> liElements = list.select(Selectors.LI);
             for(Element e : liElements) {
                 // Get publication date
-                var publicationDateElement = e.selectFirst(HTML.Tag.SPAN + JSOUP_TAG_COUNT);
+                var publicationDateElement = e.selectFirst(Selectors.FILTER_COUNT);
                 String publicationDate = (publicationDateElement != null ? publicationDateElement.text().trim() : "");
                 // Add a graphic novel in the result list
                 var filteredGraphicNovel = new FilteredGraphicNovel();
-                filteredGraphicNovel.setFlagUrl(attr(e.selectFirst(CSS_SELECTOR_FLAG_URL), HTML.Attribute.SRC));
-                filteredGraphicNovel.setTitle(text(e.selectFirst(HTML.Tag.A + " > " + HTML.Tag.SPAN)));
+                filteredGraphicNovel.setFlagUrl(attr(e.selectFirst(Selectors.FILTER_FLAG), HTML.Attribute.SRC));
+                filteredGraphicNovel.setTitle(text(e.selectFirst(Selectors.LINK_SPAN)));
                 filteredGraphicNovel.setPublicationDate(publicationDate);
-                filteredGraphicNovel.setUrl(attr(e.selectFirst("a"), HTML.Attribute.HREF));
+                filteredGraphicNovel.setUrl(attr(e.selectFirst(Selectors.A), HTML.Attribute.HREF));
                 filteredGraphicNovels.add(filteredGraphicNovel);
             }
             globalFilteredObject.setFilteredGraphicNovels(filteredGraphicNovels);
         }
         // Too much results
-        if(list != null && list.is("p")) {
+        if(list != null && list.is(Selectors.P)) {
             globalFilteredObject.setFilteredGraphicNovelsMessage(list.text().trim());
         }
     }
@@ -50,9 +50,6 @@ public class FilterGraphicNovelsScraper extends Scraper {
     @Value("${application.downloads.localcache.active}")
     private boolean isLocalCacheActive;
 
-    @Value("#{new Long('${application.scraping.latency}')}")
-    private Long latency;
-
     /**
      * Find graphic novels by graphic novels search filter
      * @param graphicNovelsFilters the filter
@@ -81,10 +78,10 @@ public class FilterGraphicNovelsScraper extends Scraper {
         data.put("RechCoteMin", graphicNovelsFilters.getQuotationMin());
         data.put("RechCoteMax", graphicNovelsFilters.getQuotationMax());
         data.put("RechEO", graphicNovelsFilters.getOriginalEdition());
-        Document doc = GenericScraperSingleton.getInstance().load(bedethequeGraphicNovelsSearchUrl, data, latency);
+        Document doc = fetch(bedethequeGraphicNovelsSearchUrl, data);
 
         // Extract results
-        Element e = doc.selectFirst("div.widget-line-title");
+        Element e = doc.selectFirst(Selectors.FILTER_WIDGET_TITLE);
         if(e != null) {
             getGraphicNovels(e, graphicNovelsFilteredObject);
         }
@@ -149,25 +146,25 @@ public class FilterGraphicNovelsScraper extends Scraper {
         // Second sibling => ul or p if nothing or too many elements found
         var ulElement = title.nextElementSibling();
         // Add all graphic novels
-        if(ulElement != null && ulElement.is("ul")) {
-            List<Element> liElements = ulElement.select("li");
+        if(ulElement != null && ulElement.is(Selectors.UL)) {
+            List<Element> liElements = ulElement.select(Selectors.LI);
             for(Element e : liElements) {
                 // Add a graphic novel in the result list
                 FilteredGraphicNovelDetails filteredGraphicNovelDetail = new FilteredGraphicNovelDetails();
-                filteredGraphicNovelDetail.setFlagUrl(attr(e.selectFirst("span.ico > img"), HTML.Attribute.SRC));
-                filteredGraphicNovelDetail.setSerieTitle(text(e.selectFirst("span.serie")));
-                filteredGraphicNovelDetail.setTome(text(e.selectFirst("span.num")));
-                filteredGraphicNovelDetail.setNumEdition(text(e.selectFirst("span.numa")));
-                filteredGraphicNovelDetail.setTitle(text(e.selectFirst("span.titre")));
-                filteredGraphicNovelDetail.setPublicationDate(text(e.selectFirst("span.dl")));
-                filteredGraphicNovelDetail.setUrl(attr(e.selectFirst("a"), HTML.Attribute.HREF));
-                filteredGraphicNovelDetail.setCoverUrl(attr(e.selectFirst("a"), HTML.Attribute.REL));
+                filteredGraphicNovelDetail.setFlagUrl(attr(e.selectFirst(Selectors.FILTER_FLAG), HTML.Attribute.SRC));
+                filteredGraphicNovelDetail.setSerieTitle(text(e.selectFirst(Selectors.FILTER_SERIE)));
+                filteredGraphicNovelDetail.setTome(text(e.selectFirst(Selectors.FILTER_TOME)));
+                filteredGraphicNovelDetail.setNumEdition(text(e.selectFirst(Selectors.NUM_EDITION)));
+                filteredGraphicNovelDetail.setTitle(text(e.selectFirst(Selectors.TITLE_SPAN)));
+                filteredGraphicNovelDetail.setPublicationDate(text(e.selectFirst(Selectors.FILTER_PUBLICATION_DATE)));
+                filteredGraphicNovelDetail.setUrl(attr(e.selectFirst(Selectors.A), HTML.Attribute.HREF));
+                filteredGraphicNovelDetail.setCoverUrl(attr(e.selectFirst(Selectors.A), HTML.Attribute.REL));
                 filteredGraphicNovelDetails.add(filteredGraphicNovelDetail);
             }
             graphicNovelsFilteredObject.setFilteredGraphicNovelDetails(filteredGraphicNovelDetails);
         }
 
-        if(ulElement != null && ulElement.is("span.erreur")) {
+        if(ulElement != null && ulElement.is(Selectors.FILTER_ERROR)) {
             graphicNovelsFilteredObject.setFilteredGraphicNovelsMessage(ulElement.text().trim());
         }
     }
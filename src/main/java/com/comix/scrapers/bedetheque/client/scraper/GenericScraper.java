@@ -2,20 +2,26 @@ package com.comix.scrapers.bedetheque.client.scraper;
 
 import com.comix.scrapers.bedetheque.exception.BusinessException;
 import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
-import java.io.*;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.file.FileAlreadyExistsException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.net.URLConnection;
+import java.nio.file.*;
 import java.nio.file.attribute.PosixFilePermission;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 public class GenericScraper extends Scraper {
@@ -23,8 +29,70 @@ public class GenericScraper extends Scraper {
     @Value("${application.downloads.localcache.hashed-directory-step:5000}")
     private int hashedDirectoryStep;
 
+    @Setter
+    @Autowired(required = false)
+    private MediaDownloadExecutor mediaDownloadExecutor;
+
+    @Setter
+    @Autowired
+    private MediaIndex mediaIndex = new MediaIndex();
+
+    @Setter
+    @Autowired(required = false)
+    private ContentAddressedMediaStore contentStore;
+
+    /**
+     * Download a media from a http source to a local file, with the media download executor when available.
+     * <p>
+     * In background mode, the returned future is already completed with the predicted local http path,
+     * and the download ends later. With the content-addressed store, the local http path can't be predicted
+     * before the download, unless the media is already stored.
+     *
+     * @param outputMediaDirectory     Output directory where the media will be saved.
+     * @param outputHttpMediaPath      Output http path where the saved media will be accessible by the local http server.
+     * @param httpMediaUrl             The url of the media to download.
+     * @param httpDefaultMediaFilename the default media file to substitute
+     * @param idMedia                  The media id
+     * @return The future http path where the saved media is accessible by the local http server.
+     */
+    public CompletableFuture<String> downloadMediaAsync(String outputMediaDirectory, String outputHttpMediaPath, String httpMediaUrl,
+                                                        String httpDefaultMediaFilename, String idMedia) {
+        if (mediaDownloadExecutor == null) {
+            return CompletableFuture.completedFuture(
+                    downloadMedia(outputMediaDirectory, outputHttpMediaPath, httpMediaUrl, httpDefaultMediaFilename, idMedia));
+        }
+        if (contentStore != null) {
+            Optional<String> stored = contentStore.find(httpMediaUrl);
+            if (stored.isPresent()) {
+                return CompletableFuture.completedFuture(stored.get());
+            }
+        }
+        CompletableFuture<String> download = mediaDownloadExecutor.submit(httpMediaUrl,
+                () -> downloadMedia(outputMediaDirectory, outputHttpMediaPath, httpMediaUrl, httpDefaultMediaFilename, idMedia));
+        if (mediaDownloadExecutor.isBackground() && contentStore == null) {
+            return CompletableFuture.completedFuture(getLocalMediaUrl(outputHttpMediaPath, httpMediaUrl, idMedia));
+        }
+        return download.exceptionally(e -> {
+            log.warn("Silent fail for the media download {}", httpMediaUrl, e);
+            return httpDefaultMediaFilename;
+        });
+    }
+
+    /**
+     * Predict the http path where a media will be accessible once downloaded.
+     *
+     * @param outputHttpMediaPath Output http path where the saved media will be accessible by the local http server.
+     * @param httpMediaUrl        The url of the media to download.
+     * @param idMedia             The media id
+     * @return The http path where the saved media will be accessible by the local http server.
+     */
+    protected String getLocalMediaUrl(String outputHttpMediaPath, String httpMediaUrl, String idMedia) {
+        String[] mediaUrlParts = StringUtils.split(httpMediaUrl, "/");
+        return outputHttpMediaPath + getHashedRelativeDirectory(idMedia) + File.separator + mediaUrlParts[mediaUrlParts.length - 1];
+    }
+
     /**
-     * Download a media from a http source to a local file
+     * Download a media from a http source to a local file, or to the content-addressed store when it is active.
      *
      * @param outputMediaDirectory     Output directory where the media will be saved.
      * @param outputHttpMediaPath      Output http path where the saved media will be accessible by the local http server.
@@ -36,6 +104,9 @@ public class GenericScraper extends Scraper {
     public String downloadMedia(String outputMediaDirectory, String outputHttpMediaPath, String httpMediaUrl,
                                 String httpDefaultMediaFilename, String idMedia) {
         String httpMediaFilename = httpDefaultMediaFilename;
+        if (contentStore != null) {
+            return storeMedia(httpMediaUrl, httpDefaultMediaFilename);
+        }
 
         String hashedDir = getHashedRelativeDirectory(idMedia);
         String hashedOutputMediaDirectory = getHashedPath(outputMediaDirectory, hashedDir);
@@ -51,8 +122,20 @@ public class GenericScraper extends Scraper {
         return httpMediaFilename;
     }
 
+    private String storeMedia(String httpMediaUrl, String httpDefaultMediaFilename) {
+        try {
+            return contentStore.store(httpMediaUrl);
+        } catch (TechnicalException e) {
+            log.warn("Silent fail for the media download {} (Technical Exception) - content store", httpMediaUrl, e);
+            return httpDefaultMediaFilename;
+        }
+    }
+
     /**
-     * Download a media from a http source to a local file
+     * Download a media from a http source to a local file.
+     * <p>
+     * The media is streamed into a temporary file of the output directory, then atomically moved to its
+     * final name, so that an interrupted download never leaves a truncated or empty media behind.
      *
      * @param outputMediaDirectory Output directory where the media will be saved.
      * @param outputHttpMediaPath  Output http path where the saved media will be accessible by the local http server.
@@ -64,23 +147,51 @@ public class GenericScraper extends Scraper {
         String mediaFilename = mediaUrlParts[mediaUrlParts.length - 1];
         String mediaFilenamePath = outputMediaDirectory + File.separator + mediaFilename;
         String httpMediaFilename = outputHttpMediaPath + File.separator + mediaFilename;
-        // Check if the media has been already downloaded
-        var f = new File(mediaFilenamePath);
-        if (!f.exists()) {
-            try {
-                boolean isCreated = f.createNewFile();
-                if (!isCreated) {
-                    log.debug("Can't create file for an unknown reason : {}", mediaFilenamePath);
-                    throw new BusinessException("ERR-SCR-002", new Object[]{mediaFilenamePath});
-                }
-            } catch (IOException e) {
-                log.debug("Can't create file : {}", mediaFilenamePath);
-                throw new TechnicalException("ERR-SCR-002", e, new Object[]{mediaFilenamePath});
-            }
-        } else {
+        // Check if the media has been already downloaded (an empty file is a previous failed download)
+        Path mediaPath = Paths.get(mediaFilenamePath);
+        if (mediaIndex.exists(mediaPath)) {
             return httpMediaFilename;
         }
 
+        Path tempPath = createTempFile(mediaPath);
+        try {
+            long size = copy(httpMediaUrl, tempPath);
+            moveAtomically(tempPath, mediaPath);
+            mediaIndex.add(mediaPath);
+            log.info("Resource {} saved to {} ({} bytes)", httpMediaUrl, mediaFilenamePath, size);
+        } catch (FileNotFoundException e) {
+            log.debug("HTML resource not found : {}", httpMediaUrl);
+            throw new TechnicalException("ERR-SCR-003", e, new Object[]{httpMediaUrl});
+        } catch (FileAlreadyExistsException e2) {
+            log.debug("File already exists : {}", httpMediaUrl);
+            throw new TechnicalException("ERR-SCR-004", e2, new Object[]{httpMediaUrl});
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            log.debug("Failed to read html : {}", httpMediaUrl);
+            throw new TechnicalException("ERR-SCR-005", e, new Object[]{httpMediaUrl});
+        } catch (IOException e) {
+            log.debug("Cannot save media {} on local file : {}", httpMediaUrl, mediaFilenamePath);
+            throw new TechnicalException("ERR-SCR-006", e, new Object[]{httpMediaUrl, mediaFilenamePath});
+        } finally {
+            deleteQuietly(tempPath);
+        }
+        return httpMediaFilename;
+    }
+
+    /**
+     * Create the temporary file receiving the download, next to the final media so that the move stays atomic.
+     *
+     * @param mediaPath the final media path
+     * @return the temporary file path
+     */
+    static Path createTempFile(Path mediaPath) {
+        Path tempPath;
+        try {
+            tempPath = Files.createTempFile(mediaPath.getParent(), "." + mediaPath.getFileName(), ".part");
+        } catch (IOException e) {
+            log.debug("Can't create file : {}", mediaPath);
+            throw new TechnicalException("ERR-SCR-002", e, new Object[]{mediaPath.toString()});
+        }
+
         // --- Définition des permissions ---
         try {
             Set<PosixFilePermission> perms = new HashSet<>();
@@ -91,40 +202,58 @@ public class GenericScraper extends Scraper {
             perms.add(PosixFilePermission.GROUP_READ);
             // others permissions removed
             perms.remove(PosixFilePermission.OTHERS_READ); // Compliant
-            Files.setPosixFilePermissions(f.toPath(), perms);
-            log.debug("Permissions 777 set on file: {}", mediaFilenamePath);
+            Files.setPosixFilePermissions(tempPath, perms);
+            log.debug("Permissions 640 set on file: {}", tempPath);
         } catch (UnsupportedOperationException | IOException e) {
-            log.warn("Could not set file permissions for {}. This is expected on non-POSIX systems (like Windows).", mediaFilenamePath, e);
+            log.warn("Could not set file permissions for {}. This is expected on non-POSIX systems (like Windows).", tempPath, e);
         }
+        return tempPath;
+    }
 
-        // Download the http media
-        try (var fos = new FileOutputStream(mediaFilenamePath)) {
-            var url = new URI(httpMediaUrl).toURL();
-            var output = new ByteArrayOutputStream();
+    private static long copy(String httpMediaUrl, Path target) throws IOException, URISyntaxException {
+        return copy(httpMediaUrl, target, null);
+    }
 
-            try (var inputStream = url.openStream()) {
-                var n = 0;
-                var buffer = new byte[1024];
-                while (-1 != (n = inputStream.read(buffer))) {
-                    output.write(buffer, 0, n);
-                }
-            }
-            output.writeTo(fos);
-            log.info("Resource {} saved to {}", httpMediaUrl, mediaFilenamePath);
-        } catch (FileNotFoundException e) {
-            log.debug("HTML resource not found : {}", httpMediaUrl);
-            throw new TechnicalException("ERR-SCR-003", e, new Object[]{httpMediaUrl});
-        } catch (FileAlreadyExistsException e2) {
-            log.debug("File already exists : {}", httpMediaUrl);
-            throw new TechnicalException("ERR-SCR-004", e2, new Object[]{httpMediaUrl});
-        } catch (URISyntaxException e) {
-            log.debug("Failed to read html : {}", httpMediaUrl);
-            throw new TechnicalException("ERR-SCR-005", e, new Object[]{httpMediaUrl});
+    /**
+     * Stream the http media into the target file, with a bounded buffer.
+     *
+     * @param httpMediaUrl the url of the media to download
+     * @param target       the file receiving the media
+     * @param digest       the digest updated with the content of the media (optional)
+     * @return the number of bytes written
+     * @throws IOException if the media can't be read, or is empty or truncated
+     */
+    static long copy(String httpMediaUrl, Path target, MessageDigest digest) throws IOException, URISyntaxException {
+        URLConnection connection = new URI(httpMediaUrl).toURL().openConnection();
+        long expectedLength = connection.getContentLengthLong();
+        long size;
+        try (var inputStream = connection.getInputStream();
+             var fileStream = Files.newOutputStream(target, StandardOpenOption.TRUNCATE_EXISTING);
+             var outputStream = digest == null ? fileStream : new DigestOutputStream(fileStream, digest)) {
+            size = inputStream.transferTo(outputStream);
+        }
+        if (size == 0 || (expectedLength >= 0 && size != expectedLength)) {
+            throw new IOException("Incomplete media %s : %d bytes received, %d expected"
+                    .formatted(httpMediaUrl, size, expectedLength));
+        }
+        return size;
+    }
+
+    static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            log.debug("Atomic move not supported for {}, fallback to a simple move", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            log.debug("Cannot save media {} on local file : {}", httpMediaUrl, mediaFilenamePath);
-            throw new TechnicalException("ERR-SCR-006", e, new Object[]{httpMediaUrl, mediaFilenamePath});
+            log.warn("Failed to delete the temporary file {}", path, e);
         }
-        return httpMediaFilename;
     }
 
     /**
@@ -158,9 +287,9 @@ public class GenericScraper extends Scraper {
 
         // This is an idempotent and thread-safe way to ensure a directory exists.
         // It creates the directory including any necessary but nonexistent parent directories.
-        // If the directory already exists, it does nothing.
+        // If the directory is already known by the media index, it does nothing.
         try {
-            Files.createDirectories(hashedDirPath);
+            mediaIndex.createDirectories(hashedDirPath);
         } catch (IOException e) {
             log.error("Failed to create hashed directory: {}", outputMediaDirectory, e);
             throw new TechnicalException("ERR-SCR-007", e, new Object[]{outputMediaDirectory});
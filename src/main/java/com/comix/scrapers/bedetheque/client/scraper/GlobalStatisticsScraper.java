@@ -8,6 +8,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -36,17 +37,13 @@ public class GlobalStatisticsScraper extends GenericScraper {
     @Value("${application.downloads.localcache.active}")
     private boolean isLocalCacheActive;
 
-    @Setter
-    @Value("#{new Long('${application.scraping.latency}')}")
-    private Long latency;
-
     public GlobalStatistics scrap() {
-        Document doc = GenericScraperSingleton.getInstance().load(bedethequeUrl, latency);
+        Document doc = fetch(bedethequeUrl);
         GlobalStatistics globalStatistics = new GlobalStatistics();
-        globalStatistics.setSeries(scrapElement(doc, "ul.stats li:contains(Séries) > span"));
-        globalStatistics.setGraphicNovels(scrapElement(doc, "ul.stats li:contains(Albums) > span"));
-        globalStatistics.setAuthors(scrapElement(doc, "ul.stats li:contains(Auteurs) > span"));
-        globalStatistics.setReviews(scrapElement(doc, "ul.stats li:contains(Revues) > span"));
+        globalStatistics.setSeries(scrapElement(doc, Selectors.STATS_SERIES));
+        globalStatistics.setGraphicNovels(scrapElement(doc, Selectors.STATS_GRAPHIC_NOVELS));
+        globalStatistics.setAuthors(scrapElement(doc, Selectors.STATS_AUTHORS));
+        globalStatistics.setReviews(scrapElement(doc, Selectors.STATS_REVIEWS));
         globalStatistics.setNews(scrapNews(doc));
         globalStatistics.setLastEntries(scrapLastEntries(doc));
 
@@ -59,7 +56,7 @@ public class GlobalStatisticsScraper extends GenericScraper {
         Optional<LastEntry> optionalLastEntry = scrapNewFirst(doc);
         optionalLastEntry.ifPresent(graphicNovels::add);
         // Other news
-        List<Element> lis = doc.select("ul.gallery-couv-large li");
+        List<Element> lis = doc.select(Selectors.STATS_NEWS);
         for (Element li : lis) {
             graphicNovels.add(scrapNew(li));
         }
@@ -68,15 +65,15 @@ public class GlobalStatisticsScraper extends GenericScraper {
 
     private Optional<LastEntry> scrapNewFirst(Document doc) {
         Optional<LastEntry> optionalLastEntry = Optional.empty();
-        Element bloc = doc.selectFirst("div.magazine-widget");
+        Element bloc = doc.selectFirst(Selectors.STATS_FIRST_NEW);
         if (bloc == null) {
             return optionalLastEntry;
         }
 
-        String graphicNovelUrl = bedethequeUrl + "/" + attr(bloc.selectFirst("a"), HTML.Attribute.HREF);
-        String frontCoverHdUrl = bedethequeUrl + "/" + attr(bloc.selectFirst("img"), HTML.Attribute.SRC);
+        String graphicNovelUrl = bedethequeUrl + "/" + attr(bloc.selectFirst(Selectors.A), HTML.Attribute.HREF);
+        String frontCoverHdUrl = bedethequeUrl + "/" + attr(bloc.selectFirst(Selectors.IMG), HTML.Attribute.SRC);
 
-        Element blocDescription = bloc.selectFirst("div.big-desc");
+        Element blocDescription = bloc.selectFirst(Selectors.STATS_FIRST_NEW_DESCRIPTION);
         String title = null;
         String tome = null;
         String serieTitle = null;
@@ -85,7 +82,7 @@ public class GlobalStatisticsScraper extends GenericScraper {
         String synopsys = null;
         // Scrap title
         if (blocDescription != null) {
-            String titleH4 = ownText(blocDescription.selectFirst("h4"));
+            String titleH4 = ownText(blocDescription.selectFirst(Selectors.H4));
             title = titleH4;
             // Search if a tome number is specified
             if (!StringUtils.isBlank(titleH4)) {
@@ -95,10 +92,10 @@ public class GlobalStatisticsScraper extends GenericScraper {
                     title = Strings.CS.remove(titleH4, parts[0] + ". ").trim();
                 }
                 // Scrap serie title
-                serieTitle = ownText(blocDescription.selectFirst("h3 > a"));
+                serieTitle = ownText(blocDescription.selectFirst(Selectors.STATS_FIRST_NEW_SERIE));
             }
 
-            String serieDetails = ownText(blocDescription.selectFirst("div.magz-meta"));
+            String serieDetails = ownText(blocDescription.selectFirst(Selectors.STATS_FIRST_NEW_DETAILS));
             if (!StringUtils.isBlank(serieDetails)) {
                 // Scrap publisher
                 publisher = scrapLastEntryPublisher(serieDetails);
@@ -155,7 +152,7 @@ public class GlobalStatisticsScraper extends GenericScraper {
      * @return a synopsys if exists
      */
     private String scrapLastEntrySynopsys(Element blocDescription) {
-        String synopsys = ownText(blocDescription.selectFirst("p"));
+        String synopsys = ownText(blocDescription.selectFirst(Selectors.P));
         if (!synopsys.isEmpty()) {
             synopsys += " [...]";
         }
@@ -177,12 +174,12 @@ public class GlobalStatisticsScraper extends GenericScraper {
     }
 
     private LastEntry scrapNew(Element li) {
-        String graphicNovelUrl = bedethequeUrl + "/" + attr(li.selectFirst("a"), HTML.Attribute.HREF);
-        String frontCoverThumbnailUrl = bedethequeUrl + "/" + attr(li.selectFirst("img"), HTML.Attribute.SRC);
-        String serieTitle = attr(li.selectFirst("a"), HTML.Attribute.TITLE);
+        String graphicNovelUrl = bedethequeUrl + "/" + attr(li.selectFirst(Selectors.A), HTML.Attribute.HREF);
+        String frontCoverThumbnailUrl = bedethequeUrl + "/" + attr(li.selectFirst(Selectors.IMG), HTML.Attribute.SRC);
+        String serieTitle = attr(li.selectFirst(Selectors.A), HTML.Attribute.TITLE);
         String title = serieTitle;
-        String publisher = ownText(li.selectFirst("span.editeur"));
-        String tome = ownText(li.selectFirst("span.titre"));
+        String publisher = ownText(li.selectFirst(Selectors.STATS_PUBLISHER));
+        String tome = ownText(li.selectFirst(Selectors.TITLE_SPAN));
         // TODO Limit case : example -> La ferme de l'enfant-loup
         if (StringUtils.split(tome, "-").length > 1) {
             String part = StringUtils.split(tome, "-")[1];
@@ -220,7 +217,7 @@ public class GlobalStatisticsScraper extends GenericScraper {
 
     private List<LastEntry> scrapLastEntries(Document doc) {
         List<LastEntry> graphicNovels = new ArrayList<>();
-        List<Element> lis = doc.select("ul.gallery-couv li");
+        List<Element> lis = doc.select(Selectors.STATS_LAST_ENTRIES);
         for (Element li : lis) {
             graphicNovels.add(scrapLastEntry(li));
         }
@@ -228,10 +225,10 @@ public class GlobalStatisticsScraper extends GenericScraper {
     }
 
     private LastEntry scrapLastEntry(Element li) {
-        String graphicNovelUrl = bedethequeUrl + "/" + attr(li.selectFirst("a"), HTML.Attribute.HREF);
-        String frontCoverThumbnailUrl = bedethequeUrl + "/" + attr(li.selectFirst("img"), HTML.Attribute.SRC);
-        String title = ownText(li.selectFirst("b"));
-        String tome = ownText(li.selectFirst("span"));
+        String graphicNovelUrl = bedethequeUrl + "/" + attr(li.selectFirst(Selectors.A), HTML.Attribute.HREF);
+        String frontCoverThumbnailUrl = bedethequeUrl + "/" + attr(li.selectFirst(Selectors.IMG), HTML.Attribute.SRC);
+        String title = ownText(li.selectFirst(Selectors.B));
+        String tome = ownText(li.selectFirst(Selectors.SPAN));
         if (!StringUtils.isBlank(tome) && tome.length() > 6) {
             tome = StringUtils.substring(tome, 6).trim();
         }
@@ -257,7 +254,7 @@ public class GlobalStatisticsScraper extends GenericScraper {
      * @param query the query to apply to extract values
      * @return a scraped value
      */
-    private Integer scrapElement(Document doc, String query) {
+    private Integer scrapElement(Document doc, Evaluator query) {
         var element = doc.selectFirst(query);
         if (element != null) {
             var res = element.ownText().trim();
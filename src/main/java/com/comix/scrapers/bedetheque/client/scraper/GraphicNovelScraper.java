@@ -9,14 +9,21 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.parser.StreamParser;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -26,6 +33,8 @@ public class GraphicNovelScraper extends GenericScraper {
     private static final String GRAPHIC_NOVEL = "graphicnovel";
     private static final String UNKNOWN = "<Indéterminé>";
     private static final String HTML_EXTENSION = ".html";
+    // Maximum count of streamed albums waiting for their medias
+    private static final int MAX_PENDING_ALBUMS = 16;
 
     // Thumbnails medias
     @Value("${application.downloads.graphic-novels.cover-front.thumbs}")
@@ -73,8 +82,8 @@ public class GraphicNovelScraper extends GenericScraper {
     private boolean isLocalCacheActive;
 
     @Setter
-    @Value("#{new Long('${application.scraping.latency}')}")
-    private Long latency;
+    @Value("${application.scraping.streaming:true}")
+    private boolean isStreamingActive;
 
     private static final Set<String> AUTHOR_ROLES = Set.of(
             "Scénario", "Dessin", "Couleurs", "Storyboard", "Encrage", "Lettrage",
@@ -102,7 +111,7 @@ public class GraphicNovelScraper extends GenericScraper {
 
     public List<GraphicNovel> scrapFromSerie(String serieUrl) {
         // Load all authors starting with the letter
-        Document doc = GenericScraperSingleton.getInstance().load(serieUrl, latency);
+        Document doc = fetch(serieUrl);
         return scrapElement(serieUrl, doc);
     }
 
@@ -115,12 +124,15 @@ public class GraphicNovelScraper extends GenericScraper {
      */
     public List<GraphicNovel> scrapElement(String scrapUrl, Document doc) {
         List<GraphicNovel> graphicNovels = new ArrayList<>();
+        List<CompletableFuture<Void>> downloads = new ArrayList<>();
 
-        Elements eAlbums = doc.select("ul.liste-albums li[itemtype='https://schema.org/Book']");
+        Elements eAlbums = doc.select(Selectors.ALBUM_BOOKS);
 
         for (Element li : eAlbums) {
-            graphicNovels.add(scrapElement(SERIE, scrapUrl, doc, li));
+            graphicNovels.add(scrapElement(SERIE, scrapUrl, doc, li, downloads));
         }
+        // The medias of all the albums are downloaded in parallel
+        MediaDownloadExecutor.await(downloads);
 
         log.info("Scraped {} graphic novels from the serie url {}",
                 graphicNovels.size(),
@@ -137,13 +149,20 @@ public class GraphicNovelScraper extends GenericScraper {
      */
     public GraphicNovelPage scrapElement(String url, int page) {
         String urlWithPage = buildURl(url, page);
-        Document doc = GenericScraperSingleton.getInstance().load(urlWithPage, latency);
 
         GraphicNovelPage graphicNovelPage = new GraphicNovelPage();
-        graphicNovelPage.setGraphicNovels(scrapFromSerie(urlWithPage));
-
-
-        int graphicNovelCount = getGraphicNovelCount(doc);
+        int graphicNovelCount;
+        if (page >= 10000 && isStreamingActive) {
+            // The page of all the albums is streamed, the albums are not kept in the document
+            List<GraphicNovel> graphicNovels = new ArrayList<>();
+            graphicNovelCount = streamElements(urlWithPage, graphicNovels::add);
+            graphicNovelPage.setGraphicNovels(graphicNovels);
+        } else {
+            // The same document gives both the albums and the total count
+            Document doc = fetch(urlWithPage);
+            graphicNovelPage.setGraphicNovels(scrapElement(urlWithPage, doc));
+            graphicNovelCount = getGraphicNovelCount(doc);
+        }
         graphicNovelPage.setTotalElements(graphicNovelCount);
         if (page < 10000) {
             graphicNovelPage.setPage(page);
@@ -161,6 +180,92 @@ public class GraphicNovelScraper extends GenericScraper {
         return graphicNovelPage;
     }
 
+    /**
+     * Scrap a page of graphic novels while it is loaded.
+     *
+     * @param url      the graphic novels url to scrap at <a href="https://www.bedetheque.com">...</a>
+     * @param page     the page number to scrap (10000 for all the graphic novels)
+     * @param consumer the consumer of the scraped graphic novels
+     * @return the total count of graphic novels displayed by the page
+     * @see #streamElements(String, Consumer)
+     */
+    public int streamElements(String url, int page, Consumer<GraphicNovel> consumer) {
+        return streamElements(buildURl(url, page), consumer);
+    }
+
+    /**
+     * Scrap a list of graphic novels while the page is loaded.
+     * <p>
+     * Each album is sent to the consumer once its medias are downloaded, in the order of the page,
+     * then removed from the document : the memory used doesn't depend on the number of albums of the page.
+     * The medias of the next albums are downloaded in parallel, but at most {@value #MAX_PENDING_ALBUMS}
+     * albums wait for their medias at the same time.
+     *
+     * @param scrapUrl the graphic novels url to scrap at <a href="https://www.bedetheque.com">...</a>
+     * @param consumer the consumer of the scraped graphic novels
+     * @return the total count of graphic novels displayed by the page
+     */
+    public int streamElements(String scrapUrl, Consumer<GraphicNovel> consumer) {
+        return stream(scrapUrl, parser -> {
+            int scraped = streamElements(SERIE, scrapUrl, parser, Selectors.ALBUM_BOOKS, consumer);
+            log.info("Streamed {} graphic novels from the serie url {}", scraped, scrapUrl);
+            return getGraphicNovelCount(parser.document());
+        });
+    }
+
+    /**
+     * Scrap all republications of a graphic novel while the page is loaded.
+     *
+     * @param url      the url of the graphic novel at <a href="https://www.bedetheque.com">...</a>
+     * @param consumer the consumer of the scraped graphic novels
+     * @return the count of scraped graphic novels
+     * @see #streamElements(String, Consumer)
+     */
+    public int streamWithAllRepublications(String url, Consumer<GraphicNovel> consumer) {
+        return stream(url, parser -> {
+            int scraped = streamElements(GRAPHIC_NOVEL, url, parser, Selectors.ALBUM_ITEMS, consumer);
+            log.info("Streamed {} graphic novels republications from the graphic novel url {}", scraped, url);
+            return scraped;
+        });
+    }
+
+    private int streamElements(String from, String url, StreamParser parser, Evaluator albums,
+                               Consumer<GraphicNovel> consumer) throws IOException {
+        int scraped = 0;
+        Deque<PendingGraphicNovel> pending = new ArrayDeque<>();
+        Element li;
+        while ((li = parser.selectNext(albums)) != null) {
+            List<CompletableFuture<Void>> medias = new ArrayList<>();
+            GraphicNovel graphicNovel = scrapElement(from, url, parser.document(), li, medias);
+            li.remove();
+            pending.add(new PendingGraphicNovel(graphicNovel, medias));
+            scraped++;
+            // The window is full : wait for the oldest album before parsing the next one
+            if (pending.size() >= MAX_PENDING_ALBUMS) {
+                MediaDownloadExecutor.await(pending.getFirst().medias());
+            }
+            while (!pending.isEmpty() && pending.getFirst().isDownloaded()) {
+                consumer.accept(pending.removeFirst().graphicNovel());
+            }
+        }
+        while (!pending.isEmpty()) {
+            PendingGraphicNovel next = pending.removeFirst();
+            MediaDownloadExecutor.await(next.medias());
+            consumer.accept(next.graphicNovel());
+        }
+        return scraped;
+    }
+
+    /**
+     * A streamed graphic novel, waiting for the download of its medias
+     */
+    private record PendingGraphicNovel(GraphicNovel graphicNovel, List<CompletableFuture<Void>> medias) {
+
+        boolean isDownloaded() {
+            return medias.stream().allMatch(CompletableFuture::isDone);
+        }
+    }
+
     /**
      * Build the final graphic novel url to scrap at <a href="https://www.bedetheque.com">...</a>
      *
@@ -180,20 +285,25 @@ public class GraphicNovelScraper extends GenericScraper {
     }
 
     public GraphicNovel scrapFromSerie(String url, Document doc, Element nodeAlbum) {
-        return scrapElement(SERIE, url, doc, nodeAlbum);
+        List<CompletableFuture<Void>> downloads = new ArrayList<>();
+        GraphicNovel graphicNovel = scrapElement(SERIE, url, doc, nodeAlbum, downloads);
+        MediaDownloadExecutor.await(downloads);
+        return graphicNovel;
     }
 
     public List<GraphicNovel> scrapWithAllRepublications(String url) {
 
-        Document doc = GenericScraperSingleton.getInstance().load(url, latency);
+        Document doc = fetch(url);
 
         List<GraphicNovel> graphicNovels = new ArrayList<>();
+        List<CompletableFuture<Void>> downloads = new ArrayList<>();
 
-        Elements eAlbums = doc.select("ul.liste-albums > li");
+        Elements eAlbums = doc.select(Selectors.ALBUM_ITEMS);
 
         for (Element li : eAlbums) {
-            graphicNovels.add(scrapElement(GRAPHIC_NOVEL, url, doc, li));
+            graphicNovels.add(scrapElement(GRAPHIC_NOVEL, url, doc, li, downloads));
         }
+        MediaDownloadExecutor.await(downloads);
 
         log.info("Scraped {} graphic novels republications from the graphic novel url {}",
                 graphicNovels.size(),
@@ -205,30 +315,33 @@ public class GraphicNovelScraper extends GenericScraper {
      * Download all bedetheque medias on the local server
      *
      * @param graphicNovel the graphic novel
+     * @param downloads    the pending downloads, completed when the media urls of the graphic novel are set
      */
-    private void downloadMedias(GraphicNovel graphicNovel) {
-        graphicNovel.setCoverThumbnailUrl(downloadAndSetMedia(graphicNovel.getCoverThumbnailUrl(), outputCoverFrontThumbDirectory, httpCoverFrontThumbDirectory, graphicNovel.getExternalId()));
-        graphicNovel.setBackCoverThumbnailUrl(downloadAndSetMedia(graphicNovel.getBackCoverThumbnailUrl(), outputCoverBackThumbDirectory, httpCoverBackThumbDirectory, graphicNovel.getExternalId()));
-        graphicNovel.setPageThumbnailUrl(downloadAndSetMedia(graphicNovel.getPageThumbnailUrl(), outputPageExampleThumbDirectory, httpPageExampleThumbDirectory, graphicNovel.getExternalId()));
+    private void downloadMedias(GraphicNovel graphicNovel, List<CompletableFuture<Void>> downloads) {
+        String externalId = graphicNovel.getExternalId();
+        downloads.add(downloadAndSetMedia(graphicNovel.getCoverThumbnailUrl(), outputCoverFrontThumbDirectory, httpCoverFrontThumbDirectory, externalId, graphicNovel::setCoverThumbnailUrl));
+        downloads.add(downloadAndSetMedia(graphicNovel.getBackCoverThumbnailUrl(), outputCoverBackThumbDirectory, httpCoverBackThumbDirectory, externalId, graphicNovel::setBackCoverThumbnailUrl));
+        downloads.add(downloadAndSetMedia(graphicNovel.getPageThumbnailUrl(), outputPageExampleThumbDirectory, httpPageExampleThumbDirectory, externalId, graphicNovel::setPageThumbnailUrl));
 
-        graphicNovel.setCoverPictureUrl(downloadAndSetMedia(graphicNovel.getCoverPictureUrl(), outputCoverFrontHdDirectory, httpCoverFrontHdDirectory, graphicNovel.getExternalId()));
-        graphicNovel.setBackCoverPictureUrl(downloadAndSetMedia(graphicNovel.getBackCoverPictureUrl(), outputCoverBackHdDirectory, httpCoverBackHdDirectory, graphicNovel.getExternalId()));
-        graphicNovel.setPagePictureUrl(downloadAndSetMedia(graphicNovel.getPagePictureUrl(), outputPageExampleHdDirectory, httpPageExampleHdDirectory, graphicNovel.getExternalId()));
+        downloads.add(downloadAndSetMedia(graphicNovel.getCoverPictureUrl(), outputCoverFrontHdDirectory, httpCoverFrontHdDirectory, externalId, graphicNovel::setCoverPictureUrl));
+        downloads.add(downloadAndSetMedia(graphicNovel.getBackCoverPictureUrl(), outputCoverBackHdDirectory, httpCoverBackHdDirectory, externalId, graphicNovel::setBackCoverPictureUrl));
+        downloads.add(downloadAndSetMedia(graphicNovel.getPagePictureUrl(), outputPageExampleHdDirectory, httpPageExampleHdDirectory, externalId, graphicNovel::setPagePictureUrl));
     }
 
-    private String downloadAndSetMedia(String url, String outputDir, String httpDir, String externalId) {
+    private CompletableFuture<Void> downloadAndSetMedia(String url, String outputDir, String httpDir, String externalId,
+                                                        Consumer<String> setter) {
         if (StringUtils.isBlank(url)) {
-            return url;
+            return CompletableFuture.completedFuture(null);
         }
-        return downloadMedia(outputDir, httpDir, url, httpDefaultMediaFilename, externalId);
+        return downloadMediaAsync(outputDir, httpDir, url, httpDefaultMediaFilename, externalId).thenAccept(setter);
     }
 
     private int getGraphicNovelCount(Document doc) {
         int count = 0;
-        Elements bandeauMenuElements = doc.select("div.bandeau-menu > ul > li > a");
+        Elements bandeauMenuElements = doc.select(Selectors.ALBUM_MENU_LINKS);
         Element albums = bandeauMenuElements.stream().filter(li -> li.ownText().contains("Albums")).findFirst().orElse(null);
         if (albums != null) {
-            Element countElement = albums.selectFirst("span");
+            Element countElement = albums.selectFirst(Selectors.SPAN);
             if (countElement != null && StringUtils.isNumeric(countElement.ownText())) {
                 count = Integer.parseInt(countElement.ownText());
             }
@@ -240,9 +353,9 @@ public class GraphicNovelScraper extends GenericScraper {
         Serie serie = new Serie();
         Element serieElement;
         if (GRAPHIC_NOVEL.equals(from)) {
-            serieElement = doc.selectFirst("div.panier > h1 > a");
+            serieElement = doc.selectFirst(Selectors.ALBUM_CART_SERIE);
         } else {
-            serieElement = doc.selectFirst("div.serie > h1 > a");
+            serieElement = doc.selectFirst(Selectors.ALBUM_SERIE);
         }
         if (serieElement != null) {
             serie.setName(serieElement.ownText());
@@ -270,22 +383,24 @@ public class GraphicNovelScraper extends GenericScraper {
         return id;
     }
 
-    private GraphicNovel scrapElement(String from, String url, Element doc, Element gcElement) {
+    private GraphicNovel scrapElement(String from, String url, Element doc, Element gcElement,
+                                      List<CompletableFuture<Void>> downloads) {
         // Serie
         Serie serie = scrapSerie(from, doc);
 
         // Album main
         Element title;
         if (GRAPHIC_NOVEL.equals(from)) {
-            title = gcElement.selectFirst("h3.titre"); //NOSONAR
+            title = gcElement.selectFirst(Selectors.ALBUM_TITLE); //NOSONAR
         } else {
-            title = gcElement.selectFirst("h3 a.titre > span[itemprop='name']");
+            title = gcElement.selectFirst(Selectors.ALBUM_TITLE_NAME);
         }
 
-        var infos = gcElement.selectFirst("ul.infos");
-        var autres = gcElement.selectFirst("div.autres");
-        var side = gcElement.selectFirst("div.album-side");
-        var ratings = gcElement.selectFirst("div.eval");
+        var infos = gcElement.selectFirst(Selectors.ALBUM_INFOS);
+        var infoBlock = AlbumInfoBlock.of(infos);
+        var autres = gcElement.selectFirst(Selectors.ALBUM_OTHERS);
+        var side = gcElement.selectFirst(Selectors.ALBUM_SIDE);
+        var ratings = gcElement.selectFirst(Selectors.ALBUM_RATINGS);
 
         String tome = getTome(from, title);
         Integer tomeNum = null;
@@ -301,21 +416,21 @@ public class GraphicNovelScraper extends GenericScraper {
         graphicNovel.setTomeNum(tomeNum);
         graphicNovel.setNumEdition(getNumEdition(title));
         graphicNovel.setTitle(getTitle(from, title));
-        graphicNovel.setExternalId(getExternalId(infos));
+        graphicNovel.setExternalId(getExternalId(infoBlock));
         graphicNovel.setRatings(getRatings(ratings));
         graphicNovel.setAuthors(getAuthors(infos));
-        graphicNovel.setPublicationDate(getPublicationDate(infos));
-        graphicNovel.setReleaseDate(getReleaseDate(infos));
-        graphicNovel.setPublisher(getPublisher(infos));
-        graphicNovel.setCollection(getCollection(infos));
-        graphicNovel.setCollectionUrl(getCollectionUrl(infos));
-        graphicNovel.setCycle(getCycle(infos));
-        graphicNovel.setIsbn(getIsbn(infos));
-        graphicNovel.setTotalPages(getIntegerInfoProperty(infos, "Planches"));
-        graphicNovel.setFormat(getFormat(infos));
-        graphicNovel.setIsOriginalPublication(hasIcon(infos, "i.icon-star"));
-        graphicNovel.setIsIntegrale(hasIcon(infos, "i.icon-pause"));
-        graphicNovel.setIsBroche(hasIcon(infos, "i.icon-tag"));
+        graphicNovel.setPublicationDate(getPublicationDate(infoBlock));
+        graphicNovel.setReleaseDate(getReleaseDate(infoBlock));
+        graphicNovel.setPublisher(getPublisher(infoBlock));
+        graphicNovel.setCollection(getCollection(infoBlock));
+        graphicNovel.setCollectionUrl(getCollectionUrl(infoBlock));
+        graphicNovel.setCycle(getCycle(infoBlock));
+        graphicNovel.setIsbn(getIsbn(infoBlock));
+        graphicNovel.setTotalPages(getIntegerInfoProperty(infoBlock, "Planches"));
+        graphicNovel.setFormat(getFormat(infoBlock));
+        graphicNovel.setIsOriginalPublication(hasIcon(infoBlock, Selectors.ALBUM_ORIGINAL_PUBLICATION_ICON));
+        graphicNovel.setIsIntegrale(hasIcon(infoBlock, Selectors.ALBUM_INTEGRALE_ICON));
+        graphicNovel.setIsBroche(hasIcon(infoBlock, Selectors.ALBUM_BROCHE_ICON));
         graphicNovel.setInfoEdition(getInfoEdition(autres));
         graphicNovel.setReeditionUrl(getReeditionUrl(autres));
         graphicNovel.setReeditionCount(getReeditionCount(autres));
@@ -331,7 +446,7 @@ public class GraphicNovelScraper extends GenericScraper {
 
         // Download all thumbs in the local server
         if (isLocalCacheActive) {
-            downloadMedias(graphicNovel);
+            downloadMedias(graphicNovel, downloads);
         }
         return graphicNovel;
     }
@@ -340,8 +455,8 @@ public class GraphicNovelScraper extends GenericScraper {
         String tome = null;
         try {
             String[] blocTome = null;
-            Element eSerie = e.selectFirst("span[itemprop=name]");
-            Element eOther = e.selectFirst("h3.titre");
+            Element eSerie = e.selectFirst(Selectors.ALBUM_SERIE_NAME);
+            Element eOther = e.selectFirst(Selectors.ALBUM_TITLE);
             if (from.equals(SERIE) && eSerie != null) {
                 blocTome = eSerie.html().split("(<span class=\"numa\">)");
             } else if (eOther != null) {
@@ -360,7 +475,7 @@ public class GraphicNovelScraper extends GenericScraper {
     private String getNumEdition(Element e) {
         String numa = null;
         try {
-            numa = ownText(e.selectFirst("span.numa"));
+            numa = ownText(e.selectFirst(Selectors.NUM_EDITION));
         } catch (Exception ex) {
             log.debug("Failed to scrap numa", ex);
         }
@@ -371,8 +486,8 @@ public class GraphicNovelScraper extends GenericScraper {
         String title = null;
         try {
             String[] tb = null;
-            Element eSerie = e.selectFirst("span[itemprop=name]");
-            Element eOther = e.selectFirst("h3.titre");
+            Element eSerie = e.selectFirst(Selectors.ALBUM_SERIE_NAME);
+            Element eOther = e.selectFirst(Selectors.ALBUM_TITLE);
             if (from.equals(SERIE) && eSerie != null) {
                 tb = eSerie.html().split("(</span>)");
             } else if (eOther != null) {
@@ -395,9 +510,9 @@ public class GraphicNovelScraper extends GenericScraper {
     private Ratings getRatings(Element e) {
         Ratings ratings = null;
         try {
-            String width = attr(e.selectFirst("ul.unit-rating li"), HTML.Attribute.STYLE);
-            String count = ownText(e.selectFirst("p.message")).split("Note:")[1];
-            String rating = ownText(e.selectFirst("p.message > strong"));
+            String width = attr(e.selectFirst(Selectors.ALBUM_RATING_WIDTH), HTML.Attribute.STYLE);
+            String count = ownText(e.selectFirst(Selectors.ALBUM_RATING_MESSAGE)).split("Note:")[1];
+            String rating = ownText(e.selectFirst(Selectors.ALBUM_RATING_VALUE));
             ratings = new Ratings();
             ratings.setRating(rating);
             ratings.setCount(count);
@@ -408,10 +523,10 @@ public class GraphicNovelScraper extends GenericScraper {
         return ratings;
     }
 
-    private String getExternalId(Element e) {
+    private String getExternalId(AlbumInfoBlock e) {
         String externalId = null;
         try {
-            Element eId = e.selectFirst("li label:containsOwn(Identifiant)");
+            Element eId = e.label("Identifiant");
             if (eId != null) {
                 externalId = ownText(eId.parent());
             }
@@ -427,12 +542,12 @@ public class GraphicNovelScraper extends GenericScraper {
         }
         List<AuthorRole> authors = new ArrayList<>();
 
-        List<Element> infos = e.select("li");
+        List<Element> infos = e.select(Selectors.LI);
         var key = "";
         var hasLabel = false;
         for (Element li : infos) {
             // Identify the current key
-            var label = ownText(li.selectFirst("label"));
+            var label = ownText(li.selectFirst(Selectors.LABEL));
             if (!StringUtils.isBlank(label) && label.contains(":")) {
                 label = StringUtils.split(label, ":")[0].trim();
                 hasLabel = true;
@@ -454,18 +569,18 @@ public class GraphicNovelScraper extends GenericScraper {
 
     private AuthorRole getAuthorRole(Element li, String key, boolean hasLabel) {
         AuthorRole authorRole = new AuthorRole();
-        Element span = li.selectFirst("a > span");
+        Element span = li.selectFirst(Selectors.LINK_SPAN);
         var name = UNKNOWN;
         if (span == null) {
-            Element a = li.selectFirst("a");
+            Element a = li.selectFirst(Selectors.A);
             if (a != null) {
-                name = ownText(li.selectFirst("a"));
+                name = ownText(li.selectFirst(Selectors.A));
             }
         } else {
             name = span.ownText();
         }
         String url = null;
-        Element a = li.selectFirst("a");
+        Element a = li.selectFirst(Selectors.A);
         if (a != null) {
             url = a.attr("href");
         }
@@ -493,12 +608,9 @@ public class GraphicNovelScraper extends GenericScraper {
         return authorRole;
     }
 
-    private String getPublicationDate(Element e) {
-        if (e == null) {
-            return null;
-        }
+    private String getPublicationDate(AlbumInfoBlock e) {
         String publicationDate = null;
-        Element ePubDate = e.selectFirst("li label:containsOwn(Dépot légal)");
+        Element ePubDate = e.label("Dépot légal");
         if (ePubDate != null) {
             String value = ownText(ePubDate.parent());
             if (!StringUtils.isBlank(value) && value.contains("Parution")) {
@@ -514,10 +626,10 @@ public class GraphicNovelScraper extends GenericScraper {
         return publicationDate;
     }
 
-    private String getReleaseDate(Element e) {
+    private String getReleaseDate(AlbumInfoBlock e) {
         String releaseDate = null;
         try {
-            Element eReleaseDate = e.selectFirst("li label:containsOwn(Dépot légal)");
+            Element eReleaseDate = e.label("Dépot légal");
             if (eReleaseDate != null) {
                 String value = ownText(eReleaseDate.nextElementSibling());
                 if (!StringUtils.isBlank(value) && value.contains("Parution")) {
@@ -536,7 +648,7 @@ public class GraphicNovelScraper extends GenericScraper {
         return releaseDate;
     }
 
-    private String getPublisher(Element e) {
+    private String getPublisher(AlbumInfoBlock e) {
         try {
             return getInfoPropertyValue(e, "Editeur");
         } catch (Exception ex) {
@@ -545,12 +657,12 @@ public class GraphicNovelScraper extends GenericScraper {
         }
     }
 
-    private String getCollection(Element e) {
+    private String getCollection(AlbumInfoBlock e) {
         String collection = null;
         try {
-            Element eCollection = e.selectFirst("li label:containsOwn(Collection)");
+            Element eCollection = e.label("Collection");
             if (eCollection != null && eCollection.parent() != null) {
-                collection = ownText(eCollection.parent().selectFirst("a"));
+                collection = ownText(eCollection.parent().selectFirst(Selectors.A));
             }
         } catch (Exception ex) {
             log.debug("Failed to scrap collection", ex);
@@ -558,12 +670,12 @@ public class GraphicNovelScraper extends GenericScraper {
         return collection;
     }
 
-    private String getCollectionUrl(Element e) {
+    private String getCollectionUrl(AlbumInfoBlock e) {
         String collectionUrl = null;
         try {
-            Element eCollectionUrl = e.selectFirst("li label:containsOwn(Collection)");
+            Element eCollectionUrl = e.label("Collection");
             if (eCollectionUrl != null && eCollectionUrl.parent() != null) {
-                collectionUrl = attr(eCollectionUrl.parent().selectFirst("a"), HTML.Attribute.HREF);
+                collectionUrl = attr(eCollectionUrl.parent().selectFirst(Selectors.A), HTML.Attribute.HREF);
             }
         } catch (Exception ex) {
             log.debug("Failed to scrap collectionUrl", ex);
@@ -571,7 +683,7 @@ public class GraphicNovelScraper extends GenericScraper {
         return collectionUrl;
     }
 
-    private String getCycle(Element e) {
+    private String getCycle(AlbumInfoBlock e) {
         try {
             return getInfoPropertyValue(e, "Cycle");
         } catch (Exception ex) {
@@ -580,7 +692,7 @@ public class GraphicNovelScraper extends GenericScraper {
         }
     }
 
-    private String getIsbn(Element e) {
+    private String getIsbn(AlbumInfoBlock e) {
         try {
             return getInfoPropertyValue(e, "ISBN");
         } catch (Exception ex) {
@@ -589,7 +701,7 @@ public class GraphicNovelScraper extends GenericScraper {
         }
     }
 
-    private Integer getIntegerInfoProperty(Element e, String key) {
+    private Integer getIntegerInfoProperty(AlbumInfoBlock e, String key) {
         Integer pages = null;
         try {
             String value = getInfoPropertyValue(e, key);
@@ -602,10 +714,10 @@ public class GraphicNovelScraper extends GenericScraper {
         return pages;
     }
 
-    private String getFormat(Element e) {
+    private String getFormat(AlbumInfoBlock e) {
         String format = null;
         try {
-            Element eFormat = e.selectFirst("li label:containsOwn(Format)");
+            Element eFormat = e.label("Format");
             if (eFormat != null && eFormat.parent() != null) {
                 format = eFormat.parent().ownText();
             }
@@ -615,12 +727,9 @@ public class GraphicNovelScraper extends GenericScraper {
         return format;
     }
 
-    private boolean hasIcon(Element e, String iconCssSelector) {
-        if (e == null) {
-            return false;
-        }
+    private boolean hasIcon(AlbumInfoBlock e, Evaluator iconCssSelector) {
         try {
-            Element parent = e.selectFirst("li label:containsOwn(Autres infos)");
+            Element parent = e.label("Autres infos");
             return parent != null && parent.parent() != null && parent.parent().selectFirst(iconCssSelector) != null;
         } catch (Exception ex) {
             log.debug("Failed to check for icon '{}'", iconCssSelector, ex);
@@ -629,13 +738,13 @@ public class GraphicNovelScraper extends GenericScraper {
     }
 
     private String getInfoEdition(Element e) {
-        return scrapSafe(e, "p", this::ownText, "infos edition");
+        return scrapSafe(e, Selectors.P, this::ownText, "infos edition");
     }
 
     private String getReeditionUrl(Element e) {
         String reeditionUrl = null;
         try {
-            Element eReeditionUrl = e.selectFirst("em:containsOwn(Rééditions)");
+            Element eReeditionUrl = e.selectFirst(Selectors.ALBUM_REEDITIONS);
             if (eReeditionUrl != null && eReeditionUrl.parent() != null) {
                 reeditionUrl = eReeditionUrl.parent().attr("href");
             }
@@ -648,9 +757,9 @@ public class GraphicNovelScraper extends GenericScraper {
     private String getReeditionCount(Element e) {
         String reeditionCount = null;
         try {
-            Element eReeditionCount = e.selectFirst("em:containsOwn(Rééditions)");
+            Element eReeditionCount = e.selectFirst(Selectors.ALBUM_REEDITIONS);
             if (eReeditionCount != null && eReeditionCount.parent() != null) {
-                reeditionCount = ownText(eReeditionCount.parent().selectFirst("strong"));
+                reeditionCount = ownText(eReeditionCount.parent().selectFirst(Selectors.STRONG));
             }
         } catch (Exception ex) {
             log.debug("Failed to scrap reeditionCount", ex);
@@ -661,7 +770,7 @@ public class GraphicNovelScraper extends GenericScraper {
     private String getExternalIdOriginalPublication(Element e) {
         String externalIdOriginalPublication = null;
         try {
-            Element eExternalIdOriginalPublication = e.selectFirst("ul.infos-albums li label:containsOwn(Identifiant)");
+            Element eExternalIdOriginalPublication = e.selectFirst(Selectors.ALBUM_ORIGINAL_PUBLICATION_ID);
             if (eExternalIdOriginalPublication != null && eExternalIdOriginalPublication.parent() != null) {
                 externalIdOriginalPublication = eExternalIdOriginalPublication.parent().ownText();
             }
@@ -672,42 +781,41 @@ public class GraphicNovelScraper extends GenericScraper {
     }
 
     private String getCoverPictureUrl(Element e) {
-        return scrapAttribute(e, "div.sous-couv a.browse-couvertures", HTML.Attribute.HREF, "coverPictureUrl");
+        return scrapAttribute(e, Selectors.ALBUM_COVER_PICTURE, HTML.Attribute.HREF, "coverPictureUrl");
     }
 
     private String getCoverThumbnailUrl(Element e) {
-        return scrapAttribute(e, "div.couv img", HTML.Attribute.SRC, "coverThumbnailUrl");
+        return scrapAttribute(e, Selectors.ALBUM_COVER_THUMBNAIL, HTML.Attribute.SRC, "coverThumbnailUrl");
     }
 
     private String getCopyright(Element e) {
-        return scrapSafe(e, "div.couv span", this::ownText, "copyright");
+        return scrapSafe(e, Selectors.ALBUM_COPYRIGHT, this::ownText, "copyright");
     }
 
     private String getBackCoverPictureUrl(Element e) {
-        return scrapAttribute(e, "div.sous-couv a.browse-versos", HTML.Attribute.HREF, "backCoverPictureUrl");
+        return scrapAttribute(e, Selectors.ALBUM_BACK_COVER_PICTURE, HTML.Attribute.HREF, "backCoverPictureUrl");
     }
 
     private String getBackCoverThumbnailUrl(Element e) {
-        return scrapAttribute(e, "div.sous-couv a.browse-versos img", HTML.Attribute.SRC, "backCoverThumbnailUrl");
+        return scrapAttribute(e, Selectors.ALBUM_BACK_COVER_THUMBNAIL, HTML.Attribute.SRC, "backCoverThumbnailUrl");
     }
 
     private String getPagePictureUrl(Element e) {
-        return scrapAttribute(e, "div.sous-couv a.browse-planches", HTML.Attribute.HREF, "pagePictureUrl");
+        return scrapAttribute(e, Selectors.ALBUM_PAGE_PICTURE, HTML.Attribute.HREF, "pagePictureUrl");
     }
 
     private String getPageThumbnailUrl(Element e) {
-        return scrapAttribute(e, "div.sous-couv a.browse-planches img", HTML.Attribute.SRC, "pageThumbnailUrl");
+        return scrapAttribute(e, Selectors.ALBUM_PAGE_THUMBNAIL, HTML.Attribute.SRC, "pageThumbnailUrl");
     }
 
-    private String scrapAttribute(Element e, String selector, HTML.Attribute attribute, String propertyName) {
+    private String scrapAttribute(Element e, Evaluator selector, HTML.Attribute attribute, String propertyName) {
         return scrapSafe(e, selector, el -> attr(el, attribute), propertyName);
     }
 
-    private String getInfoPropertyValue(Element e, String key) {
+    private String getInfoPropertyValue(AlbumInfoBlock e, String key) {
         String value = null;
-        var selector = "li label:containsOwn(%s)".formatted(key);
         try {
-            Element eInfoPropertyValue = e.selectFirst(selector);
+            Element eInfoPropertyValue = e.label(key);
             if (eInfoPropertyValue != null) {
                 var span = eInfoPropertyValue.nextElementSibling();
                 if (span != null) {
@@ -722,7 +830,7 @@ public class GraphicNovelScraper extends GenericScraper {
         return value;
     }
 
-    private <T> T scrapSafe(Element e, String selector, java.util.function.Function<Element, T> extractor, String propertyName) {
+    private <T> T scrapSafe(Element e, Evaluator selector, java.util.function.Function<Element, T> extractor, String propertyName) {
         if (e == null) {
             return null;
         }
@@ -0,0 +1,111 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Executor dedicated to media downloads.
+ * <p>
+ * Each download runs on its own virtual thread, but at most {@code application.downloads.executor.max-concurrent}
+ * downloads are executed at the same time, and at most {@code application.downloads.executor.max-per-host}
+ * for the same host.
+ * When {@code application.downloads.executor.background} is active, the scrapers don't wait for the downloads
+ * and return the predicted local urls of the medias.
+ */
+@Slf4j
+@Component
+public class MediaDownloadExecutor implements DisposableBean {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("media-download-", 0).factory());
+    private final Semaphore permits;
+    private final int maxPerHost;
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    @Getter
+    private final boolean background;
+
+    public MediaDownloadExecutor(@Value("${application.downloads.executor.max-concurrent:8}") int maxConcurrent,
+                                 @Value("${application.downloads.executor.max-per-host:4}") int maxPerHost,
+                                 @Value("${application.downloads.executor.background:false}") boolean background) {
+        if (maxConcurrent < 1 || maxPerHost < 1) {
+            throw new IllegalArgumentException("maxConcurrent and maxPerHost must be greater than 0");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxPerHost = maxPerHost;
+        this.background = background;
+    }
+
+    /**
+     * Submit a media download.
+     *
+     * @param httpMediaUrl the url of the media to download, used to apply the per-host limit
+     * @param download     the download returning the local http path of the media
+     * @return the future local http path of the media
+     */
+    public CompletableFuture<String> submit(String httpMediaUrl, Supplier<String> download) {
+        return CompletableFuture.supplyAsync(() -> {
+            Semaphore hostPermit = hostPermits.computeIfAbsent(host(httpMediaUrl), h -> new Semaphore(maxPerHost, true));
+            try {
+                permits.acquire();
+                try {
+                    hostPermit.acquire();
+                    try {
+                        return download.get();
+                    } finally {
+                        hostPermit.release();
+                    }
+                } finally {
+                    permits.release();
+                }
+            } catch (InterruptedException e) {
+                // Restore interrupted state...
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Download of " + httpMediaUrl + " interrupted");
+            }
+        }, executor);
+    }
+
+    /**
+     * Wait for the end of all the given downloads.
+     *
+     * @param downloads the downloads to wait for
+     */
+    public static void await(Collection<CompletableFuture<Void>> downloads) {
+        if (downloads.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(downloads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("Some media downloads failed", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Media downloads still running at shutdown are cancelled");
+            executor.shutdownNow();
+        }
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of the medias already downloaded on the local cache.
+ * <p>
+ * The content of a hashed directory is listed once, at its first lookup, then kept up to date with
+ * each successful download, so that checking a media costs no file system call.
+ * The directories already created are remembered too.
+ * Empty files (left by a failed download) are not indexed, so that they are downloaded again.
+ */
+@Slf4j
+@Component
+public class MediaIndex {
+
+    private final Set<Path> knownDirectories = ConcurrentHashMap.newKeySet();
+    private final Map<Path, Listing> listings = new ConcurrentHashMap<>();
+
+    /**
+     * Create a directory, including its parents, unless it is already known to exist.
+     *
+     * @param directory the directory to create
+     * @throws IOException if the directory can't be created
+     */
+    public void createDirectories(Path directory) throws IOException {
+        if (knownDirectories.contains(directory)) {
+            return;
+        }
+        Files.createDirectories(directory);
+        knownDirectories.add(directory);
+    }
+
+    /**
+     * @param media the local path of the media
+     * @return true if the media has already been downloaded
+     */
+    public boolean exists(Path media) {
+        Set<String> names = listing(media.getParent()).names();
+        if (names == null) {
+            // The directory can't be listed, fallback to an exact check
+            return isDownloaded(media);
+        }
+        return names.contains(media.getFileName().toString());
+    }
+
+    /**
+     * Register a media that has just been downloaded.
+     *
+     * @param media the local path of the media
+     */
+    public void add(Path media) {
+        Set<String> names = listing(media.getParent()).names();
+        if (names != null) {
+            names.add(media.getFileName().toString());
+        }
+    }
+
+    /**
+     * @return the number of directories listed in the index
+     */
+    public int getIndexedDirectoryCount() {
+        return listings.size();
+    }
+
+    private Listing listing(Path directory) {
+        return listings.computeIfAbsent(directory, Listing::new);
+    }
+
+    private static boolean isDownloaded(Path media) {
+        try {
+            return Files.isRegularFile(media) && Files.size(media) > 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Names of the medias of a directory, lazily loaded with a single directory listing
+     */
+    private static final class Listing {
+
+        private final Path directory;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Set<String> names;
+
+        private Listing(Path directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * @return the names of the medias of the directory, or null if the directory can't be listed
+         */
+        private Set<String> names() {
+            Set<String> loaded = names;
+            if (loaded != null) {
+                return loaded;
+            }
+            lock.lock();
+            try {
+                if (names == null) {
+                    names = load();
+                }
+                return names;
+            } catch (IOException e) {
+                log.warn("Failed to list the media directory {}", directory, e);
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Set<String> load() throws IOException {
+            Set<String> loaded = ConcurrentHashMap.newKeySet();
+            if (!Files.isDirectory(directory)) {
+                return loaded;
+            }
+            try (Stream<Path> medias = Files.find(directory, 1, (path, attributes) -> attributes.isRegularFile() && attributes.size() > 0)) {
+                medias.forEach(media -> loaded.add(media.getFileName().toString()));
+            }
+            log.debug("{} medias indexed in {}", loaded.size(), directory);
+            return loaded;
+        }
+    }
+}
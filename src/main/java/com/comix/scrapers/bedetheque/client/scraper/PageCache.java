@@ -0,0 +1,326 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of the HTML pages loaded by the fetch engine.
+ * <p>
+ * The body of each page is stored on disk with its validators ({@code ETag}, {@code Last-Modified}).
+ * A page is used as is during the ttl of its page type, then revalidated with a conditional request.
+ * Each page type keeps at most {@code maxEntries} pages, the least recently used pages are evicted first.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.scraping.cache.enabled", havingValue = "true")
+public class PageCache implements MeterBinder {
+
+    private static final String BODY_EXTENSION = ".html";
+    private static final String METADATA_EXTENSION = ".properties";
+
+    private final Path directory;
+    private final Map<PageType, PageCacheProperties.Policy> policies;
+    private final Clock clock;
+    private final Map<PageType, LinkedHashMap<String, CachedPage>> pages = new EnumMap<>(PageType.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean loaded;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PageCache(PageCacheProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    PageCache(PageCacheProperties properties, Clock clock) {
+        this.directory = Paths.get(properties.directory());
+        this.policies = properties.policies();
+        this.clock = clock;
+        for (PageType type : PageType.values()) {
+            // Access ordered maps : the first entry is the least recently used page
+            pages.put(type, new LinkedHashMap<>(16, 0.75f, true));
+        }
+    }
+
+    /**
+     * @param url the url of a page
+     * @return true if the page type of the url has a cache policy
+     */
+    public boolean isCacheable(String url) {
+        PageCacheProperties.Policy policy = policies.get(PageType.of(url));
+        return policy != null && policy.maxEntries() > 0;
+    }
+
+    /**
+     * @param url the url of a page
+     * @return the cached page, if any
+     */
+    public Optional<CachedPage> get(String url) {
+        PageType type = PageType.of(url);
+        lock.lock();
+        try {
+            loadIndex();
+            return Optional.ofNullable(pages.get(type).get(key(url)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param page a cached page
+     * @return true if the page can be used without revalidation
+     */
+    public boolean isFresh(CachedPage page) {
+        PageCacheProperties.Policy policy = policies.get(page.type());
+        return policy != null && page.validatedAt().plus(policy.ttl()).isAfter(clock.instant());
+    }
+
+    /**
+     * Parse a fresh cached page.
+     *
+     * @param page the cached page
+     * @return the parsed page, or null if its body is lost
+     */
+    public Document parse(CachedPage page) {
+        Document doc = read(page);
+        if (doc != null) {
+            hits.incrementAndGet();
+        }
+        return doc;
+    }
+
+    /**
+     * Mark a cached page as not modified on the server, and parse it.
+     *
+     * @param page the cached page
+     * @return the parsed page, or null if its body is lost
+     */
+    public Document revalidated(CachedPage page) {
+        Document doc = read(page);
+        if (doc != null) {
+            revalidations.incrementAndGet();
+            CachedPage updated = new CachedPage(page.url(), page.type(), page.etag(), page.lastModified(), page.charset(), clock.instant());
+            writeMetadata(updated);
+            index(updated);
+        }
+        return doc;
+    }
+
+    /**
+     * Store a page loaded from the server.
+     *
+     * @param url          the url of the page
+     * @param body         the raw body of the page
+     * @param charset      the charset of the body, if known
+     * @param etag         the ETag header of the response, if any
+     * @param lastModified the Last-Modified header of the response, if any
+     */
+    public void put(String url, byte[] body, String charset, String etag, String lastModified) {
+        misses.incrementAndGet();
+        CachedPage page = new CachedPage(url, PageType.of(url), etag, lastModified, charset, clock.instant());
+        try {
+            Path typeDirectory = directory.resolve(page.type().name());
+            Files.createDirectories(typeDirectory);
+            write(bodyPath(page), out -> out.write(body));
+            writeMetadata(page);
+            index(page);
+        } catch (IOException e) {
+            log.warn("Failed to cache the page {}", url, e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bedetheque.fetch.cache", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Number of pages served from the cache without request")
+                .register(registry);
+        FunctionCounter.builder("bedetheque.fetch.cache", revalidations, AtomicLong::get)
+                .tag("result", "revalidated")
+                .description("Number of pages served from the cache after a 304 response")
+                .register(registry);
+        FunctionCounter.builder("bedetheque.fetch.cache", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Number of pages loaded from the server")
+                .register(registry);
+    }
+
+    private Document read(CachedPage page) {
+        try (InputStream in = Files.newInputStream(bodyPath(page))) {
+            return Jsoup.parse(in, page.charset(), page.url());
+        } catch (IOException e) {
+            log.warn("Cached page {} lost, it will be loaded again", page.url(), e);
+            remove(page);
+            return null;
+        }
+    }
+
+    private void index(CachedPage page) {
+        PageCacheProperties.Policy policy = policies.get(page.type());
+        int maxEntries = policy == null ? 0 : policy.maxEntries();
+        List<CachedPage> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            loadIndex();
+            LinkedHashMap<String, CachedPage> typePages = pages.get(page.type());
+            typePages.put(key(page.url()), page);
+            Iterator<CachedPage> leastRecentlyUsed = typePages.values().iterator();
+            while (typePages.size() > maxEntries && leastRecentlyUsed.hasNext()) {
+                evicted.add(leastRecentlyUsed.next());
+                leastRecentlyUsed.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(this::delete);
+    }
+
+    private void remove(CachedPage page) {
+        lock.lock();
+        try {
+            pages.get(page.type()).remove(key(page.url()));
+        } finally {
+            lock.unlock();
+        }
+        delete(page);
+    }
+
+    /**
+     * Load the pages cached by a previous run, once, from the least to the most recently validated.
+     */
+    private void loadIndex() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        List<CachedPage> stored = new ArrayList<>();
+        for (PageType type : PageType.values()) {
+            Path typeDirectory = directory.resolve(type.name());
+            if (!Files.isDirectory(typeDirectory)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(typeDirectory)) {
+                files.filter(path -> path.getFileName().toString().endsWith(METADATA_EXTENSION))
+                        .map(this::readMetadata)
+                        .filter(Objects::nonNull)
+                        .forEach(stored::add);
+            } catch (IOException e) {
+                log.warn("Failed to list the cached pages of {}", typeDirectory, e);
+            }
+        }
+        stored.sort(Comparator.comparing(CachedPage::validatedAt));
+        stored.forEach(page -> pages.get(page.type()).put(key(page.url()), page));
+        log.info("{} cached pages loaded from {}", stored.size(), directory);
+    }
+
+    private CachedPage readMetadata(Path path) {
+        Properties metadata = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            metadata.load(in);
+            String url = metadata.getProperty("url");
+            return new CachedPage(url, PageType.of(url),
+                    metadata.getProperty("etag"),
+                    metadata.getProperty("last-modified"),
+                    metadata.getProperty("charset"),
+                    Instant.parse(metadata.getProperty("validated-at")));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignore the invalid cached page {}", path, e);
+            return null;
+        }
+    }
+
+    private void writeMetadata(CachedPage page) {
+        Properties metadata = new Properties();
+        metadata.setProperty("url", page.url());
+        metadata.setProperty("validated-at", page.validatedAt().toString());
+        Optional.ofNullable(page.etag()).ifPresent(etag -> metadata.setProperty("etag", etag));
+        Optional.ofNullable(page.lastModified()).ifPresent(lastModified -> metadata.setProperty("last-modified", lastModified));
+        Optional.ofNullable(page.charset()).ifPresent(charset -> metadata.setProperty("charset", charset));
+        try {
+            write(metadataPath(page), out -> metadata.store(out, null));
+        } catch (IOException e) {
+            log.warn("Failed to cache the validators of the page {}", page.url(), e);
+        }
+    }
+
+    /**
+     * Write a file through a temporary file, so that a reader never sees a partial content.
+     */
+    private static void write(Path target, ContentWriter writer) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".page", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void delete(CachedPage page) {
+        try {
+            Files.deleteIfExists(metadataPath(page));
+            Files.deleteIfExists(bodyPath(page));
+        } catch (IOException e) {
+            log.warn("Failed to delete the cached page {}", page.url(), e);
+        }
+    }
+
+    private Path bodyPath(CachedPage page) {
+        return directory.resolve(page.type().name()).resolve(key(page.url()) + BODY_EXTENSION);
+    }
+
+    private Path metadataPath(CachedPage page) {
+        return directory.resolve(page.type().name()).resolve(key(page.url()) + METADATA_EXTENSION);
+    }
+
+    private static String key(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A cached page and its validators
+     *
+     * @param url          the url of the page
+     * @param type         the page type
+     * @param etag         the ETag header of the last response
+     * @param lastModified the Last-Modified header of the last response
+     * @param charset      the charset of the body
+     * @param validatedAt  the last time the page was loaded or revalidated
+     */
+    public record CachedPage(String url, PageType type, String etag, String lastModified, String charset,
+                             Instant validatedAt) {
+    }
+}
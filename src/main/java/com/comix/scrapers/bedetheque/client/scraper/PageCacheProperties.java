@@ -0,0 +1,32 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration of the HTML page cache of the fetch engine.
+ *
+ * @param enabled   true to cache the loaded pages
+ * @param directory directory where the pages are stored
+ * @param policies  cache policy of each page type (a page type without policy is not cached)
+ */
+@ConfigurationProperties(prefix = "application.scraping.cache")
+public record PageCacheProperties(boolean enabled, String directory, Map<PageType, Policy> policies) {
+
+    public PageCacheProperties {
+        policies = policies == null ? Map.of() : Map.copyOf(policies);
+    }
+
+    /**
+     * @param ttl        duration during which a cached page is used without revalidation
+     * @param maxEntries maximum number of cached pages, the least recently used pages are evicted first
+     */
+    public record Policy(Duration ttl, int maxEntries) {
+
+        public Policy {
+            ttl = ttl == null ? Duration.ZERO : ttl;
+        }
+    }
+}
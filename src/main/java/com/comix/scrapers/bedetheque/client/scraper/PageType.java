@@ -0,0 +1,34 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Type of a bedetheque page, deduced from its url
+ */
+public enum PageType {
+
+    SERIE("serie-"),
+    AUTHOR("auteur-"),
+    GRAPHIC_NOVEL("BD-"),
+    OTHER(null);
+
+    private final String prefix;
+
+    PageType(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * @param url the url of a bedetheque page
+     * @return the type of the page
+     */
+    public static PageType of(String url) {
+        String page = StringUtils.substringAfterLast(StringUtils.substringBefore(url, "?"), "/");
+        for (PageType type : values()) {
+            if (type.prefix != null && page.startsWith(type.prefix)) {
+                return type;
+            }
+        }
+        return OTHER;
+    }
+}
@@ -35,15 +35,11 @@ public class RatingScraper extends GenericScraper {
     @Value("${application.downloads.localcache.active}")
     private boolean isLocalCacheActive;
 
-    @Setter
-    @Value("#{new Long('${application.scraping.latency}')}")
-    private Long latency;
-
     public List<Rating> scrap(String url) {
         List<Rating> ratings = new ArrayList<>();
         // Load all series starting with the letter
-        var doc = GenericScraperSingleton.getInstance().load(url, latency);
-        var eRatings = doc.select("ol.commentlist div.the-comment");
+        var doc = fetch(url);
+        var eRatings = doc.select(Selectors.RATING_COMMENTS);
 
         for(Element r : eRatings) {
             var rating = new Rating();
@@ -102,7 +98,7 @@ public class RatingScraper extends GenericScraper {
     private String getGraphicNovelTitle(Element eRating) {
         String res = null;
         try {
-            res = ownText(eRating.selectFirst("div.comment-title a"));
+            res = ownText(eRating.selectFirst(Selectors.RATING_TITLE));
         } catch (Exception ignored) {
             log.debug("Failed to extract graphic novel tile.");
         }
@@ -112,7 +108,7 @@ public class RatingScraper extends GenericScraper {
     private String getGraphicNovelUrl(Element eRating) {
         String res = null;
         try {
-            res = attr(eRating.selectFirst("div.comment-title a"), HTML.Attribute.HREF);
+            res = attr(eRating.selectFirst(Selectors.RATING_TITLE), HTML.Attribute.HREF);
         } catch (Exception ignored) {
             log.debug("Failed to extract graphic novel url.");
         }
@@ -122,7 +118,7 @@ public class RatingScraper extends GenericScraper {
     private String getGraphicNovelPictureUrl(Element eRating) {
         String res = null;
         try {
-            res = attr(eRating.selectFirst("div.alignleft img"), HTML.Attribute.SRC);
+            res = attr(eRating.selectFirst(Selectors.RATING_COVER), HTML.Attribute.SRC);
         } catch (Exception ignored) {
             log.debug("Failed to extract graphic novel picture url.");
         }
@@ -132,7 +128,7 @@ public class RatingScraper extends GenericScraper {
     private String getGraphicNovelPictureTitle(Element eRating) {
         String res = null;
         try {
-            res = attr(eRating.selectFirst("div.alignleft img"), HTML.Attribute.TITLE);
+            res = attr(eRating.selectFirst(Selectors.RATING_COVER), HTML.Attribute.TITLE);
         } catch (Exception ignored) {
             log.debug("Failed to extract graphic novel picture title.");
         }
@@ -142,7 +138,7 @@ public class RatingScraper extends GenericScraper {
     private String getCreateBy(Element eRating) {
         String res = null;
         try {
-            res = ownText(eRating.selectFirst("div.comment-author a"));
+            res = ownText(eRating.selectFirst(Selectors.RATING_AUTHOR));
         } catch (Exception ignored) {
             log.debug("Failed to extract author's name.");
         }
@@ -152,7 +148,7 @@ public class RatingScraper extends GenericScraper {
     private String getCreateByAllRatingsUrl(Element eRating) {
         String res = null;
         try {
-            res = attr(eRating.selectFirst("div.comment-author a"), HTML.Attribute.HREF);
+            res = attr(eRating.selectFirst(Selectors.RATING_AUTHOR), HTML.Attribute.HREF);
         } catch (Exception ignored) {
             log.debug("Failed to extract author's all ratings url.");
         }
@@ -162,7 +158,7 @@ public class RatingScraper extends GenericScraper {
     private String getCreateOn(Element eRating) {
         String res = null;
         try {
-            res = ownText(eRating.selectFirst("div.comment-author small"));
+            res = ownText(eRating.selectFirst(Selectors.RATING_DATE));
         } catch (Exception ignored) {
             log.debug("Failed to extract create on date.");
         }
@@ -172,7 +168,7 @@ public class RatingScraper extends GenericScraper {
     private String getRatingPictureUrl(Element eRating) {
         String res = null;
         try {
-            res = attr(eRating.selectFirst("div.comment-author img"), HTML.Attribute.SRC);
+            res = attr(eRating.selectFirst(Selectors.RATING_AUTHOR_PICTURE), HTML.Attribute.SRC);
         } catch (Exception ignored) {
             log.debug("Failed to extract rating picture url.");
         }
@@ -182,7 +178,7 @@ public class RatingScraper extends GenericScraper {
     private String getRatingTitle(Element eRating) {
         String res = null;
         try {
-            res = attr(eRating.selectFirst("div.comment-author img"), HTML.Attribute.TITLE);
+            res = attr(eRating.selectFirst(Selectors.RATING_AUTHOR_PICTURE), HTML.Attribute.TITLE);
         } catch (Exception ignored) {
             log.debug("Failed to extract rating title.");
         }
@@ -192,7 +188,7 @@ public class RatingScraper extends GenericScraper {
     private String getComment(Element eRating) {
         String res = null;
         try {
-            res = ownText(eRating.selectFirst("div.comment-text p"));
+            res = ownText(eRating.selectFirst(Selectors.RATING_TEXT));
         } catch (Exception ignored) {
             log.debug("Failed to extract comment.");
         }
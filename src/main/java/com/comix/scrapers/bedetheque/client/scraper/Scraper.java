@@ -1,13 +1,51 @@
 package com.comix.scrapers.bedetheque.client.scraper;
 
 import com.comix.scrapers.bedetheque.util.HTML;
+import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
+import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
 
 public abstract class Scraper {
 
     public static final String JSOUP_TAG_COUNT = ".count";
 
+    @Setter
+    @Autowired
+    private FetchEngine fetchEngine;
+
+    /**
+     * Load the HTML content of an url through the shared fetch engine
+     * @param url the url to load.
+     * @return the HTML content.
+     */
+    protected Document fetch(String url) {
+        return fetchEngine.load(url);
+    }
+
+    /**
+     * Load the HTML content of an url with query parameters through the shared fetch engine
+     * @param url the url to load.
+     * @param data the query parameters.
+     * @return the HTML content.
+     */
+    protected Document fetch(String url, Map<String, String> data) {
+        return fetchEngine.load(url, data);
+    }
+
+    /**
+     * Load the HTML content of an url with a streaming parser through the shared fetch engine
+     * @param url the url to load.
+     * @param handler the handler reading the parser.
+     * @return the result of the handler.
+     */
+    protected <T> T stream(String url, FetchEngine.StreamHandler<T> handler) {
+        return fetchEngine.stream(url, handler);
+    }
+
     public String attr(Element element, HTML.Attribute attributeKey) {
         return (element == null) ? null : element.attr(attributeKey.toString()).trim();
     }
@@ -0,0 +1,157 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the CSS queries of the scrapers, parsed once into jsoup evaluators.
+ * <p>
+ * {@code Element.select(String)} parses its query at each call, i.e. once per album and per property
+ * on a serie page. The queries are parsed here when the class is loaded, and the scrapers select with the
+ * resulting {@link Evaluator}s. Evaluators hold no state of a selection, they can be shared between threads.
+ */
+public final class Selectors {
+
+    private static final Map<String, Evaluator> ALBUM_INFO_LABEL_CACHE = new ConcurrentHashMap<>();
+
+    // Tags
+    public static final Evaluator A = QueryParser.parse("a");
+    public static final Evaluator B = QueryParser.parse("b");
+    public static final Evaluator H3 = QueryParser.parse("h3");
+    public static final Evaluator H4 = QueryParser.parse("h4");
+    public static final Evaluator I = QueryParser.parse("i");
+    public static final Evaluator IMG = QueryParser.parse("img");
+    public static final Evaluator LABEL = QueryParser.parse("label");
+    public static final Evaluator LI = QueryParser.parse("li");
+    public static final Evaluator P = QueryParser.parse("p");
+    public static final Evaluator SPAN = QueryParser.parse("span");
+    public static final Evaluator STRONG = QueryParser.parse("strong");
+    public static final Evaluator TD = QueryParser.parse("td");
+    public static final Evaluator TH = QueryParser.parse("th");
+    public static final Evaluator UL = QueryParser.parse("ul");
+    public static final Evaluator LINK_SPAN = QueryParser.parse("a > span");
+    public static final Evaluator NUM_EDITION = QueryParser.parse("span.numa");
+    public static final Evaluator TITLE_SPAN = QueryParser.parse("span.titre");
+
+    // Series
+    public static final Evaluator SERIE_INFOS = QueryParser.parse("ul.serie-info li");
+    public static final Evaluator SERIE_MENU_LINKS = QueryParser.parse("div.bandeau-menu a");
+    public static final Evaluator SERIE_LINKED_SERIES_PICTURE = QueryParser.parse("div.serie-liee img");
+    public static final Evaluator SERIE_LINKED_SERIES_LINKS = QueryParser.parse("div.serie-liee a");
+    public static final Evaluator SERIE_TO_READ_SERIES_LINKS = QueryParser.parse("div.alire div.wrapper a");
+    public static final Evaluator SERIE_SYNOPSYS = QueryParser.parse("div.single-content.serie > p");
+    public static final Evaluator SERIE_PICTURE = QueryParser.parse("div.serie-image > a");
+    public static final Evaluator SERIE_PICTURE_THUMBNAIL = QueryParser.parse("div.serie-image > a > img");
+    public static final Evaluator SERIE_COPYRIGHT = QueryParser.parse("div.copyrightserie");
+    public static final Evaluator SERIE_GRAPHIC_NOVEL_COUNT = QueryParser.parse("span > i.icon-book");
+    public static final Evaluator SERIE_PERIOD = QueryParser.parse("span > i.icon-calendar");
+    public static final Evaluator SERIE_NEXT = QueryParser.parse("ul.nav-serie i.icon-chevron-sign-right");
+    public static final Evaluator SERIE_PREVIOUS = QueryParser.parse("ul.nav-serie i.icon-chevron-sign-left");
+    public static final Evaluator SERIE_SIDE_LIST_ITEMS = QueryParser.parse("ul.liste-albums-side li");
+    public static final Evaluator SERIE_SIDE_LIST_DATE = QueryParser.parse("span.dl-side");
+    public static final Evaluator SERIE_PAGINATION = QueryParser.parse("div.pagination");
+    public static final Evaluator SERIE_PAGINATION_CURRENT = QueryParser.parse("span.current");
+
+    // Graphic novels
+    public static final Evaluator ALBUM_BOOKS = QueryParser.parse("ul.liste-albums li[itemtype='https://schema.org/Book']");
+    public static final Evaluator ALBUM_ITEMS = QueryParser.parse("ul.liste-albums > li");
+    public static final Evaluator ALBUM_MENU_LINKS = QueryParser.parse("div.bandeau-menu > ul > li > a");
+    public static final Evaluator ALBUM_CART_SERIE = QueryParser.parse("div.panier > h1 > a");
+    public static final Evaluator ALBUM_SERIE = QueryParser.parse("div.serie > h1 > a");
+    public static final Evaluator ALBUM_TITLE = QueryParser.parse("h3.titre");
+    public static final Evaluator ALBUM_TITLE_NAME = QueryParser.parse("h3 a.titre > span[itemprop='name']");
+    public static final Evaluator ALBUM_SERIE_NAME = QueryParser.parse("span[itemprop=name]");
+    public static final Evaluator ALBUM_INFOS = QueryParser.parse("ul.infos");
+    public static final Evaluator ALBUM_INFO_LABELS = QueryParser.parse("li label");
+    public static final Evaluator ALBUM_OTHERS = QueryParser.parse("div.autres");
+    public static final Evaluator ALBUM_SIDE = QueryParser.parse("div.album-side");
+    public static final Evaluator ALBUM_RATINGS = QueryParser.parse("div.eval");
+    public static final Evaluator ALBUM_RATING_WIDTH = QueryParser.parse("ul.unit-rating li");
+    public static final Evaluator ALBUM_RATING_MESSAGE = QueryParser.parse("p.message");
+    public static final Evaluator ALBUM_RATING_VALUE = QueryParser.parse("p.message > strong");
+    public static final Evaluator ALBUM_ORIGINAL_PUBLICATION_ICON = QueryParser.parse("i.icon-star");
+    public static final Evaluator ALBUM_INTEGRALE_ICON = QueryParser.parse("i.icon-pause");
+    public static final Evaluator ALBUM_BROCHE_ICON = QueryParser.parse("i.icon-tag");
+    public static final Evaluator ALBUM_REEDITIONS = QueryParser.parse("em:containsOwn(Rééditions)");
+    public static final Evaluator ALBUM_ORIGINAL_PUBLICATION_ID = QueryParser.parse("ul.infos-albums li label:containsOwn(Identifiant)");
+    public static final Evaluator ALBUM_COVER_PICTURE = QueryParser.parse("div.sous-couv a.browse-couvertures");
+    public static final Evaluator ALBUM_COVER_THUMBNAIL = QueryParser.parse("div.couv img");
+    public static final Evaluator ALBUM_COPYRIGHT = QueryParser.parse("div.couv span");
+    public static final Evaluator ALBUM_BACK_COVER_PICTURE = QueryParser.parse("div.sous-couv a.browse-versos");
+    public static final Evaluator ALBUM_BACK_COVER_THUMBNAIL = QueryParser.parse("div.sous-couv a.browse-versos img");
+    public static final Evaluator ALBUM_PAGE_PICTURE = QueryParser.parse("div.sous-couv a.browse-planches");
+    public static final Evaluator ALBUM_PAGE_THUMBNAIL = QueryParser.parse("div.sous-couv a.browse-planches img");
+
+    // Authors
+    public static final Evaluator AUTHOR_ID = QueryParser.parse("ul.auteur-info li:contains(Identifiant)");
+    public static final Evaluator AUTHOR_LASTNAME = QueryParser.parse("ul.auteur-info li:contains(Nom) > span");
+    public static final Evaluator AUTHOR_FIRSTNAME = QueryParser.parse("ul.auteur-info li:contains(Prénom) > span");
+    public static final Evaluator AUTHOR_NICKNAME = QueryParser.parse("ul.auteur-info li:contains(Pseudo)");
+    public static final Evaluator AUTHOR_BIRTHDATE = QueryParser.parse("ul.auteur-info li:contains(Naissance)");
+    public static final Evaluator AUTHOR_DECEASE_DATE = QueryParser.parse("ul.auteur-info li:contains(Décès)");
+    public static final Evaluator AUTHOR_NATIONALITY = QueryParser.parse("ul.auteur-info li:contains(Naissance) > span.pays-auteur");
+    public static final Evaluator AUTHOR_SITE_URL = QueryParser.parse("ul.auteur-info li:contains(Site) > a");
+    public static final Evaluator AUTHOR_OTHER_PSEUDONYM = QueryParser.parse("ul.auteur-info li:contains(Voir) > a");
+    public static final Evaluator AUTHOR_BIOGRAPHY = QueryParser.parse("p.bio");
+    public static final Evaluator AUTHOR_PHOTO = QueryParser.parse("div.auteur-image > a");
+    public static final Evaluator AUTHOR_PHOTO_THUMBNAIL = QueryParser.parse("div.auteur-image > a > img");
+    public static final Evaluator AUTHOR_TITLE_LINKS = QueryParser.parse("h1.single-title-auteur a");
+    public static final Evaluator AUTHOR_LINKED_SERIES = QueryParser.parse("div.serie-liee li");
+    public static final Evaluator AUTHOR_GALLERY_LINKS = QueryParser.parse("div.tab_content ul.gallery-side a");
+    public static final Evaluator AUTHOR_BIBLIOGRAPHY_TABLES = QueryParser.parse("table.biblio-auteur");
+    public static final Evaluator AUTHOR_BIBLIOGRAPHY_ROWS = QueryParser.parse("tbody tr");
+
+    // Ratings
+    public static final Evaluator RATING_COMMENTS = QueryParser.parse("ol.commentlist div.the-comment");
+    public static final Evaluator RATING_TITLE = QueryParser.parse("div.comment-title a");
+    public static final Evaluator RATING_COVER = QueryParser.parse("div.alignleft img");
+    public static final Evaluator RATING_AUTHOR = QueryParser.parse("div.comment-author a");
+    public static final Evaluator RATING_DATE = QueryParser.parse("div.comment-author small");
+    public static final Evaluator RATING_AUTHOR_PICTURE = QueryParser.parse("div.comment-author img");
+    public static final Evaluator RATING_TEXT = QueryParser.parse("div.comment-text p");
+
+    // Dashboard
+    public static final Evaluator STATS_SERIES = QueryParser.parse("ul.stats li:contains(Séries) > span");
+    public static final Evaluator STATS_GRAPHIC_NOVELS = QueryParser.parse("ul.stats li:contains(Albums) > span");
+    public static final Evaluator STATS_AUTHORS = QueryParser.parse("ul.stats li:contains(Auteurs) > span");
+    public static final Evaluator STATS_REVIEWS = QueryParser.parse("ul.stats li:contains(Revues) > span");
+    public static final Evaluator STATS_NEWS = QueryParser.parse("ul.gallery-couv-large li");
+    public static final Evaluator STATS_FIRST_NEW = QueryParser.parse("div.magazine-widget");
+    public static final Evaluator STATS_FIRST_NEW_DESCRIPTION = QueryParser.parse("div.big-desc");
+    public static final Evaluator STATS_FIRST_NEW_SERIE = QueryParser.parse("h3 > a");
+    public static final Evaluator STATS_FIRST_NEW_DETAILS = QueryParser.parse("div.magz-meta");
+    public static final Evaluator STATS_PUBLISHER = QueryParser.parse("span.editeur");
+    public static final Evaluator STATS_LAST_ENTRIES = QueryParser.parse("ul.gallery-couv li");
+
+    // Filters
+    public static final Evaluator FILTER_SEARCH_LINES = QueryParser.parse("div.search-line");
+    public static final Evaluator FILTER_COUNT = QueryParser.parse("span" + Scraper.JSOUP_TAG_COUNT);
+    public static final Evaluator FILTER_RATING = QueryParser.parse("span.count > img");
+    public static final Evaluator FILTER_FLAG = QueryParser.parse("span.ico > img");
+    public static final Evaluator FILTER_WIDGET_TITLE = QueryParser.parse("div.widget-line-title");
+    public static final Evaluator FILTER_ERROR = QueryParser.parse("span.erreur");
+    public static final Evaluator FILTER_SERIE = QueryParser.parse("span.serie");
+    public static final Evaluator FILTER_TOME = QueryParser.parse("span.num");
+    public static final Evaluator FILTER_PUBLICATION_DATE = QueryParser.parse("span.dl");
+
+    static {
+        List.of("Identifiant", "Dépot légal", "Editeur", "Collection", "Cycle", "ISBN", "Format", "Planches", "Autres infos")
+                .forEach(Selectors::albumInfoLabel);
+    }
+
+    private Selectors() {
+        // Nothing to do here.
+    }
+
+    /**
+     * @param key the label of a property in the information block of an album ({@code Editeur}, {@code ISBN}...)
+     * @return the evaluator selecting the label of the property, parsed once per label
+     */
+    public static Evaluator albumInfoLabel(String key) {
+        return ALBUM_INFO_LABEL_CACHE.computeIfAbsent(key, k -> QueryParser.parse("li label:containsOwn(%s)".formatted(k)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Items of the information block of a serie ({@code ul.serie-info}), collected in a single traversal.
+ * <p>
+ * The serie properties (identifiant, genre, parution...) are looked up in these items
+ * with the same rules as the former {@code ul.serie-info li:contains(key)} queries,
+ * which evaluated the text of the block once for each property.
+ */
+final class SerieInfoBlock {
+
+    private final List<Item> items = new ArrayList<>();
+
+    private SerieInfoBlock(Document doc) {
+        for (Element li : doc.select(Selectors.SERIE_INFOS)) {
+            items.add(new Item(li, li.text().toLowerCase(Locale.ROOT), li.selectFirst(Selectors.LABEL)));
+        }
+    }
+
+    /**
+     * Collect the items of the information block of a serie.
+     *
+     * @param doc the html page of the serie
+     * @return the information block (empty if the page has none)
+     */
+    static SerieInfoBlock of(Document doc) {
+        return new SerieInfoBlock(doc);
+    }
+
+    /**
+     * Find an item, as {@code ul.serie-info li:contains(key)} does.
+     *
+     * @param key the property name (Identifiant, Origine...)
+     * @return the first item whose text contains the property name (ignoring case), null if not found
+     */
+    Element item(String key) {
+        String searched = key.toLowerCase(Locale.ROOT);
+        for (Item item : items) {
+            if (item.text().contains(searched)) {
+                return item.li();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the value of an item held in a span, as {@code ul.serie-info li:contains(key) > span} does.
+     *
+     * @param key the property name (Genre, Parution...)
+     * @return the first span child of the items containing the property name, null if not found
+     */
+    Element itemSpan(String key) {
+        String searched = key.toLowerCase(Locale.ROOT);
+        for (Item item : items) {
+            if (item.text().contains(searched)) {
+                for (Element child : item.li().children()) {
+                    if ("span".equals(child.tagName())) {
+                        return child;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find an item by its label.
+     *
+     * @param label the label content (case sensitive)
+     * @return the first item whose label contains the text, null if not found
+     */
+    Element itemByLabel(String label) {
+        for (Item item : items) {
+            if (item.label() != null && item.label().ownText().contains(label)) {
+                return item.li();
+            }
+        }
+        return null;
+    }
+
+    private record Item(Element li, String text, Element label) {
+    }
+}
@@ -55,10 +55,6 @@ public class SerieScraper extends GenericScraper {
     @Value("${application.downloads.localcache.active}")
     private boolean isLocalCacheActive;
 
-    @Setter
-    @Value("#{new Long('${application.scraping.latency}')}")
-    private Long latency;
-
     public SerieScraper(GraphicNovelScraper graphicNovelScraper) {
         this.graphicNovelScraper = graphicNovelScraper;
     }
@@ -93,7 +89,7 @@ public class SerieScraper extends GenericScraper {
         List<Serie> series = new ArrayList<>();
 
         // Load all series starting with the letter
-        Document doc = GenericScraperSingleton.getInstance().load(bedethequeSerieIndexByLetterUrl.formatted(letter), latency);
+        Document doc = fetch(bedethequeSerieIndexByLetterUrl.formatted(letter));
 
         // Retrieve all series from the html page
         var links = doc.getElementsByTag("a");
@@ -121,18 +117,19 @@ public class SerieScraper extends GenericScraper {
      * @return the scraped serie
      */
     public SerieDetails scrap(String url) {
-        Document doc = GenericScraperSingleton.getInstance().load(url, latency);
+        Document doc = fetch(url);
 
         String period = retrievePeriod(doc);
+        var infos = SerieInfoBlock.of(doc);
 
         var serieDetails = new SerieDetails();
-        serieDetails.setExternalId(retrieveExternalId(doc));
+        serieDetails.setExternalId(retrieveExternalId(infos));
         serieDetails.setTitle(retrieveTitle(doc));
-        serieDetails.setCategory(retrieveCategory(doc));
-        serieDetails.setStatus(retrieveStatus(doc));
-        serieDetails.setOrigin(retrieveOrigin(doc));
-        serieDetails.setLanguage(retrieveLanguage(doc));
-        serieDetails.setSiteUrl(retrieveSiteUrl(doc));
+        serieDetails.setCategory(retrieveCategory(infos));
+        serieDetails.setStatus(retrieveStatus(infos));
+        serieDetails.setOrigin(retrieveOrigin(infos));
+        serieDetails.setLanguage(retrieveLanguage(infos));
+        serieDetails.setSiteUrl(retrieveSiteUrl(infos));
         serieDetails.setSynopsys(retrieveSynopsys(doc));
         serieDetails.setPictureUrl(retrievePictureUrl(doc));
         serieDetails.setPictureThbUrl(retrieveThumbnailUrl(doc));
@@ -149,7 +146,7 @@ public class SerieScraper extends GenericScraper {
         serieDetails.setPreviousSerie(retrievePreviousSerie(doc));
         serieDetails.setSeriePagination(retrievePagination(doc));
         serieDetails.setGraphicNovelSideList(retrieveGraphicNovelSideList(doc));
-        serieDetails.setTomeCount(retrieveTomeCount(doc));
+        serieDetails.setTomeCount(retrieveTomeCount(infos));
         serieDetails.setRatings(retrieveRatings(doc));
         serieDetails.setLinkedSeriesPictureUrl(retrieveLinkedSeriesPictureUrl(doc));
         serieDetails.setLinkedSeries(retrieveLinkedSeries(doc));
@@ -166,7 +163,7 @@ public class SerieScraper extends GenericScraper {
     }
 
     public List<GraphicNovel> scrapGraphicNovels(String url) {
-        Document doc = GenericScraperSingleton.getInstance().load(url, latency);
+        Document doc = fetch(url);
 
         String msg = "Série à scraper=" + url;
         log.info(msg);
@@ -218,27 +215,20 @@ public class SerieScraper extends GenericScraper {
      * @return the scraped graphic novel
      */
     private List<GraphicNovel> retrieveGraphicNovels(String url, Document doc) {
-        List<GraphicNovel> graphicNovels = new ArrayList<>();
-
-        Elements eAlbums = doc.select("ul.liste-albums li[itemtype='https://schema.org/Book']");
-
-        for(Element li : eAlbums) {
-            graphicNovels.add(graphicNovelScraper.scrapFromSerie(url, doc, li));
-        }
-
-        return graphicNovels;
+        // Scrap all albums at once, so that their medias are downloaded in parallel
+        return graphicNovelScraper.scrapElement(url, doc);
     }
 
     /**
      * Retrieve the external id of the current serie
      *
-     * @param doc the fragment html of the current serie
+     * @param infos the information block of the current serie
      * @return the scraped external id
      */
-    private String retrieveExternalId(Document doc) {
+    private String retrieveExternalId(SerieInfoBlock infos) {
         String res = null;
         try {
-            res = ownText(doc.select("ul.serie-info li:contains(Identifiant)").first());
+            res = ownText(infos.item("Identifiant"));
         } catch (Exception ignored) {
             log.debug("Failed to extract external id.");
         }
@@ -264,13 +254,13 @@ public class SerieScraper extends GenericScraper {
     /**
      * Retrieve the category of the current serie
      *
-     * @param doc the fragment html of the current serie
+     * @param infos the information block of the current serie
      * @return the scraped category
      */
-    private String retrieveCategory(Document doc) {
+    private String retrieveCategory(SerieInfoBlock infos) {
         String res = null;
         try {
-            res = ownText(doc.select("ul.serie-info li:contains(Genre) > span").first());
+            res = ownText(infos.itemSpan("Genre"));
         } catch (Exception ignored) {
             log.debug("Failed to extract category.");
         }
@@ -280,13 +270,13 @@ public class SerieScraper extends GenericScraper {
     /**
      * Retrieve the status of the current serie
      *
-     * @param doc the fragment html of the current serie
+     * @param infos the information block of the current serie
      * @return the scraped status
      */
-    private String retrieveStatus(Document doc) {
+    private String retrieveStatus(SerieInfoBlock infos) {
         String res = null;
         try {
-            res = ownText(doc.select("ul.serie-info li:contains(Parution) > span").first());
+            res = ownText(infos.itemSpan("Parution"));
         } catch (Exception ignored) {
             log.debug("Failed to extract status.");
         }
@@ -296,13 +286,13 @@ public class SerieScraper extends GenericScraper {
     /**
      * Retrieve the origin of the current serie
      *
-     * @param doc the fragment html of the current serie
+     * @param infos the information block of the current serie
      * @return the scraped origin
      */
-    private String retrieveOrigin(Document doc) {
+    private String retrieveOrigin(SerieInfoBlock infos) {
         String res = null;
         try {
-            res = ownText(doc.select("ul.serie-info li:contains(Origine)").first());
+            res = ownText(infos.item("Origine"));
         } catch (Exception ignored) {
             log.debug("Failed to extract origin.");
         }
@@ -312,13 +302,13 @@ public class SerieScraper extends GenericScraper {
     /**
      * Retrieve the language of the current serie
      *
-     * @param doc the fragment html of the current serie
+     * @param infos the information block of the current serie
      * @return the scraped language
      */
-    private String retrieveLanguage(Document doc) {
+    private String retrieveLanguage(SerieInfoBlock infos) {
         String res = null;
         try {
-            res = ownText(doc.select("ul.serie-info li:contains(Langue)").first());
+            res = ownText(infos.item("Langue"));
         } catch (Exception ignored) {
             log.debug("Failed to extract language.");
         }
@@ -328,13 +318,13 @@ public class SerieScraper extends GenericScraper {
     /**
      * Retrieve the website of the current serie
      *
-     * @param doc the fragment html of the current serie
+     * @param infos the information block of the current serie
      * @return the scraped origin
      */
-    private String retrieveSiteUrl(Document doc) {
+    private String retrieveSiteUrl(SerieInfoBlock infos) {
         String res = null;
         try {
-            res = ownText(doc.select("ul.serie-info li:contains(Internet)").first());
+            res = ownText(infos.item("Internet"));
         } catch (Exception ignored) {
             log.debug("Failed to extract website url.");
         }
@@ -345,11 +335,11 @@ public class SerieScraper extends GenericScraper {
         var serieRatings = new SerieRatings();
         serieRatings.setCount(0);
         try {
-            Elements as = doc.select("div.bandeau-menu a");
+            Elements as = doc.select(Selectors.SERIE_MENU_LINKS);
             for(Element a : as) {
                 if(a.ownText().contains("Avis")) {
                     serieRatings.setUrl(a.attr("href"));
-                    String serieCount = ownText(a.selectFirst("span"));
+                    String serieCount = ownText(a.selectFirst(Selectors.SPAN));
                     if(!StringUtils.isBlank(serieCount)) {
                         serieRatings.setCount(Integer.parseInt(serieCount));
                     }
@@ -365,7 +355,7 @@ public class SerieScraper extends GenericScraper {
     private String retrieveLinkedSeriesPictureUrl(Document doc) {
         String linkedSeriesPictureUrl = null;
         try {
-            linkedSeriesPictureUrl = attr(doc.selectFirst("div.serie-liee img"), HTML.Attribute.SRC);
+            linkedSeriesPictureUrl = attr(doc.selectFirst(Selectors.SERIE_LINKED_SERIES_PICTURE), HTML.Attribute.SRC);
         } catch (Exception ignored) {
             log.debug("Failed to extract linkedSeriesPictureUrl.");
         }
@@ -375,7 +365,7 @@ public class SerieScraper extends GenericScraper {
     private List<LinkedSerie> retrieveLinkedSeries(Document doc) {
         List<LinkedSerie> linkedSeries = new ArrayList<>();
         try {
-            Elements as = doc.select("div.serie-liee a");
+            Elements as = doc.select(Selectors.SERIE_LINKED_SERIES_LINKS);
             for(Element a : as) {
                 var linkedSerie = new LinkedSerie();
                 linkedSerie.setUrl(a.attr("href"));
@@ -394,9 +384,9 @@ public class SerieScraper extends GenericScraper {
     private List<ToReadSerie> retrieveToReadSeries(Document doc) {
         List<ToReadSerie> toReadSeries = new ArrayList<>();
         try {
-            Elements as = doc.select("div.alire div.wrapper a");
+            Elements as = doc.select(Selectors.SERIE_TO_READ_SERIES_LINKS);
             for(Element a : as) {
-                Element img = a.selectFirst("img");
+                Element img = a.selectFirst(Selectors.IMG);
                 var toReadSerie = new ToReadSerie();
                 toReadSerie.setUrl(a.attr("href"));
                 toReadSerie.setTitle(a.attr(HTML.Attribute.TITLE.toString()));
@@ -412,16 +402,12 @@ public class SerieScraper extends GenericScraper {
         return toReadSeries;
     }
 
-    private Integer retrieveTomeCount(Document doc) {
+    private Integer retrieveTomeCount(SerieInfoBlock infos) {
         Integer res = null;
         try {
-            Elements lis = doc.select("ul.serie-info li");
-            for(Element li : lis) {
-                Element label = li.selectFirst("label");
-                if(label != null && label.ownText().contains("Tome")) {
-                    res = Integer.parseInt(li.ownText());
-                    break;
-                }
+            Element li = infos.itemByLabel("Tome");
+            if(li != null) {
+                res = Integer.parseInt(li.ownText());
             }
         } catch (Exception ignored) {
             log.debug("Failed to extract tome count.");
@@ -438,7 +424,7 @@ public class SerieScraper extends GenericScraper {
     private String retrieveSynopsys(Document doc) {
         String res = null;
         try {
-            res = ownText(doc.select("div.single-content.serie > p").first());
+            res = ownText(doc.select(Selectors.SERIE_SYNOPSYS).first());
         } catch (Exception ignored) {
             log.debug("Failed to extract synopsys.");
         }
@@ -454,7 +440,7 @@ public class SerieScraper extends GenericScraper {
     private String retrievePictureUrl(Document doc) {
         String res = null;
         try {
-            res = attr(doc.select("div.serie-image > a").first(), HTML.Attribute.HREF);
+            res = attr(doc.select(Selectors.SERIE_PICTURE).first(), HTML.Attribute.HREF);
         } catch (Exception ignored) {
             log.debug("Failed to extract picture url.");
         }
@@ -470,7 +456,7 @@ public class SerieScraper extends GenericScraper {
     private String retrieveThumbnailUrl(Document doc) {
         String res = null;
         try {
-            res = attr(doc.select("div.serie-image > a > img").first(), HTML.Attribute.SRC);
+            res = attr(doc.select(Selectors.SERIE_PICTURE_THUMBNAIL).first(), HTML.Attribute.SRC);
         } catch (Exception ignored) {
             log.debug("Failed to extract thumbnail picture url.");
         }
@@ -480,7 +466,7 @@ public class SerieScraper extends GenericScraper {
     private String retrieveCopyright(Document doc) {
         String res = null;
         try {
-            res = ownText(doc.selectFirst("div.copyrightserie"));
+            res = ownText(doc.selectFirst(Selectors.SERIE_COPYRIGHT));
         } catch (Exception ignored) {
             log.debug("Failed to extract copyright");
         }
@@ -497,7 +483,7 @@ public class SerieScraper extends GenericScraper {
         Integer gcCount = null;
         String res;
         try {
-            Element eGraphicNovelCount = doc.select("span > i.icon-book").first();
+            Element eGraphicNovelCount = doc.select(Selectors.SERIE_GRAPHIC_NOVEL_COUNT).first();
             if(eGraphicNovelCount != null) {
                 res = ownText(eGraphicNovelCount.parent());
                 if(res !=null && res.contains("album")) {
@@ -520,7 +506,7 @@ public class SerieScraper extends GenericScraper {
     private String retrievePeriod(Document doc) {
         String res = null;
         try {
-            Element ePeriod = doc.select("span > i.icon-calendar").first();
+            Element ePeriod = doc.select(Selectors.SERIE_PERIOD).first();
             if(ePeriod != null) {
                 res = ownText(ePeriod.parent());
             }
@@ -557,7 +543,7 @@ public class SerieScraper extends GenericScraper {
     private Serie retrieveNextSerie(Document doc) {
         var res = new Serie();
         try {
-            Element eNextSerie = doc.select("ul.nav-serie i.icon-chevron-sign-right").first();
+            Element eNextSerie = doc.select(Selectors.SERIE_NEXT).first();
             if(eNextSerie != null) {
                 var element = eNextSerie.parent();
                 res.setName(attr(element, HTML.Attribute.TITLE));
@@ -579,7 +565,7 @@ public class SerieScraper extends GenericScraper {
     private Serie retrievePreviousSerie(Document doc) {
         var res = new Serie();
         try {
-            Element ePreviousSerie = doc.select("ul.nav-serie i.icon-chevron-sign-left").first();
+            Element ePreviousSerie = doc.select(Selectors.SERIE_PREVIOUS).first();
             if(ePreviousSerie != null) {
                 var element = ePreviousSerie.parent();
                 res.setName(attr(element, HTML.Attribute.TITLE));
@@ -595,11 +581,11 @@ public class SerieScraper extends GenericScraper {
     private List<GraphicNovelSideListItem> retrieveGraphicNovelSideList(Document doc) {
         List<GraphicNovelSideListItem> graphicNovelSideListItems = new ArrayList<>();
         try {
-            var elements = doc.select("ul.liste-albums-side li");
+            var elements = doc.select(Selectors.SERIE_SIDE_LIST_ITEMS);
             for(Element element : elements) {
-                var labelTag = element.selectFirst("label");
-                var aTag = element.selectFirst("a");
-                var spanTag = element.selectFirst("span.dl-side");
+                var labelTag = element.selectFirst(Selectors.LABEL);
+                var aTag = element.selectFirst(Selectors.A);
+                var spanTag = element.selectFirst(Selectors.SERIE_SIDE_LIST_DATE);
                 var graphicNovelSideListItem = new GraphicNovelSideListItem();
                 graphicNovelSideListItem.setExternalId(getGraphicNovelIdBEL(attr(aTag, HTML.Attribute.HREF)));
                 graphicNovelSideListItem.setUrl(attr(aTag, HTML.Attribute.HREF));
@@ -608,7 +594,7 @@ public class SerieScraper extends GenericScraper {
                     graphicNovelSideListItem.setTome(tome.substring(0, tome.length() - 1));
                 }
                 if(labelTag != null) {
-                    graphicNovelSideListItem.setNumEdition(ownText(labelTag.selectFirst("span.numa")));
+                    graphicNovelSideListItem.setNumEdition(ownText(labelTag.selectFirst(Selectors.NUM_EDITION)));
                 }
                 graphicNovelSideListItem.setTitle(attr(aTag, HTML.Attribute.TITLE));
                 graphicNovelSideListItem.setPublicationDate(ownText(spanTag));
@@ -623,10 +609,10 @@ public class SerieScraper extends GenericScraper {
     private SeriePagination retrievePagination(Document doc) {
         var res = new SeriePagination();
         try {
-            Element paginationTag = doc.selectFirst("div.pagination");
+            Element paginationTag = doc.selectFirst(Selectors.SERIE_PAGINATION);
             if(paginationTag != null) {
                 var pages = paginationTag.getElementsByTag("a");
-                res.setCurrentPageNumber(ownText(paginationTag.selectFirst("span.current")));
+                res.setCurrentPageNumber(ownText(paginationTag.selectFirst(Selectors.SERIE_PAGINATION_CURRENT)));
                 res.setAllGraphicNovelsInOnePageUrl(pages.getLast().attr("href"));
                 res.setTotalPages(pages.get(pages.size() - 2).ownText());
                 int c = Integer.parseInt(res.getCurrentPageNumber()) + 1;
@@ -0,0 +1,71 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket rate limiter, implemented as a generic cell rate algorithm (GCRA).
+ * <p>
+ * One token is refilled every {@code interval}, and up to {@code capacity} tokens can be
+ * consumed in a burst. A caller only sleeps for the remaining delta until its token is available,
+ * and the sleep happens outside the lock so that waiting callers do not block each other.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Theoretical arrival time of the next request */
+    private long theoreticalArrivalNanos;
+    private boolean initialized;
+
+    /**
+     * @param interval the time needed to refill one token (zero disables the limiter)
+     * @param capacity the maximum number of tokens that can be consumed in a burst
+     */
+    public TokenBucketRateLimiter(Duration interval, int capacity) {
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("interval must be positive or zero");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.intervalNanos = interval.toNanos();
+        this.burstToleranceNanos = (capacity - 1) * intervalNanos;
+    }
+
+    /**
+     * Wait until a token is available, then consume it.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Reserve the next token.
+     *
+     * @return the delay in nanoseconds the caller has to wait before using its token
+     */
+    long reserve() {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long start = (!initialized || now - theoreticalArrivalNanos > 0) ? now : theoreticalArrivalNanos;
+            initialized = true;
+            theoreticalArrivalNanos = start + intervalNanos;
+            return Math.max(0, start - burstToleranceNanos - now);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
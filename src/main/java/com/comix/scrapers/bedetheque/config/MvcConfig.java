@@ -1,10 +1,13 @@
 package com.comix.scrapers.bedetheque.config;
 
+import com.comix.scrapers.bedetheque.client.scraper.ContentAddressedMediaStore;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
@@ -13,6 +16,7 @@ import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class MvcConfig implements WebMvcConfigurer {
@@ -45,6 +49,14 @@ public class MvcConfig implements WebMvcConfigurer {
                 .addResourceHandler(mediasUrlPattern)
                 // 2. The physical location: Spring will look for matching files at this location.
                 .addResourceLocations(mediasLocation);
+
+        // The content-addressed medias never change: they can be cached forever by the clients.
+        String storeUrlPattern = StringUtils.removeEnd(mediasUrlPattern, "**") + ContentAddressedMediaStore.STORE_DIRECTORY + "/**";
+        String storeLocation = mediasLocation + ContentAddressedMediaStore.STORE_DIRECTORY + "/";
+        registry
+                .addResourceHandler(storeUrlPattern)
+                .addResourceLocations(storeLocation)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
     }
 
     @Bean
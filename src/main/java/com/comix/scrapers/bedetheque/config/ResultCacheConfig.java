@@ -0,0 +1,22 @@
+package com.comix.scrapers.bedetheque.config;
+
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Expose the scrape result caches through a cache manager, so that they are measured by micrometer
+ * and can be invalidated with the {@code caches} actuator endpoint.
+ */
+@Configuration
+public class ResultCacheConfig {
+
+    @Bean
+    public CacheManager resultCacheManager(ScrapeResultCache scrapeResultCache) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(scrapeResultCache.getCaches());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,47 @@
+package com.comix.scrapers.bedetheque.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Crawl of the whole catalog of series or authors, or of the graphic novels added since the last incremental crawl.
+ * Its items are stored in the {@code crawl_frontier} table.
+ */
+@Data
+@Entity
+@Table(name = "crawl_jobs")
+public class CrawlJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    private Status status = Status.RUNNING;
+
+    /** Publish all the scraped entities, even the unchanged ones */
+    private boolean force;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public enum Type { SERIES, AUTHORS, INCREMENTAL }
+
+    public enum Status { RUNNING, PAUSED, COMPLETED }
+}
@@ -0,0 +1,34 @@
+package com.comix.scrapers.bedetheque.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Manifest entry of the content-addressed media store : the source url of a media and the stored content.
+ */
+@Data
+@Entity
+@Table(name = "media_contents")
+public class MediaContent {
+
+    @Id
+    @Column(name = "source_url", length = 1024)
+    private String sourceUrl;
+
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "path", nullable = false)
+    private String path;
+
+    private Long size;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fingerprints of the last published content of each entity, by payload type and external id.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentFingerprintRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Save the fingerprints of some entities, in a single statement.
+     * The fingerprint of an entity is only written when it is new or different from the saved one.
+     *
+     * @param payloadType  the type of the entities
+     * @param fingerprints the fingerprints, by external id
+     * @return the external ids of the new or changed entities
+     */
+    public Set<String> saveChanged(String payloadType, Map<String, String> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("""
+                        INSERT INTO content_fingerprints (payload_type, external_id, fingerprint, updated_at)
+                        SELECT ?, t.external_id, t.fingerprint, LOCALTIMESTAMP
+                        FROM unnest(?::varchar[], ?::varchar[]) AS t(external_id, fingerprint)
+                        ON CONFLICT (payload_type, external_id) DO UPDATE
+                        SET fingerprint = EXCLUDED.fingerprint, updated_at = EXCLUDED.updated_at
+                        WHERE content_fingerprints.fingerprint <> EXCLUDED.fingerprint
+                        RETURNING external_id""",
+                String.class,
+                payloadType,
+                fingerprints.keySet().toArray(String[]::new),
+                fingerprints.values().toArray(String[]::new)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * High-water marks of the incremental crawls : the last value synchronized by a crawl, saved under a name.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrawlCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param name the checkpoint name
+     * @return the value of the checkpoint, if it has already been saved
+     */
+    public Optional<String> find(String name) {
+        return jdbcTemplate.queryForList("SELECT value FROM crawl_checkpoints WHERE name = ?", String.class, name)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Save the value of a checkpoint.
+     *
+     * @param name  the checkpoint name
+     * @param value the new value
+     */
+    public void save(String name, String value) {
+        jdbcTemplate.update("""
+                        INSERT INTO crawl_checkpoints (name, value, updated_at)
+                        VALUES (?, ?, LOCALTIMESTAMP)
+                        ON CONFLICT (name) DO UPDATE SET value = EXCLUDED.value, updated_at = EXCLUDED.updated_at""",
+                name, value);
+    }
+}
@@ -0,0 +1,25 @@
+package com.comix.scrapers.bedetheque.repository;
+
+/**
+ * Item of the frontier of a crawl job.
+ *
+ * @param id       the item id
+ * @param jobId    the crawl job id
+ * @param kind     what the item is
+ * @param target   the letter of the index, or the url of the serie, the author or the graphic novel
+ * @param attempts the number of times the item has been claimed
+ * @param force    true if the job publishes the unchanged entities too
+ */
+public record CrawlFrontierItem(long id, long jobId, Kind kind, String target, int attempts, boolean force) {
+
+    /** Target of the index items */
+    public static final String ALL = "*";
+
+    public enum Kind {
+        SERIES_INDEX, SERIES_LETTER, SERIE,
+        AUTHORS_INDEX, AUTHORS_LETTER, AUTHOR,
+        LAST_ENTRIES, GRAPHIC_NOVEL
+    }
+
+    public enum State { PENDING, IN_PROGRESS, DONE, FAILED }
+}
@@ -0,0 +1,158 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Frontier of the crawl jobs : the items to scrap, with their state.
+ * <p>
+ * The items are claimed with {@code FOR UPDATE SKIP LOCKED}, so that several workers (or instances) never claim
+ * the same item. A claimed item stays {@code IN_PROGRESS} until it is completed or failed ; the items claimed by
+ * a worker that died are released once their lease has expired, the running workers renew the lease of their items.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrawlFrontierRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Add items to the frontier of a job. The items already known by the job are ignored.
+     *
+     * @param jobId   the crawl job id
+     * @param kind    the kind of the items
+     * @param targets the letters or the urls of the items
+     */
+    public void enqueue(long jobId, CrawlFrontierItem.Kind kind, Collection<String> targets) {
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO crawl_frontier (job_id, kind, target, state)
+                        VALUES (?, ?, ?, 'PENDING')
+                        ON CONFLICT (job_id, kind, target) DO NOTHING""",
+                targets, 500, (ps, target) -> {
+                    ps.setLong(1, jobId);
+                    ps.setString(2, kind.name());
+                    ps.setString(3, target);
+                });
+    }
+
+    /**
+     * Claim the next pending items of the running jobs.
+     *
+     * @param limit the maximum number of items
+     * @return the claimed items, now in progress
+     */
+    public List<CrawlFrontierItem> claim(int limit) {
+        return jdbcTemplate.query("""
+                        UPDATE crawl_frontier f SET state = 'IN_PROGRESS', attempts = attempts + 1, updated_at = LOCALTIMESTAMP
+                        FROM crawl_jobs j
+                        WHERE j.id = f.job_id
+                        AND f.id IN (
+                            SELECT p.id FROM crawl_frontier p
+                            JOIN crawl_jobs r ON r.id = p.job_id
+                            WHERE p.state = 'PENDING' AND r.status = 'RUNNING'
+                            ORDER BY p.id
+                            LIMIT ?
+                            FOR UPDATE OF p SKIP LOCKED)
+                        RETURNING f.id, f.job_id, f.kind, f.target, f.attempts, j.force""",
+                (rs, rowNum) -> new CrawlFrontierItem(
+                        rs.getLong("id"),
+                        rs.getLong("job_id"),
+                        CrawlFrontierItem.Kind.valueOf(rs.getString("kind")),
+                        rs.getString("target"),
+                        rs.getInt("attempts"),
+                        rs.getBoolean("force")),
+                limit);
+    }
+
+    /**
+     * Mark an item as done.
+     *
+     * @param id the item id
+     */
+    public void complete(long id) {
+        jdbcTemplate.update("UPDATE crawl_frontier SET state = 'DONE', last_error = NULL, updated_at = LOCALTIMESTAMP WHERE id = ?", id);
+    }
+
+    /**
+     * Give back a failed item to the frontier, or mark it as failed once it has been attempted too many times.
+     *
+     * @param id          the item id
+     * @param error       the error message
+     * @param maxAttempts the maximum number of attempts of an item
+     */
+    public void fail(long id, String error, int maxAttempts) {
+        jdbcTemplate.update("""
+                        UPDATE crawl_frontier
+                        SET state = CASE WHEN attempts >= ? THEN 'FAILED' ELSE 'PENDING' END,
+                            last_error = LEFT(?, 1000),
+                            updated_at = LOCALTIMESTAMP
+                        WHERE id = ?""",
+                maxAttempts, error, id);
+    }
+
+    /**
+     * Extend the lease of the items still being scraped, so that they are not given to another worker.
+     *
+     * @param ids the ids of the items in progress
+     * @return the number of renewed items
+     */
+    public int renew(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("""
+                        UPDATE crawl_frontier SET updated_at = LOCALTIMESTAMP
+                        WHERE state = 'IN_PROGRESS' AND id = ANY (?)""",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+
+    /**
+     * Give back to the frontier the items claimed for too long, by a worker that has been stopped.
+     *
+     * @param lease the maximum time an item stays in progress
+     * @return the number of released items
+     */
+    public int releaseExpired(Duration lease) {
+        return jdbcTemplate.update("""
+                        UPDATE crawl_frontier SET state = 'PENDING', updated_at = LOCALTIMESTAMP
+                        WHERE state = 'IN_PROGRESS' AND updated_at < LOCALTIMESTAMP - make_interval(secs => ?)""",
+                lease.toSeconds());
+    }
+
+    /**
+     * Mark as completed the running jobs that have no more items to scrap.
+     *
+     * @return the number of completed jobs
+     */
+    public int completeFinishedJobs() {
+        return jdbcTemplate.update("""
+                UPDATE crawl_jobs j SET status = 'COMPLETED', updated_at = LOCALTIMESTAMP
+                WHERE j.status = 'RUNNING'
+                AND NOT EXISTS (
+                    SELECT 1 FROM crawl_frontier f
+                    WHERE f.job_id = j.id AND f.state IN ('PENDING', 'IN_PROGRESS'))""");
+    }
+
+    /**
+     * @param jobId the crawl job id
+     * @return the number of items of the job, by state
+     */
+    public Map<CrawlFrontierItem.State, Long> countByState(long jobId) {
+        Map<CrawlFrontierItem.State, Long> counts = new EnumMap<>(CrawlFrontierItem.State.class);
+        for (CrawlFrontierItem.State state : CrawlFrontierItem.State.values()) {
+            counts.put(state, 0L);
+        }
+        jdbcTemplate.query("SELECT state, COUNT(*) FROM crawl_frontier WHERE job_id = ? GROUP BY state",
+                (RowCallbackHandler) rs -> counts.put(CrawlFrontierItem.State.valueOf(rs.getString(1)), rs.getLong(2)),
+                jobId);
+        return counts;
+    }
+}
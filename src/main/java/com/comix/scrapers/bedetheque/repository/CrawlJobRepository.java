@@ -0,0 +1,15 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import com.comix.scrapers.bedetheque.entity.CrawlJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CrawlJobRepository extends JpaRepository<CrawlJob, Long> {
+    List<CrawlJob> findAllByOrderByIdDesc();
+
+    boolean existsByTypeAndStatusIn(CrawlJob.Type type, Collection<CrawlJob.Status> statuses);
+}
@@ -0,0 +1,9 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import com.comix.scrapers.bedetheque.entity.MediaContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MediaContentRepository extends JpaRepository<MediaContent, String> {
+}
@@ -2,11 +2,42 @@ package com.comix.scrapers.bedetheque.repository;
 
 import com.comix.scrapers.bedetheque.entity.OutboxMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
     List<OutboxMessage> findByStatus(OutboxMessage.Status status);
-}
\ No newline at end of file
+
+    /**
+     * Lock the next pending messages, skipping the messages already locked by another publisher.
+     * Must be called in a transaction : the messages stay locked until its end.
+     *
+     * @param afterId the id after which the messages are searched
+     * @param limit   the maximum number of messages
+     * @return the locked pending messages, ordered by id
+     */
+    @Query(value = """
+            SELECT * FROM outbox_messages
+            WHERE status = 'PENDING' AND id > :afterId
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<OutboxMessage> lockNextPending(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Update the status of several messages with a single statement.
+     *
+     * @param ids    the ids of the messages
+     * @param status the new status
+     * @return the number of updated messages
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = :status WHERE m.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") OutboxMessage.Status status);
+}
@@ -0,0 +1,137 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Daily partitions of the {@code outbox_messages} table.
+ * <p>
+ * Each day of creation has its own partition, named {@code outbox_messages_pYYYYMMDD}.
+ * The messages created on a day without partition are stored in the default partition.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxPartitionRepository {
+
+    static final String TABLE = "outbox_messages";
+    static final String DEFAULT_PARTITION = "outbox_messages_default";
+    static final String PARTITION_PREFIX = "outbox_messages_p";
+    static final String ARCHIVE_PREFIX = "outbox_messages_archive_p";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /** The partitions are not created or removed when the outbox is busy : they are retried by the next run */
+    private static final String LOCK_TIMEOUT = "5s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the days having a partition, in chronological order
+     */
+    public List<LocalDate> findPartitionDays() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE i.inhparent = 'outbox_messages'::regclass""", String.class)
+                .stream()
+                .filter(name -> name.startsWith(PARTITION_PREFIX))
+                .map(name -> LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Create the partition of a day.
+     * The messages of this day already stored in the default partition are moved to the new partition.
+     * The outbox is locked meanwhile, so that no message of the day is added to the default partition after the move.
+     *
+     * @param day the day of creation of the messages
+     */
+    @Transactional
+    public void createPartition(LocalDate day) {
+        String partition = partitionName(day);
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '%s'".formatted(LOCK_TIMEOUT));
+        jdbcTemplate.execute("LOCK TABLE %s IN ACCESS EXCLUSIVE MODE".formatted(TABLE));
+
+        jdbcTemplate.execute("CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)".formatted(partition, TABLE));
+        jdbcTemplate.update("""
+                WITH moved AS (DELETE FROM %s WHERE created_at >= ? AND created_at < ? RETURNING *)
+                INSERT INTO %s SELECT * FROM moved""".formatted(DEFAULT_PARTITION, partition), from, to);
+        jdbcTemplate.execute("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(TABLE, partition, day, day.plusDays(1)));
+    }
+
+    /**
+     * Remove the partition of a day, unless it still holds pending messages.
+     *
+     * @param day     the day of creation of the messages
+     * @param archive true to detach the partition and keep it as the {@code outbox_messages_archive_pYYYYMMDD} table,
+     *                false to drop it
+     * @return true if the partition has been removed
+     */
+    @Transactional
+    public boolean removePartition(LocalDate day, boolean archive) {
+        String partition = partitionName(day);
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '%s'".formatted(LOCK_TIMEOUT));
+        // Nothing can be added to the partition while it is checked and removed
+        jdbcTemplate.execute("LOCK TABLE %s IN ACCESS EXCLUSIVE MODE".formatted(TABLE));
+
+        Boolean pending = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM %s WHERE status = 'PENDING')".formatted(partition), Boolean.class);
+        if (Boolean.TRUE.equals(pending)) {
+            return false;
+        }
+
+        if (archive) {
+            jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(TABLE, partition));
+            jdbcTemplate.execute("ALTER TABLE %s RENAME TO %s%s".formatted(partition, ARCHIVE_PREFIX, day.format(PARTITION_SUFFIX)));
+        } else {
+            jdbcTemplate.execute("DROP TABLE %s".formatted(partition));
+        }
+        return true;
+    }
+
+    /**
+     * Delete the sent messages of the default partition.
+     *
+     * @param before the creation date before which the messages are deleted
+     * @return the number of deleted messages
+     */
+    public int purgeDefaultPartition(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM %s WHERE status = 'SENT' AND created_at < ?".formatted(DEFAULT_PARTITION),
+                Timestamp.valueOf(before));
+    }
+
+    /**
+     * @return the disk size of the outbox, in bytes (all the partitions, with their indexes and TOAST)
+     */
+    public long getTableSize() {
+        Long size = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(pg_total_relation_size(i.inhrelid)), 0) FROM pg_inherits i
+                WHERE i.inhparent = 'outbox_messages'::regclass""", Long.class);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * @return the creation date of the oldest pending message, empty if there is none
+     */
+    public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+        return jdbcTemplate.query("SELECT created_at FROM %s WHERE status = 'PENDING' ORDER BY id LIMIT 1".formatted(TABLE),
+                (rs, rowNum) -> rs.getTimestamp(1).toLocalDateTime()).stream().findFirst();
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+    }
+}
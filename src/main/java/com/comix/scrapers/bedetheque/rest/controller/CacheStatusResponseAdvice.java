@@ -0,0 +1,39 @@
+package com.comix.scrapers.bedetheque.rest.controller;
+
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Add the {@code Cache-Status} header (RFC 9211) to the responses served through the scrape result cache.
+ */
+@RestControllerAdvice
+public class CacheStatusResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String CACHE_STATUS_HEADER = "Cache-Status";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(ScrapeResultCache.CACHE_STATUS_ATTRIBUTE) instanceof String cacheStatus) {
+            response.getHeaders().set(CACHE_STATUS_HEADER, cacheStatus);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,92 @@
+package com.comix.scrapers.bedetheque.rest.controller;
+
+import com.comix.scrapers.bedetheque.rest.v1.api.CrawlJobsApi;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobRequestDto;
+import com.comix.scrapers.bedetheque.service.CrawlJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class CrawlJobController implements V1Controller, CrawlJobsApi {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrawlJobController.class);
+
+    private final CrawlJobService crawlJobService;
+
+    public CrawlJobController(CrawlJobService crawlJobService) {
+        this.crawlJobService = crawlJobService;
+    }
+
+    /**
+     * POST /crawl-jobs : Start a crawl of the whole catalog
+     *
+     * @param crawlJobRequestDto the catalog to crawl
+     * @return the started crawl job
+     */
+    @Override
+    public ResponseEntity<CrawlJobDto> startCrawlJob(CrawlJobRequestDto crawlJobRequestDto) {
+        LOGGER.info("Bedetheque - Start a crawl of the {}", crawlJobRequestDto.getType());
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(crawlJobService.start(crawlJobRequestDto.getType(), Boolean.TRUE.equals(crawlJobRequestDto.getForce())));
+    }
+
+    /**
+     * GET /crawl-jobs : List the crawl jobs
+     *
+     * @return the crawl jobs, the most recent first
+     */
+    @Override
+    public ResponseEntity<List<CrawlJobDto>> listCrawlJobs() {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(crawlJobService.list());
+    }
+
+    /**
+     * GET /crawl-jobs/{id} : Get the progress of a crawl job
+     *
+     * @param id the crawl job id
+     * @return the crawl job
+     */
+    @Override
+    public ResponseEntity<CrawlJobDto> getCrawlJob(Long id) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(crawlJobService.get(id));
+    }
+
+    /**
+     * POST /crawl-jobs/{id}/pause : Pause a running crawl job
+     *
+     * @param id the crawl job id
+     * @return the paused crawl job
+     */
+    @Override
+    public ResponseEntity<CrawlJobDto> pauseCrawlJob(Long id) {
+        LOGGER.info("Bedetheque - Pause the crawl job {}", id);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(crawlJobService.pause(id));
+    }
+
+    /**
+     * POST /crawl-jobs/{id}/resume : Resume a paused crawl job
+     *
+     * @param id the crawl job id
+     * @return the resumed crawl job
+     */
+    @Override
+    public ResponseEntity<CrawlJobDto> resumeCrawlJob(Long id) {
+        LOGGER.info("Bedetheque - Resume the crawl job {}", id);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(crawlJobService.resume(id));
+    }
+}
@@ -1,22 +1,60 @@
 package com.comix.scrapers.bedetheque.rest.controller;
 
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
 import com.comix.scrapers.bedetheque.rest.v1.api.GraphicNovelsApi;
+import com.comix.scrapers.bedetheque.rest.v1.dto.GraphicNovelDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapAllRepublicationsResponseDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapGraphicNovelsResponseDto;
 import com.comix.scrapers.bedetheque.service.GraphicNovelService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @RestController
 public class GraphicNovelController implements V1Controller, GraphicNovelsApi {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GraphicNovelController.class);
 
+    // Marks the end of the graphic novels handed off to the response
+    private static final GraphicNovelDto END_OF_STREAM = new GraphicNovelDto();
+
     private final GraphicNovelService graphicNovelService;
 
+    @Setter
+    @Autowired
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Setter
+    @Value("${application.scraping.stream-buffer-size:64}")
+    private int streamBufferSize = 64;
+
+    @Setter
+    @Value("${application.scraping.stream-client-timeout:PT1M}")
+    private Duration streamClientTimeout = Duration.ofMinutes(1);
+
     public GraphicNovelController(GraphicNovelService graphicNovelService) {
         this.graphicNovelService = graphicNovelService;
     }
@@ -52,4 +90,114 @@ public class GraphicNovelController implements V1Controller, GraphicNovelsApi {
                 .body(graphicNovelService.scrapWithAllRepublications(url)
                 );
     }
+
+    /**
+     * Scrap all graphics novels, as a stream of json lines written as soon as each graphic novel is scraped
+     *
+     * @param url  The graphic novels url (required)
+     * @param page The page number (optional)
+     * @return The graphic novels scraped from the url, one json document per line
+     */
+    @GetMapping(value = "/graphic-novels/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamGraphicNovels(@RequestHeader(value = "Url") String url,
+                                                                     @RequestParam(value = "page", required = false) Integer page) {
+        LOGGER.info("Bedetheque - Stream all graphic novels from url {}, page {}", url, page);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjson(consumer -> graphicNovelService.stream(url, page, consumer)));
+    }
+
+    /**
+     * Scrap all republications of a graphic novel, as a stream of json lines written as soon as each graphic novel is scraped
+     *
+     * @param id  The graphic novel id (required)
+     * @param url The url of the graphic novel (required)
+     * @return The graphic novels scraped from the url, one json document per line
+     */
+    @GetMapping(value = "/graphic-novels/{id}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllRepublications(@PathVariable("id") String id,
+                                                                         @RequestHeader(value = "Url") String url) {
+        LOGGER.info("Bedetheque - Stream all republications of a graphic novel {} from url {}", id, url);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjson(consumer -> graphicNovelService.streamWithAllRepublications(url, consumer)));
+    }
+
+    /**
+     * The scraping runs on its own virtual thread and hands off the graphic novels to the response through a bounded
+     * buffer : a slow client doesn't slow down the scraping, which holds a fetch slot, until the buffer is full.
+     * If the client doesn't read anything during {@code application.scraping.stream-client-timeout}, or closes
+     * the connection, the scraping is stopped and its fetch slot released.
+     */
+    private StreamingResponseBody ndjson(Consumer<Consumer<GraphicNovelDto>> scrap) {
+        return out -> {
+            BlockingQueue<GraphicNovelDto> scraped = new ArrayBlockingQueue<>(streamBufferSize);
+            CompletableFuture<Void> scraping = new CompletableFuture<>();
+            Thread scraper = Thread.ofVirtual().name("ndjson-scrap").start(() -> {
+                try {
+                    scrap.accept(graphicNovelDto -> handOff(scraped, graphicNovelDto));
+                    scraping.complete(null);
+                } catch (RuntimeException e) {
+                    scraping.completeExceptionally(e);
+                } finally {
+                    endOfStream(scraped);
+                }
+            });
+            try {
+                GraphicNovelDto graphicNovelDto;
+                while ((graphicNovelDto = scraped.take()) != END_OF_STREAM) {
+                    writeLine(out, graphicNovelDto);
+                }
+                scraping.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (UncheckedIOException e) {
+                // The client has closed the connection : the scraping is stopped
+                throw e.getCause();
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            } finally {
+                scraper.interrupt();
+            }
+        };
+    }
+
+    private void handOff(BlockingQueue<GraphicNovelDto> scraped, GraphicNovelDto graphicNovelDto) {
+        if (graphicNovelDto == null) {
+            return;
+        }
+        try {
+            if (!scraped.offer(graphicNovelDto, streamClientTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new TechnicalException("ERR-SCR-010", null, new Object[]{streamClientTimeout});
+            }
+        } catch (InterruptedException e) {
+            // The response is over : the scraping is stopped
+            Thread.currentThread().interrupt();
+            throw new TechnicalException("ERR-SCR-010", e, new Object[]{streamClientTimeout});
+        }
+    }
+
+    private static void endOfStream(BlockingQueue<GraphicNovelDto> scraped) {
+        try {
+            scraped.put(END_OF_STREAM);
+        } catch (InterruptedException e) {
+            // The response is over, nobody waits for the end of the stream
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLine(OutputStream out, GraphicNovelDto graphicNovelDto) {
+        if (graphicNovelDto == null) {
+            return;
+        }
+        try {
+            out.write(objectMapper.writeValueAsBytes(graphicNovelDto));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,176 @@
+package com.comix.scrapers.bedetheque.rest.controller;
+
+import com.comix.scrapers.bedetheque.exception.BusinessException;
+import com.comix.scrapers.bedetheque.rest.v1.api.AuthorsApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.DashboardApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.FiltersApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.GraphicNovelsApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.RatingsApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.ScrapeJobsApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.SeriesApi;
+import com.comix.scrapers.bedetheque.rest.v1.dto.FilterAutocompleteTypeEnumDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobOperationDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobRequestDto;
+import com.comix.scrapers.bedetheque.service.ScrapeJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous variant of the scrape endpoints : a scrape job calls the synchronous endpoint of its operation
+ * in the background, with the same validations.
+ */
+@RestController
+public class ScrapeJobController implements V1Controller, ScrapeJobsApi {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScrapeJobController.class);
+
+    private final ScrapeJobService scrapeJobService;
+    private final AuthorsApi authorsApi;
+    private final SeriesApi seriesApi;
+    private final GraphicNovelsApi graphicNovelsApi;
+    private final FiltersApi filtersApi;
+    private final DashboardApi dashboardApi;
+    private final RatingsApi ratingsApi;
+
+    public ScrapeJobController(ScrapeJobService scrapeJobService,
+                               AuthorsApi authorsApi,
+                               SeriesApi seriesApi,
+                               GraphicNovelsApi graphicNovelsApi,
+                               FiltersApi filtersApi,
+                               DashboardApi dashboardApi,
+                               RatingsApi ratingsApi) {
+        this.scrapeJobService = scrapeJobService;
+        this.authorsApi = authorsApi;
+        this.seriesApi = seriesApi;
+        this.graphicNovelsApi = graphicNovelsApi;
+        this.filtersApi = filtersApi;
+        this.dashboardApi = dashboardApi;
+        this.ratingsApi = ratingsApi;
+    }
+
+    /**
+     * POST /scrape-jobs : Submit an asynchronous scrape job
+     *
+     * @param scrapeJobRequestDto the scrape operation and its parameters
+     * @return the pending scrape job, and its url in the Location header
+     */
+    @Override
+    public ResponseEntity<ScrapeJobDto> submitScrapeJob(ScrapeJobRequestDto scrapeJobRequestDto) {
+        ScrapeJobOperationDto operation = scrapeJobRequestDto.getOperation();
+        Map<String, String> parameters = scrapeJobRequestDto.getParameters() == null ? Map.of() : scrapeJobRequestDto.getParameters();
+        LOGGER.info("Bedetheque - Submit a scrape job {} with parameters {}", operation, parameters);
+        ScrapeJobDto scrapeJobDto = scrapeJobService.submit(operation, scrape(operation, parameters));
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}")
+                        .buildAndExpand(scrapeJobDto.getId())
+                        .toUri())
+                .body(scrapeJobDto);
+    }
+
+    /**
+     * GET /scrape-jobs/{id} : Get a scrape job
+     *
+     * @param id   the scrape job id
+     * @param wait maximum time to wait for the completion of the job, in seconds (optional)
+     * @return the scrape job, with its result once it is completed
+     */
+    @Override
+    public ResponseEntity<ScrapeJobDto> getScrapeJob(String id, Integer wait) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(scrapeJobService.get(id, Duration.ofSeconds(wait == null ? 0 : wait)));
+    }
+
+    /**
+     * Bind the parameters of a job to the synchronous endpoint of its operation.
+     * The mandatory parameters are checked now, so that an incomplete job is rejected instead of failing later.
+     */
+    private Supplier<Object> scrape(ScrapeJobOperationDto operation, Map<String, String> p) {
+        return switch (operation) {
+            case SCRAP_AUTHORS -> {
+                String action = required(operation, p, "action");
+                yield () -> authorsApi.scrapAuthors(action, p.get("letter")).getBody();
+            }
+            case SCRAP_AUTHOR -> {
+                String id = required(operation, p, "id");
+                String url = required(operation, p, "url");
+                yield () -> authorsApi.scrapAuthor(id, url).getBody();
+            }
+            case SCRAP_GRAPHIC_NOVELS -> {
+                String url = required(operation, p, "url");
+                Integer page = integer(p, "page");
+                yield () -> graphicNovelsApi.scrapGraphicNovels(url, page).getBody();
+            }
+            case SCRAP_ALL_REPUBLICATIONS -> {
+                String id = required(operation, p, "id");
+                String url = required(operation, p, "url");
+                yield () -> graphicNovelsApi.scrapAllRepublications(id, url).getBody();
+            }
+            case SCRAP_SERIES -> {
+                String action = required(operation, p, "action");
+                yield () -> seriesApi.scrapSeries(action, p.get("letter")).getBody();
+            }
+            case SCRAP_SERIE -> {
+                String id = required(operation, p, "id");
+                String url = required(operation, p, "url");
+                yield () -> seriesApi.scrapSerie(id, url).getBody();
+            }
+            case GLOBAL_SEARCH -> {
+                String filter = required(operation, p, "filter");
+                yield () -> filtersApi.globalSearch(filter).getBody();
+            }
+            case GRAPHIC_NOVEL_SEARCH -> () -> filtersApi.graphicNovelSearch(
+                    p.get("serieId"), p.get("authorId"), p.get("serieTitle"), p.get("graphicnovelTitle"),
+                    p.get("publisher"), p.get("collection"), p.get("category"), p.get("author"), p.get("isbn"),
+                    p.get("status"), p.get("origin"), p.get("language"), p.get("keyword"),
+                    p.get("publicationDateFrom"), p.get("publicationDateTo"), p.get("quotationMin"),
+                    p.get("quotationMax"), p.get("originalEdition")).getBody();
+            case AUTOCOMPLETE -> {
+                FilterAutocompleteTypeEnumDto type = autocompleteType(required(operation, p, "type"));
+                String filter = required(operation, p, "filter");
+                yield () -> filtersApi.autocomplete(type, filter).getBody();
+            }
+            case SCRAP_DASHBOARD -> () -> dashboardApi.scrapDashboard().getBody();
+            case SCRAP_RATINGS -> {
+                String url = required(operation, p, "url");
+                yield () -> ratingsApi.scrapRatings(url).getBody();
+            }
+        };
+    }
+
+    private static String required(ScrapeJobOperationDto operation, Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        if (value == null) {
+            throw new BusinessException("SCRAPE_JOB_MISSING_PARAMETER", new Object[]{name, operation});
+        }
+        return value;
+    }
+
+    private static Integer integer(Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("SCRAPE_JOB_INVALID_PARAMETER", new Object[]{name, value});
+        }
+    }
+
+    private static FilterAutocompleteTypeEnumDto autocompleteType(String value) {
+        try {
+            return FilterAutocompleteTypeEnumDto.fromValue(value);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("SCRAPE_JOB_INVALID_PARAMETER", new Object[]{"type", value});
+        }
+    }
+}
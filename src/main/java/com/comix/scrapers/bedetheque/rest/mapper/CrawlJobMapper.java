@@ -0,0 +1,31 @@
+package com.comix.scrapers.bedetheque.rest.mapper;
+
+import com.comix.scrapers.bedetheque.entity.CrawlJob;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+@Mapper(componentModel = "spring")
+public interface CrawlJobMapper {
+
+    /**
+     * Convert a CrawlJob to a CrawlJobDto, without its progress
+     * @param crawlJob the CrawlJob to convert
+     * @return the CrawlJobDto
+     */
+    @Mapping(target = "progress", ignore = true)
+    CrawlJobDto crawlJobToCrawlJobDto(CrawlJob crawlJob);
+
+    /**
+     * Convert a local date time of the database to an offset date time
+     * @param localDateTime the date time to convert
+     * @return the offset date time, in the default time zone
+     */
+    default OffsetDateTime toOffsetDateTime(LocalDateTime localDateTime) {
+        return localDateTime == null ? null : localDateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+}
@@ -30,4 +30,13 @@ public interface AuthorService {
      * @return the scraped author data
      */
     AuthorDetailsDto scrap(String url);
+
+    /**
+     * Scrap author data
+     *
+     * @param url   The author url at <a href="https://www.bedetheque.com">...</a>
+     * @param force Publish the author, even if it is unchanged
+     * @return the scraped author data
+     */
+    AuthorDetailsDto scrap(String url, boolean force);
 }
@@ -0,0 +1,347 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.client.model.author.Author;
+import com.comix.scrapers.bedetheque.client.model.author.AuthorsByLetter;
+import com.comix.scrapers.bedetheque.client.model.serie.Serie;
+import com.comix.scrapers.bedetheque.client.model.serie.SeriesByLetter;
+import com.comix.scrapers.bedetheque.client.model.statistics.GlobalStatistics;
+import com.comix.scrapers.bedetheque.client.model.statistics.LastEntry;
+import com.comix.scrapers.bedetheque.client.scraper.AuthorScraper;
+import com.comix.scrapers.bedetheque.client.scraper.GlobalStatisticsScraper;
+import com.comix.scrapers.bedetheque.client.scraper.SerieScraper;
+import com.comix.scrapers.bedetheque.repository.CrawlCheckpointRepository;
+import com.comix.scrapers.bedetheque.repository.CrawlFrontierItem;
+import com.comix.scrapers.bedetheque.repository.CrawlFrontierRepository;
+import com.comix.scrapers.bedetheque.rest.v1.dto.GraphicNovelDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.SerieDto;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Engine of the crawl jobs.
+ * <p>
+ * A dispatcher thread claims the pending items of the running jobs and scraps each of them on its own virtual thread,
+ * with at most {@code application.crawl.concurrency} items at a time : the workers wait in the fetch engine,
+ * which sends the requests to bedetheque as fast as its rate limit allows.
+ * <p>
+ * An index item enqueues the letters of the catalog, a letter item enqueues its series (or authors),
+ * and a serie (or author) item is scraped and published. The children of an item are saved in the same transaction
+ * as its completion : after a restart, the crawl goes on from the items which are not done yet.
+ * <p>
+ * A maintenance thread renews the lease of the items being scraped, every third of {@code application.crawl.lease},
+ * and every {@code application.crawl.maintenance-interval} gives back the expired items to the frontier
+ * and completes the finished jobs, whether the dispatcher has items to scrap or not.
+ * <p>
+ * An incremental crawl starts from the last entries and news of the dashboard : only the graphic novels added since
+ * the previous incremental crawl are enqueued, then the series of these graphic novels. The bedetheque ids of the
+ * graphic novels grow with their insertion, so the highest id already synchronized is saved as the high-water mark.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "application.crawl.enabled",
+        havingValue = "true",
+        matchIfMissing = false
+)
+public class CrawlJobEngine implements SmartLifecycle {
+
+    /** High-water mark of the incremental crawls : the highest graphic novel id already synchronized */
+    static final String LAST_ENTRIES_CHECKPOINT = "last-entries.graphic-novel-id";
+
+    private final CrawlFrontierRepository crawlFrontierRepository;
+    private final CrawlCheckpointRepository crawlCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SerieScraper serieScraper;
+    private final AuthorScraper authorScraper;
+    private final GlobalStatisticsScraper globalStatisticsScraper;
+    private final SerieService serieService;
+    private final AuthorService authorService;
+    private final GraphicNovelService graphicNovelService;
+
+    @Setter
+    @Value("${application.crawl.concurrency:8}")
+    private int concurrency = 8;
+
+    @Setter
+    @Value("${application.crawl.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    /** Wait before looking for new items, when the running jobs have none */
+    @Setter
+    @Value("${application.crawl.poll-interval:5000}")
+    private long pollInterval = 5000;
+
+    /** Maximum time an item stays in progress without renewal, before being given to another worker */
+    @Setter
+    @Value("${application.crawl.lease:10m}")
+    private Duration lease = Duration.ofMinutes(10);
+
+    /** Interval between two releases of the expired items and completions of the finished jobs */
+    @Setter
+    @Value("${application.crawl.maintenance-interval:60000}")
+    private long maintenanceInterval = 60000;
+
+    /** Ids of the items being scraped by the workers, whose lease is renewed */
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+
+    /** Run the dispatcher and the maintenance on virtual threads, like the request and scheduled threads */
+    @Setter
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+    private volatile boolean running;
+    private Thread dispatcher;
+    private ExecutorService workers;
+    private ScheduledExecutorService maintenance;
+    private Semaphore permits;
+
+    @Override
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            running = true;
+            permits = new Semaphore(concurrency);
+            workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("crawl-worker-", 0).factory());
+            Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+            dispatcher = builder.name("crawl-dispatcher").start(this::dispatch);
+            maintenance = Executors.newSingleThreadScheduledExecutor(builder.name("crawl-maintenance").factory());
+            long renewal = Math.max(1, lease.toMillis() / 3);
+            maintenance.scheduleWithFixedDelay(this::renewLeases, renewal, renewal, TimeUnit.MILLISECONDS);
+            maintenance.scheduleWithFixedDelay(this::maintain, 0, maintenanceInterval, TimeUnit.MILLISECONDS);
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            running = false;
+            if (dispatcher != null) {
+                dispatcher.interrupt();
+                dispatcher = null;
+            }
+            if (workers != null) {
+                // The items being scraped are given back to the frontier once their lease expires
+                workers.shutdownNow();
+                workers = null;
+            }
+            if (maintenance != null) {
+                maintenance.shutdownNow();
+                maintenance = null;
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                // Claim as many items as there are free workers
+                permits.acquire();
+                int free = 1 + permits.drainPermits();
+                List<CrawlFrontierItem> items = claim(free);
+                permits.release(free - items.size());
+
+                if (items.isEmpty()) {
+                    // Nothing to scrap : wait for new items
+                    pause();
+                    continue;
+                }
+                for (CrawlFrontierItem item : items) {
+                    workers.execute(() -> {
+                        try {
+                            process(item);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+            } catch (InterruptedException e) {
+                // Restore interrupted state...
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                log.warn("Crawl dispatcher failed. Retrying in {} ms", pollInterval, e);
+                pause();
+            }
+        }
+    }
+
+    private List<CrawlFrontierItem> claim(int limit) {
+        List<CrawlFrontierItem> items = transactionTemplate.execute(status -> crawlFrontierRepository.claim(limit));
+        return items == null ? List.of() : items;
+    }
+
+    /**
+     * Extend the lease of the items being scraped : a long scrape is not given to another worker.
+     */
+    void renewLeases() {
+        try {
+            crawlFrontierRepository.renew(List.copyOf(inProgress));
+        } catch (Exception e) {
+            log.warn("Renewal of the crawl items leases failed", e);
+        }
+    }
+
+    /**
+     * Complete the finished jobs, and give back to the frontier the expired items.
+     */
+    void maintain() {
+        try {
+            int completed = crawlFrontierRepository.completeFinishedJobs();
+            if (completed > 0) {
+                log.info("{} crawl jobs completed", completed);
+            }
+            int released = crawlFrontierRepository.releaseExpired(lease);
+            if (released > 0) {
+                log.info("{} expired crawl items given back to the frontier", released);
+            }
+        } catch (Exception e) {
+            log.warn("Crawl maintenance failed. Retrying in {} ms", maintenanceInterval, e);
+        }
+    }
+
+    /**
+     * Scrap an item, then save its children and mark it as done in a single transaction.
+     *
+     * @param item the claimed item
+     */
+    void process(CrawlFrontierItem item) {
+        inProgress.add(item.id());
+        try {
+            scrap(item);
+        } catch (Exception e) {
+            log.warn("Crawl item {} {} of job {} failed (attempt {})", item.kind(), item.target(), item.jobId(), item.attempts(), e);
+            crawlFrontierRepository.fail(item.id(), String.valueOf(e.getMessage()), maxAttempts);
+        } finally {
+            inProgress.remove(item.id());
+        }
+    }
+
+    /**
+     * The items of a forced job publish their entities even when they are unchanged.
+     */
+    private void scrap(CrawlFrontierItem item) {
+        switch (item.kind()) {
+            case SERIES_INDEX -> {
+                List<String> letters = serieScraper.listAllSeriesIndexes().stream().map(SeriesByLetter::getLetter).toList();
+                completeWith(item, CrawlFrontierItem.Kind.SERIES_LETTER, letters);
+            }
+            case SERIES_LETTER -> {
+                List<String> urls = serieScraper.listByLetter(item.target()).stream().map(Serie::getUrl).toList();
+                completeWith(item, CrawlFrontierItem.Kind.SERIE, urls);
+            }
+            case SERIE -> {
+                serieService.scrap(item.target(), item.force());
+                crawlFrontierRepository.complete(item.id());
+            }
+            case AUTHORS_INDEX -> {
+                List<String> letters = authorScraper.listAllAuthorsIndexes().stream().map(AuthorsByLetter::getLetter).toList();
+                completeWith(item, CrawlFrontierItem.Kind.AUTHORS_LETTER, letters);
+            }
+            case AUTHORS_LETTER -> {
+                List<String> urls = authorScraper.scrapAuthorsIndexedByLetter(item.target()).stream().map(Author::getUrl).toList();
+                completeWith(item, CrawlFrontierItem.Kind.AUTHOR, urls);
+            }
+            case AUTHOR -> {
+                authorService.scrap(item.target(), item.force());
+                crawlFrontierRepository.complete(item.id());
+            }
+            case LAST_ENTRIES -> completeWithLastEntries(item);
+            case GRAPHIC_NOVEL -> {
+                List<String> urls = graphicNovelService.scrapWithAllRepublications(item.target(), item.force()).getGraphicNovels().stream()
+                        .map(GraphicNovelDto::getSerie)
+                        .filter(Objects::nonNull)
+                        .map(SerieDto::getUrl)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList();
+                completeWith(item, CrawlFrontierItem.Kind.SERIE, urls);
+            }
+        }
+    }
+
+    private void completeWith(CrawlFrontierItem item, CrawlFrontierItem.Kind childKind, List<String> children) {
+        transactionTemplate.executeWithoutResult(status -> {
+            crawlFrontierRepository.enqueue(item.jobId(), childKind, children);
+            crawlFrontierRepository.complete(item.id());
+        });
+        log.info("Crawl item {} {} of job {} done : {} {} enqueued", item.kind(), item.target(), item.jobId(), children.size(), childKind);
+    }
+
+    /**
+     * Enqueue the graphic novels of the dashboard added since the previous incremental crawl,
+     * and move the high-water mark in the same transaction.
+     *
+     * @param item the last entries item
+     */
+    private void completeWithLastEntries(CrawlFrontierItem item) {
+        GlobalStatistics globalStatistics = globalStatisticsScraper.scrap();
+        List<LastEntry> lastEntries = Stream.of(globalStatistics.getLastEntries(), globalStatistics.getNews())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList();
+
+        long highWaterMark = crawlCheckpointRepository.find(LAST_ENTRIES_CHECKPOINT).map(NumberUtils::toLong).orElse(0L);
+        List<String> urls = lastEntries.stream()
+                .filter(lastEntry -> graphicNovelId(lastEntry) > highWaterMark)
+                .map(LastEntry::getGraphicNovelUrl)
+                .distinct()
+                .toList();
+        long newHighWaterMark = lastEntries.stream()
+                .mapToLong(CrawlJobEngine::graphicNovelId)
+                .reduce(highWaterMark, Math::max);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            crawlFrontierRepository.enqueue(item.jobId(), CrawlFrontierItem.Kind.GRAPHIC_NOVEL, urls);
+            crawlCheckpointRepository.save(LAST_ENTRIES_CHECKPOINT, String.valueOf(newHighWaterMark));
+            crawlFrontierRepository.complete(item.id());
+        });
+        log.info("Crawl item {} of job {} done : {} new graphic novels since the graphic novel {}",
+                item.kind(), item.jobId(), urls.size(), highWaterMark);
+    }
+
+    private static long graphicNovelId(LastEntry lastEntry) {
+        return NumberUtils.toLong(lastEntry.getId());
+    }
+
+    private void pause() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(pollInterval);
+        } catch (InterruptedException e) {
+            // Restore interrupted state...
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
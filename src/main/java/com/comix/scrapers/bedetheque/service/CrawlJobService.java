@@ -0,0 +1,51 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobTypeDto;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface CrawlJobService {
+
+    /**
+     * Start a crawl of the whole catalog, or an incremental crawl of the last entries
+     *
+     * @param type  The catalog to crawl
+     * @param force Publish the scraped entities, even the unchanged ones
+     * @return The started crawl job
+     */
+    CrawlJobDto start(CrawlJobTypeDto type, boolean force);
+
+    /**
+     * List the crawl jobs, the most recent first
+     *
+     * @return The crawl jobs with their progress
+     */
+    List<CrawlJobDto> list();
+
+    /**
+     * Get a crawl job
+     *
+     * @param id The crawl job id
+     * @return The crawl job with its progress
+     */
+    CrawlJobDto get(long id);
+
+    /**
+     * Pause a running crawl job
+     *
+     * @param id The crawl job id
+     * @return The paused crawl job
+     */
+    CrawlJobDto pause(long id);
+
+    /**
+     * Resume a paused crawl job
+     *
+     * @param id The crawl job id
+     * @return The resumed crawl job
+     */
+    CrawlJobDto resume(long id);
+}
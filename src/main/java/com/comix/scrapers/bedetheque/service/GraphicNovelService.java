@@ -1,9 +1,12 @@
 package com.comix.scrapers.bedetheque.service;
 
+import com.comix.scrapers.bedetheque.rest.v1.dto.GraphicNovelDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapAllRepublicationsResponseDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapGraphicNovelsResponseDto;
 import org.springframework.stereotype.Service;
 
+import java.util.function.Consumer;
+
 @Service
 public interface GraphicNovelService {
 
@@ -23,4 +26,30 @@ public interface GraphicNovelService {
      * @return The list of graphic novels scraped from the url
      */
     ScrapAllRepublicationsResponseDto scrapWithAllRepublications(String graphicNovelUrl);
+
+    /**
+     * Scrap all republications of a graphic novel
+     *
+     * @param graphicNovelUrl The url of the graphic novel
+     * @param force           Publish the graphic novels, even the unchanged ones
+     * @return The list of graphic novels scraped from the url
+     */
+    ScrapAllRepublicationsResponseDto scrapWithAllRepublications(String graphicNovelUrl, boolean force);
+
+    /**
+     * Scrap all graphics novels, each graphic novel being sent to the consumer as soon as it is scraped
+     *
+     * @param serieUrl The graphic novels url
+     * @param page     The page number (optional)
+     * @param consumer The consumer of the scraped graphic novels
+     */
+    void stream(String serieUrl, Integer page, Consumer<GraphicNovelDto> consumer);
+
+    /**
+     * Scrap all republications of a graphic novel, each graphic novel being sent to the consumer as soon as it is scraped
+     *
+     * @param graphicNovelUrl The url of the graphic novel
+     * @param consumer        The consumer of the scraped graphic novels
+     */
+    void streamWithAllRepublications(String graphicNovelUrl, Consumer<GraphicNovelDto> consumer);
 }
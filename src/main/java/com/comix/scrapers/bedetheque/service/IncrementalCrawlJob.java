@@ -0,0 +1,43 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.entity.CrawlJob;
+import com.comix.scrapers.bedetheque.repository.CrawlJobRepository;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobTypeDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Start an incremental crawl on a schedule ({@code application.crawl.incremental.cron}), e.g. every night.
+ * <p>
+ * No crawl is started while the previous incremental crawl is still running or paused.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "application.crawl.incremental.enabled",
+        havingValue = "true",
+        matchIfMissing = false
+)
+public class IncrementalCrawlJob {
+
+    private final CrawlJobService crawlJobService;
+    private final CrawlJobRepository crawlJobRepository;
+
+    @Scheduled(cron = "${application.crawl.incremental.cron}")
+    @SchedulerLock(name = "startIncrementalCrawl", lockAtLeastFor = "PT1M", lockAtMostFor = "PT5M")
+    public void startIncrementalCrawl() {
+        if (crawlJobRepository.existsByTypeAndStatusIn(CrawlJob.Type.INCREMENTAL,
+                List.of(CrawlJob.Status.RUNNING, CrawlJob.Status.PAUSED))) {
+            log.info("The previous incremental crawl is not completed yet. No crawl started.");
+            return;
+        }
+        crawlJobService.start(CrawlJobTypeDto.INCREMENTAL, false);
+    }
+}
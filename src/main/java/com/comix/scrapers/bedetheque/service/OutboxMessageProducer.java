@@ -1,6 +1,7 @@
 package com.comix.scrapers.bedetheque.service;
 
 import com.comix.scrapers.bedetheque.entity.OutboxMessage;
+import com.comix.scrapers.bedetheque.repository.ContentFingerprintRepository;
 import com.comix.scrapers.bedetheque.repository.OutboxMessageRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,9 +9,26 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Service responsible for creating and saving messages to the outbox table for later publishing.
+ * <p>
+ * The payloads of the entities can be fingerprinted : the SHA-256 of their JSON is saved by payload type and
+ * external id, and an entity whose content has not changed since its last publication is not published again.
  */
 @Slf4j
 @Service
@@ -18,11 +36,15 @@ import org.springframework.stereotype.Service;
 public class OutboxMessageProducer {
 
     private final OutboxMessageRepository outboxRepository;
+    private final ContentFingerprintRepository contentFingerprintRepository;
     private final ObjectMapper objectMapper;
 
     @Value("${outbox.publisher.enabled:true}")
     private boolean outboxPublisherEnabled;
 
+    @Value("${outbox.fingerprint.enabled:true}")
+    private boolean isFingerprintActive;
+
     public void saveToOutbox(String exchange, String routingKey, Object payload) {
         saveToOutbox(exchange, routingKey, payload, "");
     }
@@ -32,6 +54,147 @@ public class OutboxMessageProducer {
             return;
         }
 
+        OutboxMessage outboxMessage = toOutboxMessage(exchange, routingKey, payload, label);
+        if (outboxMessage != null) {
+            outboxRepository.save(outboxMessage);
+        }
+    }
+
+    /**
+     * Save the messages of a whole scrape in a single transaction.
+     * The ids come from a pooled sequence, so the inserts are sent to the database by batches.
+     *
+     * @param exchange   the exchange of the messages
+     * @param routingKey the routing key of the messages
+     * @param payloads   the payloads to publish (null payloads are ignored)
+     * @param label      the label of each payload, for the logs and the content column
+     * @param <T>        the payload type
+     */
+    @Transactional
+    public <T> void saveAllToOutbox(String exchange, String routingKey, Collection<T> payloads, Function<T, String> label) {
+        if (!outboxPublisherEnabled || payloads == null || payloads.isEmpty()) {
+            return;
+        }
+
+        List<OutboxMessage> outboxMessages = new ArrayList<>(payloads.size());
+        for (T payload : payloads) {
+            if (payload != null) {
+                OutboxMessage outboxMessage = toOutboxMessage(exchange, routingKey, payload, label.apply(payload));
+                if (outboxMessage != null) {
+                    outboxMessages.add(outboxMessage);
+                }
+            }
+        }
+        outboxRepository.saveAll(outboxMessages);
+        log.info("Saved {} messages to outbox. Exchange: '{}', RoutingKey: '{}'", outboxMessages.size(), exchange, routingKey);
+    }
+
+    /**
+     * Save a message to the outbox, unless the entity has not changed since its last publication.
+     *
+     * @param exchange   the exchange of the message
+     * @param routingKey the routing key of the message
+     * @param payload    the payload to publish (a null payload is ignored)
+     * @param externalId the id of the entity, null to publish the payload anyway
+     * @param label      the label of the payload, for the logs and the content column
+     * @param force      true to publish the payload even if the entity has not changed (its fingerprint is still saved)
+     */
+    @Transactional
+    public void saveToOutboxIfChanged(String exchange, String routingKey, Object payload, String externalId, String label,
+                                      boolean force) {
+        saveAllToOutboxIfChanged(exchange, routingKey, Collections.singletonList(payload), p -> externalId, p -> label, force);
+    }
+
+    /**
+     * Save the messages of a whole scrape in a single transaction, except the entities that have not changed
+     * since their last publication.
+     *
+     * @param exchange   the exchange of the messages
+     * @param routingKey the routing key of the messages
+     * @param payloads   the payloads to publish (null payloads are ignored)
+     * @param externalId the id of the entity of each payload, null to publish the payload anyway
+     * @param label      the label of each payload, for the logs and the content column
+     * @param force      true to publish all the payloads, even those of the unchanged entities (their fingerprints are still saved)
+     * @param <T>        the payload type
+     */
+    @Transactional
+    public <T> void saveAllToOutboxIfChanged(String exchange, String routingKey, Collection<T> payloads,
+                                             Function<T, String> externalId, Function<T, String> label, boolean force) {
+        if (!outboxPublisherEnabled || payloads == null || payloads.isEmpty()) {
+            return;
+        }
+
+        List<OutboxMessage> outboxMessages = new ArrayList<>(payloads.size());
+        List<String> externalIds = new ArrayList<>(payloads.size());
+        for (T payload : payloads) {
+            if (payload != null) {
+                OutboxMessage outboxMessage = toOutboxMessage(exchange, routingKey, payload, label.apply(payload));
+                if (outboxMessage != null) {
+                    outboxMessages.add(outboxMessage);
+                    externalIds.add(externalId.apply(payload));
+                }
+            }
+        }
+        List<OutboxMessage> changedMessages = retainChanged(outboxMessages, externalIds, force);
+        if (changedMessages.isEmpty()) {
+            log.info("No changed content among {} messages, nothing saved to outbox. Exchange: '{}', RoutingKey: '{}'",
+                    outboxMessages.size(), exchange, routingKey);
+            return;
+        }
+        outboxRepository.saveAll(changedMessages);
+        log.info("Saved {} messages to outbox ({} unchanged). Exchange: '{}', RoutingKey: '{}'",
+                changedMessages.size(), outboxMessages.size() - changedMessages.size(), exchange, routingKey);
+    }
+
+    /**
+     * Save the fingerprints of the messages, and keep the messages of the new or changed entities.
+     *
+     * @param outboxMessages the messages
+     * @param externalIds    the external id of the entity of each message
+     * @param force          true to keep all the messages
+     * @return the messages to publish
+     */
+    private List<OutboxMessage> retainChanged(List<OutboxMessage> outboxMessages, List<String> externalIds, boolean force) {
+        if (!isFingerprintActive || outboxMessages.isEmpty()) {
+            return outboxMessages;
+        }
+
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        for (int i = 0; i < outboxMessages.size(); i++) {
+            if (externalIds.get(i) != null) {
+                fingerprints.put(externalIds.get(i), fingerprint(outboxMessages.get(i).getPayload()));
+            }
+        }
+        Set<String> changed = contentFingerprintRepository.saveChanged(outboxMessages.getFirst().getPayloadType(), fingerprints);
+        if (force) {
+            return outboxMessages;
+        }
+
+        List<OutboxMessage> changedMessages = new ArrayList<>(changed.size());
+        for (int i = 0; i < outboxMessages.size(); i++) {
+            if (externalIds.get(i) == null || changed.contains(externalIds.get(i))) {
+                changedMessages.add(outboxMessages.get(i));
+            }
+        }
+        return changedMessages;
+    }
+
+    /**
+     * The generated DTOs are always serialized with the same properties order : their JSON is their normalized form.
+     *
+     * @param payload the JSON payload
+     * @return the SHA-256 of the payload
+     */
+    static String fingerprint(String payload) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(payload.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private OutboxMessage toOutboxMessage(String exchange, String routingKey, Object payload, String label) {
         try {
             log.info("Saving message to outbox for publishing. Exchange: '{}', RoutingKey: '{}', Content: '{}'", exchange, routingKey, label);
             OutboxMessage outboxMessage = new OutboxMessage();
@@ -40,9 +203,10 @@ public class OutboxMessageProducer {
             outboxMessage.setPayload(objectMapper.writeValueAsString(payload));
             outboxMessage.setPayloadType(payload.getClass().getName());
             outboxMessage.setContent(label);
-            outboxRepository.save(outboxMessage);
+            return outboxMessage;
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize payload for outbox. Message will be lost! Payload class: {}", payload.getClass().getName(), e);
+            return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -2,18 +2,45 @@ package com.comix.scrapers.bedetheque.service;
 
 import com.comix.scrapers.bedetheque.entity.OutboxMessage;
 import com.comix.scrapers.bedetheque.repository.OutboxMessageRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * Publish the pending outbox messages to RabbitMQ.
+ * <p>
+ * The pending messages are read by batches of {@code outbox.publisher.batch-size}, each batch in its own transaction.
+ * The messages of a batch are locked with {@code FOR UPDATE SKIP LOCKED} : several instances can publish at the same time,
+ * each one skipping the messages locked by the others. A run ends when all the pending messages have been read,
+ * the messages which failed are retried by the next run.
+ * <p>
+ * When {@code outbox.publisher.confirms.enabled} is set (with {@code spring.rabbitmq.publisher-confirm-type: correlated}),
+ * the messages of a batch are sent on a single channel without waiting for each broker acknowledgement :
+ * up to {@code outbox.publisher.confirms.max-in-flight} messages are unconfirmed at a time, and only the acknowledged
+ * messages are marked as sent. In both modes, the sent messages of a batch are marked with a single bulk update.
+ * <p>
+ * The stored JSON payloads are sent as they are, with the headers written by {@code Jackson2JsonMessageConverter} :
+ * the consumers receive the same messages, without deserializing and serializing again each payload.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,38 +53,174 @@ public class OutboxMessagePublisher {
 
     private final OutboxMessageRepository outboxRepository;
     private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Setter
+    @Value("${outbox.publisher.batch-size:500}")
+    private int batchSize = 500;
+
+    @Setter
+    @Value("${outbox.publisher.confirms.enabled:false}")
+    private boolean isConfirmsActive;
+
+    @Setter
+    @Value("${outbox.publisher.confirms.max-in-flight:100}")
+    private int maxInFlight = 100;
+
+    @Setter
+    @Value("${outbox.publisher.confirms.timeout:10000}")
+    private long confirmTimeout = 10000;
 
     @Scheduled(fixedDelayString = "${outbox.publisher.fixed-delay}")
-    @SchedulerLock(name = "publishPendingOutboxMessages",
-            lockAtLeastFor = "${outbox.publisher.lock-at-least-for}",
-            lockAtMostFor = "${outbox.publisher.lock-at-most-for}")
-    @Transactional
     public void publishPendingMessages() {
-        List<OutboxMessage> messages = outboxRepository.findByStatus(OutboxMessage.Status.PENDING);
+        long lastId = 0;
+        int published = 0;
+        while (true) {
+            long afterId = lastId;
+            Batch batch = transactionTemplate.execute(status -> publishBatch(afterId));
+            if (batch == null || batch.size() == 0) {
+                break;
+            }
+            published += batch.published();
+            lastId = batch.lastId();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        if (published > 0) {
+            log.info("{} outbox messages published", published);
+        }
+    }
+
+    /**
+     * Publish a batch of pending messages, in the transaction of the caller.
+     *
+     * @param afterId the id after which the pending messages are read
+     * @return the summary of the batch
+     */
+    private Batch publishBatch(long afterId) {
+        List<OutboxMessage> messages = outboxRepository.lockNextPending(afterId, batchSize);
         if (messages.isEmpty()) {
-            return;
+            return Batch.EMPTY;
         }
 
         log.info("Found {} pending messages in outbox. Attempting to publish...", messages.size());
 
+        List<Long> sentIds = isConfirmsActive ? publishWithConfirms(messages) : publish(messages);
+        if (!sentIds.isEmpty()) {
+            outboxRepository.updateStatus(sentIds, OutboxMessage.Status.SENT);
+        }
+        return new Batch(messages.size(), messages.getLast().getId(), sentIds.size());
+    }
+
+    /**
+     * Send the messages one after the other.
+     *
+     * @param messages the messages to send
+     * @return the ids of the sent messages
+     */
+    private List<Long> publish(List<OutboxMessage> messages) {
+        List<Long> sentIds = new ArrayList<>(messages.size());
         for (OutboxMessage message : messages) {
             try {
-                // Re-crée l'objet Java à partir du JSON stocké et du type stocké
-                Class<?> payloadType = Class.forName(message.getPayloadType());
-                Object payloadObject = objectMapper.readValue(message.getPayload(), payloadType);
-
-                // Envoie l'objet Java, pas la chaîne de caractères JSON
-                rabbitTemplate.convertAndSend(message.getExchange(), message.getRoutingKey(), payloadObject);
-
-                message.setStatus(OutboxMessage.Status.SENT);
-                outboxRepository.save(message);
-                log.info("Message ID {} published successfully. Exchange: '{}', RoutingKey: '{}', Content: '{}'",
-                        message.getId(), message.getExchange(), message.getRoutingKey(), message.getContent());
+                rabbitTemplate.send(message.getExchange(), message.getRoutingKey(), toAmqpMessage(message));
+                sentIds.add(message.getId());
+                logPublished(message);
             } catch (Exception e) {
                 log.warn("Failed to publish message ID {}. It will be retried later. Content: '{}'", message.getId(), message.getContent(), e);
-                // La transaction sera rollback, le statut restera PENDING
+                // Le statut reste PENDING, le message sera repris au prochain passage
             }
         }
+        return sentIds;
+    }
+
+    /**
+     * Send the messages on a single channel, and collect the broker acknowledgements by windows of {@code maxInFlight} messages.
+     *
+     * @param messages the messages to send
+     * @return the ids of the messages acknowledged by the broker
+     */
+    private List<Long> publishWithConfirms(List<OutboxMessage> messages) {
+        List<Long> confirmedIds = new ArrayList<>(messages.size());
+        rabbitTemplate.invoke(operations -> {
+            Map<OutboxMessage, CorrelationData> inFlight = new LinkedHashMap<>();
+            for (OutboxMessage message : messages) {
+                try {
+                    CorrelationData correlationData = new CorrelationData(String.valueOf(message.getId()));
+                    operations.send(message.getExchange(), message.getRoutingKey(), toAmqpMessage(message), correlationData);
+                    inFlight.put(message, correlationData);
+                } catch (Exception e) {
+                    log.warn("Failed to publish message ID {}. It will be retried later. Content: '{}'", message.getId(), message.getContent(), e);
+                }
+                if (inFlight.size() >= maxInFlight) {
+                    awaitConfirms(inFlight, confirmedIds);
+                }
+            }
+            awaitConfirms(inFlight, confirmedIds);
+            return null;
+        });
+        return confirmedIds;
+    }
+
+    /**
+     * Wait for the acknowledgements of the messages in flight.
+     * The messages which are not acknowledged in time stay pending and will be sent again by the next run.
+     *
+     * @param inFlight     the messages waiting for their acknowledgement (cleared on return)
+     * @param confirmedIds the ids of the acknowledged messages
+     */
+    private void awaitConfirms(Map<OutboxMessage, CorrelationData> inFlight, List<Long> confirmedIds) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeout);
+        for (Map.Entry<OutboxMessage, CorrelationData> entry : inFlight.entrySet()) {
+            OutboxMessage message = entry.getKey();
+            try {
+                CorrelationData.Confirm confirm = entry.getValue().getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    confirmedIds.add(message.getId());
+                    logPublished(message);
+                } else {
+                    log.warn("Message ID {} rejected by the broker ({}). It will be retried later.", message.getId(), confirm.getReason());
+                }
+            } catch (TimeoutException e) {
+                log.warn("Message ID {} not confirmed after {} ms. It will be retried later.", message.getId(), confirmTimeout);
+            } catch (ExecutionException e) {
+                log.warn("Failed to confirm message ID {}. It will be retried later.", message.getId(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for the confirmation of message ID {}.", message.getId());
+                break;
+            }
+        }
+        inFlight.clear();
+    }
+
+    /**
+     * Build the AMQP message of an outbox message from its stored JSON payload.
+     * The message has the content type and the {@code __TypeId__} header that {@code Jackson2JsonMessageConverter}
+     * would have written for the payload object.
+     *
+     * @param message the outbox message
+     * @return the AMQP message
+     */
+    public static Message toAmqpMessage(OutboxMessage message) {
+        byte[] body = message.getPayload().getBytes(StandardCharsets.UTF_8);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setContentLength(body.length);
+        if (message.getPayloadType() != null) {
+            properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, message.getPayloadType());
+        }
+        return new Message(body, properties);
+    }
+
+    private static void logPublished(OutboxMessage message) {
+        log.debug("Message ID {} published successfully. Exchange: '{}', RoutingKey: '{}', Content: '{}'",
+                message.getId(), message.getExchange(), message.getRoutingKey(), message.getContent());
+    }
+
+    private record Batch(int size, long lastId, int published) {
+        private static final Batch EMPTY = new Batch(0, 0, 0);
     }
-}
\ No newline at end of file
+}
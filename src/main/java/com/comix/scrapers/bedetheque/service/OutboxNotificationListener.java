@@ -0,0 +1,153 @@
+package com.comix.scrapers.bedetheque.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publish the outbox messages as soon as they are inserted.
+ * <p>
+ * An insert trigger notifies the {@code outbox_messages} channel. A dedicated thread listens to this channel
+ * on its own database connection, and drains the outbox on each notification. The scheduled run of the publisher
+ * is kept as a slow fallback, for the notifications lost while the listener was disconnected.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = {"outbox.publisher.enabled", "outbox.publisher.listen.enabled"},
+        havingValue = "true",
+        matchIfMissing = false
+)
+public class OutboxNotificationListener implements SmartLifecycle {
+
+    static final String CHANNEL = "outbox_messages";
+
+    private final DataSource dataSource;
+    private final OutboxMessagePublisher outboxMessagePublisher;
+
+    /** Maximum wait for a notification, before checking that the listener is still running */
+    @Setter
+    @Value("${outbox.publisher.listen.timeout:5000}")
+    private int timeout = 5000;
+
+    /** Wait before reconnecting when the connection is lost */
+    @Setter
+    @Value("${outbox.publisher.listen.reconnect-delay:5000}")
+    private long reconnectDelay = 5000;
+
+    /** Listen (and relay the messages) on a virtual thread, like the request and scheduled threads */
+    @Setter
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+    private volatile boolean running;
+    private Thread thread;
+
+    @Override
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            running = true;
+            Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+            thread = builder.name("outbox-listener").start(this::listen);
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            running = false;
+            if (thread != null) {
+                thread.interrupt();
+                thread = null;
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                // LISTEN only takes effect once committed
+                connection.setAutoCommit(true);
+                execute(connection, "LISTEN " + CHANNEL);
+                log.info("Listening to the outbox notifications");
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                // The messages inserted while the listener was not connected
+                drain();
+                while (running) {
+                    if (awaitNotifications(pgConnection)) {
+                        drain();
+                    }
+                }
+                // The connection goes back to the pool
+                execute(connection, "UNLISTEN " + CHANNEL);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Outbox notifications listener disconnected. Reconnecting in {} ms", reconnectDelay, e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait for the notifications of the outbox channel.
+     *
+     * @param pgConnection the listening connection
+     * @return true if at least one notification has been received
+     * @throws SQLException if the connection is lost
+     */
+    private boolean awaitNotifications(PGConnection pgConnection) throws SQLException {
+        PGNotification[] notifications = pgConnection.getNotifications(timeout);
+        return notifications != null && notifications.length > 0;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void drain() {
+        try {
+            outboxMessagePublisher.publishPendingMessages();
+        } catch (Exception e) {
+            log.warn("Failed to publish the notified outbox messages. They will be retried later.", e);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException e) {
+            // Restore interrupted state...
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.repository.OutboxPartitionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Retention of the outbox messages.
+ * <p>
+ * The {@code outbox_messages} table is partitioned by day of creation. On each run, the job creates the partitions
+ * of the next {@code outbox.retention.days-ahead} days, then removes the partitions older than {@code outbox.retention.max-age}
+ * whose messages have all been sent : the partitions are dropped, or detached and kept as archive tables
+ * when {@code outbox.retention.archive} is set.
+ * <p>
+ * The job also publishes the size of the outbox and the age of its oldest pending message.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "outbox.retention.enabled",
+        havingValue = "true",
+        matchIfMissing = false
+)
+public class OutboxRetentionJob implements MeterBinder {
+
+    private final OutboxPartitionRepository partitionRepository;
+
+    @Setter
+    @Value("${outbox.retention.max-age:7d}")
+    private Duration maxAge = Duration.ofDays(7);
+
+    @Setter
+    @Value("${outbox.retention.days-ahead:3}")
+    private int daysAhead = 3;
+
+    @Setter
+    @Value("${outbox.retention.archive:false}")
+    private boolean isArchiveActive;
+
+    @Setter
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Scheduled(fixedDelayString = "${outbox.retention.fixed-delay}")
+    @SchedulerLock(name = "applyOutboxRetention",
+            lockAtLeastFor = "${outbox.retention.lock-at-least-for}",
+            lockAtMostFor = "${outbox.retention.lock-at-most-for}")
+    public void applyRetention() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<LocalDate> partitionDays = partitionRepository.findPartitionDays();
+
+        createPartitions(now.toLocalDate(), partitionDays);
+        removePartitions(now.minus(maxAge), partitionDays);
+
+        int purged = partitionRepository.purgeDefaultPartition(now.minus(maxAge));
+        if (purged > 0) {
+            log.info("{} sent outbox messages purged from the default partition", purged);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("outbox.messages.size", partitionRepository, OutboxPartitionRepository::getTableSize)
+                .description("Disk size of the outbox messages table")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("outbox.messages.pending.oldest.age", this, OutboxRetentionJob::getOldestPendingAge)
+                .description("Age of the oldest outbox message waiting to be published")
+                .baseUnit(BaseUnits.MILLISECONDS)
+                .register(registry);
+    }
+
+    /**
+     * @return the age of the oldest pending message in milliseconds, 0 if there is none
+     */
+    public long getOldestPendingAge() {
+        return partitionRepository.findOldestPendingCreatedAt()
+                .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now(clock)).toMillis()))
+                .orElse(0L);
+    }
+
+    private void createPartitions(LocalDate today, List<LocalDate> partitionDays) {
+        for (int i = 0; i <= daysAhead; i++) {
+            LocalDate day = today.plusDays(i);
+            if (!partitionDays.contains(day)) {
+                try {
+                    partitionRepository.createPartition(day);
+                    log.info("Outbox partition of {} created", day);
+                } catch (Exception e) {
+                    log.error("Failed to create the outbox partition of {}", day, e);
+                }
+            }
+        }
+    }
+
+    private void removePartitions(LocalDateTime before, List<LocalDate> partitionDays) {
+        for (LocalDate day : partitionDays) {
+            // The partition holds the messages created until the end of the day
+            if (day.plusDays(1).atStartOfDay().isAfter(before)) {
+                break;
+            }
+            try {
+                if (partitionRepository.removePartition(day, isArchiveActive)) {
+                    log.info("Outbox partition of {} {}", day, isArchiveActive ? "archived" : "dropped");
+                } else {
+                    log.warn("Outbox partition of {} kept : it still holds pending messages", day);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to remove the outbox partition of {}. It will be retried later.", day, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.comix.scrapers.bedetheque.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration of the scrape result cache.
+ *
+ * @param enabled  true to cache the scrape results
+ * @param policies cache policy of each result type (a result type without policy is not cached)
+ */
+@ConfigurationProperties(prefix = "application.cache.results")
+public record ResultCacheProperties(boolean enabled, Map<ScrapeResultCache.ResultType, Policy> policies) {
+
+    public ResultCacheProperties {
+        policies = policies == null ? Map.of() : Map.copyOf(policies);
+    }
+
+    /**
+     * @param ttl     duration during which a result is served from the cache
+     * @param maxSize maximum size of the cached results (their JSON), the least valuable results are evicted first
+     */
+    public record Policy(Duration ttl, DataSize maxSize) {
+
+        public Policy {
+            ttl = ttl == null ? Duration.ZERO : ttl;
+            maxSize = maxSize == null ? DataSize.ofBytes(0) : maxSize;
+        }
+    }
+}
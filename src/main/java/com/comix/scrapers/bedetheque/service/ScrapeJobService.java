@@ -0,0 +1,30 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobOperationDto;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Service
+public interface ScrapeJobService {
+
+    /**
+     * Submit a scrape to be executed in the background
+     *
+     * @param operation The scrape operation
+     * @param scrape    The scrape, returning its result
+     * @return The pending scrape job
+     */
+    ScrapeJobDto submit(ScrapeJobOperationDto operation, Supplier<?> scrape);
+
+    /**
+     * Get a scrape job, waiting for its completion if requested
+     *
+     * @param id   The scrape job id
+     * @param wait Maximum time to wait for the completion of the job
+     * @return The scrape job, with its result once it is completed
+     */
+    ScrapeJobDto get(String id, Duration wait);
+}
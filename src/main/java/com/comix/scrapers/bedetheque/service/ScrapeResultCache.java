@@ -0,0 +1,210 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the scrape results served by the REST API.
+ * <p>
+ * Each result type has its own Caffeine cache (W-TinyLFU eviction), bounded by the {@code max-size}
+ * and the {@code ttl} of its policy. A result is cached with its outbox message already written,
+ * so a cache hit neither loads bedetheque nor publishes the result again.
+ * <p>
+ * The results are cached as JSON snapshots, weighed by their size : each hit returns a new copy of the result,
+ * which the caller may modify without changing the cached result.
+ * The outcome of the lookup is kept in the current request, and sent back in the {@code Cache-Status} header.
+ */
+@Slf4j
+@Component
+public class ScrapeResultCache {
+
+    /** Request attribute holding the {@code Cache-Status} of the current request */
+    public static final String CACHE_STATUS_ATTRIBUTE = ScrapeResultCache.class.getName() + ".CACHE_STATUS";
+
+    private static final String CACHE_NAME = "bedetheque-scraper";
+
+    private final Map<ResultType, CaffeineCache> caches = new EnumMap<>(ResultType.class);
+    private final ObjectMapper objectMapper;
+
+    public ScrapeResultCache(ResultCacheProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        if (!properties.enabled()) {
+            return;
+        }
+        properties.policies().forEach((type, policy) -> {
+            if (policy.maxSize().toBytes() > 0 && policy.ttl().isPositive()) {
+                caches.put(type, new CaffeineCache(type.getCacheName(), Caffeine.newBuilder()
+                        .maximumWeight(policy.maxSize().toBytes())
+                        .<Object, Object>weigher((key, snapshot) -> ((Snapshot) snapshot).json().length)
+                        .expireAfterWrite(policy.ttl())
+                        .recordStats()
+                        .build(), false));
+                log.info("Scrape results {} cached for {} (max {})", type.getCacheName(), policy.ttl(), policy.maxSize());
+            }
+        });
+    }
+
+    /**
+     * Get a scrape result from the cache, or load and cache it.
+     *
+     * @param type   the result type
+     * @param url    the scraped url
+     * @param loader the scrape, executed on a cache miss
+     * @param <T>    the result type
+     * @return the scrape result
+     */
+    public <T> T get(ResultType type, String url, Supplier<T> loader) {
+        return get(type, url, null, loader);
+    }
+
+    /**
+     * Get a variant of a scrape result (a page of a list...) from the cache, or load and cache it.
+     *
+     * @param type    the result type
+     * @param url     the scraped url
+     * @param variant the variant of the result (optional)
+     * @param loader  the scrape, executed on a cache miss
+     * @param <T>     the result type
+     * @return the scrape result, a new copy of the cached result on a cache hit
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ResultType type, String url, String variant, Supplier<T> loader) {
+        CaffeineCache cache = caches.get(type);
+        if (cache == null) {
+            return loader.get();
+        }
+        String key = key(url, variant);
+        Cache.ValueWrapper cached = cache.get(key);
+        Object copy = cached == null ? null : restore((Snapshot) cached.get());
+        if (copy != null) {
+            setCacheStatus(CACHE_NAME + "; hit");
+            return (T) copy;
+        }
+        T result = loader.get();
+        Snapshot snapshot = result == null ? null : snapshot(result);
+        if (snapshot != null) {
+            cache.put(key, snapshot);
+            setCacheStatus(CACHE_NAME + "; fwd=uri-miss; stored");
+        } else {
+            setCacheStatus(CACHE_NAME + "; fwd=uri-miss");
+        }
+        return result;
+    }
+
+    /**
+     * Remove a scrape result from the cache.
+     *
+     * @param type the result type
+     * @param url  the scraped url
+     */
+    public void invalidate(ResultType type, String url) {
+        invalidate(type, url, null);
+    }
+
+    /**
+     * Remove a variant of a scrape result from the cache.
+     *
+     * @param type    the result type
+     * @param url     the scraped url
+     * @param variant the variant of the result (optional)
+     */
+    public void invalidate(ResultType type, String url, String variant) {
+        CaffeineCache cache = caches.get(type);
+        if (cache != null) {
+            cache.evict(key(url, variant));
+        }
+    }
+
+    /**
+     * Remove all the scrape results of a type from the cache.
+     *
+     * @param type the result type
+     */
+    public void invalidateAll(ResultType type) {
+        CaffeineCache cache = caches.get(type);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @return the caches of the enabled result types, to be exposed by a cache manager
+     */
+    public Collection<CaffeineCache> getCaches() {
+        return caches.values();
+    }
+
+    private Snapshot snapshot(Object result) {
+        try {
+            return new Snapshot(result.getClass(), objectMapper.writeValueAsBytes(result));
+        } catch (JsonProcessingException e) {
+            log.warn("Scrape result {} not cached : it can't be serialized", result.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    private Object restore(Snapshot snapshot) {
+        try {
+            return objectMapper.readValue(snapshot.json(), snapshot.type());
+        } catch (IOException e) {
+            // Scraped again, then replaced in the cache
+            log.warn("Cached scrape result {} can't be read", snapshot.type().getName(), e);
+            return null;
+        }
+    }
+
+    private static String key(String url, String variant) {
+        String normalized = SingleFlight.normalize(url);
+        return variant == null ? normalized : normalized + " " + variant;
+    }
+
+    private static void setCacheStatus(String cacheStatus) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(CACHE_STATUS_ATTRIBUTE, cacheStatus, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Immutable copy of a cached result
+     *
+     * @param type the result type
+     * @param json the result, as JSON
+     */
+    private record Snapshot(Class<?> type, byte[] json) {
+    }
+
+    /**
+     * Type of cached scrape result
+     */
+    public enum ResultType {
+
+        SERIE("series"),
+        AUTHOR("authors"),
+        GRAPHIC_NOVELS("graphic-novels"),
+        STATISTICS("statistics");
+
+        private final String cacheName;
+
+        ResultType(String cacheName) {
+            this.cacheName = cacheName;
+        }
+
+        public String getCacheName() {
+            return cacheName;
+        }
+    }
+}
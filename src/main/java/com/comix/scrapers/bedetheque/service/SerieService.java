@@ -30,4 +30,13 @@ public interface SerieService {
      * @return The serie details
      */
     SerieDetailsDto scrap(String url);
+
+    /**
+     * Scrap a serie by its url
+     *
+     * @param url   The serie url
+     * @param force Publish the serie, even if it is unchanged
+     * @return The serie details
+     */
+    SerieDetailsDto scrap(String url, boolean force);
 }
@@ -0,0 +1,108 @@
+package com.comix.scrapers.bedetheque.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesce identical concurrent scrape requests.
+ * <p>
+ * The first caller of a scrape type and an url executes the scrape (and its outbox write),
+ * the callers arriving while it is in flight wait for its result instead of scraping the same page again.
+ * Nothing is kept once the scrape is completed.
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Execute a scrape, or join the identical scrape already in flight.
+     *
+     * @param type   the scrape type (serie, author...)
+     * @param url    the scraped url
+     * @param scrape the scrape to execute
+     * @param <T>    the scrape result type
+     * @return the scrape result, shared by all the concurrent callers
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String type, String url, Supplier<T> scrape) {
+        String key = type + ":" + normalize(url);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            log.debug("Joining the scrape in flight of {}", key);
+            return (T) join(existing);
+        }
+
+        try {
+            T result = scrape.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * @return the number of scrapes currently in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Normalize an url, so that the different spellings of a page share the same scrape :
+     * lower case scheme and host, no default port, no fragment.
+     *
+     * @param url the url to normalize
+     * @return the normalized url
+     */
+    static String normalize(String url) {
+        String trimmed = StringUtils.trimToEmpty(url);
+        try {
+            URI uri = new URI(trimmed);
+            if (uri.getHost() == null) {
+                return trimmed;
+            }
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            int port = uri.getPort();
+            if (("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443)) {
+                port = -1;
+            }
+            return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT)
+                    + (port == -1 ? "" : ":" + port)
+                    + StringUtils.defaultIfEmpty(uri.getRawPath(), "/")
+                    + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
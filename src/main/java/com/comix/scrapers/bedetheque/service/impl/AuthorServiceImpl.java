@@ -5,6 +5,8 @@ import com.comix.scrapers.bedetheque.rest.mapper.AuthorMapper;
 import com.comix.scrapers.bedetheque.rest.v1.dto.*;
 import com.comix.scrapers.bedetheque.service.AuthorService;
 import com.comix.scrapers.bedetheque.service.OutboxMessageProducer;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
+import com.comix.scrapers.bedetheque.service.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,8 @@ public class AuthorServiceImpl implements AuthorService {
     private final AuthorScraper authorScraper;
     private final AuthorMapper authorMapper;
     private final OutboxMessageProducer outboxMessageProducer;
+    private final SingleFlight singleFlight;
+    private final ScrapeResultCache scrapeResultCache;
 
     @Value("${amqp.queue.author.name}")
     private String authorQueueName;
@@ -27,10 +31,14 @@ public class AuthorServiceImpl implements AuthorService {
 
     public AuthorServiceImpl(AuthorScraper authorScraper,
                              AuthorMapper authorMapper,
-                             OutboxMessageProducer outboxMessageProducer) {
+                             OutboxMessageProducer outboxMessageProducer,
+                             SingleFlight singleFlight,
+                             ScrapeResultCache scrapeResultCache) {
         this.authorScraper = authorScraper;
         this.authorMapper = authorMapper;
         this.outboxMessageProducer = outboxMessageProducer;
+        this.singleFlight = singleFlight;
+        this.scrapeResultCache = scrapeResultCache;
     }
 
     /**
@@ -67,13 +75,36 @@ public class AuthorServiceImpl implements AuthorService {
     }
 
     /**
-     * Scrap author data
+     * Scrap author data.
+     * Concurrent requests of the same author share a single scrape and a single outbox message,
+     * then the author is served from the result cache until its ttl expires.
      *
      * @param url The author url at <a href="https://www.bedetheque.com">...</a>
      * @return the scraped author data
      */
     @Override
     public AuthorDetailsDto scrap(String url) {
+        return scrap(url, false);
+    }
+
+    /**
+     * Scrap author data, publishing it even if it is unchanged when forced.
+     * A forced scrape doesn't use the cached result, nor the result of a scrape in flight : the author is always published.
+     *
+     * @param url   The author url at <a href="https://www.bedetheque.com">...</a>
+     * @param force Publish the author, even if it is unchanged
+     * @return the scraped author data
+     */
+    @Override
+    public AuthorDetailsDto scrap(String url, boolean force) {
+        if (force) {
+            scrapeResultCache.invalidate(ScrapeResultCache.ResultType.AUTHOR, url);
+        }
+        return scrapeResultCache.get(ScrapeResultCache.ResultType.AUTHOR, url,
+                () -> singleFlight.execute(force ? "author-forced" : "author", url, () -> scrapAndPublish(url, force)));
+    }
+
+    private AuthorDetailsDto scrapAndPublish(String url, boolean force) {
         AuthorDetailsDto authorDetailsDto = authorMapper.authorDetailsToAuthorDetailsDto(authorScraper.scrap(url));
         if(authorDetailsDto != null) {
             String msg = String.format("Author : (%s) %s - %s - %s",
@@ -81,7 +112,7 @@ public class AuthorServiceImpl implements AuthorService {
                     authorDetailsDto.getFirstname(),
                     authorDetailsDto.getLastname(),
                     authorDetailsDto.getNickname());
-            outboxMessageProducer.saveToOutbox(authorExchangeName, authorQueueName, authorDetailsDto, msg);
+            outboxMessageProducer.saveToOutboxIfChanged(authorExchangeName, authorQueueName, authorDetailsDto, authorDetailsDto.getId(), msg, force);
         }
         return authorDetailsDto;
     }
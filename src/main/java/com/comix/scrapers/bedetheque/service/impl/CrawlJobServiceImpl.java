@@ -0,0 +1,141 @@
+package com.comix.scrapers.bedetheque.service.impl;
+
+import com.comix.scrapers.bedetheque.entity.CrawlJob;
+import com.comix.scrapers.bedetheque.exception.BusinessException;
+import com.comix.scrapers.bedetheque.repository.CrawlFrontierItem;
+import com.comix.scrapers.bedetheque.repository.CrawlFrontierRepository;
+import com.comix.scrapers.bedetheque.repository.CrawlJobRepository;
+import com.comix.scrapers.bedetheque.rest.mapper.CrawlJobMapper;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobProgressDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobTypeDto;
+import com.comix.scrapers.bedetheque.service.CrawlJobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class CrawlJobServiceImpl implements CrawlJobService {
+
+    private final CrawlJobRepository crawlJobRepository;
+    private final CrawlFrontierRepository crawlFrontierRepository;
+    private final CrawlJobMapper crawlJobMapper;
+
+    public CrawlJobServiceImpl(CrawlJobRepository crawlJobRepository,
+                               CrawlFrontierRepository crawlFrontierRepository,
+                               CrawlJobMapper crawlJobMapper) {
+        this.crawlJobRepository = crawlJobRepository;
+        this.crawlFrontierRepository = crawlFrontierRepository;
+        this.crawlJobMapper = crawlJobMapper;
+    }
+
+    /**
+     * Start a crawl of the whole catalog, or of the graphic novels added since the last incremental crawl.
+     * The frontier of the job is seeded with the index of the catalog (or the last entries of the dashboard),
+     * the crawl engine walks it from there.
+     *
+     * @param type  The catalog to crawl
+     * @param force Publish the scraped entities, even the unchanged ones
+     * @return The started crawl job
+     */
+    @Override
+    @Transactional
+    public CrawlJobDto start(CrawlJobTypeDto type, boolean force) {
+        CrawlJob crawlJob = new CrawlJob();
+        crawlJob.setType(CrawlJob.Type.valueOf(type.name()));
+        crawlJob.setForce(force);
+        crawlJob = crawlJobRepository.saveAndFlush(crawlJob);
+
+        CrawlFrontierItem.Kind seed = switch (crawlJob.getType()) {
+            case SERIES -> CrawlFrontierItem.Kind.SERIES_INDEX;
+            case AUTHORS -> CrawlFrontierItem.Kind.AUTHORS_INDEX;
+            case INCREMENTAL -> CrawlFrontierItem.Kind.LAST_ENTRIES;
+        };
+        crawlFrontierRepository.enqueue(crawlJob.getId(), seed, List.of(CrawlFrontierItem.ALL));
+
+        log.info("Crawl job {} of the {} started", crawlJob.getId(), crawlJob.getType());
+        return toDto(crawlJob);
+    }
+
+    /**
+     * List the crawl jobs, the most recent first
+     *
+     * @return The crawl jobs with their progress
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CrawlJobDto> list() {
+        return crawlJobRepository.findAllByOrderByIdDesc().stream().map(this::toDto).toList();
+    }
+
+    /**
+     * Get a crawl job
+     *
+     * @param id The crawl job id
+     * @return The crawl job with its progress
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CrawlJobDto get(long id) {
+        return toDto(findById(id));
+    }
+
+    /**
+     * Pause a running crawl job.
+     * The items being scraped are completed, the other ones are not claimed until the job is resumed.
+     *
+     * @param id The crawl job id
+     * @return The paused crawl job
+     */
+    @Override
+    @Transactional
+    public CrawlJobDto pause(long id) {
+        return changeStatus(id, CrawlJob.Status.RUNNING, CrawlJob.Status.PAUSED);
+    }
+
+    /**
+     * Resume a paused crawl job where it left off
+     *
+     * @param id The crawl job id
+     * @return The resumed crawl job
+     */
+    @Override
+    @Transactional
+    public CrawlJobDto resume(long id) {
+        return changeStatus(id, CrawlJob.Status.PAUSED, CrawlJob.Status.RUNNING);
+    }
+
+    private CrawlJobDto changeStatus(long id, CrawlJob.Status from, CrawlJob.Status to) {
+        CrawlJob crawlJob = findById(id);
+        if (crawlJob.getStatus() != from) {
+            throw new BusinessException("CRAWL_JOB_INVALID_STATUS", new Object[]{id, crawlJob.getStatus()}, HttpStatus.CONFLICT);
+        }
+        crawlJob.setStatus(to);
+        crawlJob = crawlJobRepository.saveAndFlush(crawlJob);
+        log.info("Crawl job {} {}", id, to);
+        return toDto(crawlJob);
+    }
+
+    private CrawlJob findById(long id) {
+        return crawlJobRepository.findById(id)
+                .orElseThrow(() -> new BusinessException("CRAWL_JOB_NOT_FOUND", new Object[]{id}, HttpStatus.NOT_FOUND));
+    }
+
+    private CrawlJobDto toDto(CrawlJob crawlJob) {
+        Map<CrawlFrontierItem.State, Long> counts = crawlFrontierRepository.countByState(crawlJob.getId());
+        CrawlJobProgressDto progress = new CrawlJobProgressDto();
+        progress.setPending(counts.get(CrawlFrontierItem.State.PENDING));
+        progress.setInProgress(counts.get(CrawlFrontierItem.State.IN_PROGRESS));
+        progress.setDone(counts.get(CrawlFrontierItem.State.DONE));
+        progress.setFailed(counts.get(CrawlFrontierItem.State.FAILED));
+
+        CrawlJobDto crawlJobDto = crawlJobMapper.crawlJobToCrawlJobDto(crawlJob);
+        crawlJobDto.setProgress(progress);
+        return crawlJobDto;
+    }
+}
@@ -4,22 +4,29 @@ import com.comix.scrapers.bedetheque.client.scraper.GlobalStatisticsScraper;
 import com.comix.scrapers.bedetheque.rest.mapper.DashboardMapper;
 import com.comix.scrapers.bedetheque.rest.v1.dto.DashboardDto;
 import com.comix.scrapers.bedetheque.service.DashboardService;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
 import org.mapstruct.factory.Mappers;
 import org.springframework.stereotype.Service;
 
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
+    private static final String DASHBOARD_KEY = "dashboard";
+
     private final GlobalStatisticsScraper globalStatisticsScraper;
 
     private final DashboardMapper dashboardMapper = Mappers.getMapper(DashboardMapper.class);
 
-    public DashboardServiceImpl(GlobalStatisticsScraper globalStatisticsScraper) {
+    private final ScrapeResultCache scrapeResultCache;
+
+    public DashboardServiceImpl(GlobalStatisticsScraper globalStatisticsScraper, ScrapeResultCache scrapeResultCache) {
         this.globalStatisticsScraper = globalStatisticsScraper;
+        this.scrapeResultCache = scrapeResultCache;
     }
 
     @Override
     public DashboardDto scrapDashboard() {
-        return dashboardMapper.globalStatisticsToDashboardDto(globalStatisticsScraper.scrap());
+        return scrapeResultCache.get(ScrapeResultCache.ResultType.STATISTICS, DASHBOARD_KEY,
+                () -> dashboardMapper.globalStatisticsToDashboardDto(globalStatisticsScraper.scrap()));
     }
 }
@@ -9,13 +9,16 @@ import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapAllRepublicationsResponseD
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapGraphicNovelsResponseDto;
 import com.comix.scrapers.bedetheque.service.GraphicNovelService;
 import com.comix.scrapers.bedetheque.service.OutboxMessageProducer;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -27,16 +30,23 @@ public class GraphicNovelServiceImpl implements GraphicNovelService {
 
     private final OutboxMessageProducer outboxMessageProducer;
 
+    private final ScrapeResultCache scrapeResultCache;
+
     @Value("${amqp.queue.comic-book.name}")
     private String comicQueueName;
 
     @Value("${amqp.exchange.comic-book.name}")
     private String comicExchangeName;
 
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
     public GraphicNovelServiceImpl(GraphicNovelScraper graphicNovelScraper,
-                                   OutboxMessageProducer outboxMessageProducer) {
+                                   OutboxMessageProducer outboxMessageProducer,
+                                   ScrapeResultCache scrapeResultCache) {
         this.graphicNovelScraper = graphicNovelScraper;
         this.outboxMessageProducer = outboxMessageProducer;
+        this.scrapeResultCache = scrapeResultCache;
     }
 
     /**
@@ -48,9 +58,12 @@ public class GraphicNovelServiceImpl implements GraphicNovelService {
      */
     @Override
     public ScrapGraphicNovelsResponseDto scrap(String serieUrl, Integer page) {
-        if(page == null) {
-            page = 10000;
-        }
+        int pageNumber = page == null ? 10000 : page;
+        return scrapeResultCache.get(ScrapeResultCache.ResultType.GRAPHIC_NOVELS, serieUrl, "page=" + pageNumber,
+                () -> scrapAndPublish(serieUrl, pageNumber));
+    }
+
+    private ScrapGraphicNovelsResponseDto scrapAndPublish(String serieUrl, int page) {
         GraphicNovelPage graphicNovelPage = graphicNovelScraper.scrapElement(serieUrl, page);
         ScrapGraphicNovelsResponseDto scrapGraphicNovelsResponseDto = new ScrapGraphicNovelsResponseDto();
         scrapGraphicNovelsResponseDto.setGraphicNovels(graphicNovelMapper.graphicNovelToGraphicNovelsDto(graphicNovelPage.getGraphicNovels()));
@@ -59,16 +72,73 @@ public class GraphicNovelServiceImpl implements GraphicNovelService {
         scrapGraphicNovelsResponseDto.setTotalElements(graphicNovelPage.getTotalElements());
         scrapGraphicNovelsResponseDto.setTotalPages(graphicNovelPage.getTotalPages());
 
-        for (GraphicNovelDto graphicNovelDto : scrapGraphicNovelsResponseDto.getGraphicNovels()) {
-            if(graphicNovelDto != null) {
-                String msg = String.format("Comic book : (%s) %s",
-                        graphicNovelDto.getExternalId(),
-                        buildTomeLabel(graphicNovelDto.getTome(), graphicNovelDto.getNumEdition(), graphicNovelDto.getTitle()));
-                outboxMessageProducer.saveToOutbox(comicExchangeName, comicQueueName, graphicNovelDto, msg);
+        publish(scrapGraphicNovelsResponseDto.getGraphicNovels(), false);
+
+        return scrapGraphicNovelsResponseDto;
+    }
+
+    /**
+     * Scrap all graphics novels, each graphic novel being sent to the consumer as soon as it is scraped,
+     * and published by batches. The result cache is not used.
+     *
+     * @param serieUrl The graphic novels url
+     * @param page     The page number (optional)
+     * @param consumer The consumer of the scraped graphic novels
+     */
+    @Override
+    public void stream(String serieUrl, Integer page, Consumer<GraphicNovelDto> consumer) {
+        int pageNumber = page == null ? 10000 : page;
+        streamAndPublish(consumer, graphicNovels -> graphicNovelScraper.streamElements(serieUrl, pageNumber, graphicNovels));
+    }
+
+    /**
+     * Scrap all republications of a graphic novel, each graphic novel being sent to the consumer
+     * as soon as it is scraped, and published by batches. The result cache is not used.
+     *
+     * @param graphicNovelUrl The url of the graphic novel
+     * @param consumer        The consumer of the scraped graphic novels
+     */
+    @Override
+    public void streamWithAllRepublications(String graphicNovelUrl, Consumer<GraphicNovelDto> consumer) {
+        streamAndPublish(consumer, graphicNovels -> graphicNovelScraper.streamWithAllRepublications(graphicNovelUrl, graphicNovels));
+    }
+
+    /**
+     * Send each streamed graphic novel to the consumer, and save them to the outbox by batches of
+     * {@code hibernate.jdbc.batch_size}. The last batch is saved once the scrape is over, even if it failed,
+     * so that all the graphic novels sent are published.
+     */
+    private void streamAndPublish(Consumer<GraphicNovelDto> consumer, Consumer<Consumer<GraphicNovel>> scrape) {
+        List<GraphicNovelDto> batch = new ArrayList<>();
+        try {
+            scrape.accept(graphicNovel -> {
+                GraphicNovelDto graphicNovelDto = graphicNovelMapper.graphicNovelToGraphicNovelDto(graphicNovel);
+                if (graphicNovelDto != null) {
+                    batch.add(graphicNovelDto);
+                    if (batch.size() >= batchSize) {
+                        publish(List.copyOf(batch), false);
+                        batch.clear();
+                    }
+                }
+                consumer.accept(graphicNovelDto);
+            });
+        } finally {
+            if (!batch.isEmpty()) {
+                publish(List.copyOf(batch), false);
             }
         }
+    }
 
-        return scrapGraphicNovelsResponseDto;
+    private void publish(List<GraphicNovelDto> graphicNovelDtos, boolean force) {
+        // All the graphic novels of a scrape are saved in one transaction, by batches
+        outboxMessageProducer.saveAllToOutboxIfChanged(comicExchangeName, comicQueueName, graphicNovelDtos,
+                GraphicNovelDto::getExternalId, this::buildMessageLabel, force);
+    }
+
+    private String buildMessageLabel(GraphicNovelDto graphicNovelDto) {
+        return String.format("Comic book : (%s) %s",
+                graphicNovelDto.getExternalId(),
+                buildTomeLabel(graphicNovelDto.getTome(), graphicNovelDto.getNumEdition(), graphicNovelDto.getTitle()));
     }
 
     private String buildTomeLabel(String tome, String numEdition, String title) {
@@ -91,18 +161,32 @@ public class GraphicNovelServiceImpl implements GraphicNovelService {
      */
     @Override
     public ScrapAllRepublicationsResponseDto scrapWithAllRepublications(String graphicNovelUrl) {
+        return scrapWithAllRepublications(graphicNovelUrl, false);
+    }
+
+    /**
+     * Scrap all republications of a graphic novel, publishing them even if they are unchanged when forced.
+     * A forced scrape doesn't use the cached result : the graphic novels are always published.
+     *
+     * @param graphicNovelUrl The url of the graphic novel
+     * @param force           Publish the graphic novels, even the unchanged ones
+     * @return The list of graphic novels scraped from the url
+     */
+    @Override
+    public ScrapAllRepublicationsResponseDto scrapWithAllRepublications(String graphicNovelUrl, boolean force) {
+        if (force) {
+            scrapeResultCache.invalidate(ScrapeResultCache.ResultType.GRAPHIC_NOVELS, graphicNovelUrl, "republications");
+        }
+        return scrapeResultCache.get(ScrapeResultCache.ResultType.GRAPHIC_NOVELS, graphicNovelUrl, "republications",
+                () -> scrapAllRepublicationsAndPublish(graphicNovelUrl, force));
+    }
+
+    private ScrapAllRepublicationsResponseDto scrapAllRepublicationsAndPublish(String graphicNovelUrl, boolean force) {
         List<GraphicNovel> graphicNovels = graphicNovelScraper.scrapWithAllRepublications(graphicNovelUrl);
         ScrapAllRepublicationsResponseDto scrapAllRepublicationsResponseDto = new ScrapAllRepublicationsResponseDto();
         scrapAllRepublicationsResponseDto.setGraphicNovels(graphicNovelMapper.graphicNovelToGraphicNovelsDto(graphicNovels));
 
-        for (GraphicNovelDto graphicNovelDto : scrapAllRepublicationsResponseDto.getGraphicNovels()) {
-            if(graphicNovelDto != null) {
-                String msg = String.format("Comic book : (%s) %s",
-                        graphicNovelDto.getExternalId(),
-                        buildTomeLabel(graphicNovelDto.getTome(), graphicNovelDto.getNumEdition(), graphicNovelDto.getTitle()));
-                outboxMessageProducer.saveToOutbox(comicExchangeName, comicQueueName, graphicNovelDto, msg);
-            }
-        }
+        publish(scrapAllRepublicationsResponseDto.getGraphicNovels(), force);
         return scrapAllRepublicationsResponseDto;
     }
 }
@@ -0,0 +1,271 @@
+package com.comix.scrapers.bedetheque.service.impl;
+
+import com.comix.scrapers.bedetheque.exception.BusinessException;
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ApiErrorDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.FieldErrorDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobOperationDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobStatusDto;
+import com.comix.scrapers.bedetheque.service.ScrapeJobService;
+import com.comix.scrapers.bedetheque.util.ResourceBundleHelper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous scrape jobs.
+ * <p>
+ * Each job runs on its own virtual thread, but at most {@code application.scrape-jobs.max-concurrent} jobs
+ * are executed at the same time, and at most {@code application.scrape-jobs.max-queued} more wait for their turn :
+ * beyond it, the jobs are rejected. The jobs are kept in memory, until {@code application.scrape-jobs.ttl}
+ * after their completion.
+ */
+@Slf4j
+@Service
+public class ScrapeJobServiceImpl implements ScrapeJobService, DisposableBean {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("scrape-job-", 0).factory());
+    private final Semaphore running;
+    private final Semaphore slots;
+    private final Duration ttl;
+    private final Duration maxWait;
+    private final Cache<String, ScrapeJob> jobs;
+
+    public ScrapeJobServiceImpl(@Value("${application.scrape-jobs.max-concurrent:4}") int maxConcurrent,
+                                @Value("${application.scrape-jobs.max-queued:100}") int maxQueued,
+                                @Value("${application.scrape-jobs.ttl:15m}") Duration ttl,
+                                @Value("${application.scrape-jobs.max-wait:30s}") Duration maxWait) {
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("maxConcurrent must be greater than 0 and maxQueued must not be negative");
+        }
+        this.running = new Semaphore(maxConcurrent, true);
+        this.slots = new Semaphore(maxConcurrent + maxQueued);
+        this.ttl = ttl;
+        this.maxWait = maxWait;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new CompletedJobExpiry(ttl))
+                .build();
+    }
+
+    /**
+     * Submit a scrape to be executed in the background
+     *
+     * @param operation The scrape operation
+     * @param scrape    The scrape, returning its result
+     * @return The pending scrape job
+     */
+    @Override
+    public ScrapeJobDto submit(ScrapeJobOperationDto operation, Supplier<?> scrape) {
+        if (!slots.tryAcquire()) {
+            throw new BusinessException("SCRAPE_JOB_REJECTED", new Object[]{operation}, HttpStatus.TOO_MANY_REQUESTS);
+        }
+        ScrapeJob job = new ScrapeJob(UUID.randomUUID().toString(), operation, OffsetDateTime.now());
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, scrape));
+        } catch (RuntimeException e) {
+            jobs.invalidate(job.id);
+            slots.release();
+            throw e;
+        }
+        log.info("Scrape job {} ({}) submitted", job.id, operation);
+        return toDto(job);
+    }
+
+    /**
+     * Get a scrape job, waiting for its completion if requested.
+     * The wait time is bounded by {@code application.scrape-jobs.max-wait}.
+     *
+     * @param id   The scrape job id
+     * @param wait Maximum time to wait for the completion of the job
+     * @return The scrape job, with its result once it is completed
+     */
+    @Override
+    public ScrapeJobDto get(String id, Duration wait) {
+        ScrapeJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new BusinessException("SCRAPE_JOB_NOT_FOUND", new Object[]{id}, HttpStatus.NOT_FOUND);
+        }
+        Duration timeout = wait.compareTo(maxWait) > 0 ? maxWait : wait;
+        if (!job.done.isDone() && timeout.isPositive()) {
+            try {
+                job.done.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                // Still running : the job is returned as is
+            } catch (InterruptedException e) {
+                // Restore interrupted state...
+                Thread.currentThread().interrupt();
+            }
+        }
+        return toDto(job);
+    }
+
+    @Override
+    public void destroy() {
+        // The results of the jobs would be lost anyway
+        executor.shutdownNow();
+    }
+
+    private void run(ScrapeJob job, Supplier<?> scrape) {
+        try {
+            running.acquire();
+            try {
+                job.status = ScrapeJobStatusDto.RUNNING;
+                job.result = scrape.get();
+                job.status = ScrapeJobStatusDto.SUCCEEDED;
+            } finally {
+                running.release();
+            }
+        } catch (InterruptedException e) {
+            // Restore interrupted state...
+            Thread.currentThread().interrupt();
+            job.status = ScrapeJobStatusDto.FAILED;
+            job.error = errorOf(job, e);
+        } catch (RuntimeException e) {
+            log.warn("Scrape job {} ({}) failed", job.id, job.operation, e);
+            job.status = ScrapeJobStatusDto.FAILED;
+            job.error = errorOf(job, e);
+        } finally {
+            job.completedAt = OffsetDateTime.now();
+            // Written again, so that the job expires from its completion
+            jobs.put(job.id, job);
+            slots.release();
+            job.done.complete(null);
+        }
+    }
+
+    private ScrapeJobDto toDto(ScrapeJob job) {
+        ScrapeJobDto scrapeJobDto = new ScrapeJobDto();
+        scrapeJobDto.setId(job.id);
+        scrapeJobDto.setOperation(job.operation);
+        scrapeJobDto.setStatus(job.status);
+        scrapeJobDto.setCreatedAt(job.createdAt);
+        OffsetDateTime completedAt = job.completedAt;
+        if (completedAt != null) {
+            scrapeJobDto.setCompletedAt(completedAt);
+            scrapeJobDto.setExpiresAt(completedAt.plus(ttl));
+            scrapeJobDto.setResult(job.result);
+            scrapeJobDto.setError(job.error);
+        }
+        return scrapeJobDto;
+    }
+
+    /**
+     * Build the error of a failed job, or a generic error if its message cannot be built : the job is failed anyway
+     */
+    private static ApiErrorDto errorOf(ScrapeJob job, Exception e) {
+        try {
+            return toApiError(e);
+        } catch (RuntimeException messageError) {
+            log.warn("Error of the scrape job {} ({}) cannot be built", job.id, job.operation, messageError);
+            var apiError = new ApiErrorDto();
+            apiError.setType("Exception");
+            apiError.setCode("ERR-JVM-001");
+            apiError.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            apiError.setMessage(e.getLocalizedMessage());
+            return apiError;
+        }
+    }
+
+    /**
+     * Build the error of a failed job, like the error response of the synchronous endpoints
+     */
+    static ApiErrorDto toApiError(Exception e) {
+        var apiError = new ApiErrorDto();
+        switch (e) {
+            case BusinessException be -> {
+                apiError.setType("Business exception");
+                apiError.setCode(be.getCodeMessage());
+                apiError.setStatus(be.getHttpStatus().value());
+                apiError.setMessage(ResourceBundleHelper.getLocalizedMessage(be.getCodeMessage(), be.getArgs()));
+            }
+            case TechnicalException te -> {
+                apiError.setType("Technical exception");
+                apiError.setCode(te.getCodeMessage());
+                apiError.setStatus(te.getHttpStatus().value());
+                apiError.setMessage(ResourceBundleHelper.getLocalizedMessage(te.getCodeMessage(), te.getArgs()));
+            }
+            case ConstraintViolationException cve -> {
+                apiError.setType("ConstraintViolationException");
+                apiError.setCode("CONSTRAINT_VIOLATION");
+                apiError.setStatus(HttpStatus.BAD_REQUEST.value());
+                apiError.setMessage(ResourceBundleHelper.getLocalizedMessage("CONSTRAINT_VIOLATION", new Object[]{}));
+                apiError.setDetail(cve.getConstraintViolations().stream().map(violation -> {
+                    var f = new FieldErrorDto();
+                    f.setField(violation.getPropertyPath().toString());
+                    f.setMessage(violation.getMessage());
+                    return f;
+                }).toList());
+            }
+            default -> {
+                apiError.setType("Exception");
+                apiError.setCode("ERR-JVM-001");
+                apiError.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+                apiError.setMessage(e.getLocalizedMessage());
+            }
+        }
+        return apiError;
+    }
+
+    /**
+     * State of a scrape job, updated by its worker thread
+     */
+    private static final class ScrapeJob {
+
+        private final String id;
+        private final ScrapeJobOperationDto operation;
+        private final OffsetDateTime createdAt;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile ScrapeJobStatusDto status = ScrapeJobStatusDto.PENDING;
+        private volatile Object result;
+        private volatile ApiErrorDto error;
+        private volatile OffsetDateTime completedAt;
+
+        private ScrapeJob(String id, ScrapeJobOperationDto operation, OffsetDateTime createdAt) {
+            this.id = id;
+            this.operation = operation;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * The pending and running jobs never expire, the completed ones expire after the ttl
+     */
+    private record CompletedJobExpiry(Duration ttl) implements Expiry<String, ScrapeJob> {
+
+        @Override
+        public long expireAfterCreate(String id, ScrapeJob job, long currentTime) {
+            return job.completedAt == null ? Long.MAX_VALUE : ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, ScrapeJob job, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, job, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, ScrapeJob job, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
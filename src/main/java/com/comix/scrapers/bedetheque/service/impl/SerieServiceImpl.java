@@ -4,7 +4,9 @@ import com.comix.scrapers.bedetheque.client.scraper.SerieScraper;
 import com.comix.scrapers.bedetheque.rest.mapper.SerieMapper;
 import com.comix.scrapers.bedetheque.rest.v1.dto.*;
 import com.comix.scrapers.bedetheque.service.OutboxMessageProducer;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
 import com.comix.scrapers.bedetheque.service.SerieService;
+import com.comix.scrapers.bedetheque.service.SingleFlight;
 import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -20,15 +22,24 @@ public class SerieServiceImpl implements SerieService {
 
     private final OutboxMessageProducer outboxMessageProducer;
 
+    private final SingleFlight singleFlight;
+
+    private final ScrapeResultCache scrapeResultCache;
+
     @Value("${amqp.queue.serie.name}")
     private String serieQueueName;
 
     @Value("${amqp.exchange.serie.name}")
     private String serieExchangeName;
 
-    public SerieServiceImpl(SerieScraper serieScraper, OutboxMessageProducer outboxMessageProducer) {
+    public SerieServiceImpl(SerieScraper serieScraper,
+                            OutboxMessageProducer outboxMessageProducer,
+                            SingleFlight singleFlight,
+                            ScrapeResultCache scrapeResultCache) {
         this.serieScraper = serieScraper;
         this.outboxMessageProducer = outboxMessageProducer;
+        this.singleFlight = singleFlight;
+        this.scrapeResultCache = scrapeResultCache;
     }
 
     /**
@@ -65,19 +76,42 @@ public class SerieServiceImpl implements SerieService {
     }
 
     /**
-     * Scrap a serie by its url
+     * Scrap a serie by its url.
+     * Concurrent requests of the same serie share a single scrape and a single outbox message,
+     * then the serie is served from the result cache until its ttl expires.
      *
      * @param url The serie url
      * @return The serie details
      */
     @Override
     public SerieDetailsDto scrap(String url) {
+        return scrap(url, false);
+    }
+
+    /**
+     * Scrap a serie by its url, publishing it even if it is unchanged when forced.
+     * A forced scrape doesn't use the cached result, nor the result of a scrape in flight : the serie is always published.
+     *
+     * @param url   The serie url
+     * @param force Publish the serie, even if it is unchanged
+     * @return The serie details
+     */
+    @Override
+    public SerieDetailsDto scrap(String url, boolean force) {
+        if (force) {
+            scrapeResultCache.invalidate(ScrapeResultCache.ResultType.SERIE, url);
+        }
+        return scrapeResultCache.get(ScrapeResultCache.ResultType.SERIE, url,
+                () -> singleFlight.execute(force ? "serie-forced" : "serie", url, () -> scrapAndPublish(url, force)));
+    }
+
+    private SerieDetailsDto scrapAndPublish(String url, boolean force) {
         SerieDetailsDto serieDetailsDto = serieMapper.serieDetailsToSerieDetailsDto(serieScraper.scrap(url));
         if(serieDetailsDto != null) {
             String msg = String.format("Serie : (%s) %s",
                     serieDetailsDto.getExternalId(),
                     serieDetailsDto.getTitle());
-            outboxMessageProducer.saveToOutbox(serieExchangeName, serieQueueName, serieDetailsDto, msg);
+            outboxMessageProducer.saveToOutboxIfChanged(serieExchangeName, serieQueueName, serieDetailsDto, serieDetailsDto.getExternalId(), msg, force);
         }
         return serieDetailsDto;
     }
@@ -0,0 +1,90 @@
+package com.comix.scrapers.bedetheque.benchmark;
+
+import com.comix.scrapers.bedetheque.entity.OutboxMessage;
+import com.comix.scrapers.bedetheque.rest.v1.dto.GraphicNovelDto;
+import com.comix.scrapers.bedetheque.service.OutboxMessagePublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the relay of 10 000 outbox messages when the stored payloads are deserialized and serialized again
+ * by {@link Jackson2JsonMessageConverter}, and when they are sent as they are with {@link OutboxMessagePublisher#toAmqpMessage(OutboxMessage)}.
+ * <p>
+ * Not run by the test suite, launch it with the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutboxRelayBenchmark {
+
+    private static final int MESSAGES = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+    private final List<OutboxMessage> messages = new ArrayList<>(MESSAGES);
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        for (int i = 0; i < MESSAGES; i++) {
+            GraphicNovelDto dto = new GraphicNovelDto()
+                    .externalId(String.valueOf(i))
+                    .tome(String.valueOf(i % 50))
+                    .title("Album " + i)
+                    .publisher("Dupuis")
+                    .collection("Repérages")
+                    .isbn("978-2-8001-" + i)
+                    .totalPages(48)
+                    .coverPictureUrl("https://www.bedetheque.com/media/Couvertures/Couv_" + i + ".jpg")
+                    .scrapUrl("https://www.bedetheque.com/BD-album-" + i + ".html");
+            OutboxMessage message = new OutboxMessage();
+            message.setId((long) i);
+            message.setExchange("comix.exchange");
+            message.setRoutingKey("comix.routing.key");
+            message.setPayload(objectMapper.writeValueAsString(dto));
+            message.setPayloadType(GraphicNovelDto.class.getName());
+            messages.add(message);
+        }
+    }
+
+    @Benchmark
+    public void deserializeAndConvert(Blackhole blackhole) throws ClassNotFoundException, JsonProcessingException {
+        for (OutboxMessage message : messages) {
+            Object payload = objectMapper.readValue(message.getPayload(), Class.forName(message.getPayloadType()));
+            blackhole.consume(converter.toMessage(payload, new MessageProperties()));
+        }
+    }
+
+    @Benchmark
+    public void storedPayload(Blackhole blackhole) {
+        for (OutboxMessage message : messages) {
+            blackhole.consume(OutboxMessagePublisher.toAmqpMessage(message));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(OutboxRelayBenchmark.class.getSimpleName()).build()).run();
+    }
+}
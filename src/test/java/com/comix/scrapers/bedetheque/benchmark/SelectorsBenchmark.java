@@ -0,0 +1,89 @@
+package com.comix.scrapers.bedetheque.benchmark;
+
+import com.comix.scrapers.bedetheque.client.scraper.Selectors;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the scraping of an album list with string CSS queries (parsed on each call)
+ * and with the precompiled selectors of {@link Selectors}.
+ * <p>
+ * Not run by the test suite, launch it with the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectorsBenchmark {
+
+    private static final String[] INFO_LABELS = {"Identifiant", "Dépot légal", "Editeur", "Collection", "ISBN", "Planches"};
+
+    @Param({"10", "100"})
+    private int albums;
+
+    private Document document;
+
+    @Setup
+    public void setUp() {
+        StringBuilder html = new StringBuilder("<ul class=\"liste-albums\">");
+        for (int i = 0; i < albums; i++) {
+            html.append("<li itemtype=\"https://schema.org/Book\">")
+                    .append("<h3 class=\"titre\"><a class=\"titre\"><span itemprop=\"name\">Tome ").append(i).append("</span></a></h3>")
+                    .append("<div class=\"couv\"><img src=\"couv-").append(i).append(".jpg\"><span>© Dupuis</span></div>")
+                    .append("<ul class=\"infos\">");
+            for (String label : INFO_LABELS) {
+                html.append("<li><label>").append(label).append(" :</label>").append(label).append(i).append("</li>");
+            }
+            html.append("</ul><i class=\"icon-star\"></i></li>");
+        }
+        document = Jsoup.parse(html.append("</ul>").toString());
+    }
+
+    @Benchmark
+    public void stringQueries(Blackhole blackhole) {
+        for (Element album : document.select("ul.liste-albums li[itemtype='https://schema.org/Book']")) {
+            blackhole.consume(album.selectFirst("h3 a.titre > span[itemprop='name']"));
+            blackhole.consume(album.selectFirst("div.couv img"));
+            blackhole.consume(album.selectFirst("i.icon-star"));
+            for (String label : INFO_LABELS) {
+                blackhole.consume(album.selectFirst("li label:containsOwn(%s)".formatted(label)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void precompiledSelectors(Blackhole blackhole) {
+        for (Element album : document.select(Selectors.ALBUM_BOOKS)) {
+            blackhole.consume(album.selectFirst(Selectors.ALBUM_TITLE_NAME));
+            blackhole.consume(album.selectFirst(Selectors.ALBUM_COVER_THUMBNAIL));
+            blackhole.consume(album.selectFirst(Selectors.ALBUM_ORIGINAL_PUBLICATION_ICON));
+            for (String label : INFO_LABELS) {
+                blackhole.consume(album.selectFirst(Selectors.albumInfoLabel(label)));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SelectorsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,56 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlbumInfoBlockTest {
+
+    private static final String INFOS = """
+            <ul class="infos">
+              <li><label>Scénario :</label><a href="https://www.bedetheque.com/auteur-1-BD-Test.html"><span>Test</span></a></li>
+              <li><label>Dépot légal :</label>01/2020<span class="parution">(Parution le 15/01/2020)</span></li>
+              <li><label>Editeur :</label><span>Dupuis</span></li>
+              <li><label>Collection : </label><a href="https://www.bedetheque.com/collection.html">Repérages</a></li>
+              <li><label>ISBN :</label><span>978-2-8001-0000-0</span></li>
+              <li><label>Planches :</label><span>46</span></li>
+              <li><label>Autres infos :</label><i class="icon-star"></i></li>
+            </ul>
+            """;
+
+    private final AlbumInfoBlock infoBlock = AlbumInfoBlock.of(Jsoup.parse(INFOS).selectFirst("ul.infos"));
+
+    @Test
+    @DisplayName("label doit retourner le même libellé que la requête label:containsOwn")
+    void label_shouldMatchTheContainsOwnQuery() {
+        Element infos = Jsoup.parse(INFOS).selectFirst("ul.infos");
+        AlbumInfoBlock block = AlbumInfoBlock.of(infos);
+
+        for (String key : new String[]{"Dépot légal", "Editeur", "Collection", "ISBN", "Planches", "Autres infos"}) {
+            assertThat(block.label(key)).as(key).isSameAs(infos.selectFirst(Selectors.albumInfoLabel(key)));
+        }
+    }
+
+    @Test
+    @DisplayName("label doit ignorer la casse et les espaces du libellé")
+    void label_shouldIgnoreCaseAndSpaces() {
+        assertThat(infoBlock.label("collection")).isNotNull();
+        assertThat(infoBlock.label("Collection").parent().selectFirst("a").text()).isEqualTo("Repérages");
+    }
+
+    @Test
+    @DisplayName("label doit trouver un libellé contenant le nom de la propriété")
+    void label_shouldFindPartialLabels() {
+        assertThat(infoBlock.label("légal").ownText()).isEqualTo("Dépot légal :");
+    }
+
+    @Test
+    @DisplayName("label doit retourner null pour une propriété absente ou un bloc absent")
+    void label_shouldReturnNullWhenNotFound() {
+        assertThat(infoBlock.label("Cycle")).isNull();
+        assertThat(AlbumInfoBlock.of(null).label("Editeur")).isNull();
+    }
+}
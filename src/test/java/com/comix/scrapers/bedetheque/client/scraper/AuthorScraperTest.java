@@ -11,7 +11,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
-import org.mockito.MockedStatic;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -20,7 +20,6 @@ import java.nio.file.Path;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -29,6 +28,9 @@ class AuthorScraperTest {
 
     private AuthorScraper authorScraper;
 
+    @Mock
+    private FetchEngine fetchEngine;
+
     @TempDir
     Path tempDir;
 
@@ -39,7 +41,7 @@ class AuthorScraperTest {
         authorScraper.setBedethequeAuthorsListByLetter("http://test.com/authors/0.html");
         authorScraper.setBedethequeAuthorPrefixUrl("__AUTEUR-");
         authorScraper.setLocalCacheActive(false); // Désactivé par défaut pour les tests unitaires
-        authorScraper.setLatency(0L);
+        authorScraper.setFetchEngine(fetchEngine);
     }
 
     @Nested
@@ -104,21 +106,17 @@ class AuthorScraperTest {
                     "</div>";
             Document doc = Jsoup.parse(html);
 
-            // On mock le singleton pour qu'il ne fasse pas d'appel réseau
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-                // WHEN: On appelle la méthode à tester
-                List<Author> authors = authorScraper.scrapAuthorsIndexedByLetter("G");
-
-                // THEN: On vérifie que les auteurs ont été correctement extraits
-                assertThat(authors).hasSize(2);
-                assertThat(authors.getFirst().getId()).isEqualTo("1");
-                assertThat(authors.getFirst().getName()).isEqualTo("Goscinny, René");
-                assertThat(authors.getFirst().getUrl()).isEqualTo("http://test.com/__AUTEUR-1-Goscinny.html");
-            }
+            // On mock le moteur de chargement pour qu'il ne fasse pas d'appel réseau
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN: On appelle la méthode à tester
+            List<Author> authors = authorScraper.scrapAuthorsIndexedByLetter("G");
+
+            // THEN: On vérifie que les auteurs ont été correctement extraits
+            assertThat(authors).hasSize(2);
+            assertThat(authors.getFirst().getId()).isEqualTo("1");
+            assertThat(authors.getFirst().getName()).isEqualTo("Goscinny, René");
+            assertThat(authors.getFirst().getUrl()).isEqualTo("http://test.com/__AUTEUR-1-Goscinny.html");
         }
     }
 
@@ -149,34 +147,30 @@ class AuthorScraperTest {
             Document doc = Jsoup.parse(html);
             Author authorToScrap = new Author("123", "DOE, John", "http://test.com/__AUTEUR-123-Doe.html");
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                AuthorDetails details = authorScraper.scrap(authorToScrap);
-
-                // THEN
-                assertThat(details.getId()).isEqualTo("123");
-                assertThat(details.getLastname()).isEqualTo("DOE");
-                assertThat(details.getFirstname()).isEqualTo("John");
-                assertThat(details.getNickname()).isEqualTo("Johnny");
-                assertThat(details.getBirthdate()).isEqualTo("01/01/1970");
-                assertThat(details.getDeceaseDate()).isEqualTo("31/12/2020");
-                assertThat(details.getNationality()).isEqualTo("France");
-                assertThat(details.getSiteUrl()).isEqualTo("http://john.doe");
-                assertThat(details.getBiography()).isEqualTo("Une biographie intéressante.");
-                assertThat(details.getPhotoUrl()).isEqualTo("photo.jpg");
-                assertThat(details.getPhotoThbUrl()).isEqualTo("photo_thb.jpg");
-                assertThat(details.getOtherAuthorPseudonym()).isNotNull();
-                assertThat(details.getOtherAuthorPseudonym().getId()).isEqualTo("456");
-                assertThat(details.getOtherAuthorPseudonym().getName()).isEqualTo("Alias, John");
-                assertThat(details.getPreviousAuthor()).isNotNull();
-                assertThat(details.getPreviousAuthor().getName()).isEqualTo("Prev Author");
-                assertThat(details.getNextAuthor()).isNotNull();
-                assertThat(details.getNextAuthor().getName()).isEqualTo("Next Author");
-            }
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            AuthorDetails details = authorScraper.scrap(authorToScrap);
+
+            // THEN
+            assertThat(details.getId()).isEqualTo("123");
+            assertThat(details.getLastname()).isEqualTo("DOE");
+            assertThat(details.getFirstname()).isEqualTo("John");
+            assertThat(details.getNickname()).isEqualTo("Johnny");
+            assertThat(details.getBirthdate()).isEqualTo("01/01/1970");
+            assertThat(details.getDeceaseDate()).isEqualTo("31/12/2020");
+            assertThat(details.getNationality()).isEqualTo("France");
+            assertThat(details.getSiteUrl()).isEqualTo("http://john.doe");
+            assertThat(details.getBiography()).isEqualTo("Une biographie intéressante.");
+            assertThat(details.getPhotoUrl()).isEqualTo("photo.jpg");
+            assertThat(details.getPhotoThbUrl()).isEqualTo("photo_thb.jpg");
+            assertThat(details.getOtherAuthorPseudonym()).isNotNull();
+            assertThat(details.getOtherAuthorPseudonym().getId()).isEqualTo("456");
+            assertThat(details.getOtherAuthorPseudonym().getName()).isEqualTo("Alias, John");
+            assertThat(details.getPreviousAuthor()).isNotNull();
+            assertThat(details.getPreviousAuthor().getName()).isEqualTo("Prev Author");
+            assertThat(details.getNextAuthor()).isNotNull();
+            assertThat(details.getNextAuthor().getName()).isEqualTo("Next Author");
         }
 
         @Test
@@ -193,23 +187,19 @@ class AuthorScraperTest {
             Document doc = Jsoup.parse(html);
             Author authorToScrap = new Author("789", "SMITH", "http://test.com/__AUTEUR-789-Smith.html");
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                AuthorDetails details = authorScraper.scrap(authorToScrap);
-
-                // THEN
-                assertThat(details.getId()).isEqualTo("789");
-                assertThat(details.getLastname()).isEqualTo("SMITH");
-                assertThat(details.getFirstname()).isNull();
-                assertThat(details.getDeceaseDate()).isNull();
-                assertThat(details.getSiteUrl()).isNull();
-                assertThat(details.getBiography()).isEmpty();
-                assertThat(details.getOtherAuthorPseudonym()).isNull();
-            }
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            AuthorDetails details = authorScraper.scrap(authorToScrap);
+
+            // THEN
+            assertThat(details.getId()).isEqualTo("789");
+            assertThat(details.getLastname()).isEqualTo("SMITH");
+            assertThat(details.getFirstname()).isNull();
+            assertThat(details.getDeceaseDate()).isNull();
+            assertThat(details.getSiteUrl()).isNull();
+            assertThat(details.getBiography()).isEmpty();
+            assertThat(details.getOtherAuthorPseudonym()).isNull();
         }
     }
 
@@ -223,24 +213,20 @@ class AuthorScraperTest {
             // GIVEN:
             AuthorScraper scraperSpy = Mockito.spy(new AuthorScraper());
             scraperSpy.setLocalCacheActive(false); // Cache inactif
-            scraperSpy.setLatency(0L);
+            scraperSpy.setFetchEngine(fetchEngine);
 
             String html = "<html><body><div class='auteur-image'><a href='photo.jpg'><img src='photo_thb.jpg'></a></div></body></html>";
             Document doc = Jsoup.parse(html);
             Author authorToScrap = new Author("123", "DOE, John", "http://test.com/__AUTEUR-123-Doe.html");
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString())).thenReturn(doc);
 
-                // WHEN:
-                scraperSpy.scrap(authorToScrap);
+            // WHEN:
+            scraperSpy.scrap(authorToScrap);
 
-                // THEN:
-                // On vérifie qu'aucune méthode de téléchargement n'a été appelée.
-                verify(scraperSpy, never()).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
-            }
+            // THEN:
+            // On vérifie qu'aucune méthode de téléchargement n'a été appelée.
+            verify(scraperSpy, never()).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
         }
     }
 
@@ -253,7 +239,7 @@ class AuthorScraperTest {
 
         // 2. On configure l'espion avec les valeurs nécessaires.
         scraperSpy.setLocalCacheActive(true); // IMPORTANT: On active le cache
-        scraperSpy.setLatency(0L);
+        scraperSpy.setFetchEngine(fetchEngine);
         // On injecte les valeurs des champs privés via la réflexion.
         // On construit un chemin sûr à l'intérieur du répertoire temporaire
         String outputAuthorThumbDirectory = tempDir.resolve("path/author/thumbs").toString();
@@ -282,41 +268,37 @@ class AuthorScraperTest {
         // On utilise doReturn().when(spy) pour les espions.
         doReturn("local_path").when(scraperSpy).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
 
-        // 5. On mock le singleton pour qu'il retourne notre document contrôlé.
-        try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-            GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-            mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-            when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-            // WHEN:
-            scraperSpy.scrap(authorToScrap);
-
-            // THEN:
-            // On vérifie que downloadMedia a été appelé pour chaque image avec les bons paramètres.
-            // Photo de l'auteur (HD)
-            verify(scraperSpy, times(1)).downloadMedia(
-                    outputAuthorHdDirectory,
-                    "http://media/author/hd",
-                    "http://external.com/photo.jpg",
-                    "default.jpg",
-                    "Identifiant : 123"
-            );
-            // Photo de l'auteur (miniature)
-            verify(scraperSpy, times(1)).downloadMedia(
-                    outputAuthorThumbDirectory,
-                    "http://media/author/thumbs",
-                    "http://external.com/photo_thb.jpg",
-                    "default.jpg",
-                    "Identifiant : 123"
-            );
-            // Couverture de la série à découvrir
-            verify(scraperSpy, times(1)).downloadMedia(
-                    outputCoverFrontThumbDirectory,
-                    "http://media/cover/thumbs",
-                    "http://external.com/cover.jpg",
-                    "default.jpg",
-                    null
-            );
-        }
+        // 5. On mock le moteur de chargement pour qu'il retourne notre document contrôlé.
+        when(fetchEngine.load(anyString())).thenReturn(doc);
+
+        // WHEN:
+        scraperSpy.scrap(authorToScrap);
+
+        // THEN:
+        // On vérifie que downloadMedia a été appelé pour chaque image avec les bons paramètres.
+        // Photo de l'auteur (HD)
+        verify(scraperSpy, times(1)).downloadMedia(
+                outputAuthorHdDirectory,
+                "http://media/author/hd",
+                "http://external.com/photo.jpg",
+                "default.jpg",
+                "Identifiant : 123"
+        );
+        // Photo de l'auteur (miniature)
+        verify(scraperSpy, times(1)).downloadMedia(
+                outputAuthorThumbDirectory,
+                "http://media/author/thumbs",
+                "http://external.com/photo_thb.jpg",
+                "default.jpg",
+                "Identifiant : 123"
+        );
+        // Couverture de la série à découvrir
+        verify(scraperSpy, times(1)).downloadMedia(
+                outputCoverFrontThumbDirectory,
+                "http://media/cover/thumbs",
+                "http://external.com/cover.jpg",
+                "default.jpg",
+                null
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import com.comix.scrapers.bedetheque.entity.MediaContent;
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import com.comix.scrapers.bedetheque.repository.MediaContentRepository;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentAddressedMediaStoreTest {
+
+    private static final String IMAGE_DATA = "ceci-est-une-image";
+
+    private MockWebServer mockWebServer;
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private MediaContentRepository mediaContentRepository;
+
+    private ContentAddressedMediaStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        store = new ContentAddressedMediaStore(mediaContentRepository, new MediaIndex(), tempDir.toString(), "/medias/cas");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("doit stocker une seule fois une image identique téléchargée depuis deux urls")
+    void store_shouldDeduplicateIdenticalContent() throws IOException {
+        // GIVEN
+        when(mediaContentRepository.findById(anyString())).thenReturn(Optional.empty());
+        mockWebServer.enqueue(new MockResponse().setBody(IMAGE_DATA));
+        mockWebServer.enqueue(new MockResponse().setBody(IMAGE_DATA));
+        String serieCoverUrl = mockWebServer.url("/media/Couvertures/serie.jpg").toString();
+        String albumCoverUrl = mockWebServer.url("/media/Couvertures/album.JPG").toString();
+
+        // WHEN
+        String seriePath = store.store(serieCoverUrl);
+        String albumPath = store.store(albumCoverUrl);
+
+        // THEN : les deux urls pointent sur le même contenu
+        assertThat(seriePath).isEqualTo(albumPath).startsWith("/medias/cas/").endsWith(".jpg");
+        try (Stream<Path> files = Files.walk(tempDir.resolve(ContentAddressedMediaStore.STORE_DIRECTORY))) {
+            List<Path> medias = files.filter(Files::isRegularFile).toList();
+            assertThat(medias).hasSize(1);
+            assertThat(medias.getFirst()).hasContent(IMAGE_DATA);
+        }
+
+        // AND : le manifeste contient les deux urls
+        ArgumentCaptor<MediaContent> captor = ArgumentCaptor.forClass(MediaContent.class);
+        verify(mediaContentRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(MediaContent::getSourceUrl)
+                .containsExactly(serieCoverUrl, albumCoverUrl);
+        assertThat(captor.getAllValues())
+                .extracting(MediaContent::getSha256)
+                .containsOnly(captor.getValue().getSha256());
+    }
+
+    @Test
+    @DisplayName("doit réutiliser le manifeste sans télécharger à nouveau")
+    void store_shouldUseManifest() {
+        // GIVEN
+        MediaContent known = new MediaContent();
+        known.setSourceUrl("https://www.bedetheque.com/media/a.jpg");
+        known.setPath("ab/cd/abcd.jpg");
+        when(mediaContentRepository.findById("https://www.bedetheque.com/media/a.jpg")).thenReturn(Optional.of(known));
+
+        // WHEN
+        String first = store.store("https://www.bedetheque.com/media/a.jpg");
+        String second = store.store("https://www.bedetheque.com/media/a.jpg");
+
+        // THEN : le manifeste est lu une seule fois, puis gardé en mémoire
+        assertThat(first).isEqualTo(second).isEqualTo("/medias/cas/ab/cd/abcd.jpg");
+        verify(mediaContentRepository, times(1)).findById(anyString());
+        verify(mediaContentRepository, never()).save(any());
+        assertThat(mockWebServer.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("doit lancer une TechnicalException et ne rien stocker si le média est introuvable")
+    void store_shouldThrowTechnicalExceptionWhenNotFound() throws IOException {
+        // GIVEN
+        when(mediaContentRepository.findById(anyString())).thenReturn(Optional.empty());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+        String url = mockWebServer.url("/media/missing.jpg").toString();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> store.store(url))
+                .isInstanceOf(TechnicalException.class)
+                .hasFieldOrPropertyWithValue("codeMessage", "ERR-SCR-003");
+        assertThat(tempDir.resolve(ContentAddressedMediaStore.STORE_DIRECTORY)).isEmptyDirectory();
+        verify(mediaContentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("getRelativePath doit répartir les médias selon les premiers octets du hash")
+    void getRelativePath_shouldShardByHash() {
+        String sha256 = "abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789";
+
+        assertThat(ContentAddressedMediaStore.getRelativePath(sha256, "https://a.com/media/Couv_1.JPG"))
+                .isEqualTo("ab/cd/" + sha256 + ".jpg");
+        assertThat(ContentAddressedMediaStore.getRelativePath(sha256, "https://a.com/media/image"))
+                .isEqualTo("ab/cd/" + sha256);
+    }
+}
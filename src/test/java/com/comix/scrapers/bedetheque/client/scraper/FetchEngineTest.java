@@ -0,0 +1,265 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FetchEngineTest {
+
+    private static MockWebServer mockWebServer;
+
+    @BeforeAll
+    static void setUpAll() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+    }
+
+    @AfterAll
+    static void tearDownAll() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Document Loading Tests")
+    class DocumentLoadingTests {
+
+        private final FetchEngine fetchEngine = new FetchEngine(0, 1, 1);
+
+        @Test
+        @DisplayName("load(url) should return a document on success")
+        void loadUrl_shouldReturnDocumentOnSuccess() {
+            // GIVEN
+            String html = "<html><head><title>Test</title></head><body><p>Content</p></body></html>";
+            mockWebServer.enqueue(new MockResponse().setBody(html));
+            String url = mockWebServer.url("/test-page").toString();
+
+            // WHEN
+            Document doc = fetchEngine.load(url);
+
+            // THEN
+            assertThat(doc).isNotNull();
+            assertThat(doc.title()).isEqualTo("Test");
+            assertThat(doc.body().text()).isEqualTo("Content");
+        }
+
+        @Test
+        @DisplayName("load(url, data) should return a document on success")
+        void loadUrlWithData_shouldReturnDocumentOnSuccess() {
+            // GIVEN
+            String html = "<html><body>Data response</body></html>";
+            mockWebServer.enqueue(new MockResponse().setBody(html));
+            String url = mockWebServer.url("/search").toString();
+            Map<String, String> data = Collections.singletonMap("query", "test");
+
+            // WHEN
+            Document doc = fetchEngine.load(url, data);
+
+            // THEN
+            assertThat(doc).isNotNull();
+            assertThat(doc.body().text()).isEqualTo("Data response");
+        }
+
+        @Test
+        @DisplayName("load should throw TechnicalException on network error and release its slot")
+        void load_shouldThrowTechnicalExceptionOnNetworkError() {
+            // GIVEN
+            String invalidUrl = "http://localhost:" + (mockWebServer.getPort() + 1);
+
+            // WHEN & THEN
+            assertThatThrownBy(() -> fetchEngine.load(invalidUrl))
+                    .isInstanceOf(TechnicalException.class)
+                    .hasFieldOrPropertyWithValue("codeMessage", "ERR-SCR-001");
+            assertThat(fetchEngine.getInFlight()).isZero();
+            assertThat(fetchEngine.getQueueDepth()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Rate Limiting Tests")
+    class RateLimitingTests {
+
+        @Test
+        @DisplayName("successive loads on the same host should respect latency")
+        void successiveLoads_shouldRespectLatency() {
+            // GIVEN
+            FetchEngine fetchEngine = new FetchEngine(1, 1, 1);
+            mockWebServer.enqueue(new MockResponse().setBody("<html>1</html>"));
+            mockWebServer.enqueue(new MockResponse().setBody("<html>2</html>"));
+            String url = mockWebServer.url("/latency-test").toString();
+
+            // WHEN
+            Instant startTime = Instant.now();
+            fetchEngine.load(url);
+            fetchEngine.load(url);
+            Instant endTime = Instant.now();
+
+            // THEN
+            long durationMillis = Duration.between(startTime, endTime).toMillis();
+            assertThat(durationMillis).isGreaterThanOrEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("load should throw TechnicalException when waiting is interrupted")
+        void load_shouldThrowTechnicalExceptionWhenWaitIsInterrupted() {
+            // GIVEN
+            FetchEngine fetchEngine = new FetchEngine(5, 1, 1);
+            String url = mockWebServer.url("/interrupt").toString();
+            mockWebServer.enqueue(new MockResponse().setBody("<html></html>"));
+            // This first call consumes the only token
+            fetchEngine.load(url);
+
+            // WHEN
+            Thread.currentThread().interrupt();
+
+            // THEN
+            assertThatThrownBy(() -> fetchEngine.load(url))
+                    .isInstanceOf(TechnicalException.class)
+                    .hasFieldOrPropertyWithValue("codeMessage", "ERR-SCR-001")
+                    .hasCauseInstanceOf(InterruptedException.class);
+            assertThat(fetchEngine.getInFlight()).isZero();
+            assertThat(fetchEngine.getQueueDepth()).isZero();
+
+            // Clear the interrupted flag for subsequent tests
+            Thread.interrupted();
+        }
+    }
+
+    @Nested
+    @DisplayName("Page Cache Tests")
+    class PageCacheTests {
+
+        @TempDir
+        Path tempDir;
+
+        // Dedicated server, so that the recorded requests are only those of the test
+        private MockWebServer server;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            server = new MockWebServer();
+            server.start();
+        }
+
+        @AfterEach
+        void tearDown() throws IOException {
+            server.shutdown();
+        }
+
+        private FetchEngine newFetchEngine(Duration ttl) {
+            PageCacheProperties properties = new PageCacheProperties(true, tempDir.toString(),
+                    Map.of(PageType.SERIE, new PageCacheProperties.Policy(ttl, 10)));
+            FetchEngine fetchEngine = new FetchEngine(0, 1, 1);
+            fetchEngine.setPageCache(new PageCache(properties));
+            return fetchEngine;
+        }
+
+        @Test
+        @DisplayName("a stale cached page should be revalidated with a conditional request")
+        void load_shouldRevalidateAStalePage() throws InterruptedException {
+            // GIVEN
+            FetchEngine fetchEngine = newFetchEngine(Duration.ZERO);
+            server.enqueue(new MockResponse()
+                    .setHeader("ETag", "\"v1\"")
+                    .setHeader("Last-Modified", "Sat, 17 Oct 2026 10:00:00 GMT")
+                    .setBody("<html><head><title>Serie</title></head></html>"));
+            server.enqueue(new MockResponse().setResponseCode(304));
+            String url = server.url("/serie-1-BD-Revalidation.html").toString();
+            fetchEngine.load(url);
+            server.takeRequest();
+
+            // WHEN
+            Document doc = fetchEngine.load(url);
+
+            // THEN
+            RecordedRequest revalidation = server.takeRequest();
+            assertThat(revalidation.getHeader("If-None-Match")).isEqualTo("\"v1\"");
+            assertThat(revalidation.getHeader("If-Modified-Since")).isEqualTo("Sat, 17 Oct 2026 10:00:00 GMT");
+            assertThat(doc.title()).isEqualTo("Serie");
+        }
+
+        @Test
+        @DisplayName("a not modified page whose cached body is lost should be loaded again without validators")
+        void load_shouldLoadAgainAPageWhoseCachedBodyIsLost() throws IOException, InterruptedException {
+            // GIVEN
+            FetchEngine fetchEngine = newFetchEngine(Duration.ZERO);
+            server.enqueue(new MockResponse()
+                    .setHeader("ETag", "\"v1\"")
+                    .setBody("<html><head><title>Serie</title></head></html>"));
+            server.enqueue(new MockResponse().setResponseCode(304));
+            server.enqueue(new MockResponse()
+                    .setHeader("ETag", "\"v2\"")
+                    .setBody("<html><head><title>Serie v2</title></head></html>"));
+            String url = server.url("/serie-1-BD-Lost.html").toString();
+            fetchEngine.load(url);
+            server.takeRequest();
+            try (Stream<Path> files = Files.walk(tempDir)) {
+                for (Path body : files.filter(file -> file.toString().endsWith(".html")).toList()) {
+                    Files.delete(body);
+                }
+            }
+
+            // WHEN
+            Document doc = fetchEngine.load(url);
+
+            // THEN
+            assertThat(server.takeRequest().getHeader("If-None-Match")).isEqualTo("\"v1\"");
+            assertThat(server.takeRequest().getHeader("If-None-Match")).isNull();
+            assertThat(doc.title()).isEqualTo("Serie v2");
+            assertThat(fetchEngine.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("a fresh cached page should be used without request")
+        void load_shouldUseAFreshPageWithoutRequest() {
+            // GIVEN
+            FetchEngine fetchEngine = newFetchEngine(Duration.ofHours(1));
+            server.enqueue(new MockResponse().setBody("<html><head><title>Serie</title></head></html>"));
+            String url = server.url("/serie-2-BD-Fresh.html").toString();
+
+            // WHEN
+            fetchEngine.load(url);
+            Document doc = fetchEngine.load(url);
+
+            // THEN
+            assertThat(doc.title()).isEqualTo("Serie");
+            assertThat(server.getRequestCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics Tests")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("bindTo should register the queue depth and in-flight gauges")
+        void bindTo_shouldRegisterGauges() {
+            // GIVEN
+            FetchEngine fetchEngine = new FetchEngine(0, 1, 4);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+            // WHEN
+            fetchEngine.bindTo(registry);
+
+            // THEN
+            assertThat(registry.get("bedetheque.fetch.queue.depth").gauge().value()).isZero();
+            assertThat(registry.get("bedetheque.fetch.in-flight").gauge().value()).isZero();
+        }
+    }
+}
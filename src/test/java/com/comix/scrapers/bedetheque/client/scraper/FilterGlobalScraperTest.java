@@ -7,15 +7,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -24,12 +22,15 @@ class FilterGlobalScraperTest {
 
     private FilterGlobalScraper filterGlobalScraper;
 
+    @Mock
+    private FetchEngine fetchEngine;
+
     @BeforeEach
     void setUp() {
         filterGlobalScraper = new FilterGlobalScraper();
         // On injecte manuellement les valeurs de configuration pour le test
         filterGlobalScraper.setBedethequeGlobalSearchUrl("https://test.com/search");
-        filterGlobalScraper.setLatency(0L);
+        filterGlobalScraper.setFetchEngine(fetchEngine);
         filterGlobalScraper.setLocalCacheActive(false);
     }
 
@@ -64,43 +65,39 @@ class FilterGlobalScraperTest {
             """;
         Document doc = Jsoup.parse(html);
 
-        // On mock le singleton pour qu'il ne fasse pas d'appel réseau
-        try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-            GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-            mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-            when(mockScraper.load(any(String.class), any(Map.class), anyLong())).thenReturn(doc);
-
-            // WHEN: On appelle la méthode à tester
-            GlobalFilteredObject result = filterGlobalScraper.filter("test");
-
-            // THEN: On vérifie que les données ont été correctement extraites et réparties
-            assertThat(result).isNotNull();
-            assertThat(result.getFilter()).isEqualTo("test");
-
-            // Auteurs
-            assertThat(result.getFilteredAuthors()).hasSize(1);
-            assertThat(result.getFilteredAuthors().getFirst().getName()).isEqualTo("Test, Auteur");
-            assertThat(result.getFilteredAuthors().getFirst().getUrl()).isEqualTo("https://test.com/auteur-1-Test.html");
-            assertThat(result.getFilteredAuthors().getFirst().getNationality()).isEqualTo("(France)");
-
-            // Séries
-            assertThat(result.getFilteredSeries()).hasSize(1);
-            assertThat(result.getFilteredSeries().getFirst().getTitle()).isEqualTo("Test Serie");
-            assertThat(result.getFilteredSeries().getFirst().getUrl()).isEqualTo("https://test.com/serie-2-Test.html");
-            assertThat(result.getFilteredSeries().getFirst().getCategory()).isEqualTo("Catégorie");
-            assertThat(result.getFilteredSeries().getFirst().getFlagUrl()).isEqualTo("flag.png");
-
-            // Albums
-            assertThat(result.getFilteredGraphicNovels()).hasSize(1);
-            assertThat(result.getFilteredGraphicNovels().getFirst().getTitle()).isEqualTo("Test Album");
-            assertThat(result.getFilteredGraphicNovels().getFirst().getPublicationDate()).isEqualTo("01/2024");
-
-            // Les autres listes doivent être vides
-            assertThat(result.getFilteredChronicles()).isEmpty();
-            assertThat(result.getFilteredNews()).isEmpty();
-            assertThat(result.getFilteredPreviews()).isEmpty();
-            assertThat(result.getFilteredAssociateSeries()).isEmpty();
-        }
+        // On mock le moteur de chargement pour qu'il ne fasse pas d'appel réseau
+        when(fetchEngine.load(any(String.class), any(Map.class))).thenReturn(doc);
+
+        // WHEN: On appelle la méthode à tester
+        GlobalFilteredObject result = filterGlobalScraper.filter("test");
+
+        // THEN: On vérifie que les données ont été correctement extraites et réparties
+        assertThat(result).isNotNull();
+        assertThat(result.getFilter()).isEqualTo("test");
+
+        // Auteurs
+        assertThat(result.getFilteredAuthors()).hasSize(1);
+        assertThat(result.getFilteredAuthors().getFirst().getName()).isEqualTo("Test, Auteur");
+        assertThat(result.getFilteredAuthors().getFirst().getUrl()).isEqualTo("https://test.com/auteur-1-Test.html");
+        assertThat(result.getFilteredAuthors().getFirst().getNationality()).isEqualTo("(France)");
+
+        // Séries
+        assertThat(result.getFilteredSeries()).hasSize(1);
+        assertThat(result.getFilteredSeries().getFirst().getTitle()).isEqualTo("Test Serie");
+        assertThat(result.getFilteredSeries().getFirst().getUrl()).isEqualTo("https://test.com/serie-2-Test.html");
+        assertThat(result.getFilteredSeries().getFirst().getCategory()).isEqualTo("Catégorie");
+        assertThat(result.getFilteredSeries().getFirst().getFlagUrl()).isEqualTo("flag.png");
+
+        // Albums
+        assertThat(result.getFilteredGraphicNovels()).hasSize(1);
+        assertThat(result.getFilteredGraphicNovels().getFirst().getTitle()).isEqualTo("Test Album");
+        assertThat(result.getFilteredGraphicNovels().getFirst().getPublicationDate()).isEqualTo("01/2024");
+
+        // Les autres listes doivent être vides
+        assertThat(result.getFilteredChronicles()).isEmpty();
+        assertThat(result.getFilteredNews()).isEmpty();
+        assertThat(result.getFilteredPreviews()).isEmpty();
+        assertThat(result.getFilteredAssociateSeries()).isEmpty();
     }
 
     @Test
@@ -118,18 +115,14 @@ class FilterGlobalScraperTest {
             """;
         Document doc = Jsoup.parse(html);
 
-        try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-            GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-            mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-            when(mockScraper.load(any(String.class), any(Map.class), anyLong())).thenReturn(doc);
+        when(fetchEngine.load(any(String.class), any(Map.class))).thenReturn(doc);
 
-            // WHEN
-            GlobalFilteredObject result = filterGlobalScraper.filter("a");
+        // WHEN
+        GlobalFilteredObject result = filterGlobalScraper.filter("a");
 
-            // THEN
-            assertThat(result.getFilteredSeries()).isNotNull().isEmpty();
-            assertThat(result.getFilteredSeriesMessage()).isEqualTo("Trop de résultats, veuillez affiner votre recherche.");
-        }
+        // THEN
+        assertThat(result.getFilteredSeries()).isNotNull().isEmpty();
+        assertThat(result.getFilteredSeriesMessage()).isEqualTo("Trop de résultats, veuillez affiner votre recherche.");
     }
 
     @Test
@@ -139,23 +132,19 @@ class FilterGlobalScraperTest {
         String html = "<div>Aucun résultat</div>";
         Document doc = Jsoup.parse(html);
 
-        try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-            GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-            mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-            when(mockScraper.load(any(String.class), any(Map.class), anyLong())).thenReturn(doc);
-
-            // WHEN
-            GlobalFilteredObject result = filterGlobalScraper.filter("recherche-vide");
-
-            // THEN
-            assertThat(result.getFilteredAuthors()).isEmpty();
-            assertThat(result.getFilteredSeries()).isEmpty();
-            assertThat(result.getFilteredGraphicNovels()).isEmpty();
-            assertThat(result.getFilteredChronicles()).isEmpty();
-            assertThat(result.getFilteredNews()).isEmpty();
-            assertThat(result.getFilteredPreviews()).isEmpty();
-            assertThat(result.getFilteredAssociateSeries()).isEmpty();
-        }
+        when(fetchEngine.load(any(String.class), any(Map.class))).thenReturn(doc);
+
+        // WHEN
+        GlobalFilteredObject result = filterGlobalScraper.filter("recherche-vide");
+
+        // THEN
+        assertThat(result.getFilteredAuthors()).isEmpty();
+        assertThat(result.getFilteredSeries()).isEmpty();
+        assertThat(result.getFilteredGraphicNovels()).isEmpty();
+        assertThat(result.getFilteredChronicles()).isEmpty();
+        assertThat(result.getFilteredNews()).isEmpty();
+        assertThat(result.getFilteredPreviews()).isEmpty();
+        assertThat(result.getFilteredAssociateSeries()).isEmpty();
     }
 
     @Test
@@ -182,19 +171,15 @@ class FilterGlobalScraperTest {
             """;
         Document doc = Jsoup.parse(html);
 
-        try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-            GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-            mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-            when(mockScraper.load(any(String.class), any(Map.class), anyLong())).thenReturn(doc);
+        when(fetchEngine.load(any(String.class), any(Map.class))).thenReturn(doc);
 
-            // WHEN
-            GlobalFilteredObject result = filterGlobalScraper.filter("gaston");
+        // WHEN
+        GlobalFilteredObject result = filterGlobalScraper.filter("gaston");
 
-            // THEN
-            assertThat(result.getFilteredSeries()).as("La liste des séries normales doit être vide").isEmpty();
-            assertThat(result.getFilteredAssociateSeries()).as("La liste des séries associées doit contenir un élément").hasSize(2);
-            assertThat(result.getFilteredAssociateSeries().getFirst().getTitle()).isEqualTo("Gaston");
-            assertThat(result.getFilteredAssociateSeries().getFirst().getUrl()).isEqualTo("https://www.bedetheque.com/serie-31-BD-Gaston.html");
-        }
+        // THEN
+        assertThat(result.getFilteredSeries()).as("La liste des séries normales doit être vide").isEmpty();
+        assertThat(result.getFilteredAssociateSeries()).as("La liste des séries associées doit contenir un élément").hasSize(2);
+        assertThat(result.getFilteredAssociateSeries().getFirst().getTitle()).isEqualTo("Gaston");
+        assertThat(result.getFilteredAssociateSeries().getFirst().getUrl()).isEqualTo("https://www.bedetheque.com/serie-31-BD-Gaston.html");
     }
 }
\ No newline at end of file
@@ -10,8 +10,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
@@ -26,12 +25,15 @@ class FilterGraphicNovelsScraperTest {
 
     private FilterGraphicNovelsScraper scraper;
 
+    @Mock
+    private FetchEngine fetchEngine;
+
     @BeforeEach
     void setUp() {
         scraper = new FilterGraphicNovelsScraper();
         // Injection manuelle des dépendances @Value pour les tests
         scraper.setBedethequeGraphicNovelsSearchUrl("https://test.com/search/graphic-novels");
-        scraper.setLatency(0L);
+        scraper.setFetchEngine(fetchEngine);
         scraper.setLocalCacheActive(false);
     }
 
@@ -71,29 +73,25 @@ class FilterGraphicNovelsScraperTest {
             Document doc = Jsoup.parse(html);
             GraphicNovelsFilters filters = new GraphicNovelsFilters();
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyMap(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                GraphicNovelsFilteredObject result = scraper.filter(filters);
-
-                // THEN
-                assertThat(result).isNotNull();
-                assertThat(result.getFilteredGraphicNovelsMessage()).isEmpty();
-                assertThat(result.getFilteredGraphicNovelDetails()).hasSize(2);
-
-                FilteredGraphicNovelDetails firstResult = result.getFilteredGraphicNovelDetails().getFirst();
-                assertThat(firstResult.getFlagUrl()).isEqualTo("flag1.png");
-                assertThat(firstResult.getUrl()).isEqualTo("https://test.com/album-1.html");
-                assertThat(firstResult.getCoverUrl()).isEqualTo("cover1.jpg");
-                assertThat(firstResult.getSerieTitle()).isEqualTo("Série Test 1");
-                assertThat(firstResult.getTome()).isEqualTo("T.1");
-                assertThat(firstResult.getNumEdition()).isEqualTo("(a)");
-                assertThat(firstResult.getTitle()).isEqualTo("Titre de l'album 1");
-                assertThat(firstResult.getPublicationDate()).isEqualTo("01/2024");
-            }
+            when(fetchEngine.load(anyString(), anyMap())).thenReturn(doc);
+
+            // WHEN
+            GraphicNovelsFilteredObject result = scraper.filter(filters);
+
+            // THEN
+            assertThat(result).isNotNull();
+            assertThat(result.getFilteredGraphicNovelsMessage()).isEmpty();
+            assertThat(result.getFilteredGraphicNovelDetails()).hasSize(2);
+
+            FilteredGraphicNovelDetails firstResult = result.getFilteredGraphicNovelDetails().getFirst();
+            assertThat(firstResult.getFlagUrl()).isEqualTo("flag1.png");
+            assertThat(firstResult.getUrl()).isEqualTo("https://test.com/album-1.html");
+            assertThat(firstResult.getCoverUrl()).isEqualTo("cover1.jpg");
+            assertThat(firstResult.getSerieTitle()).isEqualTo("Série Test 1");
+            assertThat(firstResult.getTome()).isEqualTo("T.1");
+            assertThat(firstResult.getNumEdition()).isEqualTo("(a)");
+            assertThat(firstResult.getTitle()).isEqualTo("Titre de l'album 1");
+            assertThat(firstResult.getPublicationDate()).isEqualTo("01/2024");
         }
 
         @Test
@@ -109,19 +107,15 @@ class FilterGraphicNovelsScraperTest {
             Document doc = Jsoup.parse(html);
             GraphicNovelsFilters filters = new GraphicNovelsFilters();
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyMap(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString(), anyMap())).thenReturn(doc);
 
-                // WHEN
-                GraphicNovelsFilteredObject result = scraper.filter(filters);
+            // WHEN
+            GraphicNovelsFilteredObject result = scraper.filter(filters);
 
-                // THEN
-                assertThat(result).isNotNull();
-                assertThat(result.getFilteredGraphicNovelDetails()).isNotNull().isEmpty();
-                assertThat(result.getFilteredGraphicNovelsMessage()).isEqualTo("Trop de résultats, veuillez affiner votre recherche.");
-            }
+            // THEN
+            assertThat(result).isNotNull();
+            assertThat(result.getFilteredGraphicNovelDetails()).isNotNull().isEmpty();
+            assertThat(result.getFilteredGraphicNovelsMessage()).isEqualTo("Trop de résultats, veuillez affiner votre recherche.");
         }
 
         @Test
@@ -132,19 +126,15 @@ class FilterGraphicNovelsScraperTest {
             Document doc = Jsoup.parse(html);
             GraphicNovelsFilters filters = new GraphicNovelsFilters();
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyMap(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString(), anyMap())).thenReturn(doc);
 
-                // WHEN
-                GraphicNovelsFilteredObject result = scraper.filter(filters);
+            // WHEN
+            GraphicNovelsFilteredObject result = scraper.filter(filters);
 
-                // THEN
-                assertThat(result).isNotNull();
-                assertThat(result.getFilteredGraphicNovelDetails()).isNotNull().isEmpty();
-                assertThat(result.getFilteredGraphicNovelsMessage()).isEmpty();
-            }
+            // THEN
+            assertThat(result).isNotNull();
+            assertThat(result.getFilteredGraphicNovelDetails()).isNotNull().isEmpty();
+            assertThat(result.getFilteredGraphicNovelsMessage()).isEmpty();
         }
 
         @Test
@@ -174,36 +164,32 @@ class FilterGraphicNovelsScraperTest {
             Document doc = Jsoup.parse("<div></div>");
             ArgumentCaptor<Map<String, String>> dataCaptor = ArgumentCaptor.forClass(Map.class);
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), dataCaptor.capture(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                scraper.filter(filters);
-
-                // THEN
-                Map<String, String> capturedData = dataCaptor.getValue();
-                assertThat(capturedData)
-                        .containsEntry("RechIdSerie", "123")
-                        .containsEntry("RechIdAuteur", "456")
-                        .containsEntry("RechSerie", "Astérix")
-                        .containsEntry("RechTitre", "Le bouclier Arverne")
-                        .containsEntry("RechEditeur", "Dargaud")
-                        .containsEntry("RechCollection", "La collection")
-                        .containsEntry("RechStyle", "Humour")
-                        .containsEntry("RechAuteur", "Goscinny")
-                        .containsEntry("RechISBN", "978-2205001584")
-                        .containsEntry("RechParution", "")
-                        .containsEntry("RechOrigine", "")
-                        .containsEntry("RechLangue", "")
-                        .containsEntry("RechMotCle", "Gaulois")
-                        .containsEntry("RechDLDeb", "01/01/1960")
-                        .containsEntry("RechDLFin", "31/12/1970")
-                        .containsEntry("RechCoteMin", "10")
-                        .containsEntry("RechCoteMax", "100")
-                        .containsEntry("RechEO", "on");
-            }
+            when(fetchEngine.load(anyString(), dataCaptor.capture())).thenReturn(doc);
+
+            // WHEN
+            scraper.filter(filters);
+
+            // THEN
+            Map<String, String> capturedData = dataCaptor.getValue();
+            assertThat(capturedData)
+                    .containsEntry("RechIdSerie", "123")
+                    .containsEntry("RechIdAuteur", "456")
+                    .containsEntry("RechSerie", "Astérix")
+                    .containsEntry("RechTitre", "Le bouclier Arverne")
+                    .containsEntry("RechEditeur", "Dargaud")
+                    .containsEntry("RechCollection", "La collection")
+                    .containsEntry("RechStyle", "Humour")
+                    .containsEntry("RechAuteur", "Goscinny")
+                    .containsEntry("RechISBN", "978-2205001584")
+                    .containsEntry("RechParution", "")
+                    .containsEntry("RechOrigine", "")
+                    .containsEntry("RechLangue", "")
+                    .containsEntry("RechMotCle", "Gaulois")
+                    .containsEntry("RechDLDeb", "01/01/1960")
+                    .containsEntry("RechDLFin", "31/12/1970")
+                    .containsEntry("RechCoteMin", "10")
+                    .containsEntry("RechCoteMax", "100")
+                    .containsEntry("RechEO", "on");
         }
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.comix.scrapers.bedetheque.exception.BusinessException;
 import com.comix.scrapers.bedetheque.exception.TechnicalException;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
@@ -15,6 +16,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -60,7 +62,7 @@ class GenericScraperTest {
         void shouldReturnExistingFilePath_whenFileAlreadyExists() throws IOException {
             // GIVEN: Un fichier existe déjà dans le répertoire temporaire
             String mediaFilename = "existing-image.jpg";
-            Files.createFile(tempDir.resolve(mediaFilename));
+            Files.writeString(tempDir.resolve(mediaFilename), "image-existante");
             String httpMediaUrl = mockWebServer.url("/images/" + mediaFilename).toString();
             String outputHttpPath = "/media";
 
@@ -111,6 +113,9 @@ class GenericScraperTest {
                     .isInstanceOf(Exception.class)
                     .isInstanceOf(TechnicalException.class)
                     .hasFieldOrPropertyWithValue("codeMessage", "ERR-SCR-003");
+
+            // AND: Aucun fichier, même temporaire, n'est laissé dans le répertoire
+            assertThat(tempDir).isEmptyDirectory();
         }
 
         @Test
@@ -126,6 +131,62 @@ class GenericScraperTest {
                     .isInstanceOf(TechnicalException.class)
                     .hasFieldOrPropertyWithValue("codeMessage", "ERR-SCR-005");
         }
+
+        @Test
+        @Order(5)
+        @DisplayName("doit télécharger à nouveau un fichier vide laissé par un précédent échec")
+        void shouldDownloadAgain_whenExistingFileIsEmpty() throws IOException {
+            // GIVEN: Un fichier vide existe déjà dans le répertoire temporaire
+            String mediaFilename = "empty-image.jpg";
+            String imageData = "ceci-est-une-image";
+            Files.createFile(tempDir.resolve(mediaFilename));
+            mockWebServer.enqueue(new MockResponse().setBody(imageData));
+            String httpMediaUrl = mockWebServer.url("/images/" + mediaFilename).toString();
+
+            // WHEN
+            String resultPath = genericScraper.downloadMedia(tempDir.toString(), "/media", httpMediaUrl);
+
+            // THEN: Le fichier a été remplacé par le média téléchargé
+            assertThat(resultPath).isEqualTo("/media/" + mediaFilename);
+            assertThat(tempDir.resolve(mediaFilename).toFile()).hasContent(imageData);
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertThat(files).hasSize(1);
+            }
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("doit lancer une TechnicalException et ne laisser aucun fichier si le téléchargement est interrompu")
+        void shouldThrowTechnicalExceptionAndCleanUp_whenDownloadIsTruncated() {
+            // GIVEN: Le serveur coupe la connexion au milieu du contenu
+            String mediaFilename = "truncated-image.jpg";
+            mockWebServer.enqueue(new MockResponse()
+                    .setBody("x".repeat(64 * 1024))
+                    .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+            String httpMediaUrl = mockWebServer.url("/images/" + mediaFilename).toString();
+
+            // WHEN & THEN
+            assertThatThrownBy(() -> genericScraper.downloadMedia(tempDir.toString(), "/media", httpMediaUrl))
+                    .isInstanceOf(TechnicalException.class);
+
+            // AND: Ni le média, ni le fichier temporaire ne sont présents
+            assertThat(tempDir).isEmptyDirectory();
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("doit lancer une TechnicalException si le serveur retourne un contenu vide")
+        void shouldThrowTechnicalException_whenBodyIsEmpty() {
+            // GIVEN
+            mockWebServer.enqueue(new MockResponse().setBody(""));
+            String httpMediaUrl = mockWebServer.url("/images/no-content.jpg").toString();
+
+            // WHEN & THEN
+            assertThatThrownBy(() -> genericScraper.downloadMedia(tempDir.toString(), "/media", httpMediaUrl))
+                    .isInstanceOf(TechnicalException.class)
+                    .hasFieldOrPropertyWithValue("codeMessage", "ERR-SCR-006");
+            assertThat(tempDir).isEmptyDirectory();
+        }
     }
 
     @Nested
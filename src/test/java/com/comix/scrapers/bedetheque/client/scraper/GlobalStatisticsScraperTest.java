@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,6 +22,9 @@ class GlobalStatisticsScraperTest {
 
     private GlobalStatisticsScraper scraper;
 
+    @Mock
+    private FetchEngine fetchEngine;
+
     // Un fragment HTML complet pour le cas nominal
     private final String fullHtml = """
         <html>
@@ -65,7 +69,7 @@ class GlobalStatisticsScraperTest {
         scraper = new GlobalStatisticsScraper();
         // Injection manuelle des dépendances @Value
         scraper.setBedethequeUrl("https://test.com");
-        scraper.setLatency(0L);
+        scraper.setFetchEngine(fetchEngine);
         scraper.setLocalCacheActive(false);
         // Les valeurs pour le téléchargement ne sont pas nécessaires pour la plupart des tests,
         // mais sont requises pour le test avec cache actif.
@@ -82,13 +86,10 @@ class GlobalStatisticsScraperTest {
             Document doc = Jsoup.parse(fullHtml);
 
             // On mock les appels statiques pour isoler le test
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class);
-                 MockedStatic<GraphicNovelScraper> mockedGnScraper = Mockito.mockStatic(GraphicNovelScraper.class)) {
+            try (MockedStatic<GraphicNovelScraper> mockedGnScraper = Mockito.mockStatic(GraphicNovelScraper.class)) {
 
-                // Préparation du mock pour le singleton de scraping
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+                // Préparation du mock pour le moteur de chargement
+                when(fetchEngine.load(anyString())).thenReturn(doc);
 
                 // Préparation du mock pour l'extraction d'ID
                 mockedGnScraper.when(() -> GraphicNovelScraper.scrapIdFromUrl(anyString())).thenAnswer(invocation -> {
@@ -135,20 +136,16 @@ class GlobalStatisticsScraperTest {
                 """;
             Document doc = Jsoup.parse(partialHtml);
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString())).thenReturn(doc);
 
-                // WHEN
-                GlobalStatistics stats = scraper.scrap();
+            // WHEN
+            GlobalStatistics stats = scraper.scrap();
 
-                // THEN
-                assertThat(stats.getSeries()).isEqualTo(123);
-                assertThat(stats.getGraphicNovels()).isNull(); // La méthode scrapElement retourne null si non trouvé
-                assertThat(stats.getNews()).isNotNull().isEmpty();
-                assertThat(stats.getLastEntries()).isNotNull().isEmpty();
-            }
+            // THEN
+            assertThat(stats.getSeries()).isEqualTo(123);
+            assertThat(stats.getGraphicNovels()).isNull(); // La méthode scrapElement retourne null si non trouvé
+            assertThat(stats.getNews()).isNotNull().isEmpty();
+            assertThat(stats.getLastEntries()).isNotNull().isEmpty();
         }
 
         @Test
@@ -162,12 +159,9 @@ class GlobalStatisticsScraperTest {
             // On stub la méthode de téléchargement pour qu'elle ne fasse rien mais puisse être vérifiée
             doReturn("local/path/image.jpg").when(scraperSpy).downloadMedia(any(), any(), any(), any(), any());
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class);
-                 MockedStatic<GraphicNovelScraper> mockedGnScraper = Mockito.mockStatic(GraphicNovelScraper.class)) {
+            try (MockedStatic<GraphicNovelScraper> mockedGnScraper = Mockito.mockStatic(GraphicNovelScraper.class)) {
 
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+                when(fetchEngine.load(anyString())).thenReturn(doc);
                 mockedGnScraper.when(() -> GraphicNovelScraper.scrapIdFromUrl(anyString())).thenReturn("id");
 
                 // WHEN
@@ -2,18 +2,24 @@ package com.comix.scrapers.bedetheque.client.scraper;
 
 import com.comix.scrapers.bedetheque.client.model.graphicnovel.GraphicNovel;
 import com.comix.scrapers.bedetheque.client.model.graphicnovel.GraphicNovelPage;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +31,9 @@ class GraphicNovelScraperTest {
 
     private GraphicNovelScraper scraper;
 
+    @Mock
+    private FetchEngine fetchEngine;
+
     // Un fragment HTML complet pour un album, utilisé dans plusieurs tests
     private final String albumHtml = """
         <li itemtype="https://schema.org/Book">
@@ -68,7 +77,7 @@ class GraphicNovelScraperTest {
     void setUp() {
         scraper = new GraphicNovelScraper();
         // Injection manuelle des dépendances @Value
-        scraper.setLatency(0L);
+        scraper.setFetchEngine(fetchEngine);
         scraper.setLocalCacheActive(false);
 
         // On utilise ReflectionTestUtils car les champs n'ont pas de setters publics.
@@ -132,33 +141,124 @@ class GraphicNovelScraperTest {
                 """.formatted(albumHtml);
             Document doc = Jsoup.parse(html);
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                // Mock both load calls
-                when(mockScraper.load(eq(pagedUrl), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(eq(pagedUrl))).thenReturn(doc);
 
-                // WHEN
-                // We need to spy the scraper to mock the internal call to scrapFromSerie
-                GraphicNovelScraper scraperSpy = spy(scraper);
-                doReturn(List.of(new GraphicNovel())).when(scraperSpy).scrapFromSerie(anyString());
+            // WHEN
+            GraphicNovelPage result = scraper.scrapElement(baseUrl, 3);
 
-                GraphicNovelPage result = scraperSpy.scrapElement(baseUrl, 3);
+            // THEN
+            // 1. Verify the correct URL was loaded, only once
+            verify(fetchEngine, times(1)).load(eq(pagedUrl));
+            verifyNoMoreInteractions(fetchEngine);
+
+            // 2. Verify pagination calculation
+            assertThat(result.getPage()).isEqualTo(3);
+            assertThat(result.getTotalElements()).isEqualTo(25);
+            assertThat(result.getTotalPages()).isEqualTo(3); // 25 / 10 -> 2.5 -> 3
+            assertThat(result.getSize()).isEqualTo(10);
+            assertThat(result.getGraphicNovels()).hasSize(1);
+            assertThat(result.getGraphicNovels().getFirst().getExternalId()).isEqualTo("12345");
+        }
 
-                // THEN
-                // 1. Verify the correct URL was loaded
-                verify(mockScraper).load(eq(pagedUrl), anyLong());
+        @Test
+        @DisplayName("should send exactly one HTTP request per page")
+        void shouldSendOneRequestPerPage() throws IOException, InterruptedException {
+            // GIVEN
+            String html = """
+                <html><body>
+                    <div class="bandeau-menu"><ul><li><a>Albums <span>25</span></a></li></ul></div>
+                    <ul class="liste-albums">
+                        %s
+                    </ul>
+                </body></html>
+                """.formatted(albumHtml);
+            try (MockWebServer mockWebServer = new MockWebServer()) {
+                // Deux réponses disponibles : un second chargement de la page serait servi et compté
+                mockWebServer.enqueue(new MockResponse().setBody(html));
+                mockWebServer.enqueue(new MockResponse().setBody(html));
+                mockWebServer.start();
+                scraper.setFetchEngine(new FetchEngine(0, 1, 1));
+                String baseUrl = mockWebServer.url("/serie-1.html").toString();
+
+                // WHEN
+                GraphicNovelPage result = scraper.scrapElement(baseUrl, 3);
 
-                // 2. Verify pagination calculation
-                assertThat(result.getPage()).isEqualTo(3);
+                // THEN
+                assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+                assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/serie-1__2.html");
                 assertThat(result.getTotalElements()).isEqualTo(25);
-                assertThat(result.getTotalPages()).isEqualTo(3); // 25 / 10 -> 2.5 -> 3
-                assertThat(result.getSize()).isEqualTo(10);
                 assertThat(result.getGraphicNovels()).hasSize(1);
             }
         }
     }
 
+    @Nested
+    @DisplayName("Tests for streamElements(url, consumer)")
+    class StreamTests {
+
+        private final String allAlbumsHtml = """
+                <html><body>
+                    <div class="serie"><h1><a href="serie-1-BD-Test.html">Test</a></h1></div>
+                    <div class="bandeau-menu"><ul><li><a>Albums <span>2</span></a></li></ul></div>
+                    <ul class="liste-albums">
+                        %s
+                        %s
+                    </ul>
+                </body></html>
+                """.formatted(albumHtml, albumHtml.replace("12345", "67890"));
+
+        @Test
+        @DisplayName("should emit each album in the order of the page, and remove it from the document once parsed")
+        void shouldEmitAndDiscardEachAlbum() throws IOException {
+            // GIVEN
+            String url = "https://test.com/serie-1-BD-Test__10000.html";
+            StreamParser parser = new StreamParser(Parser.htmlParser()).parse(allAlbumsHtml, url);
+            when(fetchEngine.stream(eq(url), any())).thenAnswer(invocation ->
+                    invocation.<FetchEngine.StreamHandler<?>>getArgument(1).handle(parser));
+            List<GraphicNovel> graphicNovels = new ArrayList<>();
+            List<Integer> albumsInDocument = new ArrayList<>();
+
+            // WHEN
+            int count = scraper.streamElements(url, graphicNovel -> {
+                graphicNovels.add(graphicNovel);
+                albumsInDocument.add(parser.document().select(Selectors.ALBUM_BOOKS).size());
+            });
+
+            // THEN
+            assertThat(count).isEqualTo(2);
+            assertThat(graphicNovels).extracting(GraphicNovel::getExternalId).containsExactly("12345", "67890");
+            assertThat(graphicNovels.getFirst().getSerie().getId()).isEqualTo("1");
+            // Only the album read ahead by the parser may remain in the document, the emitted ones are removed
+            assertThat(albumsInDocument).allSatisfy(albums -> assertThat(albums).isLessThanOrEqualTo(1));
+            assertThat(albumsInDocument.getLast()).isZero();
+            verify(fetchEngine, never()).load(anyString());
+        }
+
+        @Test
+        @DisplayName("should stream the page of all the albums in a single HTTP request")
+        void shouldStreamThePageOfAllTheAlbums() throws IOException, InterruptedException {
+            try (MockWebServer mockWebServer = new MockWebServer()) {
+                // GIVEN
+                mockWebServer.enqueue(new MockResponse().setBody(allAlbumsHtml));
+                mockWebServer.start();
+                scraper.setFetchEngine(new FetchEngine(0, 1, 1));
+                scraper.setStreamingActive(true);
+                String baseUrl = mockWebServer.url("/serie-1.html").toString();
+
+                // WHEN
+                GraphicNovelPage result = scraper.scrapElement(baseUrl, 10000);
+
+                // THEN
+                assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+                assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/serie-1__10000.html");
+                assertThat(result.getGraphicNovels()).hasSize(2);
+                assertThat(result.getTotalElements()).isEqualTo(2);
+                assertThat(result.getPage()).isEqualTo(1);
+                assertThat(result.getSize()).isEqualTo(2);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Core Scraping Logic Tests")
     class CoreScrapingLogicTests {
@@ -286,6 +386,64 @@ class GraphicNovelScraperTest {
             // On vérifie qu'aucune méthode de téléchargement n'a été appelée.
             verify(scraperSpy, never()).downloadMedia(any(), any(), any(), any(), any());
         }
+
+        @Test
+        @DisplayName("should set the downloaded media urls when the download executor is used")
+        void shouldSetDownloadedUrlsWithExecutor() throws InterruptedException {
+            // GIVEN
+            MediaDownloadExecutor executor = new MediaDownloadExecutor(4, 2, false);
+            GraphicNovelScraper scraperSpy = Mockito.spy(scraper);
+            scraperSpy.setLocalCacheActive(true);
+            scraperSpy.setMediaDownloadExecutor(executor);
+            doReturn("local/path")
+                    .when(scraperSpy)
+                    .downloadMedia(any(), any(), any(), any(), any());
+
+            Document doc = Jsoup.parse(String.format("<ul class=\"liste-albums\">%s</ul>", albumHtml));
+
+            // WHEN
+            List<GraphicNovel> results = scraperSpy.scrapElement("https://test.com/serie.html", doc);
+
+            // THEN : les téléchargements sont terminés au retour du scraping
+            GraphicNovel result = results.getFirst();
+            assertThat(result.getCoverThumbnailUrl()).isEqualTo("local/path");
+            assertThat(result.getBackCoverThumbnailUrl()).isEqualTo("local/path");
+            assertThat(result.getPageThumbnailUrl()).isEqualTo("local/path");
+            assertThat(result.getCoverPictureUrl()).isEqualTo("local/path");
+            assertThat(result.getBackCoverPictureUrl()).isEqualTo("local/path");
+            assertThat(result.getPagePictureUrl()).isEqualTo("local/path");
+            verify(scraperSpy, times(6)).downloadMedia(any(), any(), any(), any(), any());
+            executor.destroy();
+        }
+
+        @Test
+        @DisplayName("should set the predicted media urls in background mode")
+        void shouldSetPredictedUrlsInBackgroundMode() throws InterruptedException {
+            // GIVEN
+            MediaDownloadExecutor executor = new MediaDownloadExecutor(4, 2, true);
+            ReflectionTestUtils.setField(scraper, "hashedDirectoryStep", 5000);
+            GraphicNovelScraper scraperSpy = Mockito.spy(scraper);
+            scraperSpy.setLocalCacheActive(true);
+            scraperSpy.setMediaDownloadExecutor(executor);
+            doReturn("local/path")
+                    .when(scraperSpy)
+                    .downloadMedia(any(), any(), any(), any(), any());
+
+            Document doc = Jsoup.parse(String.format("<ul class=\"liste-albums\">%s</ul>", albumHtml));
+
+            // WHEN
+            List<GraphicNovel> results = scraperSpy.scrapElement("https://test.com/serie.html", doc);
+
+            // THEN : les urls locales sont connues avant la fin des téléchargements (12345 / 5000 -> répertoire 2)
+            GraphicNovel result = results.getFirst();
+            assertThat(result.getCoverThumbnailUrl()).isEqualTo("/media/thumbs/front/2/couv_thumb.jpg");
+            assertThat(result.getBackCoverPictureUrl()).isEqualTo("/media/hd/back/2/verso_hd.jpg");
+            assertThat(result.getPagePictureUrl()).isEqualTo("/media/hd/page/2/planche_hd.jpg");
+
+            // AND : les téléchargements se terminent en arrière-plan
+            executor.destroy();
+            verify(scraperSpy, times(6)).downloadMedia(any(), any(), any(), any(), any());
+        }
     }
 
     @Nested
@@ -309,23 +467,19 @@ class GraphicNovelScraperTest {
                 """;
             Document doc = Jsoup.parse(republicationHtml);
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString())).thenReturn(doc);
 
-                // WHEN
-                List<GraphicNovel> results = scraper.scrapWithAllRepublications("https://test.com/republication.html");
+            // WHEN
+            List<GraphicNovel> results = scraper.scrapWithAllRepublications("https://test.com/republication.html");
 
-                // THEN
-                assertThat(results).hasSize(1);
-                GraphicNovel result = results.getFirst();
+            // THEN
+            assertThat(results).hasSize(1);
+            GraphicNovel result = results.getFirst();
 
-                assertThat(result.getSerie().getName()).isEqualTo("Le Nom de la Série");
-                assertThat(result.getTitle()).isEqualTo("Gare aux gaffes");
-                assertThat(result.getNumEdition()).isEqualTo("a2007");
-                assertThat(result.getExternalId()).isEqualTo("54321");
-            }
+            assertThat(result.getSerie().getName()).isEqualTo("Le Nom de la Série");
+            assertThat(result.getTitle()).isEqualTo("Gare aux gaffes");
+            assertThat(result.getNumEdition()).isEqualTo("a2007");
+            assertThat(result.getExternalId()).isEqualTo("54321");
         }
     }
 
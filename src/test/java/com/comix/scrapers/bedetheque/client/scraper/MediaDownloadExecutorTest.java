@@ -0,0 +1,113 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MediaDownloadExecutorTest {
+
+    private MediaDownloadExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("submit should return the result of the download")
+    void submit_shouldReturnTheDownloadResult() {
+        executor = new MediaDownloadExecutor(2, 2, false);
+
+        CompletableFuture<String> result = executor.submit("https://www.bedetheque.com/media/a.jpg", () -> "/medias/0/a.jpg");
+
+        assertThat(result.join()).isEqualTo("/medias/0/a.jpg");
+    }
+
+    @Test
+    @DisplayName("downloads of the same host should not exceed the per-host limit")
+    void submit_shouldApplyThePerHostLimit() {
+        executor = new MediaDownloadExecutor(10, 2, false);
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+
+        List<CompletableFuture<Void>> downloads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            downloads.add(executor.submit("https://www.bedetheque.com/media/" + i + ".jpg", probe).thenAccept(url -> {}));
+        }
+        MediaDownloadExecutor.await(downloads);
+
+        assertThat(probe.max.get()).isEqualTo(2);
+        assertThat(downloads).allMatch(CompletableFuture::isDone);
+    }
+
+    @Test
+    @DisplayName("downloads of different hosts should not exceed the global limit")
+    void submit_shouldApplyTheGlobalLimit() {
+        executor = new MediaDownloadExecutor(3, 3, false);
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+
+        List<CompletableFuture<Void>> downloads = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            downloads.add(executor.submit("https://host" + i + ".com/media.jpg", probe).thenAccept(url -> {}));
+        }
+        MediaDownloadExecutor.await(downloads);
+
+        assertThat(probe.max.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("await should not propagate a failed download")
+    void await_shouldIgnoreFailedDownloads() {
+        executor = new MediaDownloadExecutor(2, 2, false);
+        CompletableFuture<Void> failed = executor.<String>submit("https://www.bedetheque.com/media/a.jpg", () -> {
+            throw new IllegalStateException("boom");
+        }).thenAccept(url -> {});
+        CompletableFuture<Void> succeeded = executor.submit("https://www.bedetheque.com/media/b.jpg", () -> "b").thenAccept(url -> {});
+
+        MediaDownloadExecutor.await(List.of(failed, succeeded));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(succeeded).isCompleted();
+    }
+
+    @Test
+    @DisplayName("invalid parameters should be rejected")
+    void constructor_shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new MediaDownloadExecutor(0, 1, false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MediaDownloadExecutor(1, 0, false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Fake download recording the maximum number of concurrent executions
+     */
+    private static class ConcurrencyProbe implements Supplier<String> {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @Override
+        public String get() {
+            int running = current.incrementAndGet();
+            max.accumulateAndGet(running, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                current.decrementAndGet();
+            }
+            return "done";
+        }
+    }
+}
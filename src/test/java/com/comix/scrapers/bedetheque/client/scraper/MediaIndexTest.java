@@ -0,0 +1,82 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MediaIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MediaIndex mediaIndex;
+
+    @BeforeEach
+    void setUp() {
+        mediaIndex = new MediaIndex();
+    }
+
+    @Test
+    @DisplayName("exists should find the medias present at the first lookup of the directory")
+    void exists_shouldFindExistingMedias() throws IOException {
+        Files.writeString(tempDir.resolve("a.jpg"), "image");
+
+        assertThat(mediaIndex.exists(tempDir.resolve("a.jpg"))).isTrue();
+        assertThat(mediaIndex.exists(tempDir.resolve("b.jpg"))).isFalse();
+        assertThat(mediaIndex.getIndexedDirectoryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exists should list a directory only once")
+    void exists_shouldListDirectoryOnlyOnce() throws IOException {
+        assertThat(mediaIndex.exists(tempDir.resolve("a.jpg"))).isFalse();
+
+        // Un fichier créé en dehors de l'index n'est pas vu : le répertoire n'est pas relu
+        Files.writeString(tempDir.resolve("a.jpg"), "image");
+
+        assertThat(mediaIndex.exists(tempDir.resolve("a.jpg"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("add should register a downloaded media")
+    void add_shouldRegisterMedia() {
+        mediaIndex.add(tempDir.resolve("a.jpg"));
+
+        assertThat(mediaIndex.exists(tempDir.resolve("a.jpg"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("exists should ignore empty files left by a failed download")
+    void exists_shouldIgnoreEmptyFiles() throws IOException {
+        Files.createFile(tempDir.resolve("empty.jpg"));
+
+        assertThat(mediaIndex.exists(tempDir.resolve("empty.jpg"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("exists should return false for a missing directory")
+    void exists_shouldReturnFalseForMissingDirectory() {
+        assertThat(mediaIndex.exists(tempDir.resolve("missing/a.jpg"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("createDirectories should create a directory only once")
+    void createDirectories_shouldCreateDirectoryOnlyOnce() throws IOException {
+        Path directory = tempDir.resolve("1/2");
+
+        mediaIndex.createDirectories(directory);
+        assertThat(directory).isDirectory();
+
+        // Le répertoire est connu : il n'est pas recréé, même supprimé entre temps
+        Files.delete(directory);
+        mediaIndex.createDirectories(directory);
+        assertThat(directory).doesNotExist();
+    }
+}
@@ -0,0 +1,210 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCacheTest {
+
+    private static final String SERIE_URL = "https://www.bedetheque.com/serie-1-BD-Test.html";
+    private static final String HTML = "<html><head><title>Test</title></head><body>Contenu</body></html>";
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-18T10:00:00Z"));
+
+    private PageCache newPageCache(Duration ttl, int maxEntries) {
+        PageCacheProperties properties = new PageCacheProperties(true, tempDir.toString(),
+                Map.of(PageType.SERIE, new PageCacheProperties.Policy(ttl, maxEntries)));
+        return new PageCache(properties, clock);
+    }
+
+    private static byte[] html(String title) {
+        return HTML.replace("Test", title).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("seuls les types de page ayant une politique doivent être mis en cache")
+    void isCacheable_shouldDependOnThePageType() {
+        PageCache pageCache = newPageCache(Duration.ofHours(1), 10);
+
+        assertThat(pageCache.isCacheable(SERIE_URL)).isTrue();
+        assertThat(pageCache.isCacheable("https://www.bedetheque.com/BD-Test-1-1.html")).isFalse();
+        assertThat(pageCache.isCacheable("https://www.bedetheque.com/search/albums")).isFalse();
+    }
+
+    @Test
+    @DisplayName("une page stockée doit être relue avec ses validateurs tant que son ttl n'est pas expiré")
+    void put_shouldStoreThePageAndItsValidators() {
+        // GIVEN
+        PageCache pageCache = newPageCache(Duration.ofHours(1), 10);
+
+        // WHEN
+        pageCache.put(SERIE_URL, html("Test"), "UTF-8", "\"v1\"", "Sat, 17 Oct 2026 10:00:00 GMT");
+
+        // THEN
+        PageCache.CachedPage cached = pageCache.get(SERIE_URL).orElseThrow();
+        assertThat(cached.type()).isEqualTo(PageType.SERIE);
+        assertThat(cached.etag()).isEqualTo("\"v1\"");
+        assertThat(cached.lastModified()).isEqualTo("Sat, 17 Oct 2026 10:00:00 GMT");
+        assertThat(pageCache.isFresh(cached)).isTrue();
+        Document doc = pageCache.parse(cached);
+        assertThat(doc.title()).isEqualTo("Test");
+        assertThat(doc.location()).isEqualTo(SERIE_URL);
+
+        // AND : le ttl expire
+        clock.advance(Duration.ofHours(2));
+        assertThat(pageCache.isFresh(cached)).isFalse();
+    }
+
+    @Test
+    @DisplayName("revalidated doit prolonger la fraîcheur d'une page non modifiée")
+    void revalidated_shouldRefreshTheValidationDate() {
+        // GIVEN
+        PageCache pageCache = newPageCache(Duration.ofHours(1), 10);
+        pageCache.put(SERIE_URL, html("Test"), "UTF-8", "\"v1\"", null);
+        clock.advance(Duration.ofHours(2));
+        PageCache.CachedPage stale = pageCache.get(SERIE_URL).orElseThrow();
+        assertThat(pageCache.isFresh(stale)).isFalse();
+
+        // WHEN
+        Document doc = pageCache.revalidated(stale);
+
+        // THEN
+        assertThat(doc.title()).isEqualTo("Test");
+        PageCache.CachedPage revalidated = pageCache.get(SERIE_URL).orElseThrow();
+        assertThat(revalidated.validatedAt()).isEqualTo(clock.instant());
+        assertThat(pageCache.isFresh(revalidated)).isTrue();
+    }
+
+    @Test
+    @DisplayName("les pages les moins récemment utilisées doivent être évincées, fichiers compris")
+    void put_shouldEvictTheLeastRecentlyUsedPages() throws IOException {
+        // GIVEN
+        PageCache pageCache = newPageCache(Duration.ofHours(1), 2);
+        String first = "https://www.bedetheque.com/serie-1-BD-Un.html";
+        String second = "https://www.bedetheque.com/serie-2-BD-Deux.html";
+        String third = "https://www.bedetheque.com/serie-3-BD-Trois.html";
+        pageCache.put(first, html("Un"), "UTF-8", null, null);
+        pageCache.put(second, html("Deux"), "UTF-8", null, null);
+        // La première page devient la plus récemment utilisée
+        pageCache.get(first);
+
+        // WHEN
+        pageCache.put(third, html("Trois"), "UTF-8", null, null);
+
+        // THEN
+        assertThat(pageCache.get(first)).isPresent();
+        assertThat(pageCache.get(second)).isEmpty();
+        assertThat(pageCache.get(third)).isPresent();
+        try (Stream<Path> files = Files.list(tempDir.resolve(PageType.SERIE.name()))) {
+            // un corps et un fichier de métadonnées par page
+            assertThat(files.count()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("les pages stockées doivent être retrouvées par une nouvelle instance")
+    void get_shouldLoadThePagesOfAPreviousRun() {
+        // GIVEN
+        newPageCache(Duration.ofHours(1), 10).put(SERIE_URL, html("Test"), "UTF-8", "\"v1\"", null);
+
+        // WHEN
+        PageCache pageCache = newPageCache(Duration.ofHours(1), 10);
+
+        // THEN
+        PageCache.CachedPage cached = pageCache.get(SERIE_URL).orElseThrow();
+        assertThat(cached.etag()).isEqualTo("\"v1\"");
+        assertThat(pageCache.parse(cached).title()).isEqualTo("Test");
+    }
+
+    @Test
+    @DisplayName("une page dont le corps est perdu doit être retirée du cache")
+    void parse_shouldRemoveAPageWhoseBodyIsLost() throws IOException {
+        // GIVEN
+        PageCache pageCache = newPageCache(Duration.ofHours(1), 10);
+        pageCache.put(SERIE_URL, html("Test"), "UTF-8", null, null);
+        try (Stream<Path> files = Files.list(tempDir.resolve(PageType.SERIE.name()))) {
+            for (Path body : files.filter(path -> path.toString().endsWith(".html")).toList()) {
+                Files.delete(body);
+            }
+        }
+        PageCache.CachedPage cached = pageCache.get(SERIE_URL).orElseThrow();
+
+        // WHEN
+        Document doc = pageCache.parse(cached);
+
+        // THEN
+        assertThat(doc).isNull();
+        assertThat(pageCache.get(SERIE_URL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("bindTo doit enregistrer les compteurs de hit, revalidation et miss")
+    void bindTo_shouldRegisterCounters() {
+        // GIVEN
+        PageCache pageCache = newPageCache(Duration.ofHours(1), 10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pageCache.bindTo(registry);
+
+        // WHEN
+        pageCache.put(SERIE_URL, html("Test"), "UTF-8", null, null);
+        PageCache.CachedPage cached = pageCache.get(SERIE_URL).orElseThrow();
+        pageCache.parse(cached);
+        pageCache.parse(cached);
+        pageCache.revalidated(cached);
+
+        // THEN
+        assertThat(registry.get("bedetheque.fetch.cache").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("bedetheque.fetch.cache").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("bedetheque.fetch.cache").tag("result", "revalidated").functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Clock whose time is moved forward by the tests
+     */
+    static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -8,7 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -16,7 +16,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -25,6 +24,9 @@ class RatingScraperTest {
 
     private RatingScraper scraper;
 
+    @Mock
+    private FetchEngine fetchEngine;
+
     // Un fragment HTML représentatif de la page des avis
     private final String ratingsHtml = """
         <html><body>
@@ -62,7 +64,7 @@ class RatingScraperTest {
     void setUp() {
         scraper = new RatingScraper();
         // Injection manuelle des dépendances @Value
-        scraper.setLatency(0L);
+        scraper.setFetchEngine(fetchEngine);
         scraper.setLocalCacheActive(false);
 
         // Utilisation de ReflectionTestUtils pour les champs privés sans setter
@@ -84,29 +86,25 @@ class RatingScraperTest {
             Document doc = Jsoup.parse(ratingsHtml);
             String url = "https://test.com/ratings.html";
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                List<Rating> ratings = scraper.scrap(url);
-
-                // THEN
-                assertThat(ratings).hasSize(2);
-
-                Rating firstRating = ratings.getFirst();
-                assertThat(firstRating.getGraphicNovelTitle()).isEqualTo("Tome 2. La serpe d'or");
-                assertThat(firstRating.getGraphicNovelUrl()).isEqualTo("https://www.bedetheque.com/BD-Asterix-Tome-2-La-serpe-d-or-22942.html");
-                assertThat(firstRating.getGraphicNovelPictureUrl()).isEqualTo("https://www.bedetheque.com/cache/thb_couv/asterix02eo_22942.jpg");
-                assertThat(firstRating.getGraphicNovelPictureTitle()).isEqualTo("Tome 2 - La serpe d'or");
-                assertThat(firstRating.getCreateBy()).isEqualTo("crazybuyer1");
-                assertThat(firstRating.getCreateByAllRatingsUrl()).isEqualTo("https://www.bedetheque.com/avis?u=crazybuyer1");
-                assertThat(firstRating.getCreateOn()).isEqualTo("Le 09/12/2020 à 11:51:30");
-                assertThat(firstRating.getRatingPictureUrl()).isEqualTo("https://www.bdgest.com/skin/stars2/5.png");
-                assertThat(firstRating.getRatingTitle()).isEqualTo("Note : 5/5");
-                assertThat(firstRating.getComment()).isEqualTo("Je me dois de prendre la plume...");
-            }
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            List<Rating> ratings = scraper.scrap(url);
+
+            // THEN
+            assertThat(ratings).hasSize(2);
+
+            Rating firstRating = ratings.getFirst();
+            assertThat(firstRating.getGraphicNovelTitle()).isEqualTo("Tome 2. La serpe d'or");
+            assertThat(firstRating.getGraphicNovelUrl()).isEqualTo("https://www.bedetheque.com/BD-Asterix-Tome-2-La-serpe-d-or-22942.html");
+            assertThat(firstRating.getGraphicNovelPictureUrl()).isEqualTo("https://www.bedetheque.com/cache/thb_couv/asterix02eo_22942.jpg");
+            assertThat(firstRating.getGraphicNovelPictureTitle()).isEqualTo("Tome 2 - La serpe d'or");
+            assertThat(firstRating.getCreateBy()).isEqualTo("crazybuyer1");
+            assertThat(firstRating.getCreateByAllRatingsUrl()).isEqualTo("https://www.bedetheque.com/avis?u=crazybuyer1");
+            assertThat(firstRating.getCreateOn()).isEqualTo("Le 09/12/2020 à 11:51:30");
+            assertThat(firstRating.getRatingPictureUrl()).isEqualTo("https://www.bdgest.com/skin/stars2/5.png");
+            assertThat(firstRating.getRatingTitle()).isEqualTo("Note : 5/5");
+            assertThat(firstRating.getComment()).isEqualTo("Je me dois de prendre la plume...");
         }
 
         @Test
@@ -116,17 +114,13 @@ class RatingScraperTest {
             Document doc = Jsoup.parse("<html><body><p>Aucun avis ici.</p></body></html>");
             String url = "https://test.com/no-ratings.html";
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString())).thenReturn(doc);
 
-                // WHEN
-                List<Rating> ratings = scraper.scrap(url);
+            // WHEN
+            List<Rating> ratings = scraper.scrap(url);
 
-                // THEN
-                assertThat(ratings).isNotNull().isEmpty();
-            }
+            // THEN
+            assertThat(ratings).isNotNull().isEmpty();
         }
 
         @Test
@@ -150,24 +144,20 @@ class RatingScraperTest {
             Document doc = Jsoup.parse(partialHtml);
             String url = "https://test.com/partial-ratings.html";
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                List<Rating> ratings = scraper.scrap(url);
-
-                // THEN
-                assertThat(ratings).hasSize(1);
-                Rating rating = ratings.getFirst();
-                assertThat(rating.getGraphicNovelTitle()).isEqualTo("Un Titre");
-                assertThat(rating.getGraphicNovelUrl()).isEqualTo("https://url.com");
-                // Vérification que les champs manquants sont bien nuls
-                assertThat(rating.getCreateBy()).isNull();
-                assertThat(rating.getComment()).isNull();
-                assertThat(rating.getRatingPictureUrl()).isNull();
-            }
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            List<Rating> ratings = scraper.scrap(url);
+
+            // THEN
+            assertThat(ratings).hasSize(1);
+            Rating rating = ratings.getFirst();
+            assertThat(rating.getGraphicNovelTitle()).isEqualTo("Un Titre");
+            assertThat(rating.getGraphicNovelUrl()).isEqualTo("https://url.com");
+            // Vérification que les champs manquants sont bien nuls
+            assertThat(rating.getCreateBy()).isNull();
+            assertThat(rating.getComment()).isNull();
+            assertThat(rating.getRatingPictureUrl()).isNull();
         }
     }
 
@@ -192,35 +182,31 @@ class RatingScraperTest {
             Document doc = Jsoup.parse(ratingsHtml);
             String url = "https://test.com/ratings.html";
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                scraperSpy.scrap(url);
-
-                // THEN
-                // Vérification que downloadMedia a été appelé pour la couverture de l'album et l'image de notation
-                // Notre HTML de test contient un bloc d'avis complet, donc 2 images à télécharger.
-                verify(scraperSpy, times(2)).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
-
-                // Vérifications plus spécifiques
-                verify(scraperSpy).downloadMedia(
-                        "/tmp/covers/",
-                        "/media/covers/",
-                        "https://www.bedetheque.com/cache/thb_couv/asterix02eo_22942.jpg",
-                        "default.jpg",
-                        "22942"
-                );
-                verify(scraperSpy).downloadMedia(
-                        "/tmp/avatars/",
-                        "/media/avatars/",
-                        "https://www.bdgest.com/skin/stars2/5.png",
-                        "default.jpg",
-                        "1"
-                );
-            }
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            scraperSpy.scrap(url);
+
+            // THEN
+            // Vérification que downloadMedia a été appelé pour la couverture de l'album et l'image de notation
+            // Notre HTML de test contient un bloc d'avis complet, donc 2 images à télécharger.
+            verify(scraperSpy, times(2)).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
+
+            // Vérifications plus spécifiques
+            verify(scraperSpy).downloadMedia(
+                    "/tmp/covers/",
+                    "/media/covers/",
+                    "https://www.bedetheque.com/cache/thb_couv/asterix02eo_22942.jpg",
+                    "default.jpg",
+                    "22942"
+            );
+            verify(scraperSpy).downloadMedia(
+                    "/tmp/avatars/",
+                    "/media/avatars/",
+                    "https://www.bdgest.com/skin/stars2/5.png",
+                    "default.jpg",
+                    "1"
+            );
         }
 
         @Test
@@ -233,18 +219,14 @@ class RatingScraperTest {
             Document doc = Jsoup.parse(ratingsHtml);
             String url = "https://test.com/ratings.html";
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString())).thenReturn(doc);
 
-                // WHEN
-                scraperSpy.scrap(url);
+            // WHEN
+            scraperSpy.scrap(url);
 
-                // THEN
-                // Vérification que downloadMedia n'a jamais été appelé
-                verify(scraperSpy, never()).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
-            }
+            // THEN
+            // Vérification que downloadMedia n'a jamais été appelé
+            verify(scraperSpy, never()).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SelectorsTest {
+
+    private static final String ALBUM_LIST = """
+            <ul class="liste-albums">
+              <li itemtype="https://schema.org/Book">
+                <h3 class="titre"><a class="titre"><span itemprop="name">Tome 1</span></a></h3>
+                <ul class="infos">
+                  <li><label>Identifiant :</label>123</li>
+                  <li><label>Editeur :</label>Dupuis</li>
+                </ul>
+                <i class="icon-star"></i>
+              </li>
+              <li itemtype="https://schema.org/Book">
+                <h3 class="titre"><a class="titre"><span itemprop="name">Tome 2</span></a></h3>
+                <ul class="infos">
+                  <li><label>Identifiant :</label>456</li>
+                </ul>
+              </li>
+            </ul>
+            """;
+
+    @Test
+    @DisplayName("les sélecteurs précompilés doivent retourner les mêmes éléments que les requêtes CSS")
+    void selectors_shouldMatchTheSameElementsAsTheCssQueries() {
+        Document document = Jsoup.parse(ALBUM_LIST);
+
+        assertThat(document.select(Selectors.ALBUM_BOOKS))
+                .containsExactlyElementsOf(document.select("ul.liste-albums li[itemtype='https://schema.org/Book']"));
+        assertThat(document.select(Selectors.ALBUM_TITLE_NAME))
+                .containsExactlyElementsOf(document.select("h3 a.titre > span[itemprop='name']"));
+        assertThat(document.select(Selectors.ALBUM_ORIGINAL_PUBLICATION_ICON)).hasSize(1);
+        assertThat(document.select(Selectors.albumInfoLabel("Editeur")))
+                .containsExactlyElementsOf(document.select("li label:containsOwn(Editeur)"));
+    }
+
+    @Test
+    @DisplayName("albumInfoLabel doit réutiliser le sélecteur compilé d'un libellé")
+    void albumInfoLabel_shouldReuseTheCompiledEvaluator() {
+        assertThat(Selectors.albumInfoLabel("Identifiant")).isSameAs(Selectors.albumInfoLabel("Identifiant"));
+        assertThat(Selectors.albumInfoLabel("Nouveau libellé")).isSameAs(Selectors.albumInfoLabel("Nouveau libellé"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerieInfoBlockTest {
+
+    static Document loadGoldenPage(String page) throws IOException {
+        try (InputStream in = SerieInfoBlockTest.class.getResourceAsStream("/golden/series/" + page + ".html")) {
+            assertThat(in).as("golden page %s", page).isNotNull();
+            return Jsoup.parse(in, "UTF-8", "https://www.bedetheque.com/");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"serie-en-cours", "serie-sans-genre", "serie-sans-infos"})
+    @DisplayName("les éléments trouvés doivent être ceux des anciennes requêtes :contains")
+    void item_shouldMatchTheContainsQueries(String page) throws IOException {
+        Document doc = loadGoldenPage(page);
+        SerieInfoBlock infos = SerieInfoBlock.of(doc);
+
+        for (String key : new String[]{"Identifiant", "Origine", "Langue", "Internet"}) {
+            assertThat(infos.item(key)).as(key).isSameAs(doc.select("ul.serie-info li:contains(" + key + ")").first());
+        }
+        for (String key : new String[]{"Genre", "Parution"}) {
+            assertThat(infos.itemSpan(key)).as(key).isSameAs(doc.select("ul.serie-info li:contains(" + key + ") > span").first());
+        }
+    }
+
+    @Test
+    @DisplayName("itemByLabel doit respecter la casse du libellé")
+    void itemByLabel_shouldBeCaseSensitive() {
+        SerieInfoBlock infos = SerieInfoBlock.of(Jsoup.parse("""
+                <ul class="serie-info"><li><label>TOMES :</label>3</li><li><label>Tomes :</label>4</li></ul>
+                """));
+
+        assertThat(infos.itemByLabel("Tome").ownText()).isEqualTo("4");
+        assertThat(infos.itemByLabel("Cycle")).isNull();
+    }
+
+    @Test
+    @DisplayName("une page sans bloc d'informations ne doit retourner aucun élément")
+    void of_shouldBeEmptyWithoutInformationBlock() {
+        SerieInfoBlock infos = SerieInfoBlock.of(Jsoup.parse("<h1>Titre seul</h1>"));
+
+        assertThat(infos.item("Identifiant")).isNull();
+        assertThat(infos.itemSpan("Genre")).isNull();
+        assertThat(infos.itemByLabel("Tome")).isNull();
+    }
+}
@@ -6,20 +6,24 @@ import com.comix.scrapers.bedetheque.client.model.serie.SerieDetails;
 import com.comix.scrapers.bedetheque.client.model.serie.SeriesByLetter;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Properties;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +35,9 @@ class SerieScraperTest {
     @Mock
     private GraphicNovelScraper graphicNovelScraper;
 
+    @Mock
+    private FetchEngine fetchEngine;
+
     @InjectMocks
     private SerieScraper serieScraper;
 
@@ -64,7 +71,7 @@ class SerieScraperTest {
         serieScraper.setBedethequeSerieIndexByLetterUrl("https://test.com/series-%s.html");
         serieScraper.setBedethequeSeriePrefixUrl("serie-");
         serieScraper.setLocalCacheActive(false);
-        serieScraper.setLatency(0L);
+        serieScraper.setFetchEngine(fetchEngine);
 
         // Injection des chemins pour le téléchargement des médias
         ReflectionTestUtils.setField(serieScraper, "outputPageExampleThumbDirectory", "/tmp/thumbs/page/");
@@ -111,21 +118,17 @@ class SerieScraperTest {
                 """;
             Document doc = Jsoup.parse(html);
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString())).thenReturn(doc);
 
-                // WHEN
-                List<Serie> series = serieScraper.listByLetter("A");
+            // WHEN
+            List<Serie> series = serieScraper.listByLetter("A");
 
-                // THEN
-                assertThat(series).hasSize(2);
-                assertThat(series.get(0).getId()).isEqualTo("1");
-                assertThat(series.get(0).getName()).isEqualTo("Astérix");
-                assertThat(series.get(1).getId()).isEqualTo("2");
-                assertThat(series.get(1).getName()).isEqualTo("Iznogoud");
-            }
+            // THEN
+            assertThat(series).hasSize(2);
+            assertThat(series.get(0).getId()).isEqualTo("1");
+            assertThat(series.get(0).getName()).isEqualTo("Astérix");
+            assertThat(series.get(1).getId()).isEqualTo("2");
+            assertThat(series.get(1).getName()).isEqualTo("Iznogoud");
         }
     }
 
@@ -141,37 +144,33 @@ class SerieScraperTest {
             String url = "https://test.com/serie-12345-Titre-de-la-Série.html";
 
             // Mock des dépendances
-            when(graphicNovelScraper.scrapFromSerie(anyString(), any(Document.class), any(Element.class)))
-                    .thenReturn(new GraphicNovel()); // Retourne un album mocké
-
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                SerieDetails result = serieScraper.scrap(url);
-
-                // THEN
-                assertThat(result).isNotNull();
-                assertThat(result.getExternalId()).isEqualTo("12345");
-                assertThat(result.getTitle()).isEqualTo("Titre de la Série");
-                assertThat(result.getCategory()).isEqualTo("Aventure");
-                assertThat(result.getStatus()).isEqualTo("Finie");
-                assertThat(result.getOrigin()).isEqualTo("France");
-                assertThat(result.getLanguage()).isEqualTo("Français");
-                assertThat(result.getSiteUrl()).isEqualTo("https://site-officiel.com");
-                assertThat(result.getSynopsys()).isEqualTo("Ceci est le synopsis.");
-                assertThat(result.getPictureUrl()).isEqualTo("image_hd.jpg");
-                assertThat(result.getPictureThbUrl()).isEqualTo("image_thumb.jpg");
-                assertThat(result.getCopyright()).isEqualTo("© Dargaud 2024");
-                assertThat(result.getScrapUrl()).isEqualTo(url);
-                assertThat(result.getTomeCount()).isEqualTo(12);
-                assertThat(result.getRatings().getCount()).isEqualTo(10);
-                assertThat(result.getRatings().getUrl()).isEqualTo("avis.html");
-                assertThat(result.getGraphicNovels()).hasSize(1);
-                assertThat(result.getToReadSeries()).hasSize(1);
-            }
+            when(graphicNovelScraper.scrapElement(anyString(), any(Document.class)))
+                    .thenReturn(List.of(new GraphicNovel())); // Retourne un album mocké
+
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            SerieDetails result = serieScraper.scrap(url);
+
+            // THEN
+            assertThat(result).isNotNull();
+            assertThat(result.getExternalId()).isEqualTo("12345");
+            assertThat(result.getTitle()).isEqualTo("Titre de la Série");
+            assertThat(result.getCategory()).isEqualTo("Aventure");
+            assertThat(result.getStatus()).isEqualTo("Finie");
+            assertThat(result.getOrigin()).isEqualTo("France");
+            assertThat(result.getLanguage()).isEqualTo("Français");
+            assertThat(result.getSiteUrl()).isEqualTo("https://site-officiel.com");
+            assertThat(result.getSynopsys()).isEqualTo("Ceci est le synopsis.");
+            assertThat(result.getPictureUrl()).isEqualTo("image_hd.jpg");
+            assertThat(result.getPictureThbUrl()).isEqualTo("image_thumb.jpg");
+            assertThat(result.getCopyright()).isEqualTo("© Dargaud 2024");
+            assertThat(result.getScrapUrl()).isEqualTo(url);
+            assertThat(result.getTomeCount()).isEqualTo(12);
+            assertThat(result.getRatings().getCount()).isEqualTo(10);
+            assertThat(result.getRatings().getUrl()).isEqualTo("avis.html");
+            assertThat(result.getGraphicNovels()).hasSize(1);
+            assertThat(result.getToReadSeries()).hasSize(1);
         }
 
         @Test
@@ -182,24 +181,20 @@ class SerieScraperTest {
             Document doc = Jsoup.parse(minimalHtml);
             String url = "https://test.com/serie-minimal.html";
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
-
-                // WHEN
-                SerieDetails result = serieScraper.scrap(url);
-
-                // THEN
-                assertThat(result).isNotNull();
-                assertThat(result.getTitle()).isEqualTo("Titre Seul");
-                // Les champs non trouvés doivent être null ou vides
-                assertThat(result.getExternalId()).isNull();
-                assertThat(result.getCategory()).isNull();
-                assertThat(result.getSynopsys()).isNull();
-                assertThat(result.getGraphicNovels()).isNotNull().isEmpty();
-                assertThat(result.getToReadSeries()).isNotNull().isEmpty();
-            }
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            SerieDetails result = serieScraper.scrap(url);
+
+            // THEN
+            assertThat(result).isNotNull();
+            assertThat(result.getTitle()).isEqualTo("Titre Seul");
+            // Les champs non trouvés doivent être null ou vides
+            assertThat(result.getExternalId()).isNull();
+            assertThat(result.getCategory()).isNull();
+            assertThat(result.getSynopsys()).isNull();
+            assertThat(result.getGraphicNovels()).isNotNull().isEmpty();
+            assertThat(result.getToReadSeries()).isNotNull().isEmpty();
         }
 
         @Test
@@ -214,26 +209,54 @@ class SerieScraperTest {
             String url = "https://test.com/serie-12345.html";
 
             // Mock des dépendances externes
-            when(graphicNovelScraper.scrapFromSerie(anyString(), any(Document.class), any(Element.class)))
-                    .thenReturn(new GraphicNovel());
+            when(graphicNovelScraper.scrapElement(anyString(), any(Document.class)))
+                    .thenReturn(List.of(new GraphicNovel()));
 
-            try (MockedStatic<GenericScraperSingleton> mockedSingleton = Mockito.mockStatic(GenericScraperSingleton.class)) {
-                GenericScraperSingleton mockScraper = mock(GenericScraperSingleton.class);
-                mockedSingleton.when(GenericScraperSingleton::getInstance).thenReturn(mockScraper);
-                when(mockScraper.load(anyString(), anyLong())).thenReturn(doc);
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            scraperSpy.scrap(url);
 
-                // WHEN
-                scraperSpy.scrap(url);
+            // THEN
+            // On vérifie que downloadMedia a été appelé pour l'image de la série (thumb + hd) et la couverture "à lire"
+            verify(scraperSpy, times(3)).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
+
+            // Vérifications plus spécifiques
+            verify(scraperSpy).downloadMedia(any(), any(), eq("image_thumb.jpg"), any(), any());
+            verify(scraperSpy).downloadMedia(any(), any(), eq("image_hd.jpg"), any(), any());
+            verify(scraperSpy).downloadMedia(any(), any(), eq("cover_alire.jpg"), any(), any());
+        }
+    }
 
-                // THEN
-                // On vérifie que downloadMedia a été appelé pour l'image de la série (thumb + hd) et la couverture "à lire"
-                verify(scraperSpy, times(3)).downloadMedia(anyString(), anyString(), anyString(), anyString(), anyString());
+    @Nested
+    @DisplayName("Golden files of serie pages")
+    class GoldenFileTests {
 
-                // Vérifications plus spécifiques
-                verify(scraperSpy).downloadMedia(any(), any(), eq("image_thumb.jpg"), any(), any());
-                verify(scraperSpy).downloadMedia(any(), any(), eq("image_hd.jpg"), any(), any());
-                verify(scraperSpy).downloadMedia(any(), any(), eq("cover_alire.jpg"), any(), any());
+        @ParameterizedTest
+        @ValueSource(strings = {"serie-en-cours", "serie-sans-genre", "serie-sans-infos"})
+        @DisplayName("should scrap the serie information block as recorded in the golden file")
+        void shouldScrapTheSerieInformationBlock(String page) throws IOException {
+            // GIVEN
+            Document doc = SerieInfoBlockTest.loadGoldenPage(page);
+            Properties expected = new Properties();
+            try (InputStream in = getClass().getResourceAsStream("/golden/series/" + page + ".expected.properties")) {
+                assertThat(in).isNotNull();
+                expected.load(new InputStreamReader(in, StandardCharsets.UTF_8));
             }
+            when(fetchEngine.load(anyString())).thenReturn(doc);
+
+            // WHEN
+            SerieDetails result = serieScraper.scrap("https://www.bedetheque.com/" + page + ".html");
+
+            // THEN
+            assertThat(result.getExternalId()).isEqualTo(expected.getProperty("externalId"));
+            assertThat(result.getCategory()).isEqualTo(expected.getProperty("category"));
+            assertThat(result.getStatus()).isEqualTo(expected.getProperty("status"));
+            assertThat(result.getOrigin()).isEqualTo(expected.getProperty("origin"));
+            assertThat(result.getLanguage()).isEqualTo(expected.getProperty("language"));
+            assertThat(result.getSiteUrl()).isEqualTo(expected.getProperty("siteUrl"));
+            String tomeCount = expected.getProperty("tomeCount");
+            assertThat(result.getTomeCount()).isEqualTo(tomeCount == null ? null : Integer.valueOf(tomeCount));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.comix.scrapers.bedetheque.client.scraper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    @DisplayName("a zero interval should never wait")
+    void zeroInterval_shouldNeverWait() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(Duration.ZERO, 1);
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.reserve()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("the first reservation should not wait, the next one should wait only the remaining interval")
+    void reserve_shouldWaitOnlyTheRemainingInterval() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(Duration.ofMillis(500), 1);
+
+        assertThat(limiter.reserve()).isZero();
+        TimeUnit.MILLISECONDS.sleep(200);
+        long waitNanos = limiter.reserve();
+
+        assertThat(waitNanos)
+                .isPositive()
+                .isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(300));
+    }
+
+    @Test
+    @DisplayName("a bucket should allow a burst of capacity tokens, then throttle")
+    void reserve_shouldAllowBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(Duration.ofSeconds(1), 3);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isPositive();
+    }
+
+    @Test
+    @DisplayName("concurrent callers should be spread at exactly the allowed rate")
+    void acquire_shouldSpreadConcurrentCallers() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(Duration.ofMillis(100), 1);
+        int callers = 6;
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                executor.submit(() -> {
+                    limiter.acquire();
+                    return null;
+                });
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(elapsedMillis).isBetween(500L, 1500L);
+    }
+
+    @Test
+    @DisplayName("invalid parameters should be rejected")
+    void constructor_shouldRejectInvalidParameters() {
+        Duration negative = Duration.ofSeconds(-1);
+        Duration oneSecond = Duration.ofSeconds(1);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(negative, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(oneSecond, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
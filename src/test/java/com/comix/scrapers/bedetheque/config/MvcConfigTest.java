@@ -7,12 +7,14 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
 import java.util.Locale;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -56,6 +58,23 @@ class MvcConfigTest {
         assertThat(interceptor.getParamName()).isEqualTo("lang");
     }
 
+    @Test
+    @DisplayName("La méthode addResourceHandlers doit exposer les médias et le stockage par contenu")
+    void addResourceHandlers_shouldRegisterMediasAndContentStore() {
+        // GIVEN
+        ReflectionTestUtils.setField(mvcConfig, "sharedStoragePath", "/mnt/medias");
+        ReflectionTestUtils.setField(mvcConfig, "mediasUrlPattern", "/api/medias/**");
+        ResourceHandlerRegistry registry = mock(ResourceHandlerRegistry.class, RETURNS_DEEP_STUBS);
+
+        // WHEN
+        mvcConfig.addResourceHandlers(registry);
+
+        // THEN
+        verify(registry).addResourceHandler("/api/medias/**");
+        verify(registry).addResourceHandler("/api/medias/cas/**");
+        verify(registry.addResourceHandler("/api/medias/cas/**")).addResourceLocations("file:/mnt/medias/cas/");
+    }
+
     @Test
     @DisplayName("La méthode addInterceptors doit enregistrer le localeChangeInterceptor")
     void addInterceptors_shouldRegisterTheLocaleChangeInterceptor() {
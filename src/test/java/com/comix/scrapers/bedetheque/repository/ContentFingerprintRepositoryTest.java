@@ -0,0 +1,49 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import com.comix.scrapers.bedetheque.config.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ContentFingerprintRepository.class)
+class ContentFingerprintRepositoryTest extends AbstractIntegrationTest {
+
+    private static final String SERIE = "com.comix.scrapers.bedetheque.rest.v1.dto.SerieDetailsDto";
+    private static final String AUTHOR = "com.comix.scrapers.bedetheque.rest.v1.dto.AuthorDetailsDto";
+
+    @Autowired
+    private ContentFingerprintRepository contentFingerprintRepository;
+
+    @Test
+    @DisplayName("saveChanged should return the new and changed entities only")
+    void saveChanged_shouldReturnTheNewAndChangedEntities() {
+        // Given
+        assertThat(contentFingerprintRepository.saveChanged(SERIE, Map.of("31", "aaa", "10739", "bbb")))
+                .containsExactlyInAnyOrder("31", "10739");
+
+        // When
+        var changed = contentFingerprintRepository.saveChanged(SERIE, Map.of("31", "aaa", "10739", "ccc", "59", "ddd"));
+
+        // Then
+        assertThat(changed).containsExactlyInAnyOrder("10739", "59");
+        assertThat(contentFingerprintRepository.saveChanged(SERIE, Map.of("10739", "ccc"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("saveChanged should keep the fingerprints of each payload type apart")
+    void saveChanged_shouldKeepThePayloadTypesApart() {
+        // Given
+        contentFingerprintRepository.saveChanged(SERIE, Map.of("31", "aaa"));
+
+        // When / Then
+        assertThat(contentFingerprintRepository.saveChanged(AUTHOR, Map.of("31", "aaa"))).containsExactly("31");
+        assertThat(contentFingerprintRepository.saveChanged(AUTHOR, Map.of())).isEmpty();
+    }
+}
@@ -0,0 +1,32 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import com.comix.scrapers.bedetheque.config.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(CrawlCheckpointRepository.class)
+class CrawlCheckpointRepositoryTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CrawlCheckpointRepository crawlCheckpointRepository;
+
+    @Test
+    @DisplayName("save should create the checkpoint, then replace its value")
+    void save_shouldCreateThenReplaceTheValue() {
+        // Given
+        assertThat(crawlCheckpointRepository.find("last-entries.graphic-novel-id")).isEmpty();
+
+        // When
+        crawlCheckpointRepository.save("last-entries.graphic-novel-id", "450");
+        crawlCheckpointRepository.save("last-entries.graphic-novel-id", "505");
+
+        // Then
+        assertThat(crawlCheckpointRepository.find("last-entries.graphic-novel-id")).contains("505");
+    }
+}
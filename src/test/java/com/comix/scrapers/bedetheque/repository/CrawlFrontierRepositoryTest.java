@@ -0,0 +1,136 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import com.comix.scrapers.bedetheque.config.AbstractIntegrationTest;
+import com.comix.scrapers.bedetheque.entity.CrawlJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(CrawlFrontierRepository.class)
+class CrawlFrontierRepositoryTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CrawlFrontierRepository crawlFrontierRepository;
+
+    @Autowired
+    private CrawlJobRepository crawlJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long jobId;
+
+    @BeforeEach
+    void setUp() {
+        CrawlJob crawlJob = new CrawlJob();
+        crawlJob.setType(CrawlJob.Type.SERIES);
+        jobId = crawlJobRepository.saveAndFlush(crawlJob).getId();
+    }
+
+    @Test
+    @DisplayName("enqueue should ignore the items already known by the job")
+    void enqueue_shouldIgnoreTheKnownItems() {
+        // When
+        crawlFrontierRepository.enqueue(jobId, CrawlFrontierItem.Kind.SERIES_LETTER, List.of("A", "B"));
+        crawlFrontierRepository.enqueue(jobId, CrawlFrontierItem.Kind.SERIES_LETTER, List.of("B", "C"));
+
+        // Then
+        assertThat(crawlFrontierRepository.countByState(jobId))
+                .containsEntry(CrawlFrontierItem.State.PENDING, 3L)
+                .containsEntry(CrawlFrontierItem.State.DONE, 0L);
+    }
+
+    @Test
+    @DisplayName("claim should give each pending item once, and only for the running jobs")
+    void claim_shouldGiveEachItemOnce() {
+        // Given
+        crawlFrontierRepository.enqueue(jobId, CrawlFrontierItem.Kind.SERIES_LETTER, List.of("A", "B", "C"));
+
+        // When
+        List<CrawlFrontierItem> first = crawlFrontierRepository.claim(2);
+        List<CrawlFrontierItem> second = crawlFrontierRepository.claim(2);
+        jdbcTemplate.update("UPDATE crawl_jobs SET status = 'PAUSED' WHERE id = ?", jobId);
+        crawlFrontierRepository.fail(first.getFirst().id(), "Read timed out", 3);
+        List<CrawlFrontierItem> paused = crawlFrontierRepository.claim(2);
+
+        // Then
+        assertThat(first).extracting(CrawlFrontierItem::target).containsExactly("A", "B");
+        assertThat(first).allMatch(item -> item.attempts() == 1 && !item.force());
+        assertThat(second).extracting(CrawlFrontierItem::target).containsExactly("C");
+        assertThat(paused).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fail should mark the item as failed once it has been attempted too many times")
+    void fail_shouldMarkTheItemAsFailedAfterTheLastAttempt() {
+        // Given
+        crawlFrontierRepository.enqueue(jobId, CrawlFrontierItem.Kind.SERIE, List.of("https://www.bedetheque.com/serie-1.html"));
+
+        // When
+        crawlFrontierRepository.fail(crawlFrontierRepository.claim(1).getFirst().id(), "Read timed out", 2);
+        crawlFrontierRepository.fail(crawlFrontierRepository.claim(1).getFirst().id(), "Read timed out", 2);
+
+        // Then
+        assertThat(crawlFrontierRepository.claim(1)).isEmpty();
+        assertThat(crawlFrontierRepository.countByState(jobId)).containsEntry(CrawlFrontierItem.State.FAILED, 1L);
+    }
+
+    @Test
+    @DisplayName("releaseExpired should give back the items claimed for too long")
+    void releaseExpired_shouldGiveBackTheExpiredItems() {
+        // Given
+        crawlFrontierRepository.enqueue(jobId, CrawlFrontierItem.Kind.SERIES_LETTER, List.of("A", "B"));
+        List<CrawlFrontierItem> claimed = crawlFrontierRepository.claim(2);
+        jdbcTemplate.update("UPDATE crawl_frontier SET updated_at = LOCALTIMESTAMP - INTERVAL '1 hour' WHERE id = ?",
+                claimed.getFirst().id());
+
+        // When
+        int released = crawlFrontierRepository.releaseExpired(Duration.ofMinutes(10));
+
+        // Then
+        assertThat(released).isEqualTo(1);
+        assertThat(crawlFrontierRepository.claim(2)).extracting(CrawlFrontierItem::target).containsExactly("A");
+    }
+
+    @Test
+    @DisplayName("renew should keep a claimed item from being released")
+    void renew_shouldExtendTheLeaseOfTheClaimedItems() {
+        // Given
+        crawlFrontierRepository.enqueue(jobId, CrawlFrontierItem.Kind.SERIES_LETTER, List.of("A", "B"));
+        List<CrawlFrontierItem> claimed = crawlFrontierRepository.claim(2);
+        jdbcTemplate.update("UPDATE crawl_frontier SET updated_at = LOCALTIMESTAMP - INTERVAL '1 hour' WHERE job_id = ?", jobId);
+
+        // When
+        int renewed = crawlFrontierRepository.renew(List.of(claimed.getFirst().id()));
+
+        // Then
+        assertThat(renewed).isEqualTo(1);
+        assertThat(crawlFrontierRepository.releaseExpired(Duration.ofMinutes(10))).isEqualTo(1);
+        assertThat(crawlFrontierRepository.claim(2)).extracting(CrawlFrontierItem::target).containsExactly("B");
+    }
+
+    @Test
+    @DisplayName("completeFinishedJobs should complete the jobs without pending or claimed items")
+    void completeFinishedJobs_shouldCompleteTheFinishedJobs() {
+        // Given
+        crawlFrontierRepository.enqueue(jobId, CrawlFrontierItem.Kind.SERIES_INDEX, List.of(CrawlFrontierItem.ALL));
+        CrawlFrontierItem item = crawlFrontierRepository.claim(1).getFirst();
+
+        // When / Then
+        assertThat(crawlFrontierRepository.completeFinishedJobs()).isZero();
+        crawlFrontierRepository.complete(item.id());
+        assertThat(crawlFrontierRepository.completeFinishedJobs()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM crawl_jobs WHERE id = ?", String.class, jobId))
+                .isEqualTo(CrawlJob.Status.COMPLETED.name());
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -61,4 +62,46 @@ class OutboxMessageRepositoryTest extends AbstractIntegrationTest {
         // Then
         assertThat(foundMessages).hasSize(1).containsExactly(pendingMessage);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("saveAll should allocate the ids of a batch from the pooled sequence")
+    void saveAll_shouldAllocateDistinctIdsFromTheSequence() {
+        // Given
+        List<OutboxMessage> messages = IntStream.range(0, 120).mapToObj(i -> {
+            OutboxMessage message = new OutboxMessage();
+            message.setPayload("{\"id\":" + i + "}");
+            message.setPayloadType("java.lang.String");
+            return message;
+        }).toList();
+
+        // When
+        List<OutboxMessage> savedMessages = outboxMessageRepository.saveAll(messages);
+        entityManager.flush();
+
+        // Then
+        assertThat(savedMessages).extracting(OutboxMessage::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(outboxMessageRepository.count()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("updateStatus should update the status of the given messages only")
+    void updateStatus_shouldUpdateOnlyTheGivenMessages() {
+        // Given
+        List<OutboxMessage> messages = IntStream.range(0, 3).mapToObj(i -> {
+            OutboxMessage message = new OutboxMessage();
+            message.setPayload("{}");
+            return entityManager.persist(message);
+        }).toList();
+        entityManager.flush();
+
+        // When
+        int updated = outboxMessageRepository.updateStatus(
+                List.of(messages.get(0).getId(), messages.get(2).getId()), OutboxMessage.Status.SENT);
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(outboxMessageRepository.findByStatus(OutboxMessage.Status.PENDING))
+                .extracting(OutboxMessage::getId).containsExactly(messages.get(1).getId());
+    }
+}
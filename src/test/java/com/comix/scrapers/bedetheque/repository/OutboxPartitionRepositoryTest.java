@@ -0,0 +1,135 @@
+package com.comix.scrapers.bedetheque.repository;
+
+import com.comix.scrapers.bedetheque.config.AbstractIntegrationTest;
+import com.comix.scrapers.bedetheque.entity.OutboxMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(OutboxPartitionRepository.class)
+class OutboxPartitionRepositoryTest extends AbstractIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 15);
+
+    @Autowired
+    private OutboxPartitionRepository outboxPartitionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("createPartition should attach the partition of a day and move its messages out of the default partition")
+    void createPartition_shouldMoveTheMessagesOfTheDay() {
+        // Given
+        insertMessage(1L, DAY.atTime(10, 0), OutboxMessage.Status.SENT);
+        insertMessage(2L, DAY.plusDays(1).atTime(10, 0), OutboxMessage.Status.SENT);
+
+        // When
+        outboxPartitionRepository.createPartition(DAY);
+
+        // Then
+        assertThat(outboxPartitionRepository.findPartitionDays()).contains(DAY);
+        assertThat(count("outbox_messages_p20260115")).isEqualTo(1);
+        assertThat(count("outbox_messages_default")).isEqualTo(1);
+        assertThat(count("outbox_messages")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("removePartition should drop a partition whose messages have all been sent")
+    void removePartition_shouldDropASentPartition() {
+        // Given
+        outboxPartitionRepository.createPartition(DAY);
+        insertMessage(1L, DAY.atTime(10, 0), OutboxMessage.Status.SENT);
+
+        // When
+        boolean removed = outboxPartitionRepository.removePartition(DAY, false);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(outboxPartitionRepository.findPartitionDays()).doesNotContain(DAY);
+        assertThat(count("outbox_messages")).isZero();
+    }
+
+    @Test
+    @DisplayName("removePartition should keep the detached partition as an archive table")
+    void removePartition_shouldArchiveThePartition() {
+        // Given
+        outboxPartitionRepository.createPartition(DAY);
+        insertMessage(1L, DAY.atTime(10, 0), OutboxMessage.Status.SENT);
+
+        // When
+        boolean removed = outboxPartitionRepository.removePartition(DAY, true);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(count("outbox_messages")).isZero();
+        assertThat(count("outbox_messages_archive_p20260115")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("removePartition should keep a partition holding pending messages")
+    void removePartition_shouldKeepAPendingPartition() {
+        // Given
+        outboxPartitionRepository.createPartition(DAY);
+        insertMessage(1L, DAY.atTime(10, 0), OutboxMessage.Status.SENT);
+        insertMessage(2L, DAY.atTime(11, 0), OutboxMessage.Status.PENDING);
+
+        // When
+        boolean removed = outboxPartitionRepository.removePartition(DAY, false);
+
+        // Then
+        assertThat(removed).isFalse();
+        assertThat(count("outbox_messages_p20260115")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("purgeDefaultPartition should delete only the old sent messages")
+    void purgeDefaultPartition_shouldDeleteTheOldSentMessages() {
+        // Given
+        insertMessage(1L, DAY.atTime(10, 0), OutboxMessage.Status.SENT);
+        insertMessage(2L, DAY.atTime(10, 0), OutboxMessage.Status.PENDING);
+        insertMessage(3L, DAY.plusDays(10).atTime(10, 0), OutboxMessage.Status.SENT);
+
+        // When
+        int purged = outboxPartitionRepository.purgeDefaultPartition(DAY.plusDays(5).atStartOfDay());
+
+        // Then
+        assertThat(purged).isEqualTo(1);
+        assertThat(count("outbox_messages")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("The outbox statistics should give its size and its oldest pending message")
+    void statistics_shouldGiveTheSizeAndTheOldestPendingMessage() {
+        // Given
+        insertMessage(1L, DAY.atTime(9, 0), OutboxMessage.Status.SENT);
+        insertMessage(2L, DAY.atTime(10, 0), OutboxMessage.Status.PENDING);
+        insertMessage(3L, DAY.atTime(11, 0), OutboxMessage.Status.PENDING);
+
+        // When / Then
+        assertThat(outboxPartitionRepository.getTableSize()).isPositive();
+        assertThat(outboxPartitionRepository.findOldestPendingCreatedAt()).contains(DAY.atTime(10, 0));
+    }
+
+    private void insertMessage(long id, LocalDateTime createdAt, OutboxMessage.Status status) {
+        jdbcTemplate.update("""
+                INSERT INTO outbox_messages (id, exchange, routing_key, payload, payload_type, status, created_at)
+                VALUES (?, 'test-exchange', 'test-key', '{}', 'java.lang.String', ?, ?)""",
+                id, status.name(), Timestamp.valueOf(createdAt));
+    }
+
+    private long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+}
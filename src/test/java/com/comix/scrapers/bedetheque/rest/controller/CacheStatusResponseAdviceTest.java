@@ -0,0 +1,50 @@
+package com.comix.scrapers.bedetheque.rest.controller;
+
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheStatusResponseAdviceTest {
+
+    private final CacheStatusResponseAdvice advice = new CacheStatusResponseAdvice();
+
+    @Test
+    @DisplayName("beforeBodyWrite should add the Cache-Status header of the request")
+    void beforeBodyWrite_shouldAddTheCacheStatusHeader() {
+        // GIVEN
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setAttribute(ScrapeResultCache.CACHE_STATUS_ATTRIBUTE, "bedetheque-scraper; hit");
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+        Object body = new Object();
+
+        // WHEN
+        Object result = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(servletRequest), response);
+
+        // THEN
+        assertThat(result).isSameAs(body);
+        assertThat(response.getHeaders().getFirst(CacheStatusResponseAdvice.CACHE_STATUS_HEADER))
+                .isEqualTo("bedetheque-scraper; hit");
+    }
+
+    @Test
+    @DisplayName("beforeBodyWrite should not add any header to an uncached response")
+    void beforeBodyWrite_shouldNotAddHeaderWithoutCacheStatus() {
+        // GIVEN
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+        // WHEN
+        advice.beforeBodyWrite("body", null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(new MockHttpServletRequest()), response);
+
+        // THEN
+        assertThat(response.getHeaders().containsKey(CacheStatusResponseAdvice.CACHE_STATUS_HEADER)).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+package com.comix.scrapers.bedetheque.rest.controller;
+
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobRequestDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobTypeDto;
+import com.comix.scrapers.bedetheque.service.CrawlJobService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlJobControllerTest {
+
+    @Mock
+    private CrawlJobService crawlJobService;
+
+    @InjectMocks
+    private CrawlJobController crawlJobController;
+
+    @Test
+    @DisplayName("startCrawlJob should start the job and return ACCEPTED")
+    void startCrawlJob_shouldReturnAccepted() {
+        // GIVEN
+        CrawlJobRequestDto request = new CrawlJobRequestDto();
+        request.setType(CrawlJobTypeDto.SERIES);
+        CrawlJobDto crawlJobDto = new CrawlJobDto();
+        when(crawlJobService.start(CrawlJobTypeDto.SERIES, false)).thenReturn(crawlJobDto);
+
+        // WHEN
+        ResponseEntity<CrawlJobDto> response = crawlJobController.startCrawlJob(request);
+
+        // THEN
+        verify(crawlJobService, times(1)).start(CrawlJobTypeDto.SERIES, false);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isEqualTo(crawlJobDto);
+    }
+
+    @Test
+    @DisplayName("listCrawlJobs should return OK with the jobs of the service")
+    void listCrawlJobs_shouldReturnOk() {
+        // GIVEN
+        List<CrawlJobDto> crawlJobs = List.of(new CrawlJobDto(), new CrawlJobDto());
+        when(crawlJobService.list()).thenReturn(crawlJobs);
+
+        // WHEN
+        ResponseEntity<List<CrawlJobDto>> response = crawlJobController.listCrawlJobs();
+
+        // THEN
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(crawlJobs);
+    }
+
+    @Test
+    @DisplayName("getCrawlJob, pauseCrawlJob and resumeCrawlJob should delegate to the service and return OK")
+    void getPauseResume_shouldReturnOk() {
+        // GIVEN
+        CrawlJobDto crawlJobDto = new CrawlJobDto();
+        when(crawlJobService.get(1L)).thenReturn(crawlJobDto);
+        when(crawlJobService.pause(1L)).thenReturn(crawlJobDto);
+        when(crawlJobService.resume(1L)).thenReturn(crawlJobDto);
+
+        // WHEN / THEN
+        assertThat(crawlJobController.getCrawlJob(1L).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(crawlJobController.pauseCrawlJob(1L).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(crawlJobController.resumeCrawlJob(1L).getBody()).isEqualTo(crawlJobDto);
+        verify(crawlJobService).get(1L);
+        verify(crawlJobService).pause(1L);
+        verify(crawlJobService).resume(1L);
+    }
+}
@@ -1,5 +1,7 @@
 package com.comix.scrapers.bedetheque.rest.controller;
 
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import com.comix.scrapers.bedetheque.rest.v1.dto.GraphicNovelDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapAllRepublicationsResponseDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapGraphicNovelsResponseDto;
 import com.comix.scrapers.bedetheque.service.GraphicNovelService;
@@ -10,9 +12,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -94,4 +109,124 @@ class GraphicNovelControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("streamGraphicNovels should write one json line per scraped graphic novel")
+    void streamGraphicNovels_shouldWriteOneJsonLinePerGraphicNovel() throws IOException {
+        // GIVEN
+        String url = "http://some.url/graphic-novels";
+        doAnswer(invocation -> {
+            Consumer<GraphicNovelDto> consumer = invocation.getArgument(2);
+            consumer.accept(new GraphicNovelDto().externalId("1"));
+            consumer.accept(null);
+            consumer.accept(new GraphicNovelDto().externalId("2"));
+            return null;
+        }).when(graphicNovelService).stream(eq(url), eq(null), any());
+
+        // WHEN
+        ResponseEntity<StreamingResponseBody> response = graphicNovelController.streamGraphicNovels(url, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // THEN
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n"))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"))
+                .satisfiesExactly(
+                        line -> assertThat(line).contains("\"externalId\":\"1\""),
+                        line -> assertThat(line).contains("\"externalId\":\"2\""));
+    }
+
+    @Test
+    @DisplayName("streamAllRepublications should stream the republications of the graphic novel")
+    void streamAllRepublications_shouldStreamTheRepublications() throws IOException {
+        // GIVEN
+        String url = "http://some.url/graphic-novel";
+        doAnswer(invocation -> {
+            invocation.<Consumer<GraphicNovelDto>>getArgument(1).accept(new GraphicNovelDto().externalId("3"));
+            return null;
+        }).when(graphicNovelService).streamWithAllRepublications(eq(url), any());
+
+        // WHEN
+        ResponseEntity<StreamingResponseBody> response = graphicNovelController.streamAllRepublications("3", url);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // THEN
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"externalId\":\"3\"").endsWith("\n");
+    }
+
+    @Test
+    @DisplayName("streamGraphicNovels should send the scraping error to the response")
+    void streamGraphicNovels_shouldThrowTheScrapingError() {
+        // GIVEN
+        String url = "http://some.url/graphic-novels";
+        doThrow(new TechnicalException("ERR-SCR-001", new IOException("Boom"), new Object[]{url}))
+                .when(graphicNovelService).stream(eq(url), eq(null), any());
+
+        // WHEN
+        ResponseEntity<StreamingResponseBody> response = graphicNovelController.streamGraphicNovels(url, null);
+
+        // THEN
+        assertThatThrownBy(() -> response.getBody().writeTo(new ByteArrayOutputStream()))
+                .isInstanceOf(TechnicalException.class)
+                .hasFieldOrPropertyWithValue("codeMessage", "ERR-SCR-001");
+    }
+
+    @Test
+    @DisplayName("streamGraphicNovels should stop the scraping when the client doesn't read the response")
+    void streamGraphicNovels_shouldStopTheScrapingWhenTheClientDoesNotRead() throws InterruptedException {
+        // GIVEN
+        String url = "http://some.url/graphic-novels";
+        graphicNovelController.setStreamBufferSize(1);
+        graphicNovelController.setStreamClientTimeout(Duration.ofMillis(100));
+        AtomicReference<RuntimeException> scrapingError = new AtomicReference<>();
+        CountDownLatch scrapingStopped = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Consumer<GraphicNovelDto> consumer = invocation.getArgument(2);
+            try {
+                for (int i = 0; i < 1000; i++) {
+                    consumer.accept(new GraphicNovelDto().externalId(String.valueOf(i)));
+                }
+            } catch (RuntimeException e) {
+                scrapingError.set(e);
+            } finally {
+                scrapingStopped.countDown();
+            }
+            return null;
+        }).when(graphicNovelService).stream(eq(url), eq(null), any());
+        CountDownLatch clientGone = new CountDownLatch(1);
+        OutputStream stalledClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                try {
+                    clientGone.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // WHEN
+        ResponseEntity<StreamingResponseBody> response = graphicNovelController.streamGraphicNovels(url, null);
+        Thread client = Thread.ofVirtual().start(() -> {
+            try {
+                response.getBody().writeTo(stalledClient);
+            } catch (IOException e) {
+                // The client is gone
+            }
+        });
+
+        // THEN
+        assertThat(scrapingStopped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(scrapingError.get())
+                .isInstanceOf(TechnicalException.class)
+                .hasFieldOrPropertyWithValue("codeMessage", "ERR-SCR-010");
+        clientGone.countDown();
+        client.join(5000);
+        assertThat(client.isAlive()).isFalse();
+    }
+}
@@ -0,0 +1,166 @@
+package com.comix.scrapers.bedetheque.rest.controller;
+
+import com.comix.scrapers.bedetheque.exception.BusinessException;
+import com.comix.scrapers.bedetheque.rest.v1.api.AuthorsApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.DashboardApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.FiltersApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.GraphicNovelsApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.RatingsApi;
+import com.comix.scrapers.bedetheque.rest.v1.api.SeriesApi;
+import com.comix.scrapers.bedetheque.rest.v1.dto.FilterAutocompleteTypeEnumDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobOperationDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobRequestDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.SerieDetailsDto;
+import com.comix.scrapers.bedetheque.service.ScrapeJobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScrapeJobControllerTest {
+
+    @Mock
+    private ScrapeJobService scrapeJobService;
+    @Mock
+    private AuthorsApi authorsApi;
+    @Mock
+    private SeriesApi seriesApi;
+    @Mock
+    private GraphicNovelsApi graphicNovelsApi;
+    @Mock
+    private FiltersApi filtersApi;
+    @Mock
+    private DashboardApi dashboardApi;
+    @Mock
+    private RatingsApi ratingsApi;
+
+    @InjectMocks
+    private ScrapeJobController scrapeJobController;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/bedetheque-scraper/v1/scrape-jobs");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("submitScrapeJob should submit the synchronous scrape and return ACCEPTED with the job url")
+    @SuppressWarnings("unchecked")
+    void submitScrapeJob_shouldReturnAccepted() {
+        // GIVEN
+        ScrapeJobRequestDto request = new ScrapeJobRequestDto();
+        request.setOperation(ScrapeJobOperationDto.SCRAP_SERIE);
+        request.setParameters(Map.of("id", "59", "url", "https://www.bedetheque.com/serie-59-BD-Gaston.html"));
+        ScrapeJobDto scrapeJobDto = new ScrapeJobDto();
+        scrapeJobDto.setId("a1b2");
+        when(scrapeJobService.submit(eq(ScrapeJobOperationDto.SCRAP_SERIE), any())).thenReturn(scrapeJobDto);
+        SerieDetailsDto serieDetailsDto = new SerieDetailsDto();
+        when(seriesApi.scrapSerie("59", "https://www.bedetheque.com/serie-59-BD-Gaston.html"))
+                .thenReturn(ResponseEntity.ok(serieDetailsDto));
+
+        // WHEN
+        ResponseEntity<ScrapeJobDto> response = scrapeJobController.submitScrapeJob(request);
+
+        // THEN
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isEqualTo(scrapeJobDto);
+        assertThat(response.getHeaders().getLocation()).hasToString("http://localhost/api/bedetheque-scraper/v1/scrape-jobs/a1b2");
+
+        // The submitted scrape calls the synchronous endpoint
+        ArgumentCaptor<Supplier<?>> scrape = ArgumentCaptor.forClass(Supplier.class);
+        verify(scrapeJobService).submit(eq(ScrapeJobOperationDto.SCRAP_SERIE), scrape.capture());
+        assertThat(scrape.getValue().get()).isSameAs(serieDetailsDto);
+    }
+
+    @Test
+    @DisplayName("submitScrapeJob should parse the typed parameters of the operation")
+    @SuppressWarnings("unchecked")
+    void submitScrapeJob_shouldParseTheTypedParameters() {
+        // GIVEN
+        ScrapeJobRequestDto request = new ScrapeJobRequestDto();
+        request.setOperation(ScrapeJobOperationDto.AUTOCOMPLETE);
+        request.setParameters(Map.of("type", "SERIES", "filter", "gaston"));
+        when(scrapeJobService.submit(eq(ScrapeJobOperationDto.AUTOCOMPLETE), any())).thenReturn(new ScrapeJobDto());
+
+        // WHEN
+        scrapeJobController.submitScrapeJob(request);
+
+        // THEN
+        ArgumentCaptor<Supplier<?>> scrape = ArgumentCaptor.forClass(Supplier.class);
+        verify(scrapeJobService).submit(eq(ScrapeJobOperationDto.AUTOCOMPLETE), scrape.capture());
+        when(filtersApi.autocomplete(FilterAutocompleteTypeEnumDto.SERIES, "gaston")).thenReturn(ResponseEntity.ok(List.of()));
+        scrape.getValue().get();
+        verify(filtersApi).autocomplete(FilterAutocompleteTypeEnumDto.SERIES, "gaston");
+    }
+
+    @Test
+    @DisplayName("submitScrapeJob should reject a job without its mandatory parameters")
+    void submitScrapeJob_shouldRejectMissingParameters() {
+        // GIVEN
+        ScrapeJobRequestDto request = new ScrapeJobRequestDto();
+        request.setOperation(ScrapeJobOperationDto.SCRAP_AUTHOR);
+        request.setParameters(Map.of("id", "1"));
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> scrapeJobController.submitScrapeJob(request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("codeMessage", "httpStatus")
+                .containsExactly("SCRAPE_JOB_MISSING_PARAMETER", HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(scrapeJobService);
+    }
+
+    @Test
+    @DisplayName("submitScrapeJob should reject a job with an invalid parameter")
+    void submitScrapeJob_shouldRejectInvalidParameters() {
+        // GIVEN
+        ScrapeJobRequestDto request = new ScrapeJobRequestDto();
+        request.setOperation(ScrapeJobOperationDto.SCRAP_GRAPHIC_NOVELS);
+        request.setParameters(Map.of("url", "https://www.bedetheque.com/serie-59-BD-Gaston.html", "page", "two"));
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> scrapeJobController.submitScrapeJob(request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("codeMessage")
+                .isEqualTo("SCRAPE_JOB_INVALID_PARAMETER");
+        verifyNoInteractions(scrapeJobService);
+    }
+
+    @Test
+    @DisplayName("getScrapeJob should wait for the job the requested time and return OK")
+    void getScrapeJob_shouldReturnOk() {
+        // GIVEN
+        ScrapeJobDto scrapeJobDto = new ScrapeJobDto();
+        when(scrapeJobService.get("a1b2", Duration.ofSeconds(10))).thenReturn(scrapeJobDto);
+        when(scrapeJobService.get("a1b2", Duration.ZERO)).thenReturn(scrapeJobDto);
+
+        // WHEN / THEN
+        assertThat(scrapeJobController.getScrapeJob("a1b2", 10).getBody()).isEqualTo(scrapeJobDto);
+        assertThat(scrapeJobController.getScrapeJob("a1b2", null).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
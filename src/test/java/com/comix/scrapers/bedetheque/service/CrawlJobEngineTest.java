@@ -0,0 +1,307 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.client.model.author.Author;
+import com.comix.scrapers.bedetheque.client.model.author.AuthorsByLetter;
+import com.comix.scrapers.bedetheque.client.model.serie.Serie;
+import com.comix.scrapers.bedetheque.client.model.serie.SeriesByLetter;
+import com.comix.scrapers.bedetheque.client.model.statistics.GlobalStatistics;
+import com.comix.scrapers.bedetheque.client.model.statistics.LastEntry;
+import com.comix.scrapers.bedetheque.client.scraper.AuthorScraper;
+import com.comix.scrapers.bedetheque.client.scraper.GlobalStatisticsScraper;
+import com.comix.scrapers.bedetheque.client.scraper.SerieScraper;
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import com.comix.scrapers.bedetheque.repository.CrawlCheckpointRepository;
+import com.comix.scrapers.bedetheque.repository.CrawlFrontierItem;
+import com.comix.scrapers.bedetheque.repository.CrawlFrontierRepository;
+import com.comix.scrapers.bedetheque.rest.v1.dto.GraphicNovelDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapAllRepublicationsResponseDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.SerieDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlJobEngineTest {
+
+    private static final String SERIE_URL = "https://www.bedetheque.com/serie-10739-BD-Blacksad.html";
+    private static final String AUTHOR_URL = "https://www.bedetheque.com/auteur-1223-BD-Guarnido-Juanjo.html";
+
+    @Mock
+    private CrawlFrontierRepository crawlFrontierRepository;
+
+    @Mock
+    private CrawlCheckpointRepository crawlCheckpointRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SerieScraper serieScraper;
+
+    @Mock
+    private AuthorScraper authorScraper;
+
+    @Mock
+    private GlobalStatisticsScraper globalStatisticsScraper;
+
+    @Mock
+    private SerieService serieService;
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private GraphicNovelService graphicNovelService;
+
+    @InjectMocks
+    private CrawlJobEngine crawlJobEngine;
+
+    @BeforeEach
+    void setUp() {
+        // Chaque transaction est exécutée directement
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("The series index should enqueue its letters and be completed in the same transaction")
+    void process_seriesIndex_shouldEnqueueTheLetters() {
+        // Given
+        when(serieScraper.listAllSeriesIndexes()).thenReturn(List.of(
+                new SeriesByLetter("A", "https://www.bedetheque.com/bandes_dessinees_A.html"),
+                new SeriesByLetter("B", "https://www.bedetheque.com/bandes_dessinees_B.html")));
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.SERIES_INDEX, CrawlFrontierItem.ALL));
+
+        // Then
+        InOrder inOrder = inOrder(transactionTemplate, crawlFrontierRepository);
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(crawlFrontierRepository).enqueue(1L, CrawlFrontierItem.Kind.SERIES_LETTER, List.of("A", "B"));
+        inOrder.verify(crawlFrontierRepository).complete(10L);
+    }
+
+    @Test
+    @DisplayName("A series letter should enqueue the urls of its series")
+    void process_seriesLetter_shouldEnqueueTheSeries() {
+        // Given
+        Serie serie = new Serie();
+        serie.setUrl(SERIE_URL);
+        when(serieScraper.listByLetter("B")).thenReturn(List.of(serie));
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.SERIES_LETTER, "B"));
+
+        // Then
+        verify(crawlFrontierRepository).enqueue(1L, CrawlFrontierItem.Kind.SERIE, List.of(SERIE_URL));
+        verify(crawlFrontierRepository).complete(10L);
+    }
+
+    @Test
+    @DisplayName("A serie should be scraped and completed")
+    void process_serie_shouldScrapTheSerie() {
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.SERIE, SERIE_URL));
+
+        // Then
+        verify(serieService).scrap(SERIE_URL, false);
+        verify(crawlFrontierRepository).complete(10L);
+        verify(crawlFrontierRepository, never()).enqueue(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("The authors index and letters should enqueue the authors, which are scraped")
+    void process_authors_shouldWalkTheAuthorsCatalog() {
+        // Given
+        when(authorScraper.listAllAuthorsIndexes()).thenReturn(List.of(
+                new AuthorsByLetter("G", "https://www.bedetheque.com/liste_auteurs_BD_G.html")));
+        Author author = new Author();
+        author.setUrl(AUTHOR_URL);
+        when(authorScraper.scrapAuthorsIndexedByLetter("G")).thenReturn(List.of(author));
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.AUTHORS_INDEX, CrawlFrontierItem.ALL));
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.AUTHORS_LETTER, "G"));
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.AUTHOR, AUTHOR_URL));
+
+        // Then
+        verify(crawlFrontierRepository).enqueue(1L, CrawlFrontierItem.Kind.AUTHORS_LETTER, List.of("G"));
+        verify(crawlFrontierRepository).enqueue(1L, CrawlFrontierItem.Kind.AUTHOR, List.of(AUTHOR_URL));
+        verify(authorService).scrap(AUTHOR_URL, false);
+        verify(crawlFrontierRepository, times(3)).complete(10L);
+    }
+
+    @Test
+    @DisplayName("A failed item should be given back to the frontier, and not completed")
+    void process_whenScrapingFails_shouldFailTheItem() {
+        // Given
+        crawlJobEngine.setMaxAttempts(5);
+        when(serieService.scrap(SERIE_URL, false)).thenThrow(new TechnicalException("ERR-SCR-001", new IOException("Read timed out"), new Object[]{SERIE_URL}));
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.SERIE, SERIE_URL));
+
+        // Then
+        verify(crawlFrontierRepository).fail(eq(10L), anyString(), eq(5));
+        verify(crawlFrontierRepository, never()).complete(anyLong());
+    }
+
+    @Test
+    @DisplayName("The children of an item should not be saved when its letter cannot be scraped")
+    void process_whenLetterFails_shouldNotEnqueueAnything() {
+        // Given
+        when(serieScraper.listByLetter("B")).thenThrow(new TechnicalException("ERR-SCR-001", new IOException("Read timed out"), new Object[]{"B"}));
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.SERIES_LETTER, "B"));
+
+        // Then
+        verify(crawlFrontierRepository, never()).enqueue(anyLong(), any(), any());
+        verify(crawlFrontierRepository).fail(eq(10L), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("The lease of an item should be renewed while it is scraped, and no more once it is done")
+    void renewLeases_shouldRenewTheItemsBeingScraped() {
+        // Given
+        when(serieService.scrap(SERIE_URL, false)).thenAnswer(invocation -> {
+            crawlJobEngine.renewLeases();
+            return null;
+        });
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.SERIE, SERIE_URL));
+        crawlJobEngine.renewLeases();
+
+        // Then
+        InOrder inOrder = inOrder(crawlFrontierRepository);
+        inOrder.verify(crawlFrontierRepository).renew(List.of(10L));
+        inOrder.verify(crawlFrontierRepository).complete(10L);
+        inOrder.verify(crawlFrontierRepository).renew(List.of());
+    }
+
+    @Test
+    @DisplayName("The maintenance should complete the finished jobs and release the expired items")
+    void maintain_shouldCompleteTheJobsAndReleaseTheExpiredItems() {
+        // Given
+        crawlJobEngine.setLease(Duration.ofMinutes(3));
+        when(crawlFrontierRepository.completeFinishedJobs()).thenThrow(new IllegalStateException("Connection refused"));
+
+        // When
+        crawlJobEngine.maintain();
+        reset(crawlFrontierRepository);
+        crawlJobEngine.maintain();
+
+        // Then
+        verify(crawlFrontierRepository).completeFinishedJobs();
+        verify(crawlFrontierRepository).releaseExpired(Duration.ofMinutes(3));
+    }
+
+    @Test
+    @DisplayName("The last entries should enqueue only the graphic novels above the high-water mark, and move it")
+    void process_lastEntries_shouldEnqueueTheNewGraphicNovels() {
+        // Given
+        GlobalStatistics globalStatistics = new GlobalStatistics();
+        globalStatistics.setLastEntries(List.of(lastEntry("500"), lastEntry("480"), lastEntry("420")));
+        globalStatistics.setNews(List.of(lastEntry("505"), lastEntry("500")));
+        when(globalStatisticsScraper.scrap()).thenReturn(globalStatistics);
+        when(crawlCheckpointRepository.find(CrawlJobEngine.LAST_ENTRIES_CHECKPOINT)).thenReturn(Optional.of("450"));
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.LAST_ENTRIES, CrawlFrontierItem.ALL));
+
+        // Then
+        InOrder inOrder = inOrder(transactionTemplate, crawlFrontierRepository, crawlCheckpointRepository);
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(crawlFrontierRepository).enqueue(1L, CrawlFrontierItem.Kind.GRAPHIC_NOVEL,
+                List.of(graphicNovelUrl("500"), graphicNovelUrl("480"), graphicNovelUrl("505")));
+        inOrder.verify(crawlCheckpointRepository).save(CrawlJobEngine.LAST_ENTRIES_CHECKPOINT, "505");
+        inOrder.verify(crawlFrontierRepository).complete(10L);
+    }
+
+    @Test
+    @DisplayName("The last entries should keep the high-water mark when nothing has been added")
+    void process_lastEntries_whenNothingNew_shouldKeepTheHighWaterMark() {
+        // Given
+        GlobalStatistics globalStatistics = new GlobalStatistics();
+        globalStatistics.setLastEntries(List.of(lastEntry("420")));
+        when(globalStatisticsScraper.scrap()).thenReturn(globalStatistics);
+        when(crawlCheckpointRepository.find(CrawlJobEngine.LAST_ENTRIES_CHECKPOINT)).thenReturn(Optional.of("450"));
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.LAST_ENTRIES, CrawlFrontierItem.ALL));
+
+        // Then
+        verify(crawlFrontierRepository).enqueue(1L, CrawlFrontierItem.Kind.GRAPHIC_NOVEL, List.of());
+        verify(crawlCheckpointRepository).save(CrawlJobEngine.LAST_ENTRIES_CHECKPOINT, "450");
+    }
+
+    @Test
+    @DisplayName("A graphic novel should be scraped and enqueue its serie")
+    void process_graphicNovel_shouldEnqueueItsSerie() {
+        // Given
+        SerieDto serie = new SerieDto();
+        serie.setUrl(SERIE_URL);
+        GraphicNovelDto graphicNovel = new GraphicNovelDto();
+        graphicNovel.setSerie(serie);
+        GraphicNovelDto republication = new GraphicNovelDto();
+        republication.setSerie(serie);
+        ScrapAllRepublicationsResponseDto response = new ScrapAllRepublicationsResponseDto();
+        response.setGraphicNovels(List.of(graphicNovel, republication));
+        when(graphicNovelService.scrapWithAllRepublications(graphicNovelUrl("500"), false)).thenReturn(response);
+
+        // When
+        crawlJobEngine.process(item(CrawlFrontierItem.Kind.GRAPHIC_NOVEL, graphicNovelUrl("500")));
+
+        // Then
+        verify(crawlFrontierRepository).enqueue(1L, CrawlFrontierItem.Kind.SERIE, List.of(SERIE_URL));
+        verify(crawlFrontierRepository).complete(10L);
+    }
+
+    @Test
+    @DisplayName("The items of a forced job should publish the unchanged entities too")
+    void process_whenForced_shouldForceThePublication() {
+        // When
+        crawlJobEngine.process(new CrawlFrontierItem(10L, 1L, CrawlFrontierItem.Kind.SERIE, SERIE_URL, 1, true));
+
+        // Then
+        verify(serieService).scrap(SERIE_URL, true);
+        verify(crawlFrontierRepository).complete(10L);
+    }
+
+    private static LastEntry lastEntry(String id) {
+        LastEntry lastEntry = new LastEntry();
+        lastEntry.setId(id);
+        lastEntry.setGraphicNovelUrl(graphicNovelUrl(id));
+        return lastEntry;
+    }
+
+    private static String graphicNovelUrl(String id) {
+        return "https://www.bedetheque.com/BD-Blacksad-Tome-1-Quelque-part-entre-les-ombres-" + id + ".html";
+    }
+
+    private static CrawlFrontierItem item(CrawlFrontierItem.Kind kind, String target) {
+        return new CrawlFrontierItem(10L, 1L, kind, target, 1, false);
+    }
+}
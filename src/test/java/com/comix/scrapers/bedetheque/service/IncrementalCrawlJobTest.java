@@ -0,0 +1,56 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.entity.CrawlJob;
+import com.comix.scrapers.bedetheque.repository.CrawlJobRepository;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobTypeDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalCrawlJobTest {
+
+    @Mock
+    private CrawlJobService crawlJobService;
+
+    @Mock
+    private CrawlJobRepository crawlJobRepository;
+
+    @InjectMocks
+    private IncrementalCrawlJob incrementalCrawlJob;
+
+    @Test
+    @DisplayName("Should start an incremental crawl when the previous one is completed")
+    void startIncrementalCrawl_shouldStartACrawl() {
+        // Given
+        when(crawlJobRepository.existsByTypeAndStatusIn(eq(CrawlJob.Type.INCREMENTAL), anyCollection())).thenReturn(false);
+
+        // When
+        incrementalCrawlJob.startIncrementalCrawl();
+
+        // Then
+        verify(crawlJobService).start(CrawlJobTypeDto.INCREMENTAL, false);
+    }
+
+    @Test
+    @DisplayName("Should not start an incremental crawl while the previous one is not completed")
+    void startIncrementalCrawl_whenPreviousNotCompleted_shouldDoNothing() {
+        // Given
+        when(crawlJobRepository.existsByTypeAndStatusIn(eq(CrawlJob.Type.INCREMENTAL), anyCollection())).thenReturn(true);
+
+        // When
+        incrementalCrawlJob.startIncrementalCrawl();
+
+        // Then
+        verify(crawlJobService, never()).start(any(), anyBoolean());
+    }
+}
@@ -1,12 +1,15 @@
 package com.comix.scrapers.bedetheque.service;
 
 import com.comix.scrapers.bedetheque.entity.OutboxMessage;
+import com.comix.scrapers.bedetheque.repository.ContentFingerprintRepository;
 import com.comix.scrapers.bedetheque.repository.OutboxMessageRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -15,6 +18,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -25,6 +33,9 @@ class OutboxMessageProducerTest {
     @Mock
     private OutboxMessageRepository outboxRepository;
 
+    @Mock
+    private ContentFingerprintRepository contentFingerprintRepository;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -85,6 +96,156 @@ class OutboxMessageProducerTest {
         verify(outboxRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should save all the messages of a scrape in a single saveAll call")
+    @SuppressWarnings("unchecked")
+    void saveAllToOutbox_whenEnabled_shouldSaveAllMessagesAtOnce() throws JsonProcessingException {
+        // Given
+        ReflectionTestUtils.setField(outboxMessageProducer, "outboxPublisherEnabled", true);
+        List<DummyPayload> payloads = Arrays.asList(new DummyPayload("a"), null, new DummyPayload("b"));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+
+        // When
+        outboxMessageProducer.saveAllToOutbox("test-exchange", "test-key", payloads, DummyPayload::getData);
+
+        // Then
+        ArgumentCaptor<List<OutboxMessage>> outboxMessagesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(outboxMessagesCaptor.capture());
+        verify(outboxRepository, never()).save(any());
+        assertThat(outboxMessagesCaptor.getValue())
+                .extracting(OutboxMessage::getContent)
+                .containsExactly("a", "b");
+        assertThat(outboxMessagesCaptor.getValue())
+                .allSatisfy(message -> assertThat(message.getExchange()).isEqualTo("test-exchange"));
+    }
+
+    @Test
+    @DisplayName("Should skip the payloads that can't be serialized in a batch")
+    @SuppressWarnings("unchecked")
+    void saveAllToOutbox_whenSerializationFails_shouldSkipThePayload() throws JsonProcessingException {
+        // Given
+        ReflectionTestUtils.setField(outboxMessageProducer, "outboxPublisherEnabled", true);
+        DummyPayload invalid = new DummyPayload("invalid");
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        when(objectMapper.writeValueAsString(invalid)).thenThrow(new JsonProcessingException("Test Exception") {});
+
+        // When
+        outboxMessageProducer.saveAllToOutbox("any-exchange", "any-key", List.of(invalid, new DummyPayload("valid")), DummyPayload::getData);
+
+        // Then
+        ArgumentCaptor<List<OutboxMessage>> outboxMessagesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(outboxMessagesCaptor.capture());
+        assertThat(outboxMessagesCaptor.getValue()).extracting(OutboxMessage::getContent).containsExactly("valid");
+    }
+
+    @Test
+    @DisplayName("Should do nothing for a batch when publisher is disabled")
+    void saveAllToOutbox_whenDisabled_shouldDoNothing() {
+        // Given
+        ReflectionTestUtils.setField(outboxMessageProducer, "outboxPublisherEnabled", false);
+
+        // When
+        outboxMessageProducer.saveAllToOutbox("any-exchange", "any-key", List.of(new DummyPayload("any-data")), DummyPayload::getData);
+
+        // Then
+        verifyNoInteractions(objectMapper, outboxRepository);
+    }
+
+    @Nested
+    @DisplayName("Content fingerprints")
+    class FingerprintTests {
+
+        @BeforeEach
+        void setUp() throws JsonProcessingException {
+            ReflectionTestUtils.setField(outboxMessageProducer, "outboxPublisherEnabled", true);
+            ReflectionTestUtils.setField(outboxMessageProducer, "isFingerprintActive", true);
+            when(objectMapper.writeValueAsString(any())).thenAnswer(invocation ->
+                    "{\"data\":\"" + invocation.<DummyPayload>getArgument(0).getData() + "\"}");
+        }
+
+        @Test
+        @DisplayName("Should save only the messages of the new or changed entities")
+        @SuppressWarnings("unchecked")
+        void saveAllToOutboxIfChanged_shouldSkipTheUnchangedEntities() {
+            // Given
+            when(contentFingerprintRepository.saveChanged(eq(DummyPayload.class.getName()), any())).thenReturn(Set.of("b"));
+
+            // When
+            outboxMessageProducer.saveAllToOutboxIfChanged("test-exchange", "test-key",
+                    List.of(new DummyPayload("a"), new DummyPayload("b")), DummyPayload::getData, DummyPayload::getData, false);
+
+            // Then
+            verify(contentFingerprintRepository).saveChanged(DummyPayload.class.getName(), Map.of(
+                    "a", OutboxMessageProducer.fingerprint("{\"data\":\"a\"}"),
+                    "b", OutboxMessageProducer.fingerprint("{\"data\":\"b\"}")));
+            ArgumentCaptor<List<OutboxMessage>> outboxMessagesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(outboxRepository).saveAll(outboxMessagesCaptor.capture());
+            assertThat(outboxMessagesCaptor.getValue()).extracting(OutboxMessage::getContent).containsExactly("b");
+        }
+
+        @Test
+        @DisplayName("Should save nothing when the entity is unchanged")
+        void saveToOutboxIfChanged_whenUnchanged_shouldSaveNothing() {
+            // Given
+            when(contentFingerprintRepository.saveChanged(any(), any())).thenReturn(Set.of());
+
+            // When
+            outboxMessageProducer.saveToOutboxIfChanged("test-exchange", "test-key", new DummyPayload("a"), "a", "label", false);
+
+            // Then
+            verify(outboxRepository, never()).saveAll(any());
+            verify(outboxRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should always save the payloads without external id")
+        @SuppressWarnings("unchecked")
+        void saveToOutboxIfChanged_withoutExternalId_shouldSaveTheMessage() {
+            // Given
+            when(contentFingerprintRepository.saveChanged(any(), any())).thenReturn(Set.of());
+
+            // When
+            outboxMessageProducer.saveToOutboxIfChanged("test-exchange", "test-key", new DummyPayload("a"), null, "label", false);
+
+            // Then
+            verify(contentFingerprintRepository).saveChanged(DummyPayload.class.getName(), Map.of());
+            ArgumentCaptor<List<OutboxMessage>> outboxMessagesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(outboxRepository).saveAll(outboxMessagesCaptor.capture());
+            assertThat(outboxMessagesCaptor.getValue()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should save the unchanged entities when the publication is forced, and still update the fingerprints")
+        @SuppressWarnings("unchecked")
+        void saveToOutboxIfChanged_whenForced_shouldSaveTheUnchangedEntity() {
+            // Given
+            when(contentFingerprintRepository.saveChanged(any(), any())).thenReturn(Set.of());
+
+            // When
+            outboxMessageProducer.saveToOutboxIfChanged("test-exchange", "test-key", new DummyPayload("a"), "a", "label", true);
+
+            // Then
+            verify(contentFingerprintRepository).saveChanged(any(), any());
+            ArgumentCaptor<List<OutboxMessage>> outboxMessagesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(outboxRepository).saveAll(outboxMessagesCaptor.capture());
+            assertThat(outboxMessagesCaptor.getValue()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should save every message when the fingerprints are disabled")
+        void saveToOutboxIfChanged_whenFingerprintsDisabled_shouldSaveTheMessage() {
+            // Given
+            ReflectionTestUtils.setField(outboxMessageProducer, "isFingerprintActive", false);
+
+            // When
+            outboxMessageProducer.saveToOutboxIfChanged("test-exchange", "test-key", new DummyPayload("a"), "a", "label", false);
+
+            // Then
+            verifyNoInteractions(contentFingerprintRepository);
+            verify(outboxRepository).saveAll(anyList());
+        }
+    }
+
     @Data @AllArgsConstructor
     private static class DummyPayload {
         private String data;
@@ -2,9 +2,12 @@ package com.comix.scrapers.bedetheque.service;
 
 import com.comix.scrapers.bedetheque.entity.OutboxMessage;
 import com.comix.scrapers.bedetheque.repository.OutboxMessageRepository;
+import com.comix.scrapers.bedetheque.rest.v1.dto.GraphicNovelDto;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -12,12 +15,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,62 +42,60 @@ class OutboxMessagePublisherTest {
     private RabbitTemplate rabbitTemplate;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private OutboxMessagePublisher outboxMessagePublisher;
 
+    @BeforeEach
+    void setUp() {
+        // Chaque lot est exécuté directement, sans transaction
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     @DisplayName("Should do nothing when no pending messages are found")
     void publishPendingMessages_whenNoPendingMessages_shouldDoNothing() {
         // Given
-        when(outboxRepository.findByStatus(OutboxMessage.Status.PENDING)).thenReturn(Collections.emptyList());
+        when(outboxRepository.lockNextPending(0L, 500)).thenReturn(Collections.emptyList());
 
         // When
         outboxMessagePublisher.publishPendingMessages();
 
         // Then
-        verify(outboxRepository).findByStatus(OutboxMessage.Status.PENDING);
+        verify(outboxRepository).lockNextPending(0L, 500);
         verifyNoInteractions(rabbitTemplate);
     }
 
     @Test
     @DisplayName("Should publish messages and update their status when pending messages are found")
-    void publishPendingMessages_whenPendingMessagesExist_shouldPublishAndUpdateStatus() throws JsonProcessingException {
+    void publishPendingMessages_whenPendingMessagesExist_shouldPublishAndUpdateStatus() {
         // Given
         OutboxMessage message = new OutboxMessage();
         message.setId(1L);
         message.setExchange("comix.exchange");
         message.setRoutingKey("comix.routing.key");
         String payload = "\"test payload\""; // Représentation JSON d'une chaîne de caractères
-        String payloadObject = "test payload"; // L'objet Java attendu après désérialisation
         message.setPayload(payload);
         message.setPayloadType("java.lang.String");
         message.setStatus(OutboxMessage.Status.PENDING);
         
-        when(outboxRepository.findByStatus(OutboxMessage.Status.PENDING)).thenReturn(List.of(message));
-
-        // Simuler la désérialisation par l'ObjectMapper
-        when(objectMapper.readValue(payload, String.class)).thenReturn(payloadObject);
-
-        // On simule le comportement de la méthode save() pour éviter une NullPointerException
-        // si le code de production utilise l'objet retourné.
-        when(outboxRepository.save(any(OutboxMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(outboxRepository.lockNextPending(0L, 500)).thenReturn(List.of(message));
 
         // When
         outboxMessagePublisher.publishPendingMessages();
 
         // Then
-        // Verify the message was sent to RabbitMQ
-        verify(rabbitTemplate).convertAndSend(message.getExchange(), message.getRoutingKey(), payloadObject);
-
-        // Verify the message status was updated to PUBLISHED in the repository
-        ArgumentCaptor<OutboxMessage> messageCaptor = ArgumentCaptor.forClass(OutboxMessage.class);
-        verify(outboxRepository).save(messageCaptor.capture());
-
-        OutboxMessage savedMessage = messageCaptor.getValue();
-        assertEquals(OutboxMessage.Status.SENT, savedMessage.getStatus());
-        assertEquals(message.getId(), savedMessage.getId());
+        // Verify the stored JSON was sent to RabbitMQ as it is
+        ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(message.getExchange()), eq(message.getRoutingKey()), messageCaptor.capture());
+        assertThat(new String(messageCaptor.getValue().getBody(), StandardCharsets.UTF_8)).isEqualTo(payload);
+        assertThat(messageCaptor.getValue().getMessageProperties().<String>getHeader("__TypeId__")).isEqualTo("java.lang.String");
+
+        // Verify the message status was updated to SENT in the repository
+        verify(outboxRepository).updateStatus(List.of(message.getId()), OutboxMessage.Status.SENT);
+        verify(outboxRepository, never()).save(any(OutboxMessage.class));
     }
 
     @Test
@@ -99,16 +109,137 @@ class OutboxMessagePublisherTest {
         message.setPayload("{\"data\":\"test\"}");
         message.setStatus(OutboxMessage.Status.PENDING);
 
-        when(outboxRepository.findByStatus(OutboxMessage.Status.PENDING)).thenReturn(List.of(message));
-        // On utilise lenient() car le comportement transactionnel dans les tests peut empêcher l'appel
-        // si une autre partie de la transaction échoue ou n'est pas correctement simulée.
-        // Cela indique à Mockito de ne pas échouer si ce mock n'est pas utilisé.
-        lenient().doThrow(new AmqpException("Connection failed")).when(rabbitTemplate).convertAndSend(anyString(), anyString(), anyString());
+        when(outboxRepository.lockNextPending(0L, 500)).thenReturn(List.of(message));
+        doThrow(new AmqpException("Connection failed")).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
 
         // When
         outboxMessagePublisher.publishPendingMessages();
 
         // Then
-        verify(outboxRepository, never()).save(any(OutboxMessage.class));
+        verify(outboxRepository, never()).updateStatus(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should read the pending messages by batches until the outbox is drained")
+    void publishPendingMessages_shouldReadBatchesUntilDrained() {
+        // Given
+        outboxMessagePublisher.setBatchSize(2);
+        when(outboxRepository.lockNextPending(0L, 2)).thenReturn(List.of(pendingMessage(1L), pendingMessage(2L)));
+        when(outboxRepository.lockNextPending(2L, 2)).thenReturn(List.of(pendingMessage(5L)));
+
+        // When
+        outboxMessagePublisher.publishPendingMessages();
+
+        // Then
+        verify(outboxRepository).lockNextPending(0L, 2);
+        verify(outboxRepository).lockNextPending(2L, 2);
+        verify(outboxRepository, never()).lockNextPending(5L, 2);
+        verify(rabbitTemplate, times(3)).send(eq("comix.exchange"), eq("comix.routing.key"), any(Message.class));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Nested
+    @DisplayName("Publisher confirms")
+    class ConfirmsTests {
+
+        @BeforeEach
+        void setUp() {
+            outboxMessagePublisher.setConfirmsActive(true);
+            // Les envois sont exécutés sur le template lui-même, comme sur un canal dédié
+            when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                    invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+        }
+
+        @Test
+        @DisplayName("Should mark as sent only the messages acknowledged by the broker")
+        void publishPendingMessages_shouldMarkOnlyTheAcknowledgedMessages() {
+            // Given
+            when(outboxRepository.lockNextPending(0L, 500)).thenReturn(List.of(pendingMessage(1L), pendingMessage(2L), pendingMessage(3L)));
+                doAnswer(invocation -> {
+                CorrelationData correlationData = invocation.getArgument(3);
+                boolean ack = !"2".equals(correlationData.getId());
+                correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+                return null;
+            }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+            // When
+            outboxMessagePublisher.publishPendingMessages();
+
+            // Then
+            verify(rabbitTemplate).invoke(any());
+            verify(rabbitTemplate, times(3)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+            verify(outboxRepository).updateStatus(List.of(1L, 3L), OutboxMessage.Status.SENT);
+        }
+
+        @Test
+        @DisplayName("Should leave pending the messages which are not confirmed in time")
+        void publishPendingMessages_shouldLeavePendingTheUnconfirmedMessages() {
+            // Given
+            outboxMessagePublisher.setConfirmTimeout(10);
+            when(outboxRepository.lockNextPending(0L, 500)).thenReturn(List.of(pendingMessage(1L)));
+    
+            // When
+            outboxMessagePublisher.publishPendingMessages();
+
+            // Then
+            verify(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            verify(outboxRepository, never()).updateStatus(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("Should wait for the acknowledgements when the in-flight window is full")
+        void publishPendingMessages_shouldWaitWhenTheWindowIsFull() {
+            // Given
+            outboxMessagePublisher.setMaxInFlight(1);
+            outboxMessagePublisher.setConfirmTimeout(10);
+            when(outboxRepository.lockNextPending(0L, 500)).thenReturn(List.of(pendingMessage(1L), pendingMessage(2L)));
+                // Seul le premier message est acquitté, après l'envoi du second
+            List<CorrelationData> sent = new ArrayList<>();
+            doAnswer(invocation -> {
+                sent.add(invocation.getArgument(3));
+                if (sent.size() == 2) {
+                    sent.getFirst().getFuture().complete(new CorrelationData.Confirm(true, null));
+                }
+                return null;
+            }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+            // When
+            outboxMessagePublisher.publishPendingMessages();
+
+            // Then : the first message timed out before the second one was sent
+            verify(outboxRepository, never()).updateStatus(anyCollection(), any());
+        }
+    }
+
+    @Test
+    @DisplayName("toAmqpMessage should build the message that Jackson2JsonMessageConverter builds from the payload object")
+    void toAmqpMessage_shouldMatchTheJsonConverterWireFormat() throws JsonProcessingException {
+        // Given
+        GraphicNovelDto dto = new GraphicNovelDto().externalId("12345").title("Le Lotus bleu").tome("5").totalPages(62);
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        Message expected = converter.toMessage(dto, new MessageProperties());
+        OutboxMessage message = pendingMessage(1L);
+        message.setPayload(new ObjectMapper().writeValueAsString(dto));
+        message.setPayloadType(GraphicNovelDto.class.getName());
+
+        // When
+        Message actual = OutboxMessagePublisher.toAmqpMessage(message);
+
+        // Then
+        assertThat(actual.getMessageProperties().getContentType()).isEqualTo(expected.getMessageProperties().getContentType());
+        assertThat(actual.getMessageProperties().getContentEncoding()).isEqualTo(expected.getMessageProperties().getContentEncoding());
+        assertThat(actual.getMessageProperties().getHeaders()).isEqualTo(expected.getMessageProperties().getHeaders());
+        assertThat(converter.fromMessage(actual)).isEqualTo(dto);
+    }
+
+    private static OutboxMessage pendingMessage(long id) {
+        OutboxMessage message = new OutboxMessage();
+        message.setId(id);
+        message.setExchange("comix.exchange");
+        message.setRoutingKey("comix.routing.key");
+        message.setPayload("\"payload\"");
+        message.setPayloadType("java.lang.String");
+        return message;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package com.comix.scrapers.bedetheque.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxNotificationListenerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private OutboxMessagePublisher outboxMessagePublisher;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @InjectMocks
+    private OutboxNotificationListener outboxNotificationListener;
+
+    @BeforeEach
+    void setUp() {
+        outboxNotificationListener.setTimeout(10);
+        outboxNotificationListener.setReconnectDelay(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxNotificationListener.stop();
+    }
+
+    @Test
+    @DisplayName("The listener should drain the outbox when it connects, then on each notification")
+    void listener_shouldDrainTheOutboxOnNotification() throws SQLException {
+        // GIVEN
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getNotifications(10))
+                .thenReturn(new PGNotification[]{mock(PGNotification.class)})
+                .thenReturn(new PGNotification[0]);
+
+        // WHEN
+        outboxNotificationListener.start();
+
+        // THEN
+        verify(statement, timeout(1000)).execute("LISTEN outbox_messages");
+        verify(outboxMessagePublisher, timeout(1000).times(2)).publishPendingMessages();
+        assertThat(outboxNotificationListener.isRunning()).isTrue();
+    }
+
+    @Test
+    @DisplayName("The listener should reconnect when its connection is lost")
+    void listener_shouldReconnectWhenTheConnectionIsLost() throws SQLException {
+        // GIVEN
+        when(dataSource.getConnection())
+                .thenThrow(new SQLException("Connection refused"))
+                .thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        lenient().when(pgConnection.getNotifications(10)).thenReturn(new PGNotification[0]);
+
+        // WHEN
+        outboxNotificationListener.start();
+
+        // THEN
+        verify(dataSource, timeout(1000).times(2)).getConnection();
+        verify(outboxMessagePublisher, timeout(1000)).publishPendingMessages();
+    }
+
+    @Test
+    @DisplayName("The listener should relay the messages on a virtual thread in the virtual-thread mode")
+    void listener_shouldRunOnAVirtualThread() throws Exception {
+        // GIVEN
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        lenient().when(pgConnection.getNotifications(10)).thenReturn(new PGNotification[0]);
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            virtual.complete(Thread.currentThread().isVirtual());
+            return null;
+        }).when(outboxMessagePublisher).publishPendingMessages();
+        outboxNotificationListener.setVirtualThreads(true);
+
+        // WHEN
+        outboxNotificationListener.start();
+
+        // THEN
+        assertThat(virtual.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("stop should stop the listener")
+    void stop_shouldStopTheListener() {
+        // WHEN
+        outboxNotificationListener.stop();
+
+        // THEN
+        assertThat(outboxNotificationListener.isRunning()).isFalse();
+        verifyNoInteractions(dataSource, outboxMessagePublisher);
+    }
+}
@@ -0,0 +1,121 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.repository.OutboxPartitionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRetentionJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 10, 30);
+    private static final LocalDate TODAY = NOW.toLocalDate();
+
+    @Mock
+    private OutboxPartitionRepository partitionRepository;
+
+    @InjectMocks
+    private OutboxRetentionJob outboxRetentionJob;
+
+    @BeforeEach
+    void setUp() {
+        outboxRetentionJob.setClock(Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        outboxRetentionJob.setMaxAge(Duration.ofDays(7));
+        outboxRetentionJob.setDaysAhead(2);
+    }
+
+    @Test
+    @DisplayName("applyRetention should create the missing partitions of today and the next days")
+    void applyRetention_shouldCreateTheMissingPartitions() {
+        // GIVEN
+        when(partitionRepository.findPartitionDays()).thenReturn(List.of(TODAY));
+
+        // WHEN
+        outboxRetentionJob.applyRetention();
+
+        // THEN
+        verify(partitionRepository, never()).createPartition(TODAY);
+        verify(partitionRepository).createPartition(TODAY.plusDays(1));
+        verify(partitionRepository).createPartition(TODAY.plusDays(2));
+        verify(partitionRepository, never()).createPartition(TODAY.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("applyRetention should remove only the partitions older than the max age")
+    void applyRetention_shouldRemoveTheExpiredPartitions() {
+        // GIVEN
+        outboxRetentionJob.setArchiveActive(true);
+        when(partitionRepository.findPartitionDays()).thenReturn(List.of(
+                TODAY.minusDays(9), TODAY.minusDays(8), TODAY.minusDays(7), TODAY, TODAY.plusDays(1), TODAY.plusDays(2)));
+        when(partitionRepository.removePartition(any(), eq(true))).thenReturn(true);
+
+        // WHEN
+        outboxRetentionJob.applyRetention();
+
+        // THEN : the partition of D-7 still holds messages younger than 7 days
+        verify(partitionRepository).removePartition(TODAY.minusDays(9), true);
+        verify(partitionRepository).removePartition(TODAY.minusDays(8), true);
+        verify(partitionRepository, never()).removePartition(eq(TODAY.minusDays(7)), anyBoolean());
+        verify(partitionRepository).purgeDefaultPartition(NOW.minusDays(7));
+    }
+
+    @Test
+    @DisplayName("applyRetention should go on when a partition cannot be removed")
+    void applyRetention_shouldGoOnWhenAPartitionCannotBeRemoved() {
+        // GIVEN
+        when(partitionRepository.findPartitionDays()).thenReturn(List.of(TODAY.minusDays(10), TODAY.minusDays(9), TODAY.minusDays(8)));
+        when(partitionRepository.removePartition(TODAY.minusDays(10), false)).thenThrow(new CannotAcquireLockException("lock timeout"));
+        when(partitionRepository.removePartition(TODAY.minusDays(9), false)).thenReturn(false);
+        when(partitionRepository.removePartition(TODAY.minusDays(8), false)).thenReturn(true);
+
+        // WHEN
+        outboxRetentionJob.applyRetention();
+
+        // THEN
+        verify(partitionRepository).removePartition(TODAY.minusDays(8), false);
+        verify(partitionRepository).purgeDefaultPartition(NOW.minusDays(7));
+    }
+
+    @Test
+    @DisplayName("The gauges should publish the outbox size and the age of the oldest pending message")
+    void bindTo_shouldRegisterTheOutboxGauges() {
+        // GIVEN
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        when(partitionRepository.getTableSize()).thenReturn(8192L);
+        when(partitionRepository.findOldestPendingCreatedAt()).thenReturn(Optional.of(NOW.minusMinutes(2)));
+
+        // WHEN
+        outboxRetentionJob.bindTo(registry);
+
+        // THEN
+        assertThat(registry.get("outbox.messages.size").gauge().value()).isEqualTo(8192);
+        assertThat(registry.get("outbox.messages.pending.oldest.age").gauge().value()).isEqualTo(120_000);
+    }
+
+    @Test
+    @DisplayName("getOldestPendingAge should be 0 when no message is pending")
+    void getOldestPendingAge_shouldBeZeroWithoutPendingMessage() {
+        // GIVEN
+        when(partitionRepository.findOldestPendingCreatedAt()).thenReturn(Optional.empty());
+
+        // WHEN / THEN
+        assertThat(outboxRetentionJob.getOldestPendingAge()).isZero();
+    }
+}
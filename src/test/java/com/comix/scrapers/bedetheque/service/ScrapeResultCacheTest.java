@@ -0,0 +1,169 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.rest.v1.dto.SerieDetailsDto;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache.ResultType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScrapeResultCacheTest {
+
+    private static final String URL = "https://www.bedetheque.com/serie-1-BD-Test.html";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ScrapeResultCache newCache(DataSize maxSize) {
+        return new ScrapeResultCache(new ResultCacheProperties(true,
+                Map.of(ResultType.SERIE, new ResultCacheProperties.Policy(Duration.ofMinutes(10), maxSize))), new ObjectMapper());
+    }
+
+    private String load() {
+        return "serie-" + loads.incrementAndGet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("un résultat en cache doit être servi sans nouveau scraping")
+    void get_shouldServeCachedResults() {
+        ScrapeResultCache cache = newCache(DataSize.ofMegabytes(1));
+
+        String first = cache.get(ResultType.SERIE, URL, this::load);
+        String second = cache.get(ResultType.SERIE, "HTTPS://www.bedetheque.com/serie-1-BD-Test.html#albums", this::load);
+
+        assertThat(first).isEqualTo(second).isEqualTo("serie-1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("les variantes d'un résultat doivent être cachées séparément")
+    void get_shouldCacheVariantsSeparately() {
+        ScrapeResultCache cache = newCache(DataSize.ofMegabytes(1));
+
+        String page1 = cache.get(ResultType.SERIE, URL, "page=1", this::load);
+        String page2 = cache.get(ResultType.SERIE, URL, "page=2", this::load);
+
+        assertThat(page1).isNotEqualTo(page2);
+        assertThat(cache.get(ResultType.SERIE, URL, "page=1", this::load)).isEqualTo(page1);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("un résultat modifié par l'appelant ne doit pas modifier le résultat caché")
+    void get_shouldServeCopiesOfTheCachedResults() {
+        ScrapeResultCache cache = newCache(DataSize.ofMegabytes(1));
+        SerieDetailsDto loaded = cache.get(ResultType.SERIE, URL, () -> {
+            SerieDetailsDto serieDetailsDto = new SerieDetailsDto();
+            serieDetailsDto.setTitle("Blacksad");
+            return serieDetailsDto;
+        });
+        loaded.setTitle("Modified after the scrape");
+
+        SerieDetailsDto hit = cache.get(ResultType.SERIE, URL, SerieDetailsDto::new);
+        hit.setTitle("Modified after the hit");
+
+        assertThat(cache.get(ResultType.SERIE, URL, SerieDetailsDto::new))
+                .isNotSameAs(hit)
+                .extracting(SerieDetailsDto::getTitle)
+                .isEqualTo("Blacksad");
+    }
+
+    @Test
+    @DisplayName("la taille des résultats cachés doit être bornée par max-size")
+    void get_shouldBoundTheSizeOfTheCachedResults() {
+        ScrapeResultCache cache = newCache(DataSize.ofBytes(100));
+
+        cache.get(ResultType.SERIE, URL, "page=1", () -> "a".repeat(60));
+        cache.get(ResultType.SERIE, URL, "page=2", () -> "b".repeat(60));
+
+        Cache<Object, Object> nativeCache = cache.getCaches().iterator().next().getNativeCache();
+        nativeCache.cleanUp();
+        assertThat(nativeCache.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("un type de résultat sans politique ne doit pas être caché")
+    void get_shouldNotCacheTypesWithoutPolicy() {
+        ScrapeResultCache cache = newCache(DataSize.ofMegabytes(1));
+
+        cache.get(ResultType.AUTHOR, URL, this::load);
+        cache.get(ResultType.AUTHOR, URL, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getCaches()).extracting("name").containsExactly("series");
+    }
+
+    @Test
+    @DisplayName("un cache désactivé doit toujours exécuter le scraping")
+    void get_shouldLoadWhenDisabled() {
+        ScrapeResultCache cache = new ScrapeResultCache(new ResultCacheProperties(false,
+                Map.of(ResultType.SERIE, new ResultCacheProperties.Policy(Duration.ofMinutes(10), DataSize.ofMegabytes(1)))), new ObjectMapper());
+
+        cache.get(ResultType.SERIE, URL, this::load);
+        cache.get(ResultType.SERIE, URL, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getCaches()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("un résultat null ne doit pas être caché")
+    void get_shouldNotCacheNullResults() {
+        ScrapeResultCache cache = newCache(DataSize.ofMegabytes(1));
+
+        cache.get(ResultType.SERIE, URL, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get(ResultType.SERIE, URL, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalidate doit forcer un nouveau scraping")
+    void invalidate_shouldEvictTheResult() {
+        ScrapeResultCache cache = newCache(DataSize.ofMegabytes(1));
+        cache.get(ResultType.SERIE, URL, this::load);
+
+        cache.invalidate(ResultType.SERIE, URL);
+        String reloaded = cache.get(ResultType.SERIE, URL, this::load);
+
+        assertThat(reloaded).isEqualTo("serie-2");
+
+        cache.invalidateAll(ResultType.SERIE);
+        assertThat(cache.get(ResultType.SERIE, URL, this::load)).isEqualTo("serie-3");
+    }
+
+    @Test
+    @DisplayName("le Cache-Status de la requête courante doit indiquer un miss puis un hit")
+    void get_shouldRecordTheCacheStatusOfTheRequest() {
+        ScrapeResultCache cache = newCache(DataSize.ofMegabytes(1));
+        MockHttpServletRequest missRequest = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(missRequest));
+        cache.get(ResultType.SERIE, URL, this::load);
+        assertThat(missRequest.getAttribute(ScrapeResultCache.CACHE_STATUS_ATTRIBUTE))
+                .isEqualTo("bedetheque-scraper; fwd=uri-miss; stored");
+
+        MockHttpServletRequest hitRequest = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(hitRequest));
+        cache.get(ResultType.SERIE, URL, this::load);
+        assertThat(hitRequest.getAttribute(ScrapeResultCache.CACHE_STATUS_ATTRIBUTE))
+                .isEqualTo("bedetheque-scraper; hit");
+    }
+}
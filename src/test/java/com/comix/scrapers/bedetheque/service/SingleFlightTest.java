@@ -0,0 +1,110 @@
+package com.comix.scrapers.bedetheque.service;
+
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    @DisplayName("des appels identiques concurrents doivent partager un seul scraping")
+    void execute_shouldCoalesceConcurrentIdenticalCalls() throws Exception {
+        // GIVEN
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> scrape = () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "serie";
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // WHEN : le second appel arrive pendant le premier, avec une autre écriture de l'url
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+                    () -> singleFlight.execute("serie", "https://www.bedetheque.com/serie-1-BD-Test.html", scrape), executor);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> follower = CompletableFuture.supplyAsync(
+                    () -> singleFlight.execute("serie", "HTTPS://WWW.bedetheque.com:443/serie-1-BD-Test.html#albums", scrape), executor);
+            // Laisse le temps au second appel de rejoindre le premier
+            TimeUnit.MILLISECONDS.sleep(200);
+            release.countDown();
+
+            // THEN
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("serie");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("serie");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("des appels successifs ne doivent pas être mutualisés")
+    void execute_shouldNotCoalesceSequentialCalls() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("serie", "https://www.bedetheque.com/serie-1.html", calls::incrementAndGet);
+        singleFlight.execute("serie", "https://www.bedetheque.com/serie-1.html", calls::incrementAndGet);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("des types de scraping différents ne doivent pas être mutualisés")
+    void execute_shouldKeyByScrapeType() {
+        String url = "https://www.bedetheque.com/page.html";
+
+        String serie = singleFlight.execute("serie", url, () -> "serie");
+        String author = singleFlight.execute("author", url, () -> "author");
+
+        assertThat(serie).isEqualTo("serie");
+        assertThat(author).isEqualTo("author");
+    }
+
+    @Test
+    @DisplayName("une erreur doit être propagée et libérer la clé")
+    void execute_shouldPropagateErrors() {
+        String url = "https://www.bedetheque.com/serie-1.html";
+
+        assertThatThrownBy(() -> singleFlight.execute("serie", url, () -> {
+            throw new TechnicalException("ERR-SCR-001", new IllegalStateException("boom"));
+        })).isInstanceOf(TechnicalException.class);
+
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(singleFlight.execute("serie", url, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("normalize doit unifier les différentes écritures d'une url")
+    void normalize_shouldUnifyUrlSpellings() {
+        assertThat(SingleFlight.normalize(" HTTPS://WWW.Bedetheque.com:443/serie-1-BD-Test.html#top "))
+                .isEqualTo("https://www.bedetheque.com/serie-1-BD-Test.html");
+        assertThat(SingleFlight.normalize("http://localhost:8080/serie-1.html?page=2"))
+                .isEqualTo("http://localhost:8080/serie-1.html?page=2");
+        assertThat(SingleFlight.normalize("https://www.bedetheque.com"))
+                .isEqualTo("https://www.bedetheque.com/");
+        assertThat(SingleFlight.normalize("not an url")).isEqualTo("not an url");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
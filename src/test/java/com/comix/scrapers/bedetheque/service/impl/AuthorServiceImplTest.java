@@ -7,10 +7,15 @@ import com.comix.scrapers.bedetheque.rest.mapper.AuthorMapper;
 import com.comix.scrapers.bedetheque.rest.v1.dto.AuthorUrlDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.AuthorsByLetterDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.AuthorsUrlsResponseDto;
+import com.comix.scrapers.bedetheque.service.SingleFlight;
+import com.comix.scrapers.bedetheque.service.ResultCacheProperties;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -30,6 +35,13 @@ class AuthorServiceImplTest {
     @Mock
     private AuthorMapper authorMapper;
 
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight();
+
+    // Cache désactivé : chaque appel exécute le scraping
+    @Spy
+    private ScrapeResultCache scrapeResultCache = new ScrapeResultCache(new ResultCacheProperties(false, null), new ObjectMapper());
+
     @InjectMocks
     private AuthorServiceImpl authorService;
 
@@ -0,0 +1,150 @@
+package com.comix.scrapers.bedetheque.service.impl;
+
+import com.comix.scrapers.bedetheque.entity.CrawlJob;
+import com.comix.scrapers.bedetheque.exception.BusinessException;
+import com.comix.scrapers.bedetheque.repository.CrawlFrontierItem;
+import com.comix.scrapers.bedetheque.repository.CrawlFrontierRepository;
+import com.comix.scrapers.bedetheque.repository.CrawlJobRepository;
+import com.comix.scrapers.bedetheque.rest.mapper.CrawlJobMapper;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobStatusDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.CrawlJobTypeDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlJobServiceImplTest {
+
+    @Mock
+    private CrawlJobRepository crawlJobRepository;
+
+    @Mock
+    private CrawlFrontierRepository crawlFrontierRepository;
+
+    @Mock
+    private CrawlJobMapper crawlJobMapper;
+
+    @InjectMocks
+    private CrawlJobServiceImpl crawlJobService;
+
+    @Test
+    @DisplayName("start should save a running (forced) job and seed its frontier with the catalog index")
+    void start_shouldSeedTheFrontier() {
+        // Given
+        when(crawlJobRepository.saveAndFlush(any(CrawlJob.class))).thenAnswer(invocation -> {
+            CrawlJob crawlJob = invocation.getArgument(0);
+            crawlJob.setId(1L);
+            return crawlJob;
+        });
+        when(crawlFrontierRepository.countByState(1L)).thenReturn(counts(1, 0, 0, 0));
+        when(crawlJobMapper.crawlJobToCrawlJobDto(any(CrawlJob.class))).thenReturn(new CrawlJobDto());
+
+        // When
+        CrawlJobDto result = crawlJobService.start(CrawlJobTypeDto.AUTHORS, true);
+
+        // Then
+        verify(crawlJobRepository).saveAndFlush(argThat(crawlJob ->
+                crawlJob.getType() == CrawlJob.Type.AUTHORS && crawlJob.getStatus() == CrawlJob.Status.RUNNING && crawlJob.isForce()));
+        verify(crawlFrontierRepository).enqueue(1L, CrawlFrontierItem.Kind.AUTHORS_INDEX, List.of(CrawlFrontierItem.ALL));
+        assertThat(result.getProgress().getPending()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("get should return the job with the progress of its frontier")
+    void get_shouldReturnTheProgress() {
+        // Given
+        CrawlJob crawlJob = crawlJob(CrawlJob.Status.RUNNING);
+        CrawlJobDto crawlJobDto = new CrawlJobDto();
+        crawlJobDto.setStatus(CrawlJobStatusDto.RUNNING);
+        when(crawlJobRepository.findById(1L)).thenReturn(Optional.of(crawlJob));
+        when(crawlFrontierRepository.countByState(1L)).thenReturn(counts(120, 8, 3000, 2));
+        when(crawlJobMapper.crawlJobToCrawlJobDto(crawlJob)).thenReturn(crawlJobDto);
+
+        // When
+        CrawlJobDto result = crawlJobService.get(1L);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(CrawlJobStatusDto.RUNNING);
+        assertThat(result.getProgress().getPending()).isEqualTo(120L);
+        assertThat(result.getProgress().getInProgress()).isEqualTo(8L);
+        assertThat(result.getProgress().getDone()).isEqualTo(3000L);
+        assertThat(result.getProgress().getFailed()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("get should throw a not found error for an unknown job")
+    void get_whenUnknownJob_shouldThrowNotFound() {
+        // Given
+        when(crawlJobRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> crawlJobService.get(1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("codeMessage", "httpStatus")
+                .containsExactly("CRAWL_JOB_NOT_FOUND", HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("pause then resume should switch the status of the job")
+    void pauseAndResume_shouldSwitchTheStatus() {
+        // Given
+        CrawlJob crawlJob = crawlJob(CrawlJob.Status.RUNNING);
+        when(crawlJobRepository.findById(1L)).thenReturn(Optional.of(crawlJob));
+        when(crawlJobRepository.saveAndFlush(crawlJob)).thenReturn(crawlJob);
+        when(crawlFrontierRepository.countByState(1L)).thenReturn(counts(0, 0, 0, 0));
+        when(crawlJobMapper.crawlJobToCrawlJobDto(crawlJob)).thenReturn(new CrawlJobDto());
+
+        // When / Then
+        crawlJobService.pause(1L);
+        assertThat(crawlJob.getStatus()).isEqualTo(CrawlJob.Status.PAUSED);
+
+        crawlJobService.resume(1L);
+        assertThat(crawlJob.getStatus()).isEqualTo(CrawlJob.Status.RUNNING);
+    }
+
+    @Test
+    @DisplayName("resume should throw a conflict error for a completed job")
+    void resume_whenCompletedJob_shouldThrowConflict() {
+        // Given
+        when(crawlJobRepository.findById(1L)).thenReturn(Optional.of(crawlJob(CrawlJob.Status.COMPLETED)));
+
+        // When / Then
+        assertThatThrownBy(() -> crawlJobService.resume(1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("codeMessage", "httpStatus")
+                .containsExactly("CRAWL_JOB_INVALID_STATUS", HttpStatus.CONFLICT);
+        verify(crawlJobRepository, never()).saveAndFlush(any());
+    }
+
+    private static CrawlJob crawlJob(CrawlJob.Status status) {
+        CrawlJob crawlJob = new CrawlJob();
+        crawlJob.setId(1L);
+        crawlJob.setType(CrawlJob.Type.SERIES);
+        crawlJob.setStatus(status);
+        return crawlJob;
+    }
+
+    private static Map<CrawlFrontierItem.State, Long> counts(long pending, long inProgress, long done, long failed) {
+        Map<CrawlFrontierItem.State, Long> counts = new EnumMap<>(CrawlFrontierItem.State.class);
+        counts.put(CrawlFrontierItem.State.PENDING, pending);
+        counts.put(CrawlFrontierItem.State.IN_PROGRESS, inProgress);
+        counts.put(CrawlFrontierItem.State.DONE, done);
+        counts.put(CrawlFrontierItem.State.FAILED, failed);
+        return counts;
+    }
+}
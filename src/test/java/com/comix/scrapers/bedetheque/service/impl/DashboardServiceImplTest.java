@@ -4,11 +4,15 @@ import com.comix.scrapers.bedetheque.client.model.statistics.GlobalStatistics;
 import com.comix.scrapers.bedetheque.client.scraper.GlobalStatisticsScraper;
 import com.comix.scrapers.bedetheque.rest.mapper.DashboardMapper;
 import com.comix.scrapers.bedetheque.rest.v1.dto.DashboardDto;
+import com.comix.scrapers.bedetheque.service.ResultCacheProperties;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +33,10 @@ class DashboardServiceImplTest {
     @Mock
     private DashboardMapper dashboardMapper;
 
+    // Cache désactivé : chaque appel exécute le scraping
+    @Spy
+    private ScrapeResultCache scrapeResultCache = new ScrapeResultCache(new ResultCacheProperties(false, null), new ObjectMapper());
+
     @InjectMocks
     private DashboardServiceImpl dashboardService;
 
@@ -4,23 +4,33 @@ import com.comix.scrapers.bedetheque.client.model.graphicnovel.GraphicNovel;
 import com.comix.scrapers.bedetheque.client.model.graphicnovel.GraphicNovelPage;
 import com.comix.scrapers.bedetheque.client.scraper.GraphicNovelScraper;
 import com.comix.scrapers.bedetheque.rest.mapper.GraphicNovelMapper;
+import com.comix.scrapers.bedetheque.rest.v1.dto.GraphicNovelDto;
 import com.comix.scrapers.bedetheque.service.OutboxMessageProducer;
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapAllRepublicationsResponseDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapGraphicNovelsResponseDto;
+import com.comix.scrapers.bedetheque.service.ResultCacheProperties;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,6 +50,10 @@ class GraphicNovelServiceImplTest {
     @Spy
     private GraphicNovelMapper graphicNovelMapper = Mappers.getMapper(GraphicNovelMapper.class);
 
+    // Cache désactivé : chaque appel exécute le scraping
+    @Spy
+    private ScrapeResultCache scrapeResultCache = new ScrapeResultCache(new ResultCacheProperties(false, null), new ObjectMapper());
+
     @InjectMocks
     private GraphicNovelServiceImpl graphicNovelService;
 
@@ -90,6 +104,23 @@ class GraphicNovelServiceImplTest {
             assertThat(result.getTotalPages()).isEqualTo(1);
         }
 
+        @Test
+        @DisplayName("doit enregistrer tous les albums d'un scraping dans l'outbox en un seul lot")
+        void scrap_shouldSaveAllGraphicNovelsToOutboxInOneBatch() {
+            // GIVEN
+            String serieUrl = "http://test.com/serie/1";
+            List<GraphicNovel> scrapedNovels = List.of(new GraphicNovel(), new GraphicNovel(), new GraphicNovel());
+            when(graphicNovelScraper.scrapElement(serieUrl, 10000))
+                    .thenReturn(new GraphicNovelPage(1, 3, 3, 1, scrapedNovels));
+
+            // WHEN
+            graphicNovelService.scrap(serieUrl, null);
+
+            // THEN
+            verify(outboxMessageProducer, times(1)).saveAllToOutboxIfChanged(any(), any(), argThat(dtos -> dtos.size() == 3), any(), any(), eq(false));
+            verify(outboxMessageProducer, never()).saveToOutboxIfChanged(any(), any(), any(), any(), anyString(), anyBoolean());
+        }
+
         @Test
         @DisplayName("doit retourner un DTO avec une liste vide quand le scraper ne trouve rien")
         void scrap_shouldReturnDtoWithEmptyList_whenScraperFindsNothing() {
@@ -147,4 +178,77 @@ class GraphicNovelServiceImplTest {
             assertThat(result.getGraphicNovels()).isNotNull().isEmpty();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Tests for stream(serieUrl, page, consumer)")
+    class StreamTests {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(graphicNovelService, "batchSize", 2);
+        }
+
+        @Test
+        @DisplayName("doit transmettre chaque album dès qu'il est scrapé, et les publier par lots")
+        void stream_shouldEmitEachGraphicNovelAndPublishThemByBatches() {
+            // GIVEN
+            String serieUrl = "http://test.com/serie/1";
+            GraphicNovel graphicNovel = new GraphicNovel();
+            graphicNovel.setExternalId("12345");
+            when(graphicNovelScraper.streamElements(eq(serieUrl), eq(10000), any())).thenAnswer(invocation -> {
+                Consumer<GraphicNovel> consumer = invocation.getArgument(2);
+                consumer.accept(graphicNovel);
+                consumer.accept(graphicNovel);
+                consumer.accept(graphicNovel);
+                return 3;
+            });
+            List<GraphicNovelDto> emitted = new ArrayList<>();
+
+            // WHEN
+            graphicNovelService.stream(serieUrl, null, emitted::add);
+
+            // THEN
+            assertThat(emitted).hasSize(3).extracting(GraphicNovelDto::getExternalId).containsOnly("12345");
+            InOrder inOrder = inOrder(outboxMessageProducer);
+            inOrder.verify(outboxMessageProducer).saveAllToOutboxIfChanged(any(), any(), argThat(dtos -> dtos.size() == 2), any(), any(), eq(false));
+            inOrder.verify(outboxMessageProducer).saveAllToOutboxIfChanged(any(), any(), argThat(dtos -> dtos.size() == 1), any(), any(), eq(false));
+            verify(outboxMessageProducer, never()).saveToOutboxIfChanged(any(), any(), any(), any(), any(), anyBoolean());
+            verify(graphicNovelScraper, never()).scrapElement(anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("doit publier les albums déjà transmis quand le scraping échoue")
+        void stream_shouldPublishTheEmittedGraphicNovelsWhenTheScrapeFails() {
+            // GIVEN
+            String serieUrl = "http://test.com/serie/1";
+            when(graphicNovelScraper.streamElements(eq(serieUrl), eq(10000), any())).thenAnswer(invocation -> {
+                invocation.<Consumer<GraphicNovel>>getArgument(2).accept(new GraphicNovel());
+                throw new IllegalStateException("Boom");
+            });
+
+            // WHEN / THEN
+            assertThatThrownBy(() -> graphicNovelService.stream(serieUrl, null, graphicNovelDto -> {}))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(outboxMessageProducer).saveAllToOutboxIfChanged(any(), any(), argThat(dtos -> dtos.size() == 1), any(), any(), eq(false));
+        }
+
+        @Test
+        @DisplayName("doit transmettre chaque réédition dès qu'elle est scrapée")
+        void streamWithAllRepublications_shouldEmitEachGraphicNovel() {
+            // GIVEN
+            String url = "http://test.com/album/1";
+            when(graphicNovelScraper.streamWithAllRepublications(eq(url), any())).thenAnswer(invocation -> {
+                invocation.<Consumer<GraphicNovel>>getArgument(1).accept(new GraphicNovel());
+                return 1;
+            });
+            List<GraphicNovelDto> emitted = new ArrayList<>();
+
+            // WHEN
+            graphicNovelService.streamWithAllRepublications(url, emitted::add);
+
+            // THEN
+            assertThat(emitted).hasSize(1);
+            verify(outboxMessageProducer).saveAllToOutboxIfChanged(any(), any(), argThat(dtos -> dtos.size() == 1), any(), any(), eq(false));
+        }
+    }
+}
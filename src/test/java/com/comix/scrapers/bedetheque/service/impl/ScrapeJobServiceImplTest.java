@@ -0,0 +1,159 @@
+package com.comix.scrapers.bedetheque.service.impl;
+
+import com.comix.scrapers.bedetheque.exception.BusinessException;
+import com.comix.scrapers.bedetheque.exception.TechnicalException;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ApiErrorDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobOperationDto;
+import com.comix.scrapers.bedetheque.rest.v1.dto.ScrapeJobStatusDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScrapeJobServiceImplTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private ScrapeJobServiceImpl scrapeJobService;
+
+    @BeforeEach
+    void setUp() {
+        scrapeJobService = new ScrapeJobServiceImpl(1, 1, Duration.ofMinutes(15), WAIT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scrapeJobService.destroy();
+    }
+
+    @Test
+    @DisplayName("submit should return a pending job, then the result of the scrape once it has succeeded")
+    void submit_shouldRunTheScrapeInTheBackground() {
+        // GIVEN
+        CountDownLatch release = new CountDownLatch(1);
+
+        // WHEN
+        ScrapeJobDto submitted = scrapeJobService.submit(ScrapeJobOperationDto.SCRAP_SERIE, () -> {
+            await(release);
+            return "serie";
+        });
+        ScrapeJobDto running = scrapeJobService.get(submitted.getId(), Duration.ZERO);
+        release.countDown();
+        ScrapeJobDto completed = scrapeJobService.get(submitted.getId(), WAIT);
+
+        // THEN
+        assertThat(submitted.getId()).isNotBlank();
+        assertThat(submitted.getOperation()).isEqualTo(ScrapeJobOperationDto.SCRAP_SERIE);
+        assertThat(submitted.getStatus()).isIn(ScrapeJobStatusDto.PENDING, ScrapeJobStatusDto.RUNNING);
+        assertThat(running.getStatus()).isIn(ScrapeJobStatusDto.PENDING, ScrapeJobStatusDto.RUNNING);
+        assertThat(running.getResult()).isNull();
+        assertThat(completed.getStatus()).isEqualTo(ScrapeJobStatusDto.SUCCEEDED);
+        assertThat(completed.getResult()).isEqualTo("serie");
+        assertThat(completed.getCompletedAt()).isNotNull();
+        assertThat(completed.getExpiresAt()).isEqualTo(completed.getCompletedAt().plus(Duration.ofMinutes(15)));
+    }
+
+    @Test
+    @DisplayName("get should return the error of a failed job")
+    void get_shouldReturnTheErrorOfAFailedJob() {
+        // GIVEN
+        ScrapeJobDto submitted = scrapeJobService.submit(ScrapeJobOperationDto.SCRAP_AUTHOR, () -> {
+            throw new TechnicalException("ERR-SCR-001", new IOException("Boom"), new Object[]{"https://www.bedetheque.com/auteur-1.html"});
+        });
+
+        // WHEN
+        ScrapeJobDto failed = scrapeJobService.get(submitted.getId(), WAIT);
+
+        // THEN
+        assertThat(failed.getStatus()).isEqualTo(ScrapeJobStatusDto.FAILED);
+        assertThat(failed.getResult()).isNull();
+        assertThat(failed.getError())
+                .extracting(ApiErrorDto::getCode, ApiErrorDto::getStatus, ApiErrorDto::getMessage)
+                .containsExactly("ERR-SCR-001", 400, "IO Error while loading https://www.bedetheque.com/auteur-1.html");
+    }
+
+    @Test
+    @DisplayName("get should return a failed job with a generic error when the message of the error is unknown")
+    void get_shouldReturnAGenericErrorWhenTheMessageIsUnknown() {
+        // GIVEN
+        ScrapeJobDto submitted = scrapeJobService.submit(ScrapeJobOperationDto.SCRAP_AUTHOR, () -> {
+            throw new TechnicalException("ERR-UNKNOWN", new IOException("Boom"), new Object[]{});
+        });
+
+        // WHEN
+        ScrapeJobDto failed = scrapeJobService.get(submitted.getId(), WAIT);
+
+        // THEN
+        assertThat(failed.getStatus()).isEqualTo(ScrapeJobStatusDto.FAILED);
+        assertThat(failed.getCompletedAt()).isNotNull();
+        assertThat(failed.getError())
+                .extracting(ApiErrorDto::getCode, ApiErrorDto::getStatus, ApiErrorDto::getMessage)
+                .containsExactly("ERR-JVM-001", 500, "ERR-UNKNOWN");
+    }
+
+    @Test
+    @DisplayName("submit should reject the job when the running and queued jobs are at their maximum")
+    void submit_shouldRejectTheJobWhenTheExecutorIsFull() {
+        // GIVEN
+        CountDownLatch release = new CountDownLatch(1);
+        ScrapeJobDto first = scrapeJobService.submit(ScrapeJobOperationDto.SCRAP_SERIE, () -> await(release));
+        scrapeJobService.submit(ScrapeJobOperationDto.SCRAP_SERIE, () -> await(release));
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> scrapeJobService.submit(ScrapeJobOperationDto.SCRAP_SERIE, () -> "serie"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("codeMessage", "httpStatus")
+                .containsExactly("SCRAPE_JOB_REJECTED", HttpStatus.TOO_MANY_REQUESTS);
+
+        // A slot is given back once a job is completed
+        release.countDown();
+        assertThat(scrapeJobService.get(first.getId(), WAIT).getStatus()).isEqualTo(ScrapeJobStatusDto.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("get should throw a NOT_FOUND exception for an unknown job")
+    void get_shouldThrowNotFoundForAnUnknownJob() {
+        assertThatThrownBy(() -> scrapeJobService.get("unknown", Duration.ZERO))
+                .isInstanceOf(BusinessException.class)
+                .extracting("codeMessage", "httpStatus")
+                .containsExactly("SCRAPE_JOB_NOT_FOUND", HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("get should not wait longer than the maximum wait time")
+    void get_shouldNotWaitLongerThanTheMaximumWaitTime() {
+        // GIVEN
+        scrapeJobService.destroy();
+        scrapeJobService = new ScrapeJobServiceImpl(1, 1, Duration.ofMinutes(15), Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        ScrapeJobDto submitted = scrapeJobService.submit(ScrapeJobOperationDto.SCRAP_DASHBOARD, () -> await(release));
+
+        // WHEN
+        long start = System.nanoTime();
+        ScrapeJobDto running = scrapeJobService.get(submitted.getId(), Duration.ofMinutes(1));
+        Duration waited = Duration.ofNanos(System.nanoTime() - start);
+        release.countDown();
+
+        // THEN
+        assertThat(running.getStatus()).isIn(ScrapeJobStatusDto.PENDING, ScrapeJobStatusDto.RUNNING);
+        assertThat(waited).isLessThan(Duration.ofSeconds(5));
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "serie";
+    }
+}
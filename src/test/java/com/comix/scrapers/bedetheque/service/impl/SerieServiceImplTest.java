@@ -6,9 +6,13 @@ import com.comix.scrapers.bedetheque.client.model.serie.SeriesByLetter;
 import com.comix.scrapers.bedetheque.client.scraper.SerieScraper;
 import com.comix.scrapers.bedetheque.rest.mapper.SerieMapper;
 import com.comix.scrapers.bedetheque.service.OutboxMessageProducer;
+import com.comix.scrapers.bedetheque.service.SingleFlight;
 import com.comix.scrapers.bedetheque.rest.v1.dto.SerieDetailsDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.SeriesByLetterResponseDto;
 import com.comix.scrapers.bedetheque.rest.v1.dto.SeriesUrlResponseDto;
+import com.comix.scrapers.bedetheque.service.ResultCacheProperties;
+import com.comix.scrapers.bedetheque.service.ScrapeResultCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,6 +25,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,6 +50,13 @@ class SerieServiceImplTest {
     @Spy
     private SerieMapper serieMapper = Mappers.getMapper(SerieMapper.class);
 
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight();
+
+    // Cache désactivé : chaque appel exécute le scraping
+    @Spy
+    private ScrapeResultCache scrapeResultCache = new ScrapeResultCache(new ResultCacheProperties(false, null), new ObjectMapper());
+
     @InjectMocks
     private SerieServiceImpl serieService;
 
@@ -150,6 +166,65 @@ class SerieServiceImplTest {
             assertThat(result).isNotNull();
         }
 
+        @Test
+        @DisplayName("should scrap and write the outbox once for concurrent identical requests")
+        void shouldScrapOnce_whenIdenticalRequestsAreConcurrent() throws Exception {
+            // GIVEN
+            String url = "http://serie.com/42";
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(serieScraper.scrap(anyString())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                SerieDetails serieDetails = new SerieDetails();
+                serieDetails.setTitle("Serie 42");
+                return serieDetails;
+            });
+
+            // WHEN
+            try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+                Future<SerieDetailsDto> first = executor.submit(() -> serieService.scrap(url));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<SerieDetailsDto> second = executor.submit(() -> serieService.scrap(url));
+                // Laisse le temps à la seconde requête de rejoindre la première
+                TimeUnit.MILLISECONDS.sleep(200);
+                release.countDown();
+
+                // THEN
+                assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+            }
+            verify(serieScraper, times(1)).scrap(url);
+            verify(outboxMessageProducer, times(1)).saveToOutboxIfChanged(any(), any(), any(SerieDetailsDto.class), any(), anyString(), eq(false));
+        }
+
+        @Test
+        @DisplayName("a forced scrape should not join a scrape in flight, and should force the publication")
+        void shouldScrapAgainAndForceThePublication_whenForced() throws Exception {
+            // GIVEN
+            String url = "http://serie.com/42";
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(serieScraper.scrap(anyString())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return new SerieDetails();
+            });
+
+            // WHEN
+            try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+                Future<SerieDetailsDto> first = executor.submit(() -> serieService.scrap(url));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<SerieDetailsDto> forced = executor.submit(() -> serieService.scrap(url, true));
+                release.countDown();
+
+                // THEN
+                assertThat(first.get(5, TimeUnit.SECONDS)).isNotSameAs(forced.get(5, TimeUnit.SECONDS));
+            }
+            verify(serieScraper, times(2)).scrap(url);
+            verify(outboxMessageProducer).saveToOutboxIfChanged(any(), any(), any(SerieDetailsDto.class), any(), anyString(), eq(false));
+            verify(outboxMessageProducer).saveToOutboxIfChanged(any(), any(), any(SerieDetailsDto.class), any(), anyString(), eq(true));
+        }
+
         @Test
         @DisplayName("should return null when scraper returns null")
         void shouldReturnNull_whenScraperReturnsNull() {